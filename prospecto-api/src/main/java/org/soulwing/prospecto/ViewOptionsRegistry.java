@@ -20,6 +20,7 @@ package org.soulwing.prospecto;
 
 import org.soulwing.prospecto.api.options.Options;
 import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.OptionsSnapshot;
 
 /**
  * A static registry for view options.
@@ -40,4 +41,12 @@ public class ViewOptionsRegistry {
     return singleton.getInstance();
   }
 
+  /**
+   * Gets a snapshot of the current state of the registered options.
+   * @return options snapshot
+   */
+  public static OptionsSnapshot getSnapshot() {
+    return OptionsSnapshot.of(getOptions());
+  }
+
 }
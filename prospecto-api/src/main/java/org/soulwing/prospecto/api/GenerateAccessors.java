@@ -0,0 +1,57 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Designates model types for which accessors should be generated at compile
+ * time by the {@code prospecto-apt} annotation processor.
+ * <p>
+ * When placed on a model type with no value, accessors are generated for
+ * the annotated type. When placed on any other type (for example, an
+ * interface that holds view templates) the value specifies the model types
+ * referenced by the templates:
+ * <pre>
+ * &#64;GenerateAccessors({ Team.class, RosterPlayer.class, Player.class })
+ * public interface TeamViews { ... }
+ * </pre>
+ * <p>
+ * Generated accessors are available for public properties and for fields
+ * and properties that are accessible from the package of the model type.
+ * Any other property or field is accessed using the Reflection API.
+ *
+ * @author Carl Harris
+ */
+@Documented
+@Retention(RetentionPolicy.SOURCE)
+@Target(ElementType.TYPE)
+public @interface GenerateAccessors {
+
+  /**
+   * Model types for which accessors should be generated; if empty, the
+   * annotated type is the model type.
+   */
+  Class<?>[] value() default {};
+
+}
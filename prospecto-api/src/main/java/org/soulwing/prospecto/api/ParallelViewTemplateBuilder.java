@@ -0,0 +1,57 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api;
+
+/**
+ * A {@link ViewTemplateBuilder} that can configure parallel generation of
+ * the elements of an array-of-objects node.
+ * <p>
+ * The builders provided with the runtime implement this interface. Since it
+ * is a separate interface, other implementations of
+ * {@link ViewTemplateBuilder} need not support it; a caller that might be
+ * given such a builder should check before casting.
+ *
+ * @author Carl Harris
+ */
+public interface ParallelViewTemplateBuilder extends ViewTemplateBuilder {
+
+  /**
+   * Specifies that the elements of the array-of-objects node at the cursor
+   * are to be generated in parallel whenever the node's model collection
+   * contains at least the given number of elements.
+   * <p>
+   * Each element subtree is generated as a task on the
+   * {@link java.util.concurrent.ForkJoinPool} found in the view context,
+   * or on a shared pool if the context contains none. The generated events
+   * are concatenated in the order of the elements in the model collection,
+   * so that the resulting view is identical to one generated serially.
+   * <p>
+   * Listeners registered with the view context are notified concurrently
+   * on multiple threads while the elements of this node are generated, and
+   * must therefore be thread safe.
+   *
+   * @param threshold minimum number of elements for which parallel
+   *    generation will be used; must be greater than zero
+   * @return this builder
+   * @throws ViewTemplateException if the node at the cursor is not an
+   *    array-of-objects node
+   */
+  ViewTemplateBuilder parallel(int threshold);
+
+}
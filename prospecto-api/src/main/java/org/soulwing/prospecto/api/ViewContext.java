@@ -158,7 +158,7 @@ public interface ViewContext extends MutableScope {
    * Gets the sequence of view node names that form the path to the current
    * view node as a template is being evaluated to produce a view.
    * @return sequence of view node names which is empty before visiting the
-   *   root view node
+   *   root view node; the returned list cannot be modified
    */
   List<String> currentViewPath();
 
@@ -176,7 +176,7 @@ public interface ViewContext extends MutableScope {
    * object and array-of-object that form the model path to the current view
    * node as a template is being evaluated to produce a view.
    * @return sequence of model types which is empty before visiting the root
-   *   view node
+   *   view node; the returned list cannot be modified
    */
   List<Class<?>> currentModelPath();
 
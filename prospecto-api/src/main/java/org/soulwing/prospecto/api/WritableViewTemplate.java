@@ -0,0 +1,61 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api;
+
+import java.io.OutputStream;
+
+/**
+ * A {@link ViewTemplate} that can write a view directly to an output stream
+ * as it is generated.
+ * <p>
+ * The templates produced by the {@link ViewTemplateBuilder} provided with
+ * the runtime implement this interface. Since it is a separate interface,
+ * other implementations of {@link ViewTemplate} need not support it; a
+ * caller that might be given such a template should check before casting.
+ *
+ * @author Carl Harris
+ */
+public interface WritableViewTemplate extends ViewTemplate {
+
+  /**
+   * Generates a view using the given model as the root object represented by
+   * the view, writing it directly to the given output stream.
+   * <p>
+   * This method produces the same output as generating a view and then
+   * writing it using a writer obtained from {@code writerFactory}, but the
+   * view is written as it is generated, without first creating an object
+   * to represent each event in the view. The same requirements as for
+   * {@link #generateView(Object, ViewContext)} apply with regard to the
+   * context in which {@code model} is evaluated.
+   * <p>
+   * The underlying output stream is <em>not</em> closed by this method.
+   *
+   * @param model root model object
+   * @param context view context
+   * @param writerFactory factory for the writer that will produce the
+   *    textual representation of the view
+   * @param outputStream target output stream
+   * @throws ViewException if an error occurs in generating or writing the
+   *    view
+   */
+  void writeView(Object model, ViewContext context,
+      ViewWriterFactory writerFactory, OutputStream outputStream)
+      throws ViewException;
+
+}
@@ -18,9 +18,6 @@
  */
 package org.soulwing.prospecto.api.converter;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.Calendar;
@@ -28,8 +25,6 @@ import java.util.Date;
 import java.util.UUID;
 import javax.xml.bind.DatatypeConverter;
 
-import org.soulwing.prospecto.api.ViewException;
-
 /**
  * A type coercion utility.
  * <p>
@@ -82,6 +77,10 @@ import org.soulwing.prospecto.api.ViewException;
  * <pre>
  *   v.equals(MyValueType.valueOf(v.toString()))
  * </pre>
+ * <p>
+ * The {@code valueOf} methods and constructors used to coerce values of a
+ * given type to a given target type are resolved once and then reused for
+ * subsequent coercions of values of the same type.
  *
  * @author Carl Harris
  */
@@ -218,74 +217,16 @@ public class Coerce {
         + value.getClass().getName() + " to type " + type.getName());
   }
 
+  @SuppressWarnings("unchecked")
   private static <T> T coerceUsingConstructor(Class<T> type, Object value) {
-    Class<?> valueType = value.getClass();
-    while (valueType != null) {
-      try {
-        final Constructor<T> constructor = type.getConstructor(valueType);
-        return constructor.newInstance(value);
-      }
-      catch (InstantiationException
-          | NoSuchMethodException
-          | InvocationTargetException
-          | IllegalAccessException ex) {
-        valueType = nextType(valueType);
-      }
-    }
-    return null;
+    return (T) CoercionPlan.usingConstructor(type, value.getClass())
+        .coerce(value);
   }
 
   @SuppressWarnings("unchecked")
   private static <T> T coerceUsingValueOf(Class<T> type, Object value) {
-    Class<?> valueType = value.getClass();
-    while (valueType != null) {
-      try {
-        final Method valueOfMethod = type.getMethod("valueOf", valueType);
-        if (type.isAssignableFrom(valueOfMethod.getReturnType())) {
-          return (T) valueOfMethod.invoke(type, value);
-        }
-      }
-      catch (IllegalAccessException ex) {
-        throw new ViewException(ex);
-      }
-      catch (InvocationTargetException
-          | NoSuchMethodException ex) {
-        assert true;
-      }
-      valueType = nextType(valueType);
-    }
-    return null;
-  }
-
-  private static Class<?> nextType(Class<?> type) {
-    if (type.isPrimitive()) {
-      return null;
-    }
-    if (String.class.equals(type)) {
-      return type.getSuperclass();
-    }
-    if (Boolean.class.equals(type)) {
-      return boolean.class;
-    }
-    if (Integer.class.equals(type)) {
-      return int.class;
-    }
-    if (Long.class.equals(type)) {
-      return long.class;
-    }
-    if (Double.class.equals(type)) {
-      return double.class;
-    }
-    if (Float.class.equals(type)) {
-      return float.class;
-    }
-    if (Short.class.equals(type)) {
-      return short.class;
-    }
-    if (Byte.class.equals(type)) {
-      return byte.class;
-    }
-    return type.getSuperclass();
+    return (T) CoercionPlan.usingValueOf(type, value.getClass())
+        .coerce(value);
   }
 
 }
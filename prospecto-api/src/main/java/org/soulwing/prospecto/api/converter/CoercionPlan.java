@@ -0,0 +1,248 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.converter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.soulwing.prospecto.api.ViewException;
+
+/**
+ * A plan for coercing values of a given type to a target type using the
+ * target type's public static {@code valueOf} methods and public
+ * constructors.
+ * <p>
+ * A plan holds the candidate methods and constructors, in the order that
+ * they should be tried, for a particular (target type, value type) pair.
+ * Plans are resolved once and cached, so that a coercion that is performed
+ * repeatedly requires no reflective lookups.
+ *
+ * @author Carl Harris
+ */
+final class CoercionPlan {
+
+  private static final MethodType ROUTE_TYPE =
+      MethodType.methodType(Object.class, Object.class);
+
+  private static final ClassValue<ConcurrentMap<Class<?>, CoercionPlan>>
+      VALUE_OF_PLANS = new PlanCache();
+
+  private static final ClassValue<ConcurrentMap<Class<?>, CoercionPlan>>
+      CONSTRUCTOR_PLANS = new PlanCache();
+
+  private final Route[] routes;
+
+  private CoercionPlan(List<Route> routes) {
+    this.routes = routes.toArray(new Route[routes.size()]);
+  }
+
+  /**
+   * Gets the plan for coercing values of a given type to a target type
+   * using the target type's {@code valueOf} methods.
+   * @param type target type
+   * @param valueType value type
+   * @return plan
+   */
+  static CoercionPlan usingValueOf(Class<?> type, Class<?> valueType) {
+    return plan(VALUE_OF_PLANS, type, valueType, true);
+  }
+
+  /**
+   * Gets the plan for coercing values of a given type to a target type
+   * using the target type's constructors.
+   * @param type target type
+   * @param valueType value type
+   * @return plan
+   */
+  static CoercionPlan usingConstructor(Class<?> type, Class<?> valueType) {
+    return plan(CONSTRUCTOR_PLANS, type, valueType, false);
+  }
+
+  private static CoercionPlan plan(
+      ClassValue<ConcurrentMap<Class<?>, CoercionPlan>> cache,
+      Class<?> type, Class<?> valueType, boolean valueOf) {
+    final ConcurrentMap<Class<?>, CoercionPlan> plans = cache.get(type);
+    CoercionPlan plan = plans.get(valueType);
+    if (plan == null) {
+      plan = valueOf ?
+          resolveValueOf(type, valueType) : resolveConstructor(type, valueType);
+      final CoercionPlan existing = plans.putIfAbsent(valueType, plan);
+      if (existing != null) {
+        plan = existing;
+      }
+    }
+    return plan;
+  }
+
+  /**
+   * Coerces a value using this plan.
+   * <p>
+   * Each candidate is tried in turn until one of them successfully
+   * produces a value.
+   * @param value the value to coerce
+   * @return coerced value or {@code null} if no candidate produced a value
+   */
+  Object coerce(Object value) {
+    for (final Route route : routes) {
+      final Object result = route.coerce(value);
+      if (result != null) return result;
+    }
+    return null;
+  }
+
+  private static CoercionPlan resolveValueOf(Class<?> type,
+      Class<?> valueType) {
+    final List<Route> routes = new ArrayList<>();
+    Class<?> parameterType = valueType;
+    while (parameterType != null) {
+      try {
+        final Method method = type.getMethod("valueOf", parameterType);
+        if (type.isAssignableFrom(method.getReturnType())) {
+          routes.add(valueOfRoute(method));
+        }
+      }
+      catch (NoSuchMethodException ex) {
+        assert true;
+      }
+      parameterType = nextType(parameterType);
+    }
+    return new CoercionPlan(routes);
+  }
+
+  private static Route valueOfRoute(Method method) {
+    try {
+      return new HandleRoute(MethodHandles.lookup().unreflect(method));
+    }
+    catch (IllegalAccessException ex) {
+      return new InaccessibleRoute(ex);
+    }
+  }
+
+  private static CoercionPlan resolveConstructor(Class<?> type,
+      Class<?> valueType) {
+    final List<Route> routes = new ArrayList<>();
+    if (Modifier.isAbstract(type.getModifiers())) {
+      return new CoercionPlan(routes);
+    }
+    Class<?> parameterType = valueType;
+    while (parameterType != null) {
+      try {
+        final Constructor<?> constructor = type.getConstructor(parameterType);
+        routes.add(new HandleRoute(
+            MethodHandles.lookup().unreflectConstructor(constructor)));
+      }
+      catch (NoSuchMethodException | IllegalAccessException ex) {
+        assert true;
+      }
+      parameterType = nextType(parameterType);
+    }
+    return new CoercionPlan(routes);
+  }
+
+  static Class<?> nextType(Class<?> type) {
+    if (type.isPrimitive()) {
+      return null;
+    }
+    if (String.class.equals(type)) {
+      return type.getSuperclass();
+    }
+    if (Boolean.class.equals(type)) {
+      return boolean.class;
+    }
+    if (Integer.class.equals(type)) {
+      return int.class;
+    }
+    if (Long.class.equals(type)) {
+      return long.class;
+    }
+    if (Double.class.equals(type)) {
+      return double.class;
+    }
+    if (Float.class.equals(type)) {
+      return float.class;
+    }
+    if (Short.class.equals(type)) {
+      return short.class;
+    }
+    if (Byte.class.equals(type)) {
+      return byte.class;
+    }
+    return type.getSuperclass();
+  }
+
+  private interface Route {
+    Object coerce(Object value);
+  }
+
+  private static class HandleRoute implements Route {
+
+    private final MethodHandle handle;
+
+    HandleRoute(MethodHandle handle) {
+      this.handle = handle.asType(ROUTE_TYPE);
+    }
+
+    @Override
+    public Object coerce(Object value) {
+      try {
+        return (Object) handle.invokeExact(value);
+      }
+      catch (Throwable ex) {
+        // like a failed reflective invocation; the next candidate is tried
+        return null;
+      }
+    }
+
+  }
+
+  private static class InaccessibleRoute implements Route {
+
+    private final IllegalAccessException ex;
+
+    InaccessibleRoute(IllegalAccessException ex) {
+      this.ex = ex;
+    }
+
+    @Override
+    public Object coerce(Object value) {
+      throw new ViewException(ex);
+    }
+
+  }
+
+  private static class PlanCache
+      extends ClassValue<ConcurrentMap<Class<?>, CoercionPlan>> {
+
+    @Override
+    protected ConcurrentMap<Class<?>, CoercionPlan> computeValue(
+        Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+
+  }
+
+}
@@ -18,7 +18,6 @@
  */
 package org.soulwing.prospecto.api.converter;
 
-import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -48,6 +47,11 @@ import org.soulwing.prospecto.api.ViewContext;
  * When using a format that includes time, the default time zone is the
  * local time zone.  Use the {@link #setTimeZone(TimeZone) timeZone} or
  * {@link #setTimeZoneId(String) timeZoneId} property to change the default.
+ * <p>
+ * An instance of this converter may be used concurrently by multiple
+ * threads. The date format for the configured pattern and time zone is
+ * compiled once and reused. The ISO 8601 formats in the UTC time zone are
+ * formatted and parsed directly, without the use of a date format.
  *
  * @author Carl Harris
  */
@@ -76,6 +80,8 @@ public class DateTypeConverter implements ValueTypeConverter {
   private String pattern = ISO8601_PATTERN;
   private TimeZone timeZone = TimeZone.getDefault();
 
+  private volatile PatternDateFormat dateFormat;
+
   /**
    * Constructs a new instance that uses ISO 8601 format.
    */
@@ -153,16 +159,63 @@ public class DateTypeConverter implements ValueTypeConverter {
   }
 
   private String formatUsingPattern(String pattern, Date date) {
-    final DateFormat df = new SimpleDateFormat(pattern);
-    df.setTimeZone(timeZone);
-    return df.format(date);
+    if (pattern.equals(ISO8601_PATTERN)) {
+      return formatUsing8601(date, true, true);
+    }
+    if (pattern.equals(ISO8601_DATE_PATTERN)) {
+      return formatUsing8601(date, true, false);
+    }
+    if (pattern.equals(ISO8601_TIME_PATTERN)) {
+      return formatUsing8601(date, false, true);
+    }
+    return dateFormat(pattern).format(date);
   }
 
   private Date parseUsingPattern(String pattern, String text)
       throws ParseException {
-    final DateFormat df = new SimpleDateFormat(pattern);
-    df.setTimeZone(timeZone);
-    return df.parse(text);
+    if (pattern.equals(ISO8601_PATTERN)) {
+      return parseUsing8601(text, true, true);
+    }
+    if (pattern.equals(ISO8601_DATE_PATTERN)) {
+      return parseUsing8601(text, true, false);
+    }
+    if (pattern.equals(ISO8601_TIME_PATTERN)) {
+      return parseUsing8601(text, false, true);
+    }
+    return dateFormat(pattern).parse(text);
+  }
+
+  private String formatUsing8601(Date date, boolean includeDate,
+      boolean includeTime) {
+    if (Iso8601Utc.isUtc(timeZone)) {
+      final String text = Iso8601Utc.format(date, includeDate, includeTime);
+      if (text != null) return text;
+    }
+    return dateFormat(pattern8601(includeDate, includeTime)).format(date);
+  }
+
+  private Date parseUsing8601(String text, boolean includeDate,
+      boolean includeTime) throws ParseException {
+    if (Iso8601Utc.isUtc(timeZone)) {
+      final Date date = Iso8601Utc.parse(text, includeDate, includeTime);
+      if (date != null) return date;
+    }
+    return dateFormat(pattern8601(includeDate, includeTime)).parse(text);
+  }
+
+  private static String pattern8601(boolean includeDate,
+      boolean includeTime) {
+    return !includeTime ? ISO8601_DATE_PATTERN
+        : !includeDate ? ISO8601_TIME_PATTERN : ISO8601_PATTERN;
+  }
+
+  private PatternDateFormat dateFormat(String pattern) {
+    PatternDateFormat dateFormat = this.dateFormat;
+    if (dateFormat == null || !dateFormat.matches(pattern, timeZone)) {
+      dateFormat = new PatternDateFormat(pattern, timeZone);
+      this.dateFormat = dateFormat;
+    }
+    return dateFormat;
   }
 
   private String formatUsing8601WithTimeZone(Date date) {
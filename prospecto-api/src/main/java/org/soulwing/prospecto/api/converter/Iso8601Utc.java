@@ -0,0 +1,210 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.converter;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * Formats and parses the ISO 8601 date and time representations used by
+ * {@link DateTypeConverter} for instants in UTC, without the use of a
+ * {@link java.text.DateFormat}.
+ * <p>
+ * Only instants in the Gregorian calendar with four-digit years are
+ * handled; outside of that range (and for any text that is not in the
+ * strict form of the representation), the methods of this class return
+ * {@code null} so that the caller can use a {@code DateFormat} instead.
+ *
+ * @author Carl Harris
+ */
+final class Iso8601Utc {
+
+  /** 1583-01-01T00:00:00Z, the first full year of the Gregorian calendar */
+  private static final long MIN_MILLIS = -12212553600000L;
+
+  /** 9999-12-31T23:59:59.999Z */
+  private static final long MAX_MILLIS = 253402300799999L;
+
+  private static final long MILLIS_PER_DAY = 86400000L;
+
+  private static final Set<String> UTC_ZONE_IDS = new HashSet<>(
+      Arrays.asList("UTC", "GMT", "UCT", "Zulu", "Universal", "Greenwich",
+          "Etc/UTC", "Etc/GMT", "Etc/UCT", "Etc/Zulu", "Etc/Universal",
+          "Etc/Greenwich"));
+
+  private Iso8601Utc() {
+  }
+
+  /**
+   * Tests whether the given time zone is UTC (with no historical or
+   * daylight saving offsets).
+   * @param timeZone the time zone to test
+   * @return {@code true} if {@code timeZone} is UTC
+   */
+  static boolean isUtc(TimeZone timeZone) {
+    return UTC_ZONE_IDS.contains(timeZone.getID());
+  }
+
+  /**
+   * Formats an instant.
+   * @param date the instant to format
+   * @param includeDate whether to include the date ({@code yyyy-MM-dd})
+   * @param includeTime whether to include the time ({@code HH:mm:ss})
+   * @return formatted text or {@code null} if the instant is out of range
+   */
+  static String format(Date date, boolean includeDate, boolean includeTime) {
+    final long millis = date.getTime();
+    if (millis < MIN_MILLIS || millis > MAX_MILLIS) return null;
+
+    long days = millis / MILLIS_PER_DAY;
+    long millisOfDay = millis % MILLIS_PER_DAY;
+    if (millisOfDay < 0) {
+      days--;
+      millisOfDay += MILLIS_PER_DAY;
+    }
+
+    final char[] buf = new char[19];
+    int pos = 0;
+    if (includeDate) {
+      // civil date from days since the epoch (H. Hinnant)
+      final long z = days + 719468;
+      final long era = (z >= 0 ? z : z - 146096) / 146097;
+      final long doe = z - era * 146097;
+      final long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+      final long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+      final long mp = (5 * doy + 2) / 153;
+      final int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+      final int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+      final int year = (int) (yoe + era * 400 + (month <= 2 ? 1 : 0));
+      pos = digits(buf, pos, year, 4);
+      buf[pos++] = '-';
+      pos = digits(buf, pos, month, 2);
+      buf[pos++] = '-';
+      pos = digits(buf, pos, day, 2);
+      if (includeTime) {
+        buf[pos++] = 'T';
+      }
+    }
+    if (includeTime) {
+      final int seconds = (int) (millisOfDay / 1000);
+      pos = digits(buf, pos, seconds / 3600, 2);
+      buf[pos++] = ':';
+      pos = digits(buf, pos, seconds / 60 % 60, 2);
+      buf[pos++] = ':';
+      pos = digits(buf, pos, seconds % 60, 2);
+    }
+    return new String(buf, 0, pos);
+  }
+
+  /**
+   * Parses the strict form of a representation.
+   * @param text the text to parse
+   * @param includeDate whether the text includes a date ({@code yyyy-MM-dd})
+   * @param includeTime whether the text includes a time ({@code HH:mm:ss})
+   * @return the parsed instant or {@code null} if {@code text} is not in
+   *    the strict form of the representation
+   */
+  static Date parse(String text, boolean includeDate, boolean includeTime) {
+    final int length = (includeDate ? 10 : 0) + (includeTime ? 8 : 0)
+        + (includeDate && includeTime ? 1 : 0);
+    if (text.length() != length) return null;
+
+    int pos = 0;
+    long days = 0;
+    if (includeDate) {
+      final int year = number(text, 0, 4);
+      final int month = number(text, 5, 2);
+      final int day = number(text, 8, 2);
+      if (year < 1583 || text.charAt(4) != '-' || text.charAt(7) != '-'
+          || month < 1 || month > 12
+          || day < 1 || day > daysInMonth(year, month)) {
+        return null;
+      }
+      days = daysSinceEpoch(year, month, day);
+      pos = 10;
+      if (includeTime) {
+        if (text.charAt(pos) != 'T') return null;
+        pos++;
+      }
+    }
+
+    long millisOfDay = 0;
+    if (includeTime) {
+      final int hour = number(text, pos, 2);
+      final int minute = number(text, pos + 3, 2);
+      final int second = number(text, pos + 6, 2);
+      if (text.charAt(pos + 2) != ':' || text.charAt(pos + 5) != ':'
+          || hour < 0 || hour > 23 || minute < 0 || minute > 59
+          || second < 0 || second > 59) {
+        return null;
+      }
+      millisOfDay = ((hour * 60L + minute) * 60L + second) * 1000L;
+    }
+
+    return new Date(days * MILLIS_PER_DAY + millisOfDay);
+  }
+
+  private static int digits(char[] buf, int pos, int value, int width) {
+    for (int i = pos + width - 1; i >= pos; i--) {
+      buf[i] = (char) ('0' + value % 10);
+      value /= 10;
+    }
+    return pos + width;
+  }
+
+  private static int number(String text, int pos, int width) {
+    int value = 0;
+    for (int i = pos; i < pos + width; i++) {
+      final char c = text.charAt(i);
+      if (c < '0' || c > '9') return -1;
+      value = 10 * value + (c - '0');
+    }
+    return value;
+  }
+
+  private static int daysInMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return year % 4 == 0 && (year % 100 != 0 || year % 400 == 0) ?
+            29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  private static long daysSinceEpoch(int year, int month, int day) {
+    // days since the epoch from civil date (H. Hinnant)
+    final long y = month <= 2 ? year - 1 : year;
+    final long era = (y >= 0 ? y : y - 399) / 400;
+    final long yoe = y - era * 400;
+    final long doy = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5
+        + day - 1;
+    final long doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+    return era * 146097 + doe - 719468;
+  }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.converter;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.TimeZone;
+
+/**
+ * A thread-safe date format for a {@link SimpleDateFormat} pattern and
+ * time zone.
+ * <p>
+ * The pattern is compiled once. Because a {@link SimpleDateFormat} cannot
+ * be shared by concurrent threads, each thread that uses this format
+ * formats and parses using its own clone of the compiled format.
+ *
+ * @author Carl Harris
+ */
+final class PatternDateFormat {
+
+  private final String pattern;
+  private final TimeZone timeZone;
+  private final DateFormat prototype;
+
+  private final ThreadLocal<DateFormat> formats = new ThreadLocal<DateFormat>() {
+    @Override
+    protected DateFormat initialValue() {
+      return (DateFormat) prototype.clone();
+    }
+  };
+
+  /**
+   * Constructs a new instance.
+   * @param pattern {@link SimpleDateFormat} pattern
+   * @param timeZone time zone
+   */
+  PatternDateFormat(String pattern, TimeZone timeZone) {
+    this.pattern = pattern;
+    this.timeZone = timeZone;
+    this.prototype = new SimpleDateFormat(pattern);
+    this.prototype.setTimeZone(timeZone);
+  }
+
+  /**
+   * Tests whether this format uses the given pattern and time zone.
+   * @param pattern {@link SimpleDateFormat} pattern
+   * @param timeZone time zone
+   * @return {@code true} if this format uses {@code pattern} and
+   *    {@code timeZone}
+   */
+  boolean matches(String pattern, TimeZone timeZone) {
+    return this.pattern.equals(pattern) && this.timeZone.equals(timeZone);
+  }
+
+  String format(Date date) {
+    return formats.get().format(date);
+  }
+
+  Date parse(String text) throws ParseException {
+    return formats.get().parse(text);
+  }
+
+}
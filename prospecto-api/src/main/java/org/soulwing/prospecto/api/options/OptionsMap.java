@@ -18,17 +18,32 @@
  */
 package org.soulwing.prospecto.api.options;
 
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * An {@link Options} collection implemented on top of a {@link Map}.
+ * <p>
+ * An instance of this class may be safely shared by multiple threads; an
+ * {@link OptionsSnapshot} obtained from it after a change is made reflects
+ * the change, while snapshots obtained before the change are unaffected.
  *
  * @author Carl Harris
  */
 public class OptionsMap implements Options {
 
-  private final Map<String, Object> map = new HashMap<>();
+  private final ConcurrentMap<String, Object> map = new ConcurrentHashMap<>();
+
+  private final Map<String, Object> mapView = new MapView();
+
+  private volatile int version;
+
+  private volatile OptionsSnapshot snapshot;
 
   @Override
   public Object get(String name) {
@@ -46,12 +61,26 @@ public class OptionsMap implements Options {
 
   @Override
   public void put(String name, Object value) {
-    map.put(name, value);
+    doPut(name, value);
+  }
+
+  private synchronized Object doPut(String name, Object value) {
+    try {
+      return value != null ? map.put(name, value) : map.remove(name);
+    }
+    finally {
+      version++;
+    }
   }
 
   @Override
-  public Object remove(String name) {
-    return map.remove(name);
+  public synchronized Object remove(String name) {
+    try {
+      return map.remove(name);
+    }
+    finally {
+      version++;
+    }
   }
 
   @Override
@@ -70,7 +99,98 @@ public class OptionsMap implements Options {
 
   @Override
   public Map<String, Object> toMap() {
-    return map;
+    return mapView;
+  }
+
+  /**
+   * Gets a snapshot of the current state of this options collection.
+   * <p>
+   * The snapshot is compiled once and reused until this collection is
+   * changed.
+   * @return snapshot
+   */
+  OptionsSnapshot snapshot() {
+    final int version = this.version;
+    OptionsSnapshot snapshot = this.snapshot;
+    if (snapshot == null || snapshot.version != version) {
+      snapshot = new OptionsSnapshot(this, version);
+      this.snapshot = snapshot;
+    }
+    return snapshot;
+  }
+
+  /**
+   * A view of the options as a map that routes changes through the
+   * enclosing collection.
+   */
+  private class MapView extends AbstractMap<String, Object> {
+
+    @Override
+    public Object get(Object key) {
+      return map.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return map.containsKey(key);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+      return doPut(key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+      return key instanceof String ? OptionsMap.this.remove((String) key) : null;
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+      return new AbstractSet<Entry<String, Object>>() {
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+          final Iterator<Entry<String, Object>> delegate =
+              map.entrySet().iterator();
+          return new Iterator<Entry<String, Object>>() {
+            private String key;
+
+            @Override
+            public boolean hasNext() {
+              return delegate.hasNext();
+            }
+
+            @Override
+            public Entry<String, Object> next() {
+              final Entry<String, Object> entry = delegate.next();
+              key = entry.getKey();
+              return new SimpleEntry<String, Object>(entry) {
+                @Override
+                public Object setValue(Object value) {
+                  super.setValue(value);
+                  return doPut(getKey(), value);
+                }
+              };
+            }
+
+            @Override
+            public void remove() {
+              if (key == null) {
+                throw new IllegalStateException();
+              }
+              OptionsMap.this.remove(key);
+              key = null;
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return map.size();
+        }
+      };
+    }
+
   }
 
 }
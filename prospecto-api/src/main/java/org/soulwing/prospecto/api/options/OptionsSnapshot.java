@@ -0,0 +1,217 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.options;
+
+/**
+ * An immutable snapshot of the options that are recognized by Prospecto.
+ * <p>
+ * A snapshot is compiled once from an {@link Options} collection into typed
+ * fields, so that consulting an option requires neither a map lookup nor
+ * coercion of the option's value. Writers, readers, and view contexts
+ * capture a snapshot when they are created; subsequent changes to the
+ * options collection are reflected in snapshots obtained after the change.
+ * <p>
+ * A snapshot is safe for use by multiple concurrent threads.
+ *
+ * @author Carl Harris
+ */
+public final class OptionsSnapshot {
+
+  private static final int INCLUDE_NULL_PROPERTIES = 1;
+  private static final int WRAP_OBJECT_IN_ENVELOPE = 1 << 1;
+  private static final int WRAP_ARRAY_IN_ENVELOPE = 1 << 2;
+  private static final int INCLUDE_XML_XSI_TYPE = 1 << 3;
+  private static final int PRETTY_PRINT_OUTPUT = 1 << 4;
+  private static final int IGNORE_UNKNOWN_PROPERTIES = 1 << 5;
+  private static final int METHOD_HANDLE_ACCESSORS = 1 << 6;
+  private static final int STREAMING_VIEW = 1 << 7;
+  private static final int MEMOIZE_URLS = 1 << 8;
+
+  final int version;
+
+  private final int flags;
+  private final String discriminatorName;
+  private final String urlName;
+  private final int parallelArrayThreshold;
+  private final int flushThreshold;
+
+  OptionsSnapshot(Options options, int version) {
+    this.version = version;
+    int flags = 0;
+    flags |= flag(options, WriterKeys.INCLUDE_NULL_PROPERTIES, false,
+        INCLUDE_NULL_PROPERTIES);
+    flags |= flag(options, WriterKeys.WRAP_OBJECT_IN_ENVELOPE, false,
+        WRAP_OBJECT_IN_ENVELOPE);
+    flags |= flag(options, WriterKeys.WRAP_ARRAY_IN_ENVELOPE, true,
+        WRAP_ARRAY_IN_ENVELOPE);
+    flags |= flag(options, WriterKeys.INCLUDE_XML_XSI_TYPE, false,
+        INCLUDE_XML_XSI_TYPE);
+    flags |= flag(options, WriterKeys.PRETTY_PRINT_OUTPUT, false,
+        PRETTY_PRINT_OUTPUT);
+    flags |= flag(options, ViewKeys.IGNORE_UNKNOWN_PROPERTIES, false,
+        IGNORE_UNKNOWN_PROPERTIES);
+    flags |= flag(options, ViewKeys.METHOD_HANDLE_ACCESSORS, false,
+        METHOD_HANDLE_ACCESSORS);
+    flags |= flag(options, ViewKeys.STREAMING_VIEW, false,
+        STREAMING_VIEW);
+    flags |= flag(options, ViewKeys.MEMOIZE_URLS, false,
+        MEMOIZE_URLS);
+    this.flags = flags;
+    this.discriminatorName = options.get(ViewKeys.DISCRIMINATOR_NAME,
+        ViewDefaults.DISCRIMINATOR_NODE_NAME).toString();
+    this.urlName = options.get(ReaderKeys.URL_NAME,
+        ViewDefaults.URL_NODE_NAME).toString();
+    final Object threshold = options.get(ViewKeys.PARALLEL_ARRAY_THRESHOLD);
+    this.parallelArrayThreshold = threshold instanceof Number ?
+        Math.max(0, ((Number) threshold).intValue()) : 0;
+    final Object flushThreshold = options.get(WriterKeys.FLUSH_THRESHOLD);
+    this.flushThreshold = flushThreshold instanceof Number
+        && ((Number) flushThreshold).intValue() > 0 ?
+        ((Number) flushThreshold).intValue() : ViewDefaults.FLUSH_THRESHOLD;
+  }
+
+  /**
+   * Gets a snapshot of the given options.
+   * @param options the subject options
+   * @return snapshot of {@code options}
+   * @throws ClassCastException if a two-state (boolean) option has a value
+   *    that cannot be coerced to a boolean
+   */
+  public static OptionsSnapshot of(Options options) {
+    if (options instanceof OptionsMap) {
+      return ((OptionsMap) options).snapshot();
+    }
+    return new OptionsSnapshot(options, 0);
+  }
+
+  private static int flag(Options options, String name, boolean defaultValue,
+      int flag) {
+    final boolean enabled = options.get(name) == null ?
+        defaultValue : options.isEnabled(name);
+    return enabled ? flag : 0;
+  }
+
+  /**
+   * Gets the value of the {@link WriterKeys#INCLUDE_NULL_PROPERTIES} option.
+   * @return option value
+   */
+  public boolean isIncludeNullProperties() {
+    return (flags & INCLUDE_NULL_PROPERTIES) != 0;
+  }
+
+  /**
+   * Gets the value of the {@link WriterKeys#WRAP_OBJECT_IN_ENVELOPE} option.
+   * @return option value
+   */
+  public boolean isWrapObjectInEnvelope() {
+    return (flags & WRAP_OBJECT_IN_ENVELOPE) != 0;
+  }
+
+  /**
+   * Gets the value of the {@link WriterKeys#WRAP_ARRAY_IN_ENVELOPE} option.
+   * @return option value
+   */
+  public boolean isWrapArrayInEnvelope() {
+    return (flags & WRAP_ARRAY_IN_ENVELOPE) != 0;
+  }
+
+  /**
+   * Gets the value of the {@link WriterKeys#INCLUDE_XML_XSI_TYPE} option.
+   * @return option value
+   */
+  public boolean isIncludeXmlXsiType() {
+    return (flags & INCLUDE_XML_XSI_TYPE) != 0;
+  }
+
+  /**
+   * Gets the value of the {@link WriterKeys#PRETTY_PRINT_OUTPUT} option.
+   * @return option value
+   */
+  public boolean isPrettyPrintOutput() {
+    return (flags & PRETTY_PRINT_OUTPUT) != 0;
+  }
+
+  /**
+   * Gets the value of the {@link ViewKeys#IGNORE_UNKNOWN_PROPERTIES} option.
+   * @return option value
+   */
+  public boolean isIgnoreUnknownProperties() {
+    return (flags & IGNORE_UNKNOWN_PROPERTIES) != 0;
+  }
+
+  /**
+   * Gets the value of the {@link ViewKeys#METHOD_HANDLE_ACCESSORS} option.
+   * @return option value
+   */
+  public boolean isMethodHandleAccessors() {
+    return (flags & METHOD_HANDLE_ACCESSORS) != 0;
+  }
+
+  /**
+   * Gets the value of the {@link ViewKeys#STREAMING_VIEW} option.
+   * @return option value
+   */
+  public boolean isStreamingView() {
+    return (flags & STREAMING_VIEW) != 0;
+  }
+
+  /**
+   * Gets the value of the {@link ViewKeys#MEMOIZE_URLS} option.
+   * @return option value
+   */
+  public boolean isMemoizeUrls() {
+    return (flags & MEMOIZE_URLS) != 0;
+  }
+
+  /**
+   * Gets the value of the {@link ViewKeys#DISCRIMINATOR_NAME} option.
+   * @return option value or {@link ViewDefaults#DISCRIMINATOR_NODE_NAME}
+   *    if the option is not set
+   */
+  public String getDiscriminatorName() {
+    return discriminatorName;
+  }
+
+  /**
+   * Gets the value of the {@link ReaderKeys#URL_NAME} option.
+   * @return option value or {@link ViewDefaults#URL_NODE_NAME} if the
+   *    option is not set
+   */
+  public String getUrlName() {
+    return urlName;
+  }
+
+  /**
+   * Gets the value of the {@link ViewKeys#PARALLEL_ARRAY_THRESHOLD} option.
+   * @return option value or zero if the option is not set to a number
+   */
+  public int getParallelArrayThreshold() {
+    return parallelArrayThreshold;
+  }
+
+  /**
+   * Gets the value of the {@link WriterKeys#FLUSH_THRESHOLD} option.
+   * @return option value or {@link ViewDefaults#FLUSH_THRESHOLD} if the
+   *    option is not set to a positive number
+   */
+  public int getFlushThreshold() {
+    return flushThreshold;
+  }
+
+}
@@ -45,4 +45,9 @@ public interface ViewDefaults {
    */
   String TO_STRING_NODE_NAME = "displayString";
 
+  /**
+   * Default number of bytes buffered by a writer before flushing.
+   */
+  int FLUSH_THRESHOLD = 8192;
+
 }
@@ -38,10 +38,82 @@ public interface ViewKeys {
   String IGNORE_UNKNOWN_PROPERTIES = PREFIX
       + ".applicator.ignoreUnknownProperties";
 
+  /**
+   * When set to {@code true} view templates access model properties and
+   * fields using method handles that are bound when the template is built,
+   * rather than using the Reflection API for each access.
+   * <p>
+   * This option is consulted (in the options of the
+   * {@link org.soulwing.prospecto.ViewOptionsRegistry}) when a template is
+   * built; it has no effect on templates that have already been built.
+   * A member that cannot be bound to a method handle is accessed using the
+   * Reflection API.
+   */
+  String METHOD_HANDLE_ACCESSORS = PREFIX
+      + ".template.methodHandleAccessors";
+
   /**
    * Subtype discriminator property name.
    */
   String DISCRIMINATOR_NAME = ViewKeys.PREFIX
       + ".view.discriminatorName";
 
+  /**
+   * When set to {@code true} a view template will generate a view whose
+   * events are produced lazily, as the view is iterated, rather than all at
+   * once when the view is generated.
+   * <p>
+   * A streaming view can be iterated only once, and the model (along with
+   * any resources it depends on, such as an open persistence context) must
+   * remain available until the view has been completely consumed. Listeners
+   * are notified as each node is visited during iteration, and post-traversal
+   * listeners are notified when the last event has been consumed.
+   */
+  String STREAMING_VIEW = ViewKeys.PREFIX + ".view.streaming";
+
+  /**
+   * Minimum number of elements (an {@link Integer}) for which the elements
+   * of an array-of-objects node will be generated in parallel.
+   * <p>
+   * When not set, elements are generated serially unless parallel generation
+   * has been configured for the node using
+   * {@link org.soulwing.prospecto.api.ParallelViewTemplateBuilder#parallel(int)},
+   * which takes precedence over this option. Element subtrees are generated
+   * using the {@link java.util.concurrent.ForkJoinPool} found in the view
+   * context, or a shared pool if the context contains none. The order of
+   * the elements in the resulting view is always the same as the order
+   * produced by the model collection.
+   * <p>
+   * When parallel generation is enabled, listeners may be notified
+   * concurrently on multiple threads and must therefore be thread safe.
+   */
+  String PARALLEL_ARRAY_THRESHOLD = ViewKeys.PREFIX
+      + ".view.parallelArrayThreshold";
+
+  /**
+   * When set to {@code true} the URL produced for each <em>url</em> node is
+   * memoized for the duration of a single view generation, keyed by the
+   * identity of the model object that contains the node, the node itself, and
+   * the current model path.
+   * <p>
+   * This avoids resolving the same URL again when the same model object
+   * appears many times in a view (e.g. a parent referenced by each element
+   * of a collection). It should be enabled only when the configured
+   * {@link org.soulwing.prospecto.api.url.UrlResolver} produces a URL that
+   * depends on nothing else in the view context.
+   * <p>
+   * In particular, the key does not include the ancestors of the model
+   * object. A resolver that fills in path parameters using objects from
+   * enclosing scopes (e.g. a {@code MapPathTemplateResolver} whose template
+   * map includes the identifier of an ancestor entity) would be given the
+   * URL memoized for whichever ancestors were in scope when the model object
+   * was first encountered. Such a resolver must not be used with this option.
+   * Including the ancestors in the key is not an alternative, since the
+   * ancestors differ in exactly the cases where memoization would help.
+   * <p>
+   * A resolver that returns {@code null} is consulted each time, since
+   * the absence of a URL is not memoized.
+   */
+  String MEMOIZE_URLS = ViewKeys.PREFIX + ".view.memoizeUrls";
+
 }
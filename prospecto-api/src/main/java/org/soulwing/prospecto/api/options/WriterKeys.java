@@ -59,4 +59,11 @@ public interface WriterKeys {
    * pretty printed.
    */
   String PRETTY_PRINT_OUTPUT = ViewKeys.PREFIX + ".writer.prettyPrintOutput";
+
+  /**
+   * Number of bytes (an {@link Integer}) that a writer which supports it will
+   * buffer before writing to the underlying output stream. When not set, the
+   * writer uses {@link ViewDefaults#FLUSH_THRESHOLD}.
+   */
+  String FLUSH_THRESHOLD = ViewKeys.PREFIX + ".writer.flushThreshold";
 }
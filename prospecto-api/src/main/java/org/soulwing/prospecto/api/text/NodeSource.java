@@ -0,0 +1,44 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.text;
+
+import org.soulwing.prospecto.api.ViewReader;
+import org.w3c.dom.Node;
+
+/**
+ * A source for a {@link ViewReader} that reads from a DOM node.
+ * <p>
+ * The node is either a {@link org.w3c.dom.Document} or the
+ * {@link org.w3c.dom.Element} that represents the root of the view.
+ *
+ * @author Carl Harris
+ */
+public class NodeSource implements ViewReader.Source {
+
+  private final Node node;
+
+  public NodeSource(Node node) {
+    this.node = node;
+  }
+
+  public Node getNode() {
+    return node;
+  }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.spi;
+
+/**
+ * An accessor for a single property or field of a model type.
+ * <p>
+ * Implementations of this type are typically generated at compile time by
+ * the {@code prospecto-apt} annotation processor, and use ordinary method
+ * invocations and field references rather than the Reflection API.
+ *
+ * @author Carl Harris
+ */
+public interface ModelAccessor {
+
+  /**
+   * Gets the data type of the subject property or field.
+   * @return data type
+   */
+  Class<?> getDataType();
+
+  /**
+   * Tests whether this accessor can read the subject property or field.
+   * @return {@code true} if this accessor supports {@link #get(Object)}
+   */
+  boolean canRead();
+
+  /**
+   * Tests whether this accessor can write the subject property or field.
+   * @return {@code true} if this accessor supports {@link #set(Object, Object)}
+   */
+  boolean canWrite();
+
+  /**
+   * Gets the value of the subject property or field.
+   * @param model the model instance
+   * @return property or field value
+   * @throws Exception as thrown by the model's accessor method
+   */
+  Object get(Object model) throws Exception;
+
+  /**
+   * Sets the value of the subject property or field.
+   * @param model the model instance
+   * @param value the value to set
+   * @throws Exception as thrown by the model's mutator method
+   */
+  void set(Object model, Object value) throws Exception;
+
+}
@@ -0,0 +1,51 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.spi;
+
+import org.soulwing.prospecto.api.AccessType;
+
+/**
+ * A provider of {@link ModelAccessor} objects for a model type.
+ * <p>
+ * Providers are located using {@link java.util.ServiceLoader}; an accessor
+ * obtained from a provider is used in preference to one that uses the
+ * Reflection API. The {@code prospecto-apt} annotation processor generates
+ * a provider (and the corresponding service registration) for each type
+ * designated using {@link org.soulwing.prospecto.api.GenerateAccessors}.
+ *
+ * @author Carl Harris
+ */
+public interface ModelAccessorProvider {
+
+  /**
+   * Gets the model type supported by this provider.
+   * @return model type
+   */
+  Class<?> getModelType();
+
+  /**
+   * Gets an accessor for a property or field of the model type.
+   * @param name name of the property or field
+   * @param accessType access type
+   * @return accessor or {@code null} if this provider has no accessor for
+   *    the given name and access type
+   */
+  ModelAccessor getAccessor(String name, AccessType accessType);
+
+}
@@ -274,6 +274,36 @@ public class CoerceTest {
     coerceAndValidate(MockValueTypeWithConstructor.class, "value", value);
   }
 
+  @Test
+  public void testCoerceRepeatedly() throws Exception {
+    for (int i = 0; i < 10; i++) {
+      coerceAndValidate(MockValueTypeWithValueOf.class, "value" + i,
+          new MockValueTypeWithValueOf("value" + i));
+      coerceAndValidate(MockValueTypeWithConstructor.class, "value" + i,
+          new MockValueTypeWithConstructor("value" + i));
+    }
+  }
+
+  @Test
+  public void testCoerceUsingConstructorWhenValueOfFails() throws Exception {
+    coerceAndValidate(MockValueTypeWithBoth.class, "value",
+        new MockValueTypeWithBoth("value"));
+    coerceAndValidate(MockValueTypeWithBoth.class,
+        MockValueTypeWithBoth.REJECTED,
+        new MockValueTypeWithBoth("constructed"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCoerceWithNoRoute() throws Exception {
+    try {
+      Coerce.toValueOfType(MockEnum.class, 42);
+    }
+    catch (IllegalArgumentException ex) {
+      // again, after the plan has been cached
+      Coerce.toValueOfType(MockEnum.class, 42);
+    }
+  }
+
   @SuppressWarnings("unchecked")
   private <T> void coerceAndValidate(Class<T> type, Object value, T expected)
       throws Exception {
@@ -333,4 +363,35 @@ public class CoerceTest {
     }
   }
 
+  static class MockValueTypeWithBoth {
+    static final String REJECTED = "rejected";
+
+    private final Object value;
+
+    public MockValueTypeWithBoth(String value) {
+      this.value = REJECTED.equals(value) ? "constructed" : value;
+    }
+
+    @SuppressWarnings("unused")
+    public static MockValueTypeWithBoth valueOf(String value) {
+      if (REJECTED.equals(value)) {
+        throw new IllegalArgumentException();
+      }
+      return new MockValueTypeWithBoth(value);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(value);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj == this
+          || obj instanceof MockValueTypeWithBoth
+          && Objects.equals(this.value,
+          ((MockValueTypeWithBoth) obj).value);
+    }
+  }
+
 }
@@ -22,7 +22,19 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.List;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jmock.auto.Mock;
 import org.jmock.integration.junit4.JUnitRuleMockery;
@@ -122,4 +134,97 @@ public class DateTypeConverterTest {
     assertThat(converter.supports(Date.class), is(false));
   }
 
+  @Test
+  public void testISO8601InUtcSameAsDateFormat() throws Exception {
+    converter.setTimeZoneId("UTC");
+    final Random random = new Random(0);
+    final long[] instants = new long[1000];
+    for (int i = 0; i < instants.length; i++) {
+      instants[i] = random.nextLong() % 300000000000000L;
+    }
+    instants[0] = 951782400000L;    // 2000-02-29T00:00:00Z
+    instants[1] = -1L;
+    instants[2] = -12212553600001L; // the instant before 1583-01-01T00:00:00Z
+
+    for (final DateTypeConverter.Format format : Arrays.asList(
+        DateTypeConverter.Format.ISO8601,
+        DateTypeConverter.Format.ISO8601_DATE,
+        DateTypeConverter.Format.ISO8601_TIME)) {
+      converter.setFormat(format);
+      final DateFormat df = new SimpleDateFormat(pattern(format));
+      df.setTimeZone(TimeZone.getTimeZone("UTC"));
+      for (final long instant : instants) {
+        final Date date = new Date(instant);
+        final String value = (String) converter.toViewValue(date, viewContext);
+        assertThat(value, is(equalTo(df.format(date))));
+        assertThat(converter.toModelValue(value, viewContext),
+            is(equalTo(df.parse(value))));
+      }
+    }
+  }
+
+  @Test
+  public void testParseISO8601InUtcWithLenientInput() throws Exception {
+    converter.setTimeZoneId("UTC");
+    final DateFormat df = new SimpleDateFormat(pattern(
+        DateTypeConverter.Format.ISO8601));
+    df.setTimeZone(TimeZone.getTimeZone("UTC"));
+    for (final String value : Arrays.asList("1970-01-32T00:00:00",
+        "1970-1-1T0:0:0", "1970-01-01T00:00:00.123Z", "0001-01-01T00:00:00")) {
+      assertThat(converter.toModelValue(value, viewContext),
+          is(equalTo(df.parse(value))));
+    }
+  }
+
+  @Test(expected = ParseException.class)
+  public void testParseISO8601InUtcWhenInvalid() throws Exception {
+    converter.setTimeZoneId("UTC");
+    converter.toModelValue("not a date", viewContext);
+  }
+
+  @Test
+  public void testConvertConcurrently() throws Exception {
+    converter.setTimeZoneId("America/New_York");
+    converter.setFormat(DateTypeConverter.Format.CUSTOM);
+    converter.setPattern("yyyy-MM-dd HH:mm:ss.SSS Z");
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<Boolean>> results = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        final long seed = i;
+        results.add(executor.submit(new Callable<Boolean>() {
+          @Override
+          public Boolean call() throws Exception {
+            final Random random = new Random(seed);
+            for (int j = 0; j < 1000; j++) {
+              final Date date = new Date(random.nextLong() % 4000000000000L);
+              final Object value = converter.toViewValue(date, viewContext);
+              if (!date.equals(converter.toModelValue(value, viewContext))) {
+                return false;
+              }
+            }
+            return true;
+          }
+        }));
+      }
+      for (final Future<Boolean> result : results) {
+        assertThat(result.get(), is(true));
+      }
+    }
+    finally {
+      executor.shutdown();
+    }
+  }
+
+  private static String pattern(DateTypeConverter.Format format) {
+    switch (format) {
+      case ISO8601_DATE:
+        return "yyyy-MM-dd";
+      case ISO8601_TIME:
+        return "HH:mm:ss";
+      default:
+        return "yyyy-MM-dd'T'HH:mm:ss";
+    }
+  }
+
 }
@@ -0,0 +1,149 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.api.options;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link OptionsSnapshot}.
+ *
+ * @author Carl Harris
+ */
+public class OptionsSnapshotTest {
+
+  private final Options options = new OptionsMap();
+
+  @Test
+  public void testDefaults() throws Exception {
+    final OptionsSnapshot snapshot = OptionsSnapshot.of(options);
+    assertThat(snapshot.isIncludeNullProperties(), is(false));
+    assertThat(snapshot.isWrapObjectInEnvelope(), is(false));
+    assertThat(snapshot.isWrapArrayInEnvelope(), is(true));
+    assertThat(snapshot.isIncludeXmlXsiType(), is(false));
+    assertThat(snapshot.isPrettyPrintOutput(), is(false));
+    assertThat(snapshot.isIgnoreUnknownProperties(), is(false));
+    assertThat(snapshot.isMethodHandleAccessors(), is(false));
+    assertThat(snapshot.isStreamingView(), is(false));
+    assertThat(snapshot.isMemoizeUrls(), is(false));
+    assertThat(snapshot.getDiscriminatorName(),
+        is(equalTo(ViewDefaults.DISCRIMINATOR_NODE_NAME)));
+    assertThat(snapshot.getUrlName(), is(equalTo(ViewDefaults.URL_NODE_NAME)));
+    assertThat(snapshot.getParallelArrayThreshold(), is(equalTo(0)));
+    assertThat(snapshot.getFlushThreshold(),
+        is(equalTo(ViewDefaults.FLUSH_THRESHOLD)));
+  }
+
+  @Test
+  public void testConfiguredValues() throws Exception {
+    options.put(WriterKeys.INCLUDE_NULL_PROPERTIES, true);
+    options.put(WriterKeys.WRAP_ARRAY_IN_ENVELOPE, "false");
+    options.put(ViewKeys.STREAMING_VIEW, "true");
+    options.put(ViewKeys.MEMOIZE_URLS, true);
+    options.put(ViewKeys.DISCRIMINATOR_NAME, "kind");
+    options.put(ViewKeys.PARALLEL_ARRAY_THRESHOLD, 100L);
+    options.put(WriterKeys.FLUSH_THRESHOLD, 512);
+
+    final OptionsSnapshot snapshot = OptionsSnapshot.of(options);
+    assertThat(snapshot.isIncludeNullProperties(), is(true));
+    assertThat(snapshot.isWrapArrayInEnvelope(), is(false));
+    assertThat(snapshot.isStreamingView(), is(true));
+    assertThat(snapshot.isMemoizeUrls(), is(true));
+    assertThat(snapshot.getDiscriminatorName(), is(equalTo("kind")));
+    assertThat(snapshot.getParallelArrayThreshold(), is(equalTo(100)));
+    assertThat(snapshot.getFlushThreshold(), is(equalTo(512)));
+  }
+
+  @Test(expected = ClassCastException.class)
+  public void testInvalidFlag() throws Exception {
+    options.put(WriterKeys.PRETTY_PRINT_OUTPUT, 1);
+    OptionsSnapshot.of(options);
+  }
+
+  @Test
+  public void testSnapshotReusedUntilChanged() throws Exception {
+    final OptionsSnapshot snapshot = OptionsSnapshot.of(options);
+    assertThat(OptionsSnapshot.of(options), is(sameInstance(snapshot)));
+
+    options.put(WriterKeys.INCLUDE_NULL_PROPERTIES, true);
+    final OptionsSnapshot changed = OptionsSnapshot.of(options);
+    assertThat(changed, is(not(sameInstance(snapshot))));
+    assertThat(changed.isIncludeNullProperties(), is(true));
+    assertThat(snapshot.isIncludeNullProperties(), is(false));
+
+    options.remove(WriterKeys.INCLUDE_NULL_PROPERTIES);
+    assertThat(OptionsSnapshot.of(options).isIncludeNullProperties(),
+        is(false));
+  }
+
+  @Test
+  public void testChangesThroughMap() throws Exception {
+    final Map<String, Object> map = options.toMap();
+    map.put(WriterKeys.INCLUDE_NULL_PROPERTIES, true);
+    assertThat(options.isEnabled(WriterKeys.INCLUDE_NULL_PROPERTIES),
+        is(true));
+    assertThat(OptionsSnapshot.of(options).isIncludeNullProperties(),
+        is(true));
+
+    map.entrySet().iterator().next().setValue(false);
+    assertThat(OptionsSnapshot.of(options).isIncludeNullProperties(),
+        is(false));
+
+    final Iterator<Map.Entry<String, Object>> i = map.entrySet().iterator();
+    i.next();
+    i.remove();
+    assertThat(map.isEmpty(), is(true));
+    assertThat(options.get(WriterKeys.INCLUDE_NULL_PROPERTIES),
+        is(equalTo(null)));
+  }
+
+  @Test
+  public void testConcurrentChanges() throws Exception {
+    final Thread[] threads = new Thread[4];
+    for (int i = 0; i < threads.length; i++) {
+      final String name = ViewKeys.PREFIX + ".test" + i;
+      threads[i] = new Thread() {
+        @Override
+        public void run() {
+          for (int j = 0; j < 1000; j++) {
+            options.put(name, j);
+            OptionsSnapshot.of(options);
+          }
+        }
+      };
+      threads[i].start();
+    }
+    for (final Thread thread : threads) {
+      thread.join();
+    }
+    assertThat(options.toMap().size(), is(equalTo(threads.length)));
+    options.put(ViewKeys.PARALLEL_ARRAY_THRESHOLD, 10);
+    assertThat(OptionsSnapshot.of(options).getParallelArrayThreshold(),
+        is(equalTo(10)));
+  }
+
+}
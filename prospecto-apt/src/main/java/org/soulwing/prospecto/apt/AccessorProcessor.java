@@ -0,0 +1,222 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.apt;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+import org.soulwing.prospecto.api.GenerateAccessors;
+import org.soulwing.prospecto.spi.ModelAccessorProvider;
+
+/**
+ * An annotation processor that generates {@link ModelAccessorProvider}
+ * implementations for the model types designated by
+ * {@link GenerateAccessors} annotations.
+ * <p>
+ * Each generated provider is registered in
+ * {@code META-INF/services/org.soulwing.prospecto.spi.ModelAccessorProvider}
+ * so that it is found by the runtime using {@link java.util.ServiceLoader}.
+ *
+ * @author Carl Harris
+ */
+public class AccessorProcessor extends AbstractProcessor {
+
+  static final String SERVICES_RESOURCE =
+      "META-INF/services/" + ModelAccessorProvider.class.getName();
+
+  private final Set<String> modelTypes = new HashSet<>();
+  private final Set<String> providers = new LinkedHashSet<>();
+
+  private Elements elements;
+  private Types types;
+  private Filer filer;
+  private Messager messager;
+  private ModelIntrospector introspector;
+  private AccessorSourceWriter sourceWriter;
+
+  @Override
+  public synchronized void init(ProcessingEnvironment processingEnv) {
+    super.init(processingEnv);
+    elements = processingEnv.getElementUtils();
+    types = processingEnv.getTypeUtils();
+    filer = processingEnv.getFiler();
+    messager = processingEnv.getMessager();
+    introspector = new ModelIntrospector(elements, types);
+    sourceWriter = new AccessorSourceWriter(elements, types);
+  }
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(GenerateAccessors.class.getName());
+  }
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations,
+      RoundEnvironment roundEnv) {
+    if (roundEnv.processingOver()) {
+      writeServices();
+      return false;
+    }
+
+    final TypeElement annotation =
+        elements.getTypeElement(GenerateAccessors.class.getName());
+    if (annotation == null) return false;
+
+    for (final Element element :
+        roundEnv.getElementsAnnotatedWith(annotation)) {
+      for (final TypeElement modelType : modelTypes(element, annotation)) {
+        generate(modelType, element);
+      }
+    }
+    return true;
+  }
+
+  private List<TypeElement> modelTypes(Element element,
+      TypeElement annotation) {
+    final List<TypeElement> modelTypes = new ArrayList<>();
+    for (final AnnotationMirror mirror : element.getAnnotationMirrors()) {
+      if (!types.isSameType(mirror.getAnnotationType(), annotation.asType())) {
+        continue;
+      }
+      for (final Map.Entry<? extends ExecutableElement,
+          ? extends AnnotationValue> entry : mirror.getElementValues()
+          .entrySet()) {
+        if (!entry.getKey().getSimpleName().contentEquals("value")) continue;
+        for (final Object value : (List<?>) entry.getValue().getValue()) {
+          final TypeMirror type =
+              (TypeMirror) ((AnnotationValue) value).getValue();
+          modelTypes.add((TypeElement) ((DeclaredType) type).asElement());
+        }
+      }
+    }
+    if (modelTypes.isEmpty()) {
+      modelTypes.add((TypeElement) element);
+    }
+    return modelTypes;
+  }
+
+  private void generate(TypeElement modelType, Element origin) {
+    if (!modelTypes.add(modelType.getQualifiedName().toString())) return;
+
+    if (!isAccessible(modelType)) {
+      messager.printMessage(Diagnostic.Kind.WARNING,
+          "cannot generate accessors for private type "
+              + modelType.getQualifiedName(), origin);
+      return;
+    }
+
+    final String providerName = sourceWriter.providerName(modelType);
+    try (final PrintWriter out = new PrintWriter(filer.createSourceFile(
+        providerName, modelType, origin).openWriter())) {
+      sourceWriter.write(modelType, introspector.properties(modelType),
+          introspector.fields(modelType), out);
+      providers.add(providerName);
+    }
+    catch (IOException ex) {
+      messager.printMessage(Diagnostic.Kind.ERROR,
+          "cannot write " + providerName + ": " + ex, origin);
+    }
+  }
+
+  private boolean isAccessible(TypeElement type) {
+    Element element = type;
+    while (element instanceof TypeElement) {
+      if (element.getModifiers().contains(Modifier.PRIVATE)) return false;
+      element = element.getEnclosingElement();
+    }
+    return true;
+  }
+
+  private void writeServices() {
+    if (providers.isEmpty()) return;
+    final Set<String> registered = new LinkedHashSet<>();
+    readServices(registered);
+    registered.addAll(providers);
+    try {
+      final FileObject resource = filer.createResource(
+          StandardLocation.CLASS_OUTPUT, "", SERVICES_RESOURCE);
+      try (final PrintWriter out = new PrintWriter(resource.openWriter())) {
+        for (final String provider : registered) {
+          out.println(provider);
+        }
+      }
+    }
+    catch (IOException ex) {
+      messager.printMessage(Diagnostic.Kind.ERROR,
+          "cannot write " + SERVICES_RESOURCE + ": " + ex);
+    }
+  }
+
+  private void readServices(Set<String> registered) {
+    try {
+      final FileObject resource = filer.getResource(
+          StandardLocation.CLASS_OUTPUT, "", SERVICES_RESOURCE);
+      try (final BufferedReader reader = new BufferedReader(
+          new InputStreamReader(resource.openInputStream(), "UTF-8"))) {
+        String line = reader.readLine();
+        while (line != null) {
+          line = line.trim();
+          if (!line.isEmpty() && !line.startsWith("#")) {
+            registered.add(line);
+          }
+          line = reader.readLine();
+        }
+      }
+    }
+    catch (IOException ex) {
+      // no existing registrations from a previous (incremental) build
+      return;
+    }
+  }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.apt;
+
+import java.io.PrintWriter;
+import java.util.List;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.spi.ModelAccessor;
+import org.soulwing.prospecto.spi.ModelAccessorProvider;
+
+/**
+ * Writes the source for a {@link ModelAccessorProvider} for a model type.
+ * <p>
+ * The provider is generated in the package of the model type, with a
+ * nested {@link ModelAccessor} class for each property and field.
+ *
+ * @author Carl Harris
+ */
+class AccessorSourceWriter {
+
+  static final String SUFFIX = "_Accessors";
+
+  private static final String INDENT = "  ";
+
+  private final Elements elements;
+  private final Types types;
+
+  AccessorSourceWriter(Elements elements, Types types) {
+    this.elements = elements;
+    this.types = types;
+  }
+
+  /**
+   * Gets the fully-qualified name of the provider for a model type.
+   * @param type model type
+   * @return provider class name
+   */
+  public String providerName(TypeElement type) {
+    final PackageElement pkg = elements.getPackageOf(type);
+    final StringBuilder sb = new StringBuilder();
+    Element element = type;
+    while (element.getKind() != ElementKind.PACKAGE) {
+      if (sb.length() > 0) {
+        sb.insert(0, '_');
+      }
+      sb.insert(0, element.getSimpleName());
+      element = element.getEnclosingElement();
+    }
+    sb.append(SUFFIX);
+    if (!pkg.isUnnamed()) {
+      sb.insert(0, '.').insert(0, pkg.getQualifiedName());
+    }
+    return sb.toString();
+  }
+
+  /**
+   * Writes the provider source for a model type.
+   * @param type model type
+   * @param properties properties of the model type
+   * @param fields fields of the model type
+   * @param out writer for the source
+   */
+  public void write(TypeElement type, List<ModelMember> properties,
+      List<ModelMember> fields, PrintWriter out) {
+    final PackageElement pkg = elements.getPackageOf(type);
+    final String providerName = providerName(type);
+    final String simpleName =
+        providerName.substring(providerName.lastIndexOf('.') + 1);
+    final String modelType = type.getQualifiedName().toString();
+
+    out.println("// Generated by " + AccessorProcessor.class.getName()
+        + "; do not edit");
+    if (!pkg.isUnnamed()) {
+      out.println("package " + pkg.getQualifiedName() + ";");
+    }
+    out.println();
+    out.println("@SuppressWarnings({ \"unchecked\", \"rawtypes\" })");
+    out.println("public final class " + simpleName);
+    out.println(INDENT + INDENT + "implements "
+        + ModelAccessorProvider.class.getName() + " {");
+    out.println();
+    out.println(INDENT + "@Override");
+    out.println(INDENT + "public Class<?> getModelType() {");
+    out.println(INDENT + INDENT + "return " + modelType + ".class;");
+    out.println(INDENT + "}");
+    out.println();
+    out.println(INDENT + "@Override");
+    out.println(INDENT + "public " + ModelAccessor.class.getName()
+        + " getAccessor(String name,");
+    out.println(INDENT + INDENT + INDENT + AccessType.class.getName()
+        + " accessType) {");
+    out.println(INDENT + INDENT + "switch (accessType) {");
+    writeCases(AccessType.PROPERTY, properties, out);
+    writeCases(AccessType.FIELD, fields, out);
+    out.println(INDENT + INDENT + INDENT + "default:");
+    out.println(INDENT + INDENT + INDENT + INDENT + "return null;");
+    out.println(INDENT + INDENT + "}");
+    out.println(INDENT + "}");
+
+    for (int i = 0; i < properties.size(); i++) {
+      writeAccessor(modelType, properties.get(i), i, out);
+    }
+    for (int i = 0; i < fields.size(); i++) {
+      writeAccessor(modelType, fields.get(i), i, out);
+    }
+
+    out.println();
+    out.println("}");
+  }
+
+  private void writeCases(AccessType accessType, List<ModelMember> members,
+      PrintWriter out) {
+    final String indent = INDENT + INDENT + INDENT;
+    out.println(indent + "case " + accessType.name() + ":");
+    out.println(indent + INDENT + "switch (name) {");
+    for (int i = 0; i < members.size(); i++) {
+      out.println(indent + INDENT + INDENT + "case \""
+          + members.get(i).getName() + "\":");
+      out.println(indent + INDENT + INDENT + INDENT + "return new "
+          + accessorName(members.get(i), i) + "();");
+    }
+    out.println(indent + INDENT + INDENT + "default:");
+    out.println(indent + INDENT + INDENT + INDENT + "return null;");
+    out.println(indent + INDENT + "}");
+  }
+
+  private void writeAccessor(String modelType, ModelMember member, int index,
+      PrintWriter out) {
+    final boolean field = member.getAccessType() == AccessType.FIELD;
+    final String receiver = "((" + modelType + ") model)";
+    final String body = INDENT + INDENT;
+
+    out.println();
+    out.println(INDENT + "private static final class "
+        + accessorName(member, index));
+    out.println(INDENT + INDENT + INDENT + "implements "
+        + ModelAccessor.class.getName() + " {");
+    out.println();
+    out.println(body + "@Override");
+    out.println(body + "public Class<?> getDataType() {");
+    out.println(body + INDENT + "return "
+        + typeName(member.getDataType()) + ".class;");
+    out.println(body + "}");
+    out.println();
+    out.println(body + "@Override");
+    out.println(body + "public boolean canRead() {");
+    out.println(body + INDENT + "return " + (member.getReader() != null) + ";");
+    out.println(body + "}");
+    out.println();
+    out.println(body + "@Override");
+    out.println(body + "public boolean canWrite() {");
+    out.println(body + INDENT + "return " + (member.getWriter() != null) + ";");
+    out.println(body + "}");
+    out.println();
+    out.println(body + "@Override");
+    out.println(body + "public Object get(Object model) throws Exception {");
+    if (member.getReader() == null) {
+      out.println(body + INDENT
+          + "throw new UnsupportedOperationException();");
+    }
+    else {
+      out.println(body + INDENT + "return " + receiver + "."
+          + member.getReader() + (field ? "" : "()") + ";");
+    }
+    out.println(body + "}");
+    out.println();
+    out.println(body + "@Override");
+    out.println(body + "public void set(Object model, Object value)"
+        + " throws Exception {");
+    if (member.getWriter() == null) {
+      out.println(body + INDENT
+          + "throw new UnsupportedOperationException();");
+    }
+    else {
+      final String value = "(" + castTypeName(member.getDataType())
+          + ") value";
+      out.println(body + INDENT + receiver + "." + member.getWriter()
+          + (field ? " = " + value : "(" + value + ")") + ";");
+    }
+    out.println(body + "}");
+    out.println();
+    out.println(INDENT + "}");
+  }
+
+  private String accessorName(ModelMember member, int index) {
+    return (member.getAccessType() == AccessType.FIELD ? "Field" : "Property")
+        + index;
+  }
+
+  private String typeName(TypeMirror type) {
+    return types.erasure(type).toString();
+  }
+
+  private String castTypeName(TypeMirror type) {
+    if (type.getKind().isPrimitive()) {
+      return types.boxedClass((PrimitiveType) type).getQualifiedName()
+          .toString();
+    }
+    return typeName(type);
+  }
+
+}
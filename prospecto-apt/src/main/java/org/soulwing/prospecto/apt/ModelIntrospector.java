@@ -0,0 +1,197 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.apt;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+
+import org.soulwing.prospecto.api.AccessType;
+
+/**
+ * Finds the members of a model type for which accessors can be generated.
+ * <p>
+ * Properties are identified using the same JavaBeans naming conventions
+ * used by {@link java.beans.Introspector}, and fields are resolved in the
+ * same order used by the runtime's reflection-based accessors, so that a
+ * generated accessor always refers to the same member that reflection
+ * would use. Members that are not accessible from the package of the model
+ * type are omitted, and will be accessed at runtime using reflection.
+ *
+ * @author Carl Harris
+ */
+class ModelIntrospector {
+
+  private final Elements elements;
+  private final Types types;
+
+  ModelIntrospector(Elements elements, Types types) {
+    this.elements = elements;
+    this.types = types;
+  }
+
+  /**
+   * Finds the properties of a model type.
+   * @param type the model type
+   * @return properties for which accessors can be generated
+   */
+  public List<ModelMember> properties(TypeElement type) {
+    final PackageElement pkg = elements.getPackageOf(type);
+    final Map<String, ExecutableElement> readers = new HashMap<>();
+    final Map<String, List<ExecutableElement>> writers = new HashMap<>();
+
+    for (final ExecutableElement method :
+        ElementFilter.methodsIn(elements.getAllMembers(type))) {
+      if (method.getModifiers().contains(Modifier.STATIC)) continue;
+      if (!method.getTypeParameters().isEmpty()) continue;
+      if (!isAccessible(method, pkg)) continue;
+
+      final String name = method.getSimpleName().toString();
+      final TypeMirror returnType = method.getReturnType();
+      final int arity = method.getParameters().size();
+
+      if (arity == 0 && name.startsWith("is") && name.length() > 2
+          && returnType.getKind() == TypeKind.BOOLEAN) {
+        readers.put(decapitalize(name.substring(2)), method);
+      }
+      else if (arity == 0 && name.startsWith("get") && name.length() > 3
+          && returnType.getKind() != TypeKind.VOID) {
+        final String property = decapitalize(name.substring(3));
+        if (!readers.containsKey(property)) {
+          readers.put(property, method);
+        }
+      }
+      else if (arity == 1 && name.startsWith("set") && name.length() > 3
+          && returnType.getKind() == TypeKind.VOID) {
+        final String property = decapitalize(name.substring(3));
+        List<ExecutableElement> candidates = writers.get(property);
+        if (candidates == null) {
+          candidates = new ArrayList<>();
+          writers.put(property, candidates);
+        }
+        candidates.add(method);
+      }
+    }
+
+    final Set<String> names = new TreeSet<>(readers.keySet());
+    names.addAll(writers.keySet());
+
+    final List<ModelMember> properties = new ArrayList<>();
+    for (final String name : names) {
+      final ExecutableElement reader = readers.get(name);
+      final ExecutableElement writer = findWriter(reader, writers.get(name));
+      if (reader == null && writer == null) continue;
+      final TypeMirror dataType = types.erasure(reader != null ?
+          reader.getReturnType() : writer.getParameters().get(0).asType());
+      properties.add(new ModelMember(name, AccessType.PROPERTY, dataType,
+          reader != null ? reader.getSimpleName().toString() : null,
+          writer != null ? writer.getSimpleName().toString() : null));
+    }
+    return properties;
+  }
+
+  private ExecutableElement findWriter(ExecutableElement reader,
+      List<ExecutableElement> candidates) {
+    if (candidates == null) return null;
+    if (reader == null) {
+      return candidates.size() == 1 ? candidates.get(0) : null;
+    }
+    final TypeMirror type = types.erasure(reader.getReturnType());
+    for (final ExecutableElement candidate : candidates) {
+      if (types.isSameType(type,
+          types.erasure(candidate.getParameters().get(0).asType()))) {
+        return candidate;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Finds the fields of a model type.
+   * @param type the model type
+   * @return fields for which accessors can be generated
+   */
+  public List<ModelMember> fields(TypeElement type) {
+    final PackageElement pkg = elements.getPackageOf(type);
+    final Set<String> names = new HashSet<>();
+    final List<ModelMember> fields = new ArrayList<>();
+
+    TypeElement declaringType = type;
+    while (declaringType != null) {
+      for (final VariableElement field :
+          ElementFilter.fieldsIn(declaringType.getEnclosedElements())) {
+        final String name = field.getSimpleName().toString();
+        // the first field found with a given name hides all others
+        if (!names.add(name)) continue;
+        final Set<Modifier> modifiers = field.getModifiers();
+        if (modifiers.contains(Modifier.STATIC)
+            || modifiers.contains(Modifier.FINAL)
+            || !isAccessible(field, pkg)) continue;
+        fields.add(new ModelMember(name, AccessType.FIELD,
+            types.erasure(field.asType()), name, name));
+      }
+      declaringType = superclassOf(declaringType);
+    }
+    return fields;
+  }
+
+  private TypeElement superclassOf(TypeElement type) {
+    final TypeMirror superclass = type.getSuperclass();
+    if (superclass.getKind() != TypeKind.DECLARED) return null;
+    return (TypeElement) types.asElement(superclass);
+  }
+
+  private boolean isAccessible(Element element, PackageElement pkg) {
+    final Set<Modifier> modifiers = element.getModifiers();
+    if (modifiers.contains(Modifier.PUBLIC)) return true;
+    if (modifiers.contains(Modifier.PRIVATE)) return false;
+    return elements.getPackageOf(element).equals(pkg);
+  }
+
+  /**
+   * Converts a name to a property name, following the same rules as
+   * {@link java.beans.Introspector#decapitalize(String)}.
+   * @param name the name to convert
+   * @return property name
+   */
+  static String decapitalize(String name) {
+    if (name.length() > 1 && Character.isUpperCase(name.charAt(1))
+        && Character.isUpperCase(name.charAt(0))) {
+      return name;
+    }
+    return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+}
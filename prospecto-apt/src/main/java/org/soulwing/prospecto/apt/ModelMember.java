@@ -0,0 +1,78 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.apt;
+
+import javax.lang.model.type.TypeMirror;
+
+import org.soulwing.prospecto.api.AccessType;
+
+/**
+ * A property or field of a model type for which an accessor will be
+ * generated.
+ *
+ * @author Carl Harris
+ */
+class ModelMember {
+
+  private final String name;
+  private final AccessType accessType;
+  private final TypeMirror dataType;
+  private final String reader;
+  private final String writer;
+
+  /**
+   * Constructs a new instance.
+   * @param name property or field name
+   * @param accessType access type
+   * @param dataType (erased) data type of the member
+   * @param reader name of the getter method or field, or {@code null} if
+   *    the member cannot be read
+   * @param writer name of the setter method or field, or {@code null} if
+   *    the member cannot be written
+   */
+  ModelMember(String name, AccessType accessType, TypeMirror dataType,
+      String reader, String writer) {
+    this.name = name;
+    this.accessType = accessType;
+    this.dataType = dataType;
+    this.reader = reader;
+    this.writer = writer;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public AccessType getAccessType() {
+    return accessType;
+  }
+
+  public TypeMirror getDataType() {
+    return dataType;
+  }
+
+  public String getReader() {
+    return reader;
+  }
+
+  public String getWriter() {
+    return writer;
+  }
+
+}
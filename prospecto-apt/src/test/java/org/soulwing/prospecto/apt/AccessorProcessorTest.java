@@ -0,0 +1,232 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.apt;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.api.GenerateAccessors;
+import org.soulwing.prospecto.spi.ModelAccessor;
+import org.soulwing.prospecto.spi.ModelAccessorProvider;
+
+/**
+ * Unit tests for {@link AccessorProcessor}.
+ *
+ * @author Carl Harris
+ */
+public class AccessorProcessorTest {
+
+  private static final String MODEL_SOURCE =
+      "package sample;\n"
+      + "import org.soulwing.prospecto.api.GenerateAccessors;\n"
+      + "@GenerateAccessors\n"
+      + "public class Model {\n"
+      + "  public String name;\n"
+      + "  public final String constant = \"constant\";\n"
+      + "  private int count;\n"
+      + "  private boolean active;\n"
+      + "  int hidden;\n"
+      + "  public int getCount() { return count; }\n"
+      + "  public void setCount(int count) { this.count = count; }\n"
+      + "  public boolean isActive() { return active; }\n"
+      + "  public void setActive(boolean active) { this.active = active; }\n"
+      + "  public String getLabel() { return \"label\"; }\n"
+      + "  public static class Nested {\n"
+      + "    public Long id;\n"
+      + "  }\n"
+      + "}\n";
+
+  private static final String VIEWS_SOURCE =
+      "package sample;\n"
+      + "import org.soulwing.prospecto.api.GenerateAccessors;\n"
+      + "@GenerateAccessors({ Model.Nested.class })\n"
+      + "public interface Views {\n"
+      + "}\n";
+
+  private File sourceDir;
+  private File outputDir;
+  private URLClassLoader classLoader;
+
+  @Before
+  public void setUp() throws Exception {
+    sourceDir = Files.createTempDirectory("apt-src").toFile();
+    outputDir = Files.createTempDirectory("apt-out").toFile();
+    compile(writeSource("Model", MODEL_SOURCE),
+        writeSource("Views", VIEWS_SOURCE));
+    classLoader = new URLClassLoader(new URL[] { outputDir.toURI().toURL() },
+        getClass().getClassLoader());
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    classLoader.close();
+    delete(sourceDir);
+    delete(outputDir);
+  }
+
+  @Test
+  public void testRegistersProviders() throws Exception {
+    final List<String> modelTypes = new ArrayList<>();
+    for (final ModelAccessorProvider provider :
+        ServiceLoader.load(ModelAccessorProvider.class, classLoader)) {
+      modelTypes.add(provider.getModelType().getName());
+    }
+    assertThat(modelTypes, containsInAnyOrder("sample.Model", "sample.Model$Nested"));
+  }
+
+  @Test
+  public void testPropertyAccessors() throws Exception {
+    final ModelAccessorProvider provider = provider("sample.Model_Accessors");
+    final Object model = provider.getModelType().newInstance();
+
+    final ModelAccessor count = provider.getAccessor("count",
+        AccessType.PROPERTY);
+    assertThat(count.getDataType(), equalTo((Object) int.class));
+    assertThat(count.canRead(), is(true));
+    assertThat(count.canWrite(), is(true));
+    count.set(model, 42);
+    assertThat(count.get(model), equalTo((Object) 42));
+
+    final ModelAccessor active = provider.getAccessor("active",
+        AccessType.PROPERTY);
+    assertThat(active.getDataType(), equalTo((Object) boolean.class));
+    active.set(model, true);
+    assertThat(active.get(model), equalTo((Object) true));
+
+    final ModelAccessor label = provider.getAccessor("label",
+        AccessType.PROPERTY);
+    assertThat(label.canRead(), is(true));
+    assertThat(label.canWrite(), is(false));
+    assertThat(label.get(model), equalTo((Object) "label"));
+  }
+
+  @Test
+  public void testFieldAccessors() throws Exception {
+    final ModelAccessorProvider provider = provider("sample.Model_Accessors");
+    final Object model = provider.getModelType().newInstance();
+
+    final ModelAccessor name = provider.getAccessor("name", AccessType.FIELD);
+    assertThat(name.getDataType(), equalTo((Object) String.class));
+    name.set(model, "value");
+    assertThat(name.get(model), equalTo((Object) "value"));
+
+    final ModelAccessor hidden = provider.getAccessor("hidden",
+        AccessType.FIELD);
+    assertThat(hidden, is(notNullValue()));
+    hidden.set(model, 3);
+    assertThat(hidden.get(model), equalTo((Object) 3));
+  }
+
+  @Test
+  public void testInaccessibleMembersNotSupported() throws Exception {
+    final ModelAccessorProvider provider = provider("sample.Model_Accessors");
+    assertThat(provider.getAccessor("count", AccessType.FIELD),
+        is(nullValue()));
+    assertThat(provider.getAccessor("constant", AccessType.FIELD),
+        is(nullValue()));
+    assertThat(provider.getAccessor("missing", AccessType.PROPERTY),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testDesignatedModelType() throws Exception {
+    final ModelAccessorProvider provider =
+        provider("sample.Model_Nested_Accessors");
+    final Object model = provider.getModelType().newInstance();
+    final ModelAccessor id = provider.getAccessor("id", AccessType.FIELD);
+    id.set(model, 7L);
+    assertThat(id.get(model), equalTo((Object) 7L));
+  }
+
+  private ModelAccessorProvider provider(String name) throws Exception {
+    return (ModelAccessorProvider) classLoader.loadClass(name).newInstance();
+  }
+
+  private File writeSource(String name, String source) throws IOException {
+    final File file = new File(new File(sourceDir, "sample"), name + ".java");
+    assertTrue(file.getParentFile().mkdirs() || file.getParentFile().isDirectory());
+    Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+
+  private void compile(File... sources) throws Exception {
+    final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    final StandardJavaFileManager fileManager =
+        compiler.getStandardFileManager(null, null, StandardCharsets.UTF_8);
+    try {
+      final Iterable<? extends JavaFileObject> units =
+          fileManager.getJavaFileObjects(sources);
+      final List<String> options = Arrays.asList(
+          "-d", outputDir.getPath(),
+          "-classpath", classpath(GenerateAccessors.class));
+      final StringWriter diagnostics = new StringWriter();
+      final JavaCompiler.CompilationTask task = compiler.getTask(
+          new PrintWriter(diagnostics), fileManager, null, options, null,
+          units);
+      task.setProcessors(Arrays.asList(new AccessorProcessor()));
+      assertTrue(diagnostics.toString(), task.call());
+    }
+    finally {
+      fileManager.close();
+    }
+  }
+
+  private static String classpath(Class<?> type) throws Exception {
+    return new File(type.getProtectionDomain().getCodeSource().getLocation()
+        .toURI()).getPath();
+  }
+
+  private static void delete(File file) {
+    final File[] children = file.listFiles();
+    if (children != null) {
+      for (final File child : children) {
+        delete(child);
+      }
+    }
+    file.delete();
+  }
+
+}
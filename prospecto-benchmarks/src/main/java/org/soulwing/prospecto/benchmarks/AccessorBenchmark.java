@@ -0,0 +1,148 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.prospecto.ViewOptionsRegistry;
+import org.soulwing.prospecto.ViewTemplateBuilderProducer;
+import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.api.ViewTemplate;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.ViewKeys;
+import org.soulwing.prospecto.demo.jaxrs.domain.Player;
+import org.soulwing.prospecto.demo.jaxrs.domain.RosterPlayer;
+import org.soulwing.prospecto.demo.jaxrs.domain.Team;
+import org.soulwing.prospecto.runtime.accessor.Accessor;
+import org.soulwing.prospecto.runtime.accessor.AccessorBuilderFactory;
+import org.soulwing.prospecto.runtime.accessor.MethodHandleAccessorBuilderFactory;
+import org.soulwing.prospecto.runtime.accessor.ReflectionAccessorBuilderFactory;
+
+/**
+ * Benchmarks comparing reflection-based accessors with accessors that use
+ * method handles, for the demo domain classes.
+ * <p>
+ * The {@code get*} benchmarks measure a single access; the
+ * {@code generateRoster} benchmark measures generation of a view whose
+ * template was built with the corresponding accessor type.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AccessorBenchmark {
+
+  private static final String METHOD_HANDLE = "methodHandle";
+
+  @Param({"reflection", METHOD_HANDLE})
+  private String accessors;
+
+  @Param({"1000"})
+  private int rosterSize;
+
+  private ViewContext context;
+
+  private Team team;
+
+  private Player player;
+
+  private Accessor propertyAccessor;
+
+  private Accessor fieldAccessor;
+
+  private ViewTemplate rosterTemplate;
+
+  @Setup
+  public void setUp() throws Exception {
+    final DemoModel model = new DemoModel();
+    context = DemoModel.newContext();
+    team = model.newTeam(rosterSize);
+    player = model.newPlayer(team.getDivision());
+
+    final boolean methodHandles = METHOD_HANDLE.equals(accessors);
+    final AccessorBuilderFactory factory = methodHandles ?
+        MethodHandleAccessorBuilderFactory.INSTANCE :
+        ReflectionAccessorBuilderFactory.INSTANCE;
+
+    propertyAccessor = factory.newBuilder(Player.class)
+        .propertyName("surname")
+        .accessType(AccessType.PROPERTY)
+        .build();
+
+    fieldAccessor = factory.newBuilder(Player.class)
+        .propertyName("birthDate")
+        .accessType(AccessType.FIELD)
+        .build();
+
+    final Options options = ViewOptionsRegistry.getOptions();
+    options.put(ViewKeys.METHOD_HANDLE_ACCESSORS, methodHandles);
+    try {
+      rosterTemplate = ViewTemplateBuilderProducer
+          .arrayOfObjects("roster", "rosterPlayer", RosterPlayer.class)
+              .value("id")
+              .value("version")
+              .reference("player", Player.class)
+                  .value("id")
+                  .value("surname")
+                  .value("givenNames")
+                  .value("preferredName")
+                  .value("birthDate")
+                  .end()
+              .value("jerseyNumber")
+              .value("position")
+          .build();
+    }
+    finally {
+      options.put(ViewKeys.METHOD_HANDLE_ACCESSORS, false);
+    }
+  }
+
+  @Benchmark
+  public Object getProperty() throws Exception {
+    return propertyAccessor.get(player);
+  }
+
+  @Benchmark
+  public Object getField() throws Exception {
+    return fieldAccessor.get(player);
+  }
+
+  @Benchmark
+  public View generateRoster() {
+    return rosterTemplate.generateView(team.getRoster(), context);
+  }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.benchmarks;
+
+import java.util.Date;
+
+import org.soulwing.prospecto.ViewContextProducer;
+import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.api.converter.DateTypeConverter;
+import org.soulwing.prospecto.api.template.ViewNode;
+import org.soulwing.prospecto.api.url.UrlResolver;
+import org.soulwing.prospecto.demo.jaxrs.domain.Contact;
+import org.soulwing.prospecto.demo.jaxrs.domain.Division;
+import org.soulwing.prospecto.demo.jaxrs.domain.Gender;
+import org.soulwing.prospecto.demo.jaxrs.domain.Orientation;
+import org.soulwing.prospecto.demo.jaxrs.domain.Parent;
+import org.soulwing.prospecto.demo.jaxrs.domain.Player;
+import org.soulwing.prospecto.demo.jaxrs.domain.Position;
+import org.soulwing.prospecto.demo.jaxrs.domain.RosterPlayer;
+import org.soulwing.prospecto.demo.jaxrs.domain.Team;
+import org.soulwing.prospecto.demo.jaxrs.domain.Token;
+import org.soulwing.prospecto.demo.jaxrs.domain.TokenList;
+
+/**
+ * Builds in-memory instances of the demo domain model for use as benchmark
+ * fixtures.
+ *
+ * @author Carl Harris
+ */
+public class DemoModel {
+
+  private static final Date BIRTH_DATE = new Date(1262304000000L);
+
+  private long nextId = 1;
+
+  /**
+   * Creates a view context configured like the one used by the demo
+   * application, without the container-managed listeners and scopes.
+   * @return view context
+   */
+  public static ViewContext newContext() {
+    final ViewContext context = ViewContextProducer.newContext();
+    context.appendScope().put(new FixedUrlResolver());
+    context.getValueTypeConverters().append(DateTypeConverter.Builder.with()
+        .format(DateTypeConverter.Format.ISO8601_WITH_TIME_ZONE)
+        .build());
+    return context;
+  }
+
+  /**
+   * Creates a team with a roster of the given size.
+   * @param rosterSize number of players on the roster
+   * @return team
+   */
+  public Team newTeam(int rosterSize) {
+    final Division division = new Division();
+    division.setId(nextId++);
+    division.setName("Division");
+    division.setGender(Gender.FEMALE);
+    division.setAgeLimit(12);
+
+    final Team team = new Team();
+    team.setId(nextId++);
+    team.setVersion(1L);
+    team.setName("Team " + team.getId());
+    team.setDivision(division);
+    team.setManager(newContact());
+    team.getCoaches().add(newContact());
+    team.getCoaches().add(newContact());
+    for (int i = 0; i < rosterSize; i++) {
+      final RosterPlayer rosterPlayer = new RosterPlayer();
+      rosterPlayer.setId(nextId++);
+      rosterPlayer.setVersion(1L);
+      rosterPlayer.setPlayer(newPlayer(division));
+      rosterPlayer.setJerseyNumber(Integer.toString(i));
+      rosterPlayer.setPosition(Position.values()[i % Position.values().length]);
+      team.addPlayer(rosterPlayer);
+    }
+    return team;
+  }
+
+  /**
+   * Creates a player with a pair of parents.
+   * @param division division for the player
+   * @return player
+   */
+  public Player newPlayer(Division division) {
+    final Player player = new Player();
+    player.setId(nextId++);
+    player.setVersion(1L);
+    player.setDivision(division);
+    player.setSurname(Token.valueOf("Surname" + player.getId()));
+    player.setGivenNames(TokenList.valueOf("Given Names"));
+    player.setPreferredName(Token.valueOf("Preferred"));
+    player.setGender(Gender.FEMALE);
+    player.setBirthDate(BIRTH_DATE);
+    player.setBattingOrientation(Orientation.RIGHT);
+    player.setThrowingOrientation(Orientation.LEFT);
+    player.getMedicalInfo().setEmergencyContact(newContact());
+    player.getMedicalInfo().setNote("none");
+    player.addParent(newParent(Parent.Relationship.MOTHER));
+    player.addParent(newParent(Parent.Relationship.FATHER));
+    return player;
+  }
+
+  private Parent newParent(Parent.Relationship relationship) {
+    final Parent parent = new Parent();
+    parent.setId(nextId++);
+    parent.setVersion(1L);
+    parent.setContact(newContact());
+    parent.setRelationship(relationship);
+    return parent;
+  }
+
+  private Contact newContact() {
+    final Contact contact = new Contact();
+    contact.setId(nextId++);
+    contact.setVersion(1L);
+    contact.setSurname(Token.valueOf("Surname" + contact.getId()));
+    contact.setGivenNames(TokenList.valueOf("Given Names"));
+    contact.setGender(Gender.MALE);
+    return contact;
+  }
+
+  /**
+   * A URL resolver that produces the view path of the subject node.
+   */
+  private static class FixedUrlResolver implements UrlResolver {
+
+    @Override
+    public String resolve(ViewNode node, ViewContext context) {
+      return "http://localhost/api" + context.currentViewPathAsString();
+    }
+
+  }
+
+}
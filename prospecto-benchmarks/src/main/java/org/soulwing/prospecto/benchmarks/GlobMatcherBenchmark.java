@@ -0,0 +1,138 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.benchmarks;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.prospecto.demo.jaxrs.domain.Division;
+import org.soulwing.prospecto.demo.jaxrs.domain.League;
+import org.soulwing.prospecto.demo.jaxrs.domain.Player;
+import org.soulwing.prospecto.demo.jaxrs.domain.RosterPlayer;
+import org.soulwing.prospecto.demo.jaxrs.domain.Team;
+import org.soulwing.prospecto.jaxrs.runtime.glob.AnyModel;
+import org.soulwing.prospecto.jaxrs.runtime.glob.AnyModelSequence;
+import org.soulwing.prospecto.jaxrs.runtime.glob.GlobMatcher;
+
+/**
+ * Benchmarks for matching model paths using {@link GlobMatcher}, for the
+ * kinds of patterns produced by {@code ModelPathSpec}.
+ * <p>
+ * Each pattern is matched against a model path that it matches and one that
+ * it does not; the {@code compileAndMatch} benchmark includes the cost of
+ * compiling the pattern.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GlobMatcherBenchmark {
+
+  private static final Class<?>[] MATCHING_PATH = {
+      League.class, Division.class, Team.class, RosterPlayer.class,
+      Player.class
+  };
+
+  private static final Class<?>[] NON_MATCHING_PATH = {
+      League.class, Division.class, Team.class, RosterPlayer.class,
+      Team.class
+  };
+
+  @Param({"exact", "any", "anySequence", "leadingAnySequence"})
+  private String pattern;
+
+  private Class<?>[] patternTokens;
+
+  private GlobMatcher<Class<?>> matcher;
+
+  private List<Class<?>> matchingPath;
+
+  private List<Class<?>> nonMatchingPath;
+
+  @Setup
+  public void setUp() throws Exception {
+    patternTokens = patternTokens(pattern);
+    matcher = compile(patternTokens);
+    matchingPath = Arrays.<Class<?>>asList(MATCHING_PATH);
+    nonMatchingPath = Arrays.<Class<?>>asList(NON_MATCHING_PATH);
+    if (!matcher.matches(matchingPath) || matcher.matches(nonMatchingPath)) {
+      throw new AssertionError("pattern " + pattern + " is incorrect");
+    }
+  }
+
+  private static Class<?>[] patternTokens(String pattern) {
+    switch (pattern) {
+      case "exact":
+        return MATCHING_PATH.clone();
+      case "any":
+        return new Class<?>[] { League.class, AnyModel.class, Team.class,
+            AnyModel.class, Player.class };
+      case "anySequence":
+        return new Class<?>[] { League.class, AnyModelSequence.class,
+            Player.class };
+      case "leadingAnySequence":
+        return new Class<?>[] { AnyModelSequence.class, Team.class,
+            AnyModelSequence.class, Player.class };
+      default:
+        throw new IllegalArgumentException("unrecognized pattern");
+    }
+  }
+
+  private static GlobMatcher<Class<?>> compile(Class<?>[] patternTokens) {
+    return GlobMatcher.<Class<?>>with(AnyModel.class, AnyModelSequence.class,
+        patternTokens);
+  }
+
+  @Benchmark
+  public boolean matchList() {
+    return matcher.matches(matchingPath);
+  }
+
+  @Benchmark
+  public boolean matchArray() {
+    return matcher.matches(MATCHING_PATH);
+  }
+
+  @Benchmark
+  public boolean rejectList() {
+    return matcher.matches(nonMatchingPath);
+  }
+
+  @Benchmark
+  public boolean compileAndMatch() {
+    return compile(patternTokens).matches(matchingPath);
+  }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.benchmarks;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.prospecto.ViewReaderFactoryProducer;
+import org.soulwing.prospecto.ViewWriterFactoryProducer;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewReaderFactory;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.demo.jaxrs.views.TeamViews;
+
+/**
+ * Benchmarks for reading the textual representation of a view.
+ * <p>
+ * The representation of a team detail view is written in advance by the
+ * provider under test; each invocation measures only the cost of parsing
+ * it into a view.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadViewBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int rosterSize;
+
+  @Param({"JSON", "JACKSON", "XML"})
+  private String provider;
+
+  private ViewReaderFactory readerFactory;
+
+  private byte[] teamDetail;
+
+  @Setup
+  public void setUp() {
+    final DemoModel model = new DemoModel();
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ViewWriterFactoryProducer.getFactory(provider, new OptionsMap())
+        .newWriter(TeamViews.TEAM_DETAIL.generateView(
+            model.newTeam(rosterSize), DemoModel.newContext()), outputStream)
+        .writeView();
+    teamDetail = outputStream.toByteArray();
+    readerFactory = ViewReaderFactoryProducer.getFactory(provider,
+        new OptionsMap());
+  }
+
+  @Benchmark
+  public View readTeamDetail() {
+    return readerFactory.newReader(new ByteArrayInputStream(teamDetail))
+        .readView();
+  }
+
+}
@@ -0,0 +1,106 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.demo.jaxrs.domain.Player;
+import org.soulwing.prospecto.demo.jaxrs.domain.Team;
+import org.soulwing.prospecto.demo.jaxrs.views.PlayerViews;
+import org.soulwing.prospecto.demo.jaxrs.views.TeamViews;
+import org.soulwing.prospecto.runtime.applicator.ViewApplicationVisitor;
+import org.soulwing.prospecto.runtime.generator.ViewGeneratingVisitor;
+
+/**
+ * Benchmarks for view generation using the demo view templates.
+ * <p>
+ * The {@code build*Tree} benchmarks measure the cost of the template
+ * traversal that produces the generator and applicator trees; this is the
+ * per-request cost that is avoided now that each template builds these
+ * trees once and reuses them.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewTemplateBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int rosterSize;
+
+  private ViewContext context;
+
+  private Team team;
+
+  private Player player;
+
+  @Setup
+  public void setUp() {
+    final DemoModel model = new DemoModel();
+    context = DemoModel.newContext();
+    team = model.newTeam(rosterSize);
+    player = model.newPlayer(team.getDivision());
+  }
+
+  @Benchmark
+  public View generateTeamDetail() {
+    return TeamViews.TEAM_DETAIL.generateView(team, context);
+  }
+
+  @Benchmark
+  public View generatePlayerDetail() {
+    return PlayerViews.PLAYER_DETAIL.generateView(player, context);
+  }
+
+  @Benchmark
+  public Object buildTeamDetailGeneratorTree() {
+    return TeamViews.TEAM_DETAIL.depthFirst().traverse(
+        new ViewGeneratingVisitor(), null);
+  }
+
+  @Benchmark
+  public Object buildTeamDetailApplicatorTree() {
+    return TeamViews.TEAM_DETAIL.depthFirst().traverse(
+        new ViewApplicationVisitor(), null);
+  }
+
+  @Benchmark
+  public Object buildPlayerDetailGeneratorTree() {
+    return PlayerViews.PLAYER_DETAIL.depthFirst().traverse(
+        new ViewGeneratingVisitor(), null);
+  }
+
+}
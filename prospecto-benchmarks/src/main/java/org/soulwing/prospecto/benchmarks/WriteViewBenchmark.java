@@ -0,0 +1,118 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.benchmarks;
+
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.soulwing.prospecto.ViewWriterFactoryProducer;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.api.ViewWriterFactory;
+import org.soulwing.prospecto.api.WritableViewTemplate;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.demo.jaxrs.domain.Team;
+import org.soulwing.prospecto.demo.jaxrs.views.TeamViews;
+
+/**
+ * Benchmarks comparing writing a generated view with generating and writing
+ * a view in a single step.
+ * <p>
+ * The {@code writeGeneratedTeamDetail} benchmark measures only the cost of
+ * writing a view that was generated in advance.
+ *
+ * @author Carl Harris
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WriteViewBenchmark {
+
+  @Param({"10", "100", "1000"})
+  private int rosterSize;
+
+  @Param({"JSON", "JSON-FAST", "JACKSON", "XML"})
+  private String provider;
+
+  private final OutputStream outputStream = new DiscardingOutputStream();
+
+  private ViewContext context;
+
+  private ViewWriterFactory writerFactory;
+
+  private Team team;
+
+  private View teamDetail;
+
+  private WritableViewTemplate teamDetailTemplate;
+
+  @Setup
+  public void setUp() {
+    final DemoModel model = new DemoModel();
+    context = DemoModel.newContext();
+    writerFactory = ViewWriterFactoryProducer.getFactory(provider,
+        new OptionsMap());
+    team = model.newTeam(rosterSize);
+    teamDetail = TeamViews.TEAM_DETAIL.generateView(team, context);
+    teamDetailTemplate = (WritableViewTemplate) TeamViews.TEAM_DETAIL;
+  }
+
+  @Benchmark
+  public void writeGeneratedTeamDetail() {
+    writerFactory.newWriter(teamDetail, outputStream).writeView();
+  }
+
+  @Benchmark
+  public void generateThenWriteTeamDetail() {
+    writerFactory.newWriter(TeamViews.TEAM_DETAIL.generateView(team, context),
+        outputStream).writeView();
+  }
+
+  @Benchmark
+  public void writeTeamDetail() {
+    teamDetailTemplate.writeView(team, context, writerFactory, outputStream);
+  }
+
+  private static class DiscardingOutputStream extends OutputStream {
+
+    @Override
+    public void write(int b) {
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+    }
+
+  }
+
+}
@@ -0,0 +1,219 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import java.io.InputStream;
+
+import org.soulwing.prospecto.ViewOptionsRegistry;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.text.InputStreamSource;
+import org.soulwing.prospecto.runtime.text.AbstractViewReader;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+
+/**
+ * A {@link org.soulwing.prospecto.api.ViewReader} that parses a JSON object
+ * using the Jackson streaming API.
+ * <p>
+ * Parsers are obtained from a single shared {@link JsonFactory}, so that
+ * field names are canonicalized in the factory's symbol table and parse
+ * buffers are recycled across readers. A reader may instead be given a
+ * parser supplied by the caller, in which case only the JSON value at the
+ * parser's current position is read, and the parser is left positioned at
+ * the last token of that value.
+ *
+ * @author Carl Harris
+ */
+class JacksonViewReader extends AbstractViewReader {
+
+  private static final JsonFactory jsonFactory = new JsonFactory()
+      .disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+
+  private final Source source;
+
+  private final JsonParser parser;
+
+  private String discriminatorName;
+
+  private String name;
+
+  JacksonViewReader(InputStream inputStream, Options options) {
+    this(new InputStreamSource(inputStream), options);
+  }
+
+  JacksonViewReader(Source source, Options options) {
+    super(options);
+    if (!(source instanceof InputStreamSource)) {
+      throw new IllegalArgumentException("only the "
+          + InputStreamSource.class.getSimpleName() + " source type is supported");
+    }
+    this.source = source;
+    this.parser = null;
+  }
+
+  JacksonViewReader(JsonParser parser, Options options) {
+    super(options);
+    this.source = null;
+    this.parser = parser;
+  }
+
+  @Override
+  protected void onReadView() throws Exception {
+    discriminatorName = ViewOptionsRegistry.getSnapshot()
+        .getDiscriminatorName();
+    if (this.parser != null) {
+      readValue(this.parser);
+      return;
+    }
+    try (final JsonParser parser = jsonFactory.createParser(
+        ((InputStreamSource) source).getInputStream())) {
+      readValue(parser);
+    }
+  }
+
+  /**
+   * Reads the events of the JSON value at the parser's current token (or
+   * its next token, if it has no current token), leaving the parser
+   * positioned at the last token of that value.
+   * <p>
+   * A parser positioned at a field name is one whose caller has already
+   * consumed the start of the enclosing object, as Jackson does for some
+   * deserializers; the rest of that object is read as though its start had
+   * not been consumed.
+   * @param parser the subject parser
+   * @throws Exception as needed
+   */
+  private void readValue(JsonParser parser) throws Exception {
+    JsonToken token = parser.getCurrentToken();
+    if (token == null) {
+      token = parser.nextToken();
+    }
+    int depth = 0;
+    if (token == JsonToken.FIELD_NAME) {
+      beginObject(getName());
+      depth++;
+    }
+    while (token != null) {
+      switch (token) {
+        case FIELD_NAME:
+          name = parser.getCurrentName();
+          break;
+        case VALUE_STRING:
+          valueString(parser);
+          break;
+        case VALUE_NUMBER_INT:
+          valueInteger(parser);
+          break;
+        case VALUE_NUMBER_FLOAT:
+          value(getName(), parser.getDecimalValue());
+          break;
+        case VALUE_FALSE:
+          value(getName(), Boolean.FALSE);
+          break;
+        case VALUE_TRUE:
+          value(getName(), Boolean.TRUE);
+          break;
+        case VALUE_NULL:
+          nullValue(getName());
+          break;
+        case START_OBJECT:
+          beginObject(getName());
+          depth++;
+          break;
+        case START_ARRAY:
+          beginArray(getName());
+          depth++;
+          break;
+        case END_OBJECT:
+        case END_ARRAY:
+          end();
+          depth--;
+          break;
+        case VALUE_EMBEDDED_OBJECT:
+          valueEmbedded(parser);
+          break;
+        default:
+          throw JsonMappingException.from(parser,
+              "unexpected token in view: " + token);
+      }
+      if (depth == 0 && token != JsonToken.FIELD_NAME) return;
+      token = parser.nextToken();
+    }
+  }
+
+  private boolean isDiscriminator() {
+    return name != null && name.equals(discriminatorName);
+  }
+
+  private String getName() {
+    final String name = this.name;
+    this.name = null;
+    return name;
+  }
+
+  private void valueString(JsonParser parser) throws Exception {
+    if (isDiscriminator()) {
+      discriminator(parser.getText());
+    }
+    else {
+      value(getName(), parser.getText());
+    }
+  }
+
+  private void valueEmbedded(JsonParser parser) throws Exception {
+    final Object value = parser.getEmbeddedObject();
+    if (value == null) {
+      nullValue(getName());
+    }
+    else if (value instanceof byte[]) {
+      value(getName(), Base64Variants.getDefaultVariant()
+          .encode((byte[]) value));
+    }
+    else if (value instanceof CharSequence) {
+      value(getName(), value.toString());
+    }
+    else if (value instanceof Number) {
+      value(getName(), (Number) value);
+    }
+    else if (value instanceof Boolean) {
+      value(getName(), (Boolean) value);
+    }
+    else {
+      throw JsonMappingException.from(parser,
+          "unsupported embedded value of type " + value.getClass().getName());
+    }
+  }
+
+  private void valueInteger(JsonParser parser) throws Exception {
+    final long value =
+        parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER ?
+            parser.getBigIntegerValue().longValue() : parser.getLongValue();
+    if (isDiscriminator()) {
+      discriminator(value);
+    }
+    else {
+      value(getName(), value);
+    }
+  }
+
+}
@@ -0,0 +1,270 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Map;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewWriter;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.text.OutputStreamTarget;
+import org.soulwing.prospecto.runtime.text.AbstractViewWriter;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * A {@link ViewWriter} that produces a JSON representation of a view using
+ * the Jackson streaming API.
+ * <p>
+ * The representation is identical to that produced by the {@code JSON}
+ * provider, in both compact and pretty printed forms; views whose root node
+ * is named are enveloped according to the same options.
+ * <p>
+ * Generators are obtained from a single shared {@link JsonFactory}, so
+ * that Jackson can recycle its encoding buffers across writers. A writer
+ * may instead be given a generator supplied by the caller, in which case
+ * the view's events are written at the generator's current position and
+ * the generator is neither flushed nor closed.
+ *
+ * @author Carl Harris
+ */
+class JacksonViewWriter extends AbstractViewWriter {
+
+  private static final JsonFactory jsonFactory = new JsonFactory()
+      .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+  private boolean[] arrayContext = new boolean[16];
+  private int depth;
+
+  private OutputStream outputStream;
+  private JsonGenerator generator;
+  private boolean ownGenerator;
+  private boolean enveloped;
+  private boolean firstEvent = true;
+
+  /**
+   * Constructs a new instance.
+   * @param view source view
+   * @param options writer options
+   */
+  JacksonViewWriter(View view, Options options) {
+    super(view, options);
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param view source view
+   * @param outputStream target output stream for the textual representation
+   * @param options writer options
+   */
+  JacksonViewWriter(View view, OutputStream outputStream, Options options) {
+    this(view, options);
+    this.outputStream = outputStream;
+  }
+
+  /**
+   * Constructs a new instance that writes to a generator supplied by the
+   * caller.
+   * @param view source view
+   * @param generator target generator
+   * @param options writer options
+   */
+  JacksonViewWriter(View view, JsonGenerator generator, Options options) {
+    this(view, options);
+    this.generator = generator;
+  }
+
+  @Override
+  public void writeView(Target target) {
+    if (!(target instanceof OutputStreamTarget)) {
+      throw new IllegalArgumentException("this writer supports only the "
+          + OutputStreamTarget.class.getSimpleName() + " target");
+    }
+    this.outputStream = ((OutputStreamTarget) target).getOutputStream();
+    writeView();
+  }
+
+  @Override
+  protected void beforeViewEvents() throws Exception {
+    if (generator != null) return;
+    ownGenerator = true;
+    generator = jsonFactory.createGenerator(outputStream, JsonEncoding.UTF8);
+    if (getOptionsSnapshot().isPrettyPrintOutput()) {
+      generator.setPrettyPrinter(new JsonPrettyPrinter());
+    }
+  }
+
+  @Override
+  protected void onBeginObject(View.Event event) throws Exception {
+    writeStartEnvelope(event);
+    writeStartObject(event);
+  }
+
+  @Override
+  protected void onEndObject(View.Event event) throws Exception {
+    writeEnd();
+  }
+
+  @Override
+  protected void onBeginArray(View.Event event) throws Exception {
+    writeStartEnvelope(event);
+    writeStartArray(event);
+  }
+
+  @Override
+  protected void onEndArray(View.Event event) throws Exception {
+    writeEnd();
+  }
+
+  @Override
+  protected void onValue(View.Event event) throws Exception {
+    writeValue(event.getName(), event.getValue());
+  }
+
+  @Override
+  protected void onMeta(View.Event event) throws Exception {
+    writeValue(event.getName(), event.getValue());
+  }
+
+  @Override
+  protected void onDiscriminator(View.Event event) throws Exception {
+    writeValue(event.getName(), event.getValue());
+  }
+
+  @Override
+  protected void afterViewEvents() throws Exception {
+    if (enveloped) {
+      writeEnd();
+    }
+    if (ownGenerator) {
+      // closing returns the generator's buffers to the factory's recycler;
+      // the output stream itself is left open
+      generator.close();
+    }
+  }
+
+  private void writeStartEnvelope(View.Event event) throws IOException {
+    if (!firstEvent) return;
+    enveloped = isEnveloped(event);
+    if (!enveloped) return;
+    generator.writeStartObject();
+    for (final Map.Entry<String, Object> property : getView().envelope()) {
+      writeValue(property.getKey(), property.getValue());
+    }
+    push(false);
+  }
+
+  private boolean isEnveloped(View.Event event) {
+    if (event.getName() == null) return false;
+    if (event.getType() == View.Event.Type.BEGIN_ARRAY) {
+      return getOptionsSnapshot().isWrapArrayInEnvelope();
+    }
+    return getOptionsSnapshot().isWrapObjectInEnvelope();
+  }
+
+  private void writeStartObject(View.Event event) throws IOException {
+    final String name = event.getName();
+    if (name != null && !isArrayContext() && (!firstEvent || enveloped)) {
+      generator.writeFieldName(name);
+    }
+    generator.writeStartObject();
+    push(false);
+    firstEvent = false;
+  }
+
+  private void writeStartArray(View.Event event) throws IOException {
+    final String name = event.getName();
+    if (name != null && (!firstEvent || enveloped)) {
+      generator.writeFieldName(name);
+    }
+    generator.writeStartArray();
+    push(true);
+    firstEvent = false;
+  }
+
+  private void writeEnd() throws IOException {
+    if (arrayContext[--depth]) {
+      generator.writeEndArray();
+    }
+    else {
+      generator.writeEndObject();
+    }
+  }
+
+  private void push(boolean array) {
+    if (depth == arrayContext.length) {
+      final boolean[] stack = new boolean[2 * depth];
+      System.arraycopy(arrayContext, 0, stack, 0, depth);
+      arrayContext = stack;
+    }
+    arrayContext[depth++] = array;
+  }
+
+  private boolean isArrayContext() {
+    return depth > 0 && arrayContext[depth - 1];
+  }
+
+  private void writeValue(String name, Object value) throws IOException {
+    if (name != null && !isArrayContext()) {
+      generator.writeFieldName(name);
+    }
+
+    if (value instanceof BigDecimal) {
+      generator.writeNumber((BigDecimal) value);
+    }
+    else if (value instanceof BigInteger) {
+      generator.writeNumber((BigInteger) value);
+    }
+    else if (value instanceof Number) {
+      if (value instanceof Double || value instanceof Float) {
+        generator.writeNumber(((Number) value).doubleValue());
+      }
+      else {
+        generator.writeNumber(((Number) value).longValue());
+      }
+    }
+    else if (value instanceof Boolean) {
+      generator.writeBoolean((Boolean) value);
+    }
+    else if (value instanceof Date) {
+      generator.writeNumber(((Date) value).getTime());
+    }
+    else if (value instanceof Calendar) {
+      generator.writeNumber(((Calendar) value).getTimeInMillis());
+    }
+    else if (value instanceof Enum) {
+      generator.writeString(((Enum) value).name());
+    }
+    else if (value == null || value.toString() == null) {
+      generator.writeNull();
+    }
+    else {
+      generator.writeString(value.toString());
+    }
+  }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.PrettyPrinter;
+
+/**
+ * A Jackson {@link PrettyPrinter} that lays out its output the same way as
+ * the default {@code javax.json} generator.
+ * <p>
+ * Each structure begins on a new line; each member of a structure and each
+ * closing bracket is placed on its own line, indented by four spaces for
+ * each level of nesting. A member name is separated from its value by a
+ * colon with no surrounding whitespace.
+ * <p>
+ * An instance tracks the nesting of the output it formats, so it must not
+ * be shared between generators.
+ *
+ * @author Carl Harris
+ */
+class JsonPrettyPrinter implements PrettyPrinter {
+
+  private static final int INDENT = 4;
+
+  private int depth;
+
+  @Override
+  public void writeRootValueSeparator(JsonGenerator gen) throws IOException {
+  }
+
+  @Override
+  public void writeStartObject(JsonGenerator gen) throws IOException {
+    writeStart(gen, '{');
+  }
+
+  @Override
+  public void writeEndObject(JsonGenerator gen, int nrOfEntries)
+      throws IOException {
+    writeEnd(gen, '}');
+  }
+
+  @Override
+  public void writeObjectEntrySeparator(JsonGenerator gen) throws IOException {
+    gen.writeRaw(',');
+    writeNewLine(gen);
+  }
+
+  @Override
+  public void writeObjectFieldValueSeparator(JsonGenerator gen)
+      throws IOException {
+    gen.writeRaw(':');
+  }
+
+  @Override
+  public void writeStartArray(JsonGenerator gen) throws IOException {
+    writeStart(gen, '[');
+  }
+
+  @Override
+  public void writeEndArray(JsonGenerator gen, int nrOfValues)
+      throws IOException {
+    writeEnd(gen, ']');
+  }
+
+  @Override
+  public void writeArrayValueSeparator(JsonGenerator gen) throws IOException {
+    gen.writeRaw(',');
+    writeNewLine(gen);
+  }
+
+  @Override
+  public void beforeArrayValues(JsonGenerator gen) throws IOException {
+    writeNewLine(gen);
+  }
+
+  @Override
+  public void beforeObjectEntries(JsonGenerator gen) throws IOException {
+    writeNewLine(gen);
+  }
+
+  private void writeStart(JsonGenerator gen, char bracket) throws IOException {
+    if (depth == 0) {
+      writeNewLine(gen);
+    }
+    gen.writeRaw(bracket);
+    depth++;
+  }
+
+  private void writeEnd(JsonGenerator gen, char bracket) throws IOException {
+    depth--;
+    writeNewLine(gen);
+    gen.writeRaw(bracket);
+  }
+
+  private void writeNewLine(JsonGenerator gen) throws IOException {
+    gen.writeRaw('\n');
+    for (int i = 0; i < INDENT * depth; i++) {
+      gen.writeRaw(' ');
+    }
+  }
+
+}
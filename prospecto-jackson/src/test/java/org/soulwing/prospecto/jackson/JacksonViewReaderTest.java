@@ -0,0 +1,194 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.fail;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.eventOfType;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.hasEventSequence;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.sameView;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.whereValue;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.withName;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.withNoName;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+import org.junit.Test;
+import org.soulwing.prospecto.ViewOptionsRegistry;
+import org.soulwing.prospecto.ViewReaderFactoryProducer;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewException;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.ViewDefaults;
+import org.soulwing.prospecto.api.options.ViewKeys;
+import org.soulwing.prospecto.api.text.InputStreamSource;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Tests for {@link JacksonViewReader}.
+ * <p>
+ * Each view read is required to be the same as the view read by the
+ * {@code JSON} provider from the same input.
+ *
+ * @author Carl Harris
+ */
+public class JacksonViewReaderTest {
+
+  private static final String JSON = "{"
+      + "\"type\":\"subtype\","
+      + "\"string\":\"quote\\\"back\\\\slash\\/\\u00e9\","
+      + "\"true\":true,\"false\":false,\"null\":null,"
+      + "\"long\":-9223372036854775808,"
+      + "\"bigInteger\":123456789012345678901234,"
+      + "\"decimal\":1.10,\"exponent\":1e-7,"
+      + "\"child\":{\"type\":42,\"empty\":{}},"
+      + "\"children\":[{\"value\":1},[],\"string\",2,3.5,true,null]"
+      + "}";
+
+  @Test
+  public void testReadView() throws Exception {
+    assertThat(read("JACKSON", JSON), is(sameView(read("JSON", JSON))));
+  }
+
+  @Test
+  public void testReadArray() throws Exception {
+    final String json = "[{\"value\":1},{\"value\":2}]";
+    assertThat(read("JACKSON", json), is(sameView(read("JSON", json))));
+  }
+
+  @Test
+  public void testReadOnlyFirstValue() throws Exception {
+    final InputStream inputStream = new ByteArrayInputStream(
+        "{\"value\":1} {\"value\":2}".getBytes("UTF-8"));
+    final View view = new JacksonViewReader(
+        new InputStreamSource(inputStream), new OptionsMap()).readView();
+    assertThat(view, hasEventSequence(
+        eventOfType(View.Event.Type.BEGIN_OBJECT,
+            withNoName(), whereValue(is(nullValue()))),
+        eventOfType(View.Event.Type.VALUE,
+            withName("value"), whereValue(is(equalTo((Object) 1L)))),
+        eventOfType(View.Event.Type.END_OBJECT,
+            withNoName(), whereValue(is(nullValue())))
+    ));
+  }
+
+  @Test
+  public void testReadImplicitObject() throws Exception {
+    final String json = "{\"value\":1,\"child\":{\"value\":2}}";
+    final JsonParser parser = new JsonFactory().createParser(
+        ("[" + json + ",3]").getBytes("UTF-8"));
+    parser.nextToken();
+    parser.nextToken();
+    parser.nextToken();
+    final View view = new JacksonViewReader(parser, new OptionsMap())
+        .readView();
+    assertThat(view, is(sameView(read("JSON", json))));
+    assertThat(parser.getCurrentToken(), is(JsonToken.END_OBJECT));
+    assertThat(parser.nextToken(), is(JsonToken.VALUE_NUMBER_INT));
+  }
+
+  @Test
+  public void testReadEmbeddedValues() throws Exception {
+    final TokenBuffer buffer = new TokenBuffer(null, false);
+    buffer.writeStartObject();
+    buffer.writeFieldName("binary");
+    buffer.writeObject(new byte[] { 1, 2, 3 });
+    buffer.writeFieldName("string");
+    buffer.writeObject(new StringBuilder("string"));
+    buffer.writeFieldName("number");
+    buffer.writeObject(2L);
+    buffer.writeFieldName("boolean");
+    buffer.writeObject(Boolean.TRUE);
+    buffer.writeEndObject();
+    final View view = new JacksonViewReader(buffer.asParser(),
+        new OptionsMap()).readView();
+    assertThat(view, is(sameView(read("JSON", "{\"binary\":\"AQID\","
+        + "\"string\":\"string\",\"number\":2,\"boolean\":true}"))));
+  }
+
+  @Test
+  public void testReadUnsupportedEmbeddedValue() throws Exception {
+    final TokenBuffer buffer = new TokenBuffer(null, false);
+    buffer.writeStartObject();
+    buffer.writeFieldName("value");
+    buffer.writeObject(new Object());
+    buffer.writeEndObject();
+    try {
+      new JacksonViewReader(buffer.asParser(), new OptionsMap()).readView();
+      fail("expected ViewException");
+    }
+    catch (ViewException ex) {
+      assertThat(ex.getCause(), is(instanceOf(JsonMappingException.class)));
+    }
+  }
+
+  @Test
+  public void testReadUnexpectedToken() throws Exception {
+    final JsonParser parser =
+        new JsonFactory().createNonBlockingByteArrayParser();
+    try {
+      new JacksonViewReader(parser, new OptionsMap()).readView();
+      fail("expected ViewException");
+    }
+    catch (ViewException ex) {
+      assertThat(ex.getCause(), is(instanceOf(JsonMappingException.class)));
+    }
+  }
+
+  @Test
+  public void testCustomDiscriminator() throws Exception {
+    final String json = "{\"kind\":\"subtype\",\"type\":\"value\"}";
+    ViewOptionsRegistry.getOptions().put(ViewKeys.DISCRIMINATOR_NAME, "kind");
+    try {
+      final View view = read("JACKSON", json);
+      assertThat(view, is(sameView(read("JSON", json))));
+      assertThat(view, hasEventSequence(
+          eventOfType(View.Event.Type.BEGIN_OBJECT,
+              withNoName(), whereValue(is(nullValue()))),
+          eventOfType(View.Event.Type.DISCRIMINATOR,
+              withName(ViewDefaults.DISCRIMINATOR_NODE_NAME),
+              whereValue(is(equalTo((Object) "subtype")))),
+          eventOfType(View.Event.Type.VALUE,
+              withName("type"), whereValue(is(equalTo((Object) "value")))),
+          eventOfType(View.Event.Type.END_OBJECT,
+              withNoName(), whereValue(is(nullValue())))
+      ));
+    }
+    finally {
+      ViewOptionsRegistry.getOptions().remove(ViewKeys.DISCRIMINATOR_NAME);
+    }
+  }
+
+  private View read(String providerName, String json) throws Exception {
+    return ViewReaderFactoryProducer.getFactory(providerName)
+        .newReader(new ByteArrayInputStream(json.getBytes("UTF-8")))
+        .readView();
+  }
+
+}
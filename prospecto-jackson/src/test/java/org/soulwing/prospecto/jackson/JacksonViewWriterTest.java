@@ -0,0 +1,191 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jackson;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.soulwing.prospecto.api.View.Event.Type.BEGIN_ARRAY;
+import static org.soulwing.prospecto.api.View.Event.Type.BEGIN_OBJECT;
+import static org.soulwing.prospecto.api.View.Event.Type.DISCRIMINATOR;
+import static org.soulwing.prospecto.api.View.Event.Type.END_ARRAY;
+import static org.soulwing.prospecto.api.View.Event.Type.END_OBJECT;
+import static org.soulwing.prospecto.api.View.Event.Type.META;
+import static org.soulwing.prospecto.api.View.Event.Type.VALUE;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.soulwing.prospecto.ViewWriterFactoryProducer;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.WriterKeys;
+import org.soulwing.prospecto.api.text.OutputStreamTarget;
+import org.soulwing.prospecto.runtime.view.ViewBuilder;
+
+/**
+ * Tests for {@link JacksonViewWriter}.
+ * <p>
+ * The output of each view, compact or pretty printed, is required to be
+ * identical to the output of the {@code JSON} provider for the same view.
+ *
+ * @author Carl Harris
+ */
+public class JacksonViewWriterTest {
+
+  private final Options options = new OptionsMap();
+
+  @Test
+  public void testObject() throws Exception {
+    assertSameOutput(ViewBuilder.begin()
+        .type(BEGIN_OBJECT).name("view")
+        .type(DISCRIMINATOR).name("type").value("subtype")
+        .type(META).name("href").value("/view")
+        .with(namedValues())
+        .type(BEGIN_OBJECT).name("child")
+        .with(namedValues())
+        .type(END_OBJECT).name("child")
+        .type(BEGIN_ARRAY).name("children")
+        .type(BEGIN_OBJECT).name("child")
+        .with(namedValues())
+        .type(END_OBJECT).name("child")
+        .type(END_ARRAY).name("children")
+        .type(END_OBJECT).name("view")
+        .end());
+  }
+
+  @Test
+  public void testArrayOfValues() throws Exception {
+    assertSameOutput(ViewBuilder.begin()
+        .type(BEGIN_ARRAY)
+        .with(values())
+        .type(BEGIN_ARRAY)
+        .type(END_ARRAY)
+        .type(END_ARRAY)
+        .end());
+  }
+
+  @Test
+  public void testEnvelope() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(BEGIN_ARRAY).name("view")
+        .type(BEGIN_OBJECT)
+        .with(namedValues())
+        .type(END_OBJECT)
+        .type(END_ARRAY).name("view")
+        .end();
+    view.envelope().putProperty("offset", 0).putProperty("next", "/next");
+    assertSameOutput(view);
+    options.put(WriterKeys.WRAP_ARRAY_IN_ENVELOPE, false);
+    assertSameOutput(view);
+  }
+
+  @Test
+  public void testPrettyPrint() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(BEGIN_OBJECT).name("view")
+        .with(namedValues())
+        .type(BEGIN_OBJECT).name("child")
+        .type(END_OBJECT).name("child")
+        .type(BEGIN_ARRAY).name("values")
+        .with(values())
+        .type(BEGIN_ARRAY)
+        .type(END_ARRAY)
+        .type(BEGIN_OBJECT)
+        .with(namedValues())
+        .type(END_OBJECT)
+        .type(END_ARRAY).name("values")
+        .type(END_OBJECT).name("view")
+        .end();
+    options.put(WriterKeys.PRETTY_PRINT_OUTPUT, true);
+    assertSameOutput(view);
+  }
+
+  @Test
+  public void testPrettyPrintEnvelope() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(BEGIN_ARRAY).name("view")
+        .with(values())
+        .type(END_ARRAY).name("view")
+        .end();
+    view.envelope().putProperty("offset", 0);
+    options.put(WriterKeys.PRETTY_PRINT_OUTPUT, true);
+    assertSameOutput(view);
+  }
+
+  @Test
+  public void testWriteViewToTarget() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(BEGIN_OBJECT)
+        .with(namedValues())
+        .type(END_OBJECT)
+        .end();
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ViewWriterFactoryProducer.getFactory("JACKSON", options)
+        .newWriter(view)
+        .writeView(new OutputStreamTarget(outputStream));
+    assertThat(outputStream.toString("UTF-8"),
+        is(equalTo(write("JSON", view))));
+  }
+
+  private void assertSameOutput(View view) throws Exception {
+    assertThat(write("JACKSON", view), is(equalTo(write("JSON", view))));
+  }
+
+  private String write(String providerName, View view) throws Exception {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    ViewWriterFactoryProducer.getFactory(providerName, options)
+        .newWriter(view, outputStream).writeView();
+    return outputStream.toString("UTF-8");
+  }
+
+  private ViewBuilder namedValues() {
+    return ViewBuilder.begin()
+        .type(VALUE).name("string").value("quote\"back\\slash/\n\tcafé 東京")
+        .type(VALUE).name("boolean").value(true)
+        .type(VALUE).name("int").value(-1)
+        .type(VALUE).name("long").value(Long.MIN_VALUE)
+        .type(VALUE).name("bigInteger")
+            .value(new BigInteger("123456789012345678901234"))
+        .type(VALUE).name("float").value(1.1f)
+        .type(VALUE).name("double").value(1e-7)
+        .type(VALUE).name("bigDecimal").value(new BigDecimal("1.10"))
+        .type(VALUE).name("date").value(new Date(1234567890L))
+        .type(VALUE).name("calendar").value(Calendar.getInstance())
+        .type(VALUE).name("enum").value(TimeUnit.SECONDS)
+        .type(VALUE).name("null").value(null);
+  }
+
+  private ViewBuilder values() {
+    return ViewBuilder.begin()
+        .type(VALUE).value("string")
+        .type(VALUE).value(false)
+        .type(VALUE).value((short) 3)
+        .type(VALUE).value(1.5)
+        .type(VALUE).value(new StringBuilder("builder"))
+        .type(VALUE).value(null);
+  }
+
+}
@@ -25,6 +25,7 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.soulwing.prospecto.testing.matcher.ViewMatchers.eventOfType;
 import static org.soulwing.prospecto.testing.matcher.ViewMatchers.hasEventSequence;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.sameView;
 import static org.soulwing.prospecto.testing.matcher.ViewMatchers.whereValue;
 import static org.soulwing.prospecto.testing.matcher.ViewMatchers.withName;
 import static org.soulwing.prospecto.testing.matcher.ViewMatchers.withNoName;
@@ -37,6 +38,7 @@ import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.runtime.view.ViewBuilder;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
@@ -87,6 +89,39 @@ public class RoundTripTest {
     ));
   }
 
+  @Test
+  public void testEmbeddedView() throws Exception {
+    final View view = ViewBuilder.begin()
+        .type(View.Event.Type.BEGIN_ARRAY)
+        .type(View.Event.Type.BEGIN_OBJECT)
+        .type(View.Event.Type.VALUE)
+        .name("myValue")
+        .value(42L)
+        .type(View.Event.Type.BEGIN_ARRAY)
+        .name("myArray")
+        .type(View.Event.Type.END_ARRAY)
+        .name("myArray")
+        .type(View.Event.Type.END_OBJECT)
+        .type(View.Event.Type.END_ARRAY)
+        .end();
+
+    final EmbeddingModel model = new EmbeddingModel();
+    model.setBefore("before");
+    model.setView(view);
+    model.setAfter("after");
+
+    final ObjectMapper mapper = new ObjectMapper();
+    final String json = mapper.writeValueAsString(model);
+    assertThat(json, is(equalTo("{\"before\":\"before\","
+        + "\"view\":[{\"myValue\":42,\"myArray\":[]}],"
+        + "\"after\":\"after\"}")));
+
+    final EmbeddingModel result = mapper.readValue(json, EmbeddingModel.class);
+    assertThat(result.getBefore(), is(equalTo("before")));
+    assertThat(result.getAfter(), is(equalTo("after")));
+    assertThat(result.getView(), is(sameView(view)));
+  }
+
   public static class AdaptedModel {
 
     @JsonProperty("myView")
@@ -103,4 +138,40 @@ public class RoundTripTest {
     }
   }
 
+  @JsonPropertyOrder({ "before", "view", "after" })
+  public static class EmbeddingModel {
+
+    private String before;
+
+    @JsonSerialize(using = ViewSerializer.class)
+    @JsonDeserialize(using = ViewDeserializer.class)
+    private View view;
+
+    private String after;
+
+    public String getBefore() {
+      return before;
+    }
+
+    public void setBefore(String before) {
+      this.before = before;
+    }
+
+    public View getView() {
+      return view;
+    }
+
+    public void setView(View view) {
+      this.view = view;
+    }
+
+    public String getAfter() {
+      return after;
+    }
+
+    public void setAfter(String after) {
+      this.after = after;
+    }
+  }
+
 }
@@ -18,73 +18,65 @@
  */
 package org.soulwing.prospecto.jaxb;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
-
 import javax.xml.bind.annotation.adapters.XmlAdapter;
-import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamResult;
+import javax.xml.parsers.ParserConfigurationException;
 
 import org.soulwing.prospecto.ViewReaderFactoryProducer;
 import org.soulwing.prospecto.ViewWriterFactoryProducer;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewReaderFactory;
 import org.soulwing.prospecto.api.ViewWriterFactory;
+import org.soulwing.prospecto.api.text.NodeSource;
+import org.soulwing.prospecto.api.text.NodeTarget;
+import org.w3c.dom.DOMImplementation;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 
 /**
  * A JAXB {@link XmlAdapter} for a Prospecto {@link View}.
+ * <p>
+ * A view is marshalled by building its DOM representation directly from
+ * the view's events, and unmarshalled by walking the DOM; the view is
+ * never converted to or from text. An adapter instance may be safely
+ * shared by concurrent threads.
  *
  * @author Carl Harris
  */
 public class ViewAdapter extends XmlAdapter<Object, View> {
 
+  private static final DOMImplementation domImplementation =
+      newDomImplementation();
+
   private final ViewWriterFactory writerFactory =
       ViewWriterFactoryProducer.getFactory("XML");
 
   private final ViewReaderFactory readerFactory =
       ViewReaderFactoryProducer.getFactory("XML");
 
-  private final DocumentBuilderFactory builderFactory =
-      DocumentBuilderFactory.newInstance();
-
-  private final TransformerFactory transformerFactory =
-      TransformerFactory.newInstance();
-
-  public ViewAdapter() {
-    builderFactory.setNamespaceAware(true);
-  }
-
   @Override
   public Object marshal(View v) throws Exception {
-    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    writerFactory.newWriter(v, outputStream).writeView();
-
-    final DocumentBuilder builder = builderFactory.newDocumentBuilder();
-
-    final ByteArrayInputStream inputStream = new ByteArrayInputStream(
-        outputStream.toByteArray());
-
-    final Document document = builder.parse(inputStream);
+    final Document document = domImplementation.createDocument(
+        null, null, null);
+    writerFactory.newWriter(v).writeView(new NodeTarget(document));
     return document.getDocumentElement();
   }
 
   @Override
   public View unmarshal(Object v) throws Exception {
-    final Transformer transformer = transformerFactory.newTransformer();
-    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
-    transformer.transform(new DOMSource((Element) v),
-        new StreamResult(outputStream));
-
-    final ByteArrayInputStream inputStream = new ByteArrayInputStream(
-        outputStream.toByteArray());
+    return readerFactory.newReader(new NodeSource((Element) v)).readView();
+  }
 
-    return readerFactory.newReader(inputStream).readView();
+  private static DOMImplementation newDomImplementation() {
+    final DocumentBuilderFactory builderFactory =
+        DocumentBuilderFactory.newInstance();
+    builderFactory.setNamespaceAware(true);
+    try {
+      return builderFactory.newDocumentBuilder().getDOMImplementation();
+    }
+    catch (ParserConfigurationException ex) {
+      throw new ExceptionInInitializerError(ex);
+    }
   }
 
 }
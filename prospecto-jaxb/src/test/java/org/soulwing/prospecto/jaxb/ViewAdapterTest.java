@@ -25,6 +25,7 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.soulwing.prospecto.testing.matcher.ViewMatchers.eventOfType;
 import static org.soulwing.prospecto.testing.matcher.ViewMatchers.hasEventSequence;
+import static org.soulwing.prospecto.testing.matcher.ViewMatchers.sameView;
 import static org.soulwing.prospecto.testing.matcher.ViewMatchers.whereValue;
 import static org.soulwing.prospecto.testing.matcher.ViewMatchers.withName;
 
@@ -43,6 +44,7 @@ import javax.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 import org.junit.Test;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.runtime.view.ViewBuilder;
+import org.w3c.dom.Element;
 
 /**
  * Tests for {@link ViewAdapter}.
@@ -87,6 +89,47 @@ public class ViewAdapterTest {
     ));
   }
   
+  @Test
+  public void testNestedView() throws Exception {
+    final String namespace = "urn:org.soulwing.prospecto:test";
+    final View view = ViewBuilder.begin()
+        .type(View.Event.Type.BEGIN_OBJECT)
+            .name("myView").namespace(namespace)
+        .type(View.Event.Type.DISCRIMINATOR)
+            .name("type").value("subtype")
+        .type(View.Event.Type.META)
+            .name("href").value("/myView")
+        .type(View.Event.Type.VALUE)
+            .name("myString").value("This is a test")
+        .type(View.Event.Type.VALUE)
+            .name("myLong").value(-1L)
+        .type(View.Event.Type.VALUE)
+            .name("myBoolean").value(true)
+        .type(View.Event.Type.BEGIN_ARRAY)
+            .name("myArray").namespace(namespace)
+        .type(View.Event.Type.VALUE)
+            .value("one")
+        .type(View.Event.Type.VALUE)
+            .value("two")
+        .type(View.Event.Type.END_ARRAY)
+            .name("myArray").namespace(namespace)
+        .type(View.Event.Type.BEGIN_OBJECT)
+            .name("myChild").namespace(namespace)
+        .type(View.Event.Type.VALUE)
+            .name("myValue").value(42)
+        .type(View.Event.Type.END_OBJECT)
+            .name("myChild").namespace(namespace)
+        .type(View.Event.Type.END_OBJECT)
+            .name("myView").namespace(namespace)
+        .end();
+
+    final ViewAdapter adapter = new ViewAdapter();
+    final Element element = (Element) adapter.marshal(view);
+    assertThat(element.getNamespaceURI(), is(equalTo(namespace)));
+    assertThat(element.getLocalName(), is(equalTo("myView")));
+    assertThat(adapter.unmarshal(element), is(sameView(view)));
+  }
+
   @XmlRootElement
   @XmlAccessorType(XmlAccessType.FIELD)
   public static class AdaptedModel {
@@ -0,0 +1,46 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.api;
+
+import org.soulwing.prospecto.api.ViewContext;
+
+/**
+ * A {@link PathTemplateResolver} that can resolve a precompiled
+ * {@link PathTemplate}.
+ * <p>
+ * Each path template discovered on a resource is compiled once; when the
+ * resolver for the resource implements this interface, the compiled template
+ * is used to resolve the path, rather than the template string.
+ *
+ * @author Carl Harris
+ */
+public interface CompiledPathTemplateResolver extends PathTemplateResolver {
+
+  /**
+   * Resolves placeholders in the given template to produce a path.
+   * @param template the template to resolve
+   * @param context context to be used in resolving placeholders
+   * @return fully resolved path
+   * @throws AmbiguousPathResolutionException if the path in the given
+   *    context resolves to more than one resource method
+   */
+  String resolve(PathTemplate template, ViewContext context)
+      throws AmbiguousPathResolutionException;
+
+}
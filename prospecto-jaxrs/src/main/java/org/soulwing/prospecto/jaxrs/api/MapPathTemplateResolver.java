@@ -20,30 +20,34 @@ package org.soulwing.prospecto.jaxrs.api;
 
 import java.util.Map;
 
-import javax.ws.rs.core.UriBuilder;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.soulwing.prospecto.api.ViewContext;
-import org.soulwing.prospecto.jaxrs.api.PathTemplateResolver;
 
 /**
  * A template resolver that builds a URI from map of parameters.
+ * <p>
+ * The template is expanded using a {@link PathTemplate}, so a precompiled
+ * template need not be parsed again for each path that is resolved.
  *
  * @author Carl Harris
  */
-public abstract class MapPathTemplateResolver implements PathTemplateResolver {
+public abstract class MapPathTemplateResolver
+    implements CompiledPathTemplateResolver {
 
   private static final Logger logger =
       LoggerFactory.getLogger(MapPathTemplateResolver.class);
 
   @Override
   public final String resolve(String template, ViewContext context) {
+    return resolve(PathTemplate.compile(template), context);
+  }
+
+  @Override
+  public final String resolve(PathTemplate template, ViewContext context) {
     Map<String, Object> templateMap = templateMap(context);
     try {
-      return UriBuilder.fromPath(template)
-          .buildFromMap(templateMap)
-          .toString();
+      return template.expand(templateMap);
     } catch (IllegalArgumentException e) {
       logger.warn("Error resolving path for template {}", template);
       throw e;
@@ -0,0 +1,209 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.api;
+
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A JAX-RS path template compiled into literal segments and parameter slots.
+ * <p>
+ * A template such as {@code /leagues/{leagueId}/teams/{teamId}} is parsed
+ * once, when the template is compiled. Expanding the template appends each
+ * literal segment and each parameter value (encoded as a path segment) to a
+ * single buffer of sufficient capacity; the result is the same as that
+ * produced by {@link javax.ws.rs.core.UriBuilder#buildFromMap(Map)}.
+ *
+ * @author Carl Harris
+ */
+public final class PathTemplate {
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+
+  private static final int PARAMETER_CAPACITY = 16;
+
+  private static final boolean[] SEGMENT_CHARS = new boolean[128];
+
+  static {
+    for (char c = 'a'; c <= 'z'; c++) {
+      SEGMENT_CHARS[c] = true;
+    }
+    for (char c = 'A'; c <= 'Z'; c++) {
+      SEGMENT_CHARS[c] = true;
+    }
+    for (char c = '0'; c <= '9'; c++) {
+      SEGMENT_CHARS[c] = true;
+    }
+    for (char c : "-._~!$&'()*+,=:@".toCharArray()) {
+      SEGMENT_CHARS[c] = true;
+    }
+  }
+
+  private final String template;
+  private final String[] literals;
+  private final String[] parameterNames;
+  private final int capacity;
+
+  private PathTemplate(String template, String[] literals,
+      String[] parameterNames) {
+    this.template = template;
+    this.literals = literals;
+    this.parameterNames = parameterNames;
+    int length = 0;
+    for (final String literal : literals) {
+      length += literal.length();
+    }
+    this.capacity = length + PARAMETER_CAPACITY * parameterNames.length;
+  }
+
+  /**
+   * Compiles a path template.
+   * @param template the template to compile; a parameter may be specified
+   *    as either <code>{name}</code> or <code>{name: regex}</code>
+   * @return compiled template
+   * @throws IllegalArgumentException if {@code template} contains an
+   *    unterminated or empty parameter
+   */
+  public static PathTemplate compile(String template) {
+    final List<String> literals = new ArrayList<>();
+    final List<String> names = new ArrayList<>();
+    final int length = template.length();
+    int start = 0;
+    int i = template.indexOf('{');
+    while (i != -1) {
+      literals.add(template.substring(start, i));
+      int depth = 1;
+      int nameEnd = -1;
+      int j = i + 1;
+      while (j < length && depth > 0) {
+        final char c = template.charAt(j);
+        if (c == '{') {
+          depth++;
+        }
+        else if (c == '}') {
+          depth--;
+        }
+        else if (c == ':' && depth == 1 && nameEnd == -1) {
+          nameEnd = j;
+        }
+        j++;
+      }
+      if (depth > 0) {
+        throw new IllegalArgumentException(
+            "unterminated parameter in template " + template);
+      }
+      final String name = template.substring(i + 1,
+          nameEnd != -1 ? nameEnd : j - 1).trim();
+      if (name.isEmpty()) {
+        throw new IllegalArgumentException(
+            "empty parameter name in template " + template);
+      }
+      names.add(name);
+      start = j;
+      i = template.indexOf('{', start);
+    }
+    literals.add(template.substring(start));
+    return new PathTemplate(template,
+        literals.toArray(new String[literals.size()]),
+        names.toArray(new String[names.size()]));
+  }
+
+  /**
+   * Gets the template from which this object was compiled.
+   * @return template
+   */
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Gets the names of the parameters in this template, in the order in
+   * which they appear.
+   * @return list of parameter names
+   */
+  public List<String> getParameterNames() {
+    return Collections.unmodifiableList(Arrays.asList(parameterNames));
+  }
+
+  /**
+   * Expands this template using the given parameter values.
+   * @param values map of parameter names to values; the string
+   *    representation of each value is encoded as a path segment
+   * @return expanded path
+   * @throws IllegalArgumentException if {@code values} does not contain a
+   *    (non-null) value for each parameter in this template
+   */
+  public String expand(Map<String, ?> values) {
+    final StringBuilder sb = new StringBuilder(capacity);
+    for (int i = 0; i < parameterNames.length; i++) {
+      sb.append(literals[i]);
+      final Object value = values.get(parameterNames[i]);
+      if (value == null) {
+        throw new IllegalArgumentException("no value for parameter '"
+            + parameterNames[i] + "' in template " + template);
+      }
+      appendSegment(value.toString(), sb);
+    }
+    sb.append(literals[parameterNames.length]);
+    return sb.toString();
+  }
+
+  private static void appendSegment(String value, StringBuilder sb) {
+    final int length = value.length();
+    int i = 0;
+    while (i < length && isSegmentChar(value.charAt(i))) {
+      i++;
+    }
+    if (i == length) {
+      sb.append(value);
+      return;
+    }
+    sb.append(value, 0, i);
+    final byte[] bytes = value.substring(i).getBytes(UTF_8);
+    for (final byte b : bytes) {
+      if (b >= 0 && SEGMENT_CHARS[b]) {
+        sb.append((char) b);
+      }
+      else {
+        sb.append('%');
+        sb.append(HEX_DIGITS[(b >> 4) & 0xf]);
+        sb.append(HEX_DIGITS[b & 0xf]);
+      }
+    }
+  }
+
+  private static boolean isSegmentChar(char c) {
+    return c < SEGMENT_CHARS.length && SEGMENT_CHARS[c];
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public String toString() {
+    return template;
+  }
+
+}
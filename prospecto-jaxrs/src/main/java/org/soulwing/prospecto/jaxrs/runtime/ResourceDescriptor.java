@@ -19,6 +19,7 @@
 package org.soulwing.prospecto.jaxrs.runtime;
 
 import org.soulwing.prospecto.jaxrs.api.ModelPathSpec;
+import org.soulwing.prospecto.jaxrs.api.PathTemplate;
 import org.soulwing.prospecto.jaxrs.api.PathTemplateResolver;
 import org.soulwing.prospecto.jaxrs.api.TemplateResolver;
 import org.soulwing.prospecto.jaxrs.runtime.path.ModelPath;
@@ -38,6 +39,12 @@ public interface ResourceDescriptor {
    */
   String path();
 
+  /**
+   * Gets the compiled form of the path to this resource method.
+   * @return path template compiled from {@link #path()}
+   */
+  PathTemplate pathTemplate();
+
   /**
    * Gets the model path identified in a {@link ModelPathSpec} annotation on
    * the described resource.
@@ -18,6 +18,7 @@
  */
 package org.soulwing.prospecto.jaxrs.runtime.discovery;
 
+import org.soulwing.prospecto.jaxrs.api.PathTemplate;
 import org.soulwing.prospecto.jaxrs.api.PathTemplateResolver;
 import org.soulwing.prospecto.jaxrs.runtime.ResourceDescriptor;
 import org.soulwing.prospecto.jaxrs.runtime.glob.AnyModel;
@@ -33,6 +34,7 @@ import org.soulwing.prospecto.jaxrs.runtime.path.ModelPath;
 abstract class AbstractResourceDescriptor implements ResourceDescriptor {
 
   private final String path;
+  private final PathTemplate pathTemplate;
   private final ModelPath modelPath;
   private final GlobMatcher<Class<?>> matcher;
   private final PathTemplateResolver templateResolver;
@@ -46,6 +48,7 @@ abstract class AbstractResourceDescriptor implements ResourceDescriptor {
   public AbstractResourceDescriptor(String path, ModelPath modelPath,
       PathTemplateResolver templateResolver) {
     this.path = path;
+    this.pathTemplate = PathTemplate.compile(path);
     this.modelPath = modelPath;
     this.templateResolver = templateResolver;
     this.matcher = GlobMatcher.with(AnyModel.class, AnyModelSequence.class,
@@ -60,6 +63,14 @@ abstract class AbstractResourceDescriptor implements ResourceDescriptor {
     return path;
   }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public PathTemplate pathTemplate() {
+    return pathTemplate;
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -78,7 +89,7 @@ abstract class AbstractResourceDescriptor implements ResourceDescriptor {
    */
   @Override
   public boolean matches(ModelPath modelPath) {
-    return matches(modelPath.asArray());
+    return matcher.matches(modelPath.asList());
   }
 
   /**
@@ -18,7 +18,7 @@
  */
 package org.soulwing.prospecto.jaxrs.runtime.glob;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 /**
@@ -42,33 +42,81 @@ import java.util.List;
  * "?" and the <em>match any sequence</em> is "*", the {@link GlobMatcher} takes
  * on the semantics of ordinary filename globbing for string (character array)
  * inputs.
+ * <p>
+ * A pattern is compiled once, when the matcher is created, into an immutable
+ * sequence of match operations. Matching an input allocates nothing, and
+ * an input list (or a range of it) can be matched without being copied.
  *
  * @author Carl Harris
  */
 public class GlobMatcher<T> {
 
-  private final T anyInputToken;
-  private final T anyInputSequenceToken;
-  private final T[] pattern;
+  private static final byte EQUALS = 0;
+  private static final byte ANY = 1;
+  private static final byte ANY_SEQUENCE = 2;
+
+  private final byte[] ops;
+  private final Object[] tokens;
+  private final int minLength;
+  private final boolean anySequence;
 
   /**
    * Constructs a new instance.
+   * @param ops compiled pattern operations
+   * @param tokens expected token for each {@link #EQUALS} operation
+   * @param minLength minimum length of an input that could match
+   * @param anySequence flag indicating whether the pattern contains a
+   *    <em>match-any-sequence</em> operation
+   */
+  private GlobMatcher(byte[] ops, Object[] tokens, int minLength,
+      boolean anySequence) {
+    this.ops = ops;
+    this.tokens = tokens;
+    this.minLength = minLength;
+    this.anySequence = anySequence;
+  }
+
+  /**
+   * Compiles a pattern into a matcher.
+   * <p>
+   * The returned matcher is immutable and may be safely shared between
+   * threads; adjacent <em>match-any-sequence</em> symbols are collapsed into
+   * a single operation.
    * @param anyInputToken an instance of the {@code T} that will be
    *    interpreted as the symbol used to designate <em>match-any</em>
    * @param anyInputSequenceToken an instance of the {@code T} that will be
    *    interpreted as the symbol used to designate <em>match-any-sequence</em>
    * @param pattern a sequence of values of {@code T} that specify the pattern
    *    to match
+   * @param <T> base type
+   * @return matcher
    */
-  private GlobMatcher(T anyInputToken, T anyInputSequenceToken, T[] pattern) {
-    this.anyInputToken = anyInputToken;
-    this.anyInputSequenceToken = anyInputSequenceToken;
-    this.pattern = pattern;
-  }
-
   public static <T> GlobMatcher<T> with(T anyInputToken, T anyInputSequenceToken,
       T[] pattern) {
-    return new GlobMatcher<>(anyInputToken, anyInputSequenceToken, pattern);
+    final byte[] ops = new byte[pattern.length];
+    final Object[] tokens = new Object[pattern.length];
+    int length = 0;
+    int minLength = 0;
+    boolean anySequence = false;
+    for (final T token : pattern) {
+      if (token.equals(anyInputSequenceToken)) {
+        anySequence = true;
+        if (length > 0 && ops[length - 1] == ANY_SEQUENCE) continue;
+        ops[length++] = ANY_SEQUENCE;
+        continue;
+      }
+      if (token.equals(anyInputToken)) {
+        ops[length] = ANY;
+      }
+      else {
+        ops[length] = EQUALS;
+        tokens[length] = token;
+      }
+      length++;
+      minLength++;
+    }
+    return new GlobMatcher<>(Arrays.copyOf(ops, length),
+        Arrays.copyOf(tokens, length), minLength, anySequence);
   }
 
   /**
@@ -77,7 +125,7 @@ public class GlobMatcher<T> {
    * @return {@code true} if {@code input} matches this pattern
    */
   public boolean matches(T[] input) {
-    return newMatcher().matches(input);
+    return matches(Arrays.asList(input), 0, input.length);
   }
 
   /**
@@ -85,237 +133,57 @@ public class GlobMatcher<T> {
    * @param input the input to test
    * @return {@code true} if {@code input} matches this pattern
    */
-  @SuppressWarnings("unchecked")
   public boolean matches(List<T> input) {
-    return newMatcher().matches((T[]) (input.toArray()));
-  }
-
-  private InnerMatcher<T> newMatcher() {
-    return new InnerMatcher<>(anyInputToken, anyInputSequenceToken, pattern);
-  }
-
-  /**
-   * A pattern matching finite state machine.
-   * @param <T> base type
-   */
-  interface Matcher<T> {
-
-    /**
-     * Moves the matcher to the next input token and corresponding matcher
-     * state.
-     * @return next input token or {@code null} if the end of the input has been
-     *   reached
-     */
-    T next();
-
-    /**
-     * Skips to the next input token, without changing the matcher state.
-     * @return next input token or {@code null} if the end of the input has
-     *    been reached
-     */
-    T skip();
-
-    /**
-     * Terminates the pattern match, with the specified result.
-     * @param matches the result of the pattern match
-     */
-    void terminate(boolean matches);
-
-    /**
-     * Tests the given input for a match using the pattern represented by this
-     * matcher.
-     * @param input the input to test
-     * @return {@code true} if {@code input} matches the pattern
-     */
-    boolean matches(T[] input);
-
+    return matches(input, 0, input.size());
   }
 
   /**
-   * A state for a pattern.
+   * Tests a range of the given input as a match for this pattern.
    * <p>
-   * Each token in pattern gets an associated state, and these states are
-   * considered in sequence as an input is matched to the pattern.
-   * @param <T> base type for the matcher
-   */
-  interface MatcherState<T> {
-
-    /**
-     * Attempts to match the given token from the input.
-     * @param token input token
-     * @param matcher the associated matcher
-     */
-    void matchToken(T token, Matcher<T> matcher);
-
-  }
-
-  /**
-   * A {@link MatcherState} with <em>equals</em> semantics
-   * @param <T> the base type
+   * The input is accessed by index, so it should support efficient
+   * random access (e.g. {@link java.util.RandomAccess}).
+   * @param input the input to test
+   * @param fromIndex index of the first element of the range (inclusive)
+   * @param toIndex index of the last element of the range (exclusive)
+   * @return {@code true} if the specified range of {@code input} matches
+   *    this pattern
    */
-  static class EqualsState<T> implements MatcherState<T> {
-
-    private final T expectedToken;
-
-    public EqualsState(T expectedToken) {
-      this.expectedToken = expectedToken;
+  public boolean matches(List<T> input, int fromIndex, int toIndex) {
+    final int length = toIndex - fromIndex;
+    if (length < minLength || !anySequence && length != minLength) {
+      return false;
     }
 
-    @Override
-    public void matchToken(T token, Matcher<T> matcher) {
-      if (token.equals(expectedToken)) {
-        matcher.next();
+    // greedy match with backtracking to the most recent match-any-sequence
+    // operation; since any sequence subsumes the sequences matched by
+    // earlier match-any-sequence operations, no deeper backtracking is needed
+    final int numOps = ops.length;
+    int op = 0;
+    int i = fromIndex;
+    int sequenceOp = -1;
+    int sequenceStart = fromIndex;
+    while (i < toIndex) {
+      if (op < numOps && ops[op] == ANY_SEQUENCE) {
+        sequenceOp = op++;
+        sequenceStart = i;
       }
-      else {
-        matcher.terminate(false);
+      else if (op < numOps && (ops[op] == ANY
+          || input.get(i).equals(tokens[op]))) {
+        op++;
+        i++;
       }
-    }
-  }
-
-  /**
-   * A {@link MatcherState} with <em>match-any</em> semantics.
-   * @param <T> the base type
-   */
-  static class MatchAnyState<T> implements MatcherState<T> {
-
-    @Override
-    public void matchToken(T token, Matcher<T> matcher) {
-      matcher.next();
-    }
-
-  }
-
-  /**
-   * A {@link MatcherState} with <em>match-any-sequence</em> semantics.
-   * @param <T> the base type
-   */
-  static class MatchAnySequenceState<T> implements MatcherState<T> {
-
-    private final T nextExpectedToken;
-
-    public MatchAnySequenceState(T nextExpectedToken) {
-      this.nextExpectedToken = nextExpectedToken;
-    }
-
-    @Override
-    public void matchToken(T token, Matcher<T> matcher) {
-      if (nextExpectedToken.equals(token)) {
-        T nextToken = matcher.next();
-        // while in the same state, swallow any repeating sequence of the
-        // next expected token; this allows "*T" to match a sequence such as "TT"
-        while (nextExpectedToken.equals(nextToken)) {
-          nextToken = matcher.skip();
-        }
+      else if (sequenceOp != -1) {
+        op = sequenceOp + 1;
+        i = ++sequenceStart;
       }
       else {
-        matcher.skip();
+        return false;
       }
     }
-
-  }
-
-  /**
-   * A {@link MatcherState} for the special case of <em>match-any-sequence</em>
-   * semantics at the end of the pattern.
-   */
-  static class MatchAnyTrailingSequence<T> implements MatcherState<T> {
-
-    @Override
-    public void matchToken(T token, Matcher<T> matcher) {
-      matcher.terminate(true);
+    while (op < numOps && ops[op] == ANY_SEQUENCE) {
+      op++;
     }
-
-  }
-
-  /**
-   * A simple finite state machine implementation of {@link Matcher}.
-   */
-  static class InnerMatcher<T> implements Matcher<T> {
-
-    private final List<MatcherState<T>> states = new ArrayList<>();
-
-    private T[] input;
-    private int stateIndex;
-    private int inputIndex;
-    private boolean done;
-
-    /**
-     * Constructs a new instance.
-     * @param anyInputToken an instance of the {@code T} that will be
-     *    interpreted as the symbol used to designate <em>match-any</em>
-     * @param anyInputSequenceToken an instance of the {@code T} that will be
-     *    interpreted as the symbol used to designate <em>match-any-sequence</em>
-     * @param pattern a sequence of values of {@code T} that specify the pattern
-     *    to match
-     */
-    InnerMatcher(T anyInputToken, T anyInputSequenceToken, T[] pattern) {
-      int i = 0;
-      // parse the pattern into states
-      while (i < pattern.length) {
-        T token = pattern[i++];
-        if (token.equals(anyInputToken)) {
-          states.add(new MatchAnyState<T>());
-        }
-        else if (token.equals(anyInputSequenceToken)) {
-          // flatten adjacent match-any-sequence symbols into a single state
-          while (token.equals(anyInputSequenceToken) && i < pattern.length) {
-            token = pattern[i++];
-          }
-          states.add(!token.equals(anyInputSequenceToken) ?
-              new MatchAnySequenceState<T>(token)
-                  : new MatchAnyTrailingSequence<T>());
-        }
-        else {
-          states.add(new EqualsState<T>(token));
-        }
-      }
-    }
-
-    @Override
-    public T next() {
-      T nextToken = skip();
-      stateIndex++;
-      if (stateIndex == states.size()) {
-        done = true;
-      }
-      return nextToken;
-    }
-
-    @Override
-    public T skip() {
-      inputIndex++;
-      if (inputIndex == input.length) {
-        done = true;
-        return null;
-      }
-      return input[inputIndex];
-    }
-
-    @Override
-    public void terminate(boolean matches) {
-      done = true;
-      if (matches) {
-        inputIndex = input.length;
-        stateIndex = states.size();
-      }
-    }
-
-    @Override
-    public boolean matches(T[] input) {
-      this.input = input;
-      stateIndex = 0;
-      inputIndex = 0;
-      done = inputIndex == input.length || stateIndex == states.size();
-      while (!done) {
-        states.get(stateIndex).matchToken(input[inputIndex], this);
-      }
-      if (inputIndex == input.length && stateIndex < states.size()
-          && states.get(stateIndex) instanceof MatchAnyTrailingSequence) {
-        stateIndex++;
-      }
-      return inputIndex == input.length && stateIndex == states.size();
-    }
-
+    return op == numOps;
   }
 
 }
@@ -41,10 +41,10 @@ public class ModelPath {
     ANY_SEQUENCE;
   }
 
-  private final List<Class<?>> path = new ArrayList<>();
+  private final List<Class<?>> path;
 
   private ModelPath(List<Class<?>> path) {
-    this.path.addAll(path);
+    this.path = path;
   }
 
   /**
@@ -53,7 +53,7 @@ public class ModelPath {
    * @return model path
    */
   public static ModelPath with(List<Class<?>> path) {
-    return new ModelPath(path);
+    return new ModelPath(new ArrayList<>(path));
   }
 
   /**
@@ -62,7 +62,24 @@ public class ModelPath {
    * @return model path
    */
   public static ModelPath with(Class<?>... path) {
-    return new ModelPath(Arrays.asList(path));
+    return new ModelPath(new ArrayList<>(Arrays.asList(path)));
+  }
+
+  /**
+   * Creates a new path object that wraps the given sequence of model types
+   * without copying it.
+   * <p>
+   * This is appropriate for a list that cannot be modified, such as the
+   * path returned by
+   * {@link org.soulwing.prospecto.api.ViewContext#currentModelPath()}; the
+   * hash code and equality of the resulting path are those of the given
+   * list.
+   * @param path sequence of model types which must not be subsequently
+   *    modified
+   * @return model path
+   */
+  public static ModelPath wrap(List<Class<?>> path) {
+    return new ModelPath(path);
   }
 
   /**
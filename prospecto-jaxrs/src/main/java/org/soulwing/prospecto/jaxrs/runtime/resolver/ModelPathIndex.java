@@ -0,0 +1,131 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.runtime.resolver;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.soulwing.prospecto.jaxrs.runtime.ResourceDescriptor;
+import org.soulwing.prospecto.jaxrs.runtime.path.ModelPath;
+
+/**
+ * A trie of resource descriptors keyed by the model types of their paths.
+ * <p>
+ * Each edge of the trie is either an exact model type or one of the
+ * wildcard types ({@code AnyModel} or {@code AnyModelSequence}). Looking up
+ * a model path visits only those branches whose edges could match it, so the
+ * candidates produced are a (usually small) superset of the descriptors whose
+ * paths match; the caller is expected to confirm each candidate using
+ * {@link ResourceDescriptor#matches(ModelPath)}.
+ *
+ * @author Carl Harris
+ */
+class ModelPathIndex {
+
+  private final Node root = new Node();
+
+  /**
+   * Constructs a new index for the given descriptors.
+   * @param descriptors the descriptors to index
+   */
+  ModelPathIndex(Collection<ResourceDescriptor> descriptors) {
+    for (final ResourceDescriptor descriptor : descriptors) {
+      add(descriptor);
+    }
+  }
+
+  private void add(ResourceDescriptor descriptor) {
+    final ModelPath modelPath = descriptor.modelPath();
+    final List<Class<?>> types = modelPath.asList();
+    Node node = root;
+    for (int i = 0, max = types.size(); i < max; i++) {
+      switch (modelPath.matchTypeAt(i)) {
+        case ANY:
+          if (node.any == null) {
+            node.any = new Node();
+          }
+          node = node.any;
+          break;
+        case ANY_SEQUENCE:
+          if (node.anySequence == null) {
+            node.anySequence = new Node();
+          }
+          node = node.anySequence;
+          break;
+        default:
+          Node child = node.exact.get(types.get(i));
+          if (child == null) {
+            child = new Node();
+            node.exact.put(types.get(i), child);
+          }
+          node = child;
+          break;
+      }
+    }
+    node.descriptors.add(descriptor);
+  }
+
+  /**
+   * Finds the descriptors whose paths could match the given model path.
+   * @param modelPath the subject model path
+   * @return candidate descriptors (never {@code null})
+   */
+  List<ResourceDescriptor> candidates(ModelPath modelPath) {
+    final Set<ResourceDescriptor> candidates = new LinkedHashSet<>();
+    collect(root, modelPath.asList(), 0, candidates);
+    return new ArrayList<>(candidates);
+  }
+
+  private void collect(Node node, List<Class<?>> types, int index,
+      Set<ResourceDescriptor> candidates) {
+    final int length = types.size();
+    if (index == length) {
+      candidates.addAll(node.descriptors);
+    }
+    if (node.anySequence != null) {
+      for (int i = index; i <= length; i++) {
+        collect(node.anySequence, types, i, candidates);
+      }
+    }
+    if (index == length) return;
+    if (node.any != null) {
+      collect(node.any, types, index + 1, candidates);
+    }
+    final Node child = node.exact.get(types.get(index));
+    if (child != null) {
+      collect(child, types, index + 1, candidates);
+    }
+  }
+
+  /**
+   * A node of the trie.
+   */
+  private static class Node {
+    final Map<Class<?>, Node> exact = new HashMap<>();
+    final List<ResourceDescriptor> descriptors = new ArrayList<>(1);
+    Node any;
+    Node anySequence;
+  }
+
+}
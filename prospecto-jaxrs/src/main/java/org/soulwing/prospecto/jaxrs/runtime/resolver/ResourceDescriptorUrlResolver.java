@@ -28,6 +28,8 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,6 +37,8 @@ import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.api.url.UrlResolver;
 import org.soulwing.prospecto.jaxrs.api.AmbiguousPathResolutionException;
+import org.soulwing.prospecto.jaxrs.api.CompiledPathTemplateResolver;
+import org.soulwing.prospecto.jaxrs.api.PathTemplateResolver;
 import org.soulwing.prospecto.jaxrs.runtime.ResourceConfigurationException;
 import org.soulwing.prospecto.jaxrs.runtime.ResourceDescriptor;
 import org.soulwing.prospecto.jaxrs.runtime.ResourceNotFoundException;
@@ -42,6 +46,12 @@ import org.soulwing.prospecto.jaxrs.runtime.path.ModelPath;
 
 /**
  * A simple {@link UrlResolver} backed by a set of resource descriptors.
+ * <p>
+ * When {@link #validate()} is invoked, the descriptors are compiled into an
+ * index keyed by the types in their model paths, so that resolution considers
+ * only those descriptors that could possibly match. The descriptor chosen for
+ * each distinct model path is memoized in a bounded cache, so that the
+ * steady-state cost of resolution is a single map lookup.
  *
  * @author Carl Harris
  */
@@ -50,9 +60,16 @@ public class ResourceDescriptorUrlResolver implements ConfigurableUrlResolver {
   private static final Logger logger =       
       LoggerFactory.getLogger(ResourceDescriptorUrlResolver.class);
   
+  static final int MAX_CACHE_SIZE = 1024;
+
   private final Set<ResourceDescriptor> descriptors =
       new HashSet<>();
 
+  private final ConcurrentMap<ModelPath, ResourceDescriptor> cache =
+      new ConcurrentHashMap<>();
+
+  private volatile ModelPathIndex index;
+
   /**
    * {@inheritDoc}
    */
@@ -66,6 +83,8 @@ public class ResourceDescriptorUrlResolver implements ConfigurableUrlResolver {
   public void addDescriptor(ResourceDescriptor descriptor) {
     logger.debug("{}", descriptor);
     descriptors.add(descriptor);
+    index = null;
+    cache.clear();
   }
 
   /**
@@ -77,6 +96,8 @@ public class ResourceDescriptorUrlResolver implements ConfigurableUrlResolver {
       throw new ResourceConfigurationException(
           "found duplicate resource descriptors");
     }
+    index = new ModelPathIndex(descriptors);
+    cache.clear();
   }
 
   private boolean findDuplicatedPaths(List<ModelPath> paths) {
@@ -119,9 +140,21 @@ public class ResourceDescriptorUrlResolver implements ConfigurableUrlResolver {
    */
   @Override
   public String resolve(ViewNode node, ViewContext context) {
-    final ResourceDescriptor descriptor = findBestMatch(
-        ModelPath.with(context.currentModelPath()));
-    return descriptor.templateResolver().resolve(descriptor.path(), context);
+    final ModelPath modelPath = ModelPath.wrap(context.currentModelPath());
+    ResourceDescriptor descriptor = cache.get(modelPath);
+    if (descriptor == null) {
+      descriptor = findBestMatch(modelPath);
+      if (cache.size() >= MAX_CACHE_SIZE) {
+        cache.clear();
+      }
+      cache.put(ModelPath.with(modelPath.asList()), descriptor);
+    }
+    final PathTemplateResolver templateResolver = descriptor.templateResolver();
+    if (templateResolver instanceof CompiledPathTemplateResolver) {
+      return ((CompiledPathTemplateResolver) templateResolver).resolve(
+          descriptor.pathTemplate(), context);
+    }
+    return templateResolver.resolve(descriptor.path(), context);
   }
 
   private ResourceDescriptor findBestMatch(ModelPath modelPath) {
@@ -243,8 +276,11 @@ public class ResourceDescriptorUrlResolver implements ConfigurableUrlResolver {
   }
 
   private List<ResourceDescriptor> findAllMatches(ModelPath modelPath) {
+    final ModelPathIndex index = this.index;
+    final Collection<ResourceDescriptor> candidates = index != null ?
+        index.candidates(modelPath) : descriptors;
     List<ResourceDescriptor> matches = new ArrayList<>();
-    for (ResourceDescriptor descriptor : descriptors) {
+    for (ResourceDescriptor descriptor : candidates) {
       if (descriptor.matches(modelPath)) {
         logger.trace("{} matches {}", modelPath, descriptor);
         matches.add(descriptor);
@@ -0,0 +1,96 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.jaxrs.api;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import javax.ws.rs.core.UriBuilder;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PathTemplate}.
+ *
+ * @author Carl Harris
+ */
+public class PathTemplateTest {
+
+  private static final String TEMPLATE = "/leagues/{leagueId}/teams/{teamId}";
+
+  @Test
+  public void testCompileWithoutParameters() throws Exception {
+    final PathTemplate template = PathTemplate.compile("/leagues");
+    assertThat(template.getParameterNames(), is(empty()));
+    assertThat(template.expand(Collections.<String, Object>emptyMap()),
+        is(equalTo("/leagues")));
+  }
+
+  @Test
+  public void testCompileWithParameters() throws Exception {
+    final PathTemplate template = PathTemplate.compile(
+        "/leagues/{leagueId}/teams/{ teamId : [0-9]{1,6} }");
+    assertThat(template.getParameterNames(), contains("leagueId", "teamId"));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCompileWithUnterminatedParameter() throws Exception {
+    PathTemplate.compile("/leagues/{leagueId");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testCompileWithEmptyParameter() throws Exception {
+    PathTemplate.compile("/leagues/{}");
+  }
+
+  @Test
+  public void testExpand() throws Exception {
+    assertSameAsUriBuilder(TEMPLATE, 1L, 2L);
+    assertSameAsUriBuilder("/leagues/{leagueId: [0-9]+}/teams/{teamId}",
+        1, 2);
+    assertSameAsUriBuilder(TEMPLATE, "a b", "x/y");
+    assertSameAsUriBuilder(TEMPLATE, "50%", "a;b=c");
+    assertSameAsUriBuilder(TEMPLATE, "-._~!$&'()*+,:@", "?#[]");
+    assertSameAsUriBuilder(TEMPLATE, "café", "東京");
+    assertSameAsUriBuilder("/{id}/{id}", 42, 42);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testExpandWithMissingValue() throws Exception {
+    PathTemplate.compile(TEMPLATE).expand(
+        Collections.singletonMap("leagueId", 1));
+  }
+
+  private void assertSameAsUriBuilder(String template, Object leagueId,
+      Object teamId) {
+    final Map<String, Object> values = new HashMap<>();
+    final PathTemplate pathTemplate = PathTemplate.compile(template);
+    values.put(pathTemplate.getParameterNames().get(0), leagueId);
+    values.put(pathTemplate.getParameterNames().get(1), teamId);
+    assertThat(pathTemplate.expand(values), is(equalTo(
+        UriBuilder.fromPath(template).buildFromMap(values).toString())));
+  }
+
+}
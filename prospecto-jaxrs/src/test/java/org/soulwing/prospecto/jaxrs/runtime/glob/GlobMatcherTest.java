@@ -21,6 +21,9 @@ package org.soulwing.prospecto.jaxrs.runtime.glob;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.junit.Test;
 
 /**
@@ -85,6 +88,26 @@ public class GlobMatcherTest {
     assertThat(matcher("*d").matches(stringToArray("dddd")), is(true));
   }
 
+  @Test
+  public void testAnyInputSequenceBacktracks() throws Exception {
+    assertThat(matcher("*ab").matches(stringToArray("acab")), is(true));
+    assertThat(matcher("*ab").matches(stringToArray("aab")), is(true));
+    assertThat(matcher("*a?c").matches(stringToArray("abacabc")), is(true));
+    assertThat(matcher("*a*b").matches(stringToArray("xaxxb")), is(true));
+    assertThat(matcher("*a*b").matches(stringToArray("xbxxa")), is(false));
+  }
+
+  @Test
+  public void testMatchList() throws Exception {
+    final List<Character> input = Arrays.asList(stringToArray("xabcx"));
+    assertThat(matcher("abc").matches(input), is(false));
+    assertThat(matcher("abc").matches(input, 1, 4), is(true));
+    assertThat(matcher("a*").matches(input, 1, 2), is(true));
+    assertThat(matcher("?c").matches(input, 1, 4), is(false));
+    assertThat(matcher("*").matches(input, 2, 2), is(true));
+    assertThat(matcher("*x").matches(input), is(true));
+  }
+
   private GlobMatcher<Character> matcher(String pattern) {
     return GlobMatcher.<Character>with('?', '*', stringToArray(pattern));
   }
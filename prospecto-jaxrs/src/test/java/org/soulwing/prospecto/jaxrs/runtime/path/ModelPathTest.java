@@ -23,6 +23,10 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Test;
 
 /**
@@ -41,6 +45,16 @@ public class ModelPathTest {
         contains((Class) Integer.class, Long.class));
   }
 
+  @Test
+  public void testWrap() throws Exception {
+    final List<Class<?>> list =
+        Collections.unmodifiableList(Arrays.<Class<?>>asList(Object.class));
+    final ModelPath path = ModelPath.wrap(list);
+    assertThat(path.asList(), contains((Class) Object.class));
+    assertThat(path, is(equalTo(ModelPath.with(Object.class))));
+    assertThat(path.hashCode(), is(equalTo(list.hashCode())));
+  }
+
   @Test
   public void testConcat() throws Exception {
     assertThat(ModelPath.with(Integer.class)
@@ -33,6 +33,8 @@ import org.junit.Test;
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.jaxrs.api.AmbiguousPathResolutionException;
+import org.soulwing.prospecto.jaxrs.api.CompiledPathTemplateResolver;
+import org.soulwing.prospecto.jaxrs.api.PathTemplate;
 import org.soulwing.prospecto.jaxrs.api.PathTemplateResolver;
 import org.soulwing.prospecto.jaxrs.runtime.ReflectionService;
 import org.soulwing.prospecto.jaxrs.runtime.ResourceConfigurationException;
@@ -95,6 +97,31 @@ public class ResourceDescriptorUrlResolverTest {
         is(equalTo(PATH)));
   }
 
+  @Test
+  public void testResolveWithCompiledTemplate() throws Exception {
+    final CompiledPathTemplateResolver compiledResolver =
+        context.mock(CompiledPathTemplateResolver.class);
+    final PathTemplate pathTemplate = PathTemplate.compile(PATH);
+    context.checking(new Expectations() {
+      {
+        oneOf(viewContext).currentModelPath();
+        will(returnValue(Arrays.asList(Object.class)));
+        oneOf(descriptor).matches(ModelPath.with(Object.class));
+        will(returnValue(true));
+        oneOf(descriptor).pathTemplate();
+        will(returnValue(pathTemplate));
+        oneOf(descriptor).templateResolver();
+        will(returnValue(compiledResolver));
+        oneOf(compiledResolver).resolve(pathTemplate, viewContext);
+        will(returnValue(PATH));
+      }
+    });
+
+    resolver.addDescriptor(descriptor);
+    assertThat(resolver.resolve(viewNode, viewContext),
+        is(equalTo(PATH)));
+  }
+
   @Test(expected = AmbiguousPathResolutionException.class)
   public void testResolveWhenAmbiguous() throws Exception {
     final ResourceDescriptor descriptor1 =
@@ -293,6 +320,85 @@ public class ResourceDescriptorUrlResolverTest {
         is(equalTo(PATH)));
   }
 
+  @Test
+  public void testResolveAfterValidateUsesIndexAndCache() throws Exception {
+    final ResourceDescriptor descriptor1 =
+        context.mock(ResourceDescriptor.class, "descriptor1");
+    final ResourceDescriptor descriptor2 =
+        context.mock(ResourceDescriptor.class, "descriptor2");
+
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(viewContext).currentModelPath();
+        will(returnValue(Arrays.asList(Object.class, Integer.class)));
+
+        allowing(descriptor1).modelPath();
+        will(returnValue(ModelPath.with(Object.class, AnyModel.class)));
+        allowing(descriptor2).modelPath();
+        will(returnValue(ModelPath.with(Object.class, Long.class)));
+
+        oneOf(descriptor1).matches(ModelPath.with(Object.class, Integer.class));
+        will(returnValue(true));
+        never(descriptor2).matches(with(any(ModelPath.class)));
+
+        exactly(2).of(descriptor1).templateResolver();
+        will(returnValue(templateResolver));
+        exactly(2).of(descriptor1).path();
+        will(returnValue(PATH));
+        exactly(2).of(templateResolver).resolve(PATH, viewContext);
+        will(returnValue(PATH));
+      }
+    });
+
+    resolver.addDescriptor(descriptor1);
+    resolver.addDescriptor(descriptor2);
+    resolver.validate();
+    assertThat(resolver.resolve(viewNode, viewContext),
+        is(equalTo(PATH)));
+    assertThat(resolver.resolve(viewNode, viewContext),
+        is(equalTo(PATH)));
+  }
+
+  @Test
+  public void testResolveAfterValidateWithAnySequence() throws Exception {
+    final ResourceDescriptor descriptor1 =
+        context.mock(ResourceDescriptor.class, "descriptor1");
+    final ResourceDescriptor descriptor2 =
+        context.mock(ResourceDescriptor.class, "descriptor2");
+
+    final ModelPath modelPath =
+        ModelPath.with(Object.class, Integer.class, Long.class);
+
+    context.checking(new Expectations() {
+      {
+        oneOf(viewContext).currentModelPath();
+        will(returnValue(modelPath.asList()));
+
+        allowing(descriptor1).modelPath();
+        will(returnValue(ModelPath.with(AnyModelSequence.class, Long.class)));
+        allowing(descriptor2).modelPath();
+        will(returnValue(ModelPath.with(AnyModelSequence.class, String.class)));
+
+        oneOf(descriptor1).matches(modelPath);
+        will(returnValue(true));
+        never(descriptor2).matches(with(any(ModelPath.class)));
+
+        oneOf(descriptor1).templateResolver();
+        will(returnValue(templateResolver));
+        oneOf(descriptor1).path();
+        will(returnValue(PATH));
+        oneOf(templateResolver).resolve(PATH, viewContext);
+        will(returnValue(PATH));
+      }
+    });
+
+    resolver.addDescriptor(descriptor1);
+    resolver.addDescriptor(descriptor2);
+    resolver.validate();
+    assertThat(resolver.resolve(viewNode, viewContext),
+        is(equalTo(PATH)));
+  }
+
   @Test(expected = ResourceNotFoundException.class)
   public void testResolveWhenNotFound() throws Exception {
     context.checking(new Expectations() {
@@ -1,55 +1,108 @@
 package org.soulwing.prospecto.runtime.accessor;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * An adapter that allows a value type containing an array to be treated as
  * an array.
+ * <p>
+ * The coercion methods for a given (target type, array type) pair are
+ * resolved once, bound as method handles, and shared by all accessors that
+ * need the same coercion.
  *
  * @author Carl Harris
  */
 class ArrayCoercion {
 
-  private interface FactoryMethod {
-    Object newInstance(Object[] array) throws Exception;
-  }
+  private static final MethodType TO_ARRAY_TYPE =
+      MethodType.methodType(Object[].class, Object.class);
+
+  private static final MethodType FROM_ARRAY_TYPE =
+      MethodType.methodType(Object.class, Object[].class);
+
+  private static final ClassValue<ConcurrentMap<Class<?>, ArrayCoercion>>
+      COERCIONS = new ClassValue<ConcurrentMap<Class<?>, ArrayCoercion>>() {
+        @Override
+        protected ConcurrentMap<Class<?>, ArrayCoercion> computeValue(
+            Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
 
-  private final Method coerceMethod;
-  private final FactoryMethod factoryMethod;
+  private final MethodHandle coerceMethod;
+  private final MethodHandle factoryMethod;
 
-  private ArrayCoercion(Method coerceMethod, FactoryMethod factoryMethod)
-      throws NoSuchMethodException {
-    this.coerceMethod = coerceMethod;
-    this.factoryMethod = factoryMethod;
+  private ArrayCoercion(MethodHandle coerceMethod,
+      MethodHandle factoryMethod) {
+    this.coerceMethod = coerceMethod.asFixedArity().asType(TO_ARRAY_TYPE);
+    this.factoryMethod =
+        factoryMethod.asFixedArity().asType(FROM_ARRAY_TYPE);
   }
 
   public Object[] toArray(Object source) throws Exception {
-    return (Object[]) coerceMethod.invoke(source);
+    try {
+      return (Object[]) coerceMethod.invokeExact(source);
+    }
+    catch (Exception | Error ex) {
+      throw ex;
+    }
+    catch (Throwable ex) {
+      throw new RuntimeException(ex);
+    }
   }
 
   public Object fromArray(Object[] array) throws Exception {
-    return factoryMethod.newInstance(array);
+    try {
+      return (Object) factoryMethod.invokeExact(array);
+    }
+    catch (Exception | Error ex) {
+      throw ex;
+    }
+    catch (Throwable ex) {
+      throw new RuntimeException(ex);
+    }
   }
 
   static ArrayCoercion newInstance(Class<?> targetType,
       Class<?> arrayType) throws NoSuchMethodException {
-    return new ArrayCoercion(coerceMethod(targetType, arrayType),
-        factoryMethod(targetType, arrayType));
+    final ConcurrentMap<Class<?>, ArrayCoercion> coercions =
+        COERCIONS.get(targetType);
+    ArrayCoercion coercion = coercions.get(arrayType);
+    if (coercion == null) {
+      try {
+        coercion = new ArrayCoercion(coerceMethod(targetType, arrayType),
+            factoryMethod(targetType, arrayType));
+      }
+      catch (IllegalAccessException ex) {
+        throw (NoSuchMethodException) new NoSuchMethodException(
+            ex.getMessage()).initCause(ex);
+      }
+      final ArrayCoercion existing = coercions.putIfAbsent(arrayType, coercion);
+      if (existing != null) {
+        coercion = existing;
+      }
+    }
+    return coercion;
   }
 
-  private static Method coerceMethod(Class<?> targetType, Class<?> arrayType)
-      throws NoSuchMethodException {
+  private static MethodHandle coerceMethod(Class<?> targetType,
+      Class<?> arrayType) throws NoSuchMethodException, IllegalAccessException {
     final Method method = targetType.getMethod("toArray");
     if (!arrayType.isAssignableFrom(method.getReturnType())) {
       throw new NoSuchMethodException("incompatible return type");
     }
-    return method;
+    return MethodHandles.lookup().unreflect(method);
   }
 
-  private static FactoryMethod factoryMethod(final Class<?> targetType,
-      Class<?> arrayType) throws NoSuchMethodException {
+  private static MethodHandle factoryMethod(Class<?> targetType,
+      Class<?> arrayType) throws NoSuchMethodException, IllegalAccessException {
 
     final Method[] methods = targetType.getMethods();
     for (final Method method : methods) {
@@ -57,22 +110,11 @@ class ArrayCoercion {
       if (method.getParameterTypes().length != 1) continue;
       if (!method.getParameterTypes()[0].isAssignableFrom(arrayType)) continue;
       if (!targetType.isAssignableFrom(method.getReturnType())) continue;
-      return new FactoryMethod() {
-        @Override
-        public Object newInstance(Object[] array) throws Exception {
-          return method.invoke(null, new Object[] { array });
-        }
-      };
+      return MethodHandles.lookup().unreflect(method);
     }
 
-    final Constructor arrayConstructor = targetType.getConstructor(arrayType);
-    return new FactoryMethod() {
-      @Override
-      public Object newInstance(Object[] array) throws Exception {
-        return arrayConstructor.newInstance(array);
-      }
-    };
-
+    final Constructor<?> arrayConstructor = targetType.getConstructor(arrayType);
+    return MethodHandles.lookup().unreflectConstructor(arrayConstructor);
   }
 
 }
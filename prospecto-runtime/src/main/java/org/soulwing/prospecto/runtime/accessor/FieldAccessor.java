@@ -41,6 +41,10 @@ class FieldAccessor extends AbstractAccessor {
     field.setAccessible(true);
   }
 
+  Field getField() {
+    return field;
+  }
+
   @Override
   public Class<?> getDataType() {
     return field.getType();
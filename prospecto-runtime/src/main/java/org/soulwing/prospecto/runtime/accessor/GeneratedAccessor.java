@@ -0,0 +1,90 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.accessor;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.EnumSet;
+
+import org.soulwing.prospecto.api.AccessMode;
+import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.spi.ModelAccessor;
+
+/**
+ * An accessor that delegates to a {@link ModelAccessor}.
+ *
+ * @author Carl Harris
+ */
+class GeneratedAccessor extends AbstractAccessor {
+
+  private final ModelAccessor delegate;
+
+  GeneratedAccessor(Class<?> modelType, String name, AccessType accessType,
+      ModelAccessor delegate) {
+    super(modelType, name, accessType, supportedModes(delegate));
+    this.delegate = delegate;
+  }
+
+  private static EnumSet<AccessMode> supportedModes(ModelAccessor accessor) {
+    final EnumSet<AccessMode> modes = EnumSet.noneOf(AccessMode.class);
+    if (accessor.canRead()) {
+      modes.add(AccessMode.READ);
+    }
+    if (accessor.canWrite()) {
+      modes.add(AccessMode.WRITE);
+    }
+    return modes;
+  }
+
+  @Override
+  public Class<?> getDataType() {
+    return delegate.getDataType();
+  }
+
+  @Override
+  protected Accessor newAccessor(Class<?> type, String name) throws Exception {
+    final Accessor accessor =
+        GeneratedAccessorFactory.accessor(type, name, getAccessType());
+    if (accessor != null) return accessor;
+    return getAccessType() == AccessType.FIELD ?
+        ReflectionAccessorFactory.field(type, name) :
+        ReflectionAccessorFactory.property(type, name);
+  }
+
+  @Override
+  protected Object onGet(Object source) throws InvocationTargetException {
+    try {
+      return delegate.get(source);
+    }
+    catch (Exception ex) {
+      throw new InvocationTargetException(ex);
+    }
+  }
+
+  @Override
+  protected void onSet(Object target, Object value)
+      throws InvocationTargetException {
+    try {
+      delegate.set(target, value);
+    }
+    catch (Exception ex) {
+      throw new InvocationTargetException(ex);
+    }
+  }
+
+}
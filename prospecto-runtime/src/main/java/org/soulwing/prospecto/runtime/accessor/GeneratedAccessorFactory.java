@@ -0,0 +1,88 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.accessor;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+
+import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.spi.ModelAccessor;
+import org.soulwing.prospecto.spi.ModelAccessorProvider;
+
+/**
+ * A factory that produces accessors using {@link ModelAccessorProvider}
+ * services (typically generated at compile time).
+ * <p>
+ * The provider for a model type is located using the class loader of the
+ * model type, and is remembered by the model type itself (using a
+ * {@link ClassValue}), so that the factory holds no reference that would
+ * prevent an application's class loader from being collected.
+ *
+ * @author Carl Harris
+ */
+class GeneratedAccessorFactory {
+
+  private static final ClassValue<ModelAccessorProvider> PROVIDERS =
+      new ClassValue<ModelAccessorProvider>() {
+        @Override
+        protected ModelAccessorProvider computeValue(Class<?> modelType) {
+          return findProvider(modelType);
+        }
+      };
+
+  /**
+   * Gets an accessor from the provider for the given model type.
+   * @param modelType model type
+   * @param name property or field name
+   * @param accessType access type
+   * @return accessor or {@code null} if there is no provider for
+   *    {@code modelType} or the provider has no suitable accessor
+   */
+  static Accessor accessor(Class<?> modelType, String name,
+      AccessType accessType) {
+    final ModelAccessorProvider provider = PROVIDERS.get(modelType);
+    if (provider == null) return null;
+    final ModelAccessor accessor = provider.getAccessor(name, accessType);
+    if (accessor == null) return null;
+    return new GeneratedAccessor(modelType, name, accessType, accessor);
+  }
+
+  private static ModelAccessorProvider findProvider(Class<?> modelType) {
+    final ClassLoader classLoader = modelType.getClassLoader();
+    if (classLoader == null) return null;
+    final Iterator<ModelAccessorProvider> i =
+        ServiceLoader.load(ModelAccessorProvider.class, classLoader)
+            .iterator();
+    while (true) {
+      try {
+        if (!i.hasNext()) break;
+        final ModelAccessorProvider provider = i.next();
+        if (provider.getModelType() == modelType) return provider;
+      }
+      catch (ServiceConfigurationError ex) {
+        // a provider that can't be loaded is ignored; reflection is used
+        // for its model type
+        continue;
+      }
+    }
+    return null;
+  }
+
+}
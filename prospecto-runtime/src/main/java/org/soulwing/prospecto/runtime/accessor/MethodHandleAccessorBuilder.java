@@ -1,7 +1,7 @@
 /*
- * File created on Mar 18, 2016
+ * File created on Oct 18, 2026
  *
- * Copyright (c) 2016 Carl Harris, Jr
+ * Copyright (c) 2026 Carl Harris, Jr
  * and others as noted
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -16,21 +16,23 @@
  * See the License for the specific language governing permissions and
  * limitations under the License.
  */
-package org.soulwing.prospecto.runtime.event;
-
-import org.soulwing.prospecto.api.View;
+package org.soulwing.prospecto.runtime.accessor;
 
 /**
- * A {@link ViewEventFactory} that produces {@link ConcreteViewEvent} instances.
+ * An {@link AccessorBuilder} that builds accessors that utilize method
+ * handles.
  *
  * @author Carl Harris
  */
-public class ConcreteViewEventFactory implements ViewEventFactory {
+class MethodHandleAccessorBuilder extends ReflectionAccessorBuilder {
+
+  MethodHandleAccessorBuilder(Class<?> modelType) {
+    super(modelType);
+  }
 
   @Override
-  public View.Event newEvent(View.Event.Type type, String name,
-      String namespace, Object value) {
-    return new ConcreteViewEvent(type, name, namespace, value);
+  public Accessor build() {
+    return MethodHandleAccessorFactory.bind(super.build());
   }
 
 }
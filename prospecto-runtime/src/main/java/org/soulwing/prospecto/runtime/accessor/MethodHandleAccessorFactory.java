@@ -0,0 +1,69 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.accessor;
+
+import java.beans.IntrospectionException;
+
+/**
+ * A factory that produces accessors that use method handles.
+ * <p>
+ * Members are located in the same manner as for
+ * {@link ReflectionAccessorFactory}. If the resulting members cannot be
+ * bound to method handles, the reflection-based accessor is used instead.
+ *
+ * @author Carl Harris
+ */
+class MethodHandleAccessorFactory {
+
+  static Accessor field(Class<?> ownerClass, String name)
+      throws NoSuchFieldException {
+    return bind(ReflectionAccessorFactory.field(ownerClass, name));
+  }
+
+  static Accessor property(Class<?> declaringClass, String name)
+      throws NoSuchMethodException, IntrospectionException {
+    return bind(ReflectionAccessorFactory.property(declaringClass, name));
+  }
+
+  /**
+   * Binds a reflection-based accessor to method handles.
+   * @param accessor the accessor to bind
+   * @return an equivalent accessor that uses method handles, or
+   *    {@code accessor} if it cannot be bound
+   */
+  static Accessor bind(Accessor accessor) {
+    try {
+      if (accessor instanceof FieldAccessor) {
+        return new MethodHandleFieldAccessor(accessor.getModelType(),
+            accessor.getName(), ((FieldAccessor) accessor).getField());
+      }
+      if (accessor instanceof PropertyAccessor) {
+        final PropertyAccessor propertyAccessor = (PropertyAccessor) accessor;
+        return new MethodHandlePropertyAccessor(accessor.getModelType(),
+            accessor.getName(), propertyAccessor.getGetter(),
+            propertyAccessor.getSetter(), accessor.getSupportedModes());
+      }
+      return accessor;
+    }
+    catch (IllegalAccessException | SecurityException ex) {
+      return accessor;
+    }
+  }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.EnumSet;
+
+import org.soulwing.prospecto.api.AccessMode;
+import org.soulwing.prospecto.api.AccessType;
+
+/**
+ * An accessor that uses direct field access via method handles that are
+ * bound when the accessor is created.
+ * <p>
+ * If write access to the field is denied (e.g. because it is {@code final}),
+ * the field is written using the Reflection API.
+ *
+ * @author Carl Harris
+ */
+class MethodHandleFieldAccessor extends AbstractAccessor {
+
+  private static final MethodType GETTER_TYPE =
+      MethodType.methodType(Object.class, Object.class);
+
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Field field;
+  private final Class<?> valueType;
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+
+  MethodHandleFieldAccessor(Class<?> modelType, String name, Field field)
+      throws IllegalAccessException {
+    super(modelType, name, AccessType.FIELD, EnumSet.allOf(AccessMode.class));
+    this.field = field;
+    this.valueType = MethodHandleUtil.valueType(field.getType());
+    field.setAccessible(true);
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    this.getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+    this.setter = unreflectSetter(lookup, field);
+  }
+
+  private static MethodHandle unreflectSetter(MethodHandles.Lookup lookup,
+      Field field) {
+    try {
+      return lookup.unreflectSetter(field).asType(SETTER_TYPE);
+    }
+    catch (IllegalAccessException ex) {
+      return null;
+    }
+  }
+
+  @Override
+  public Class<?> getDataType() {
+    return field.getType();
+  }
+
+  @Override
+  protected Accessor newAccessor(Class<?> type, String name) throws Exception {
+    return MethodHandleAccessorFactory.field(type, name);
+  }
+
+  @Override
+  protected Object onGet(Object source) {
+    MethodHandleUtil.checkTarget(field.getDeclaringClass(), source);
+    try {
+      return (Object) getter.invokeExact(source);
+    }
+    catch (RuntimeException | Error ex) {
+      throw ex;
+    }
+    catch (Throwable ex) {
+      // a field access handle does not throw checked exceptions
+      throw new UndeclaredThrowableException(ex);
+    }
+  }
+
+  @Override
+  protected void onSet(Object target, Object value)
+      throws IllegalAccessException {
+    if (setter == null) {
+      field.set(target, value);
+      return;
+    }
+    MethodHandleUtil.checkTarget(field.getDeclaringClass(), target);
+    MethodHandleUtil.checkValue(field.getType(), valueType, value);
+    try {
+      setter.invokeExact(target, value);
+    }
+    catch (RuntimeException | Error ex) {
+      throw ex;
+    }
+    catch (Throwable ex) {
+      // a field access handle does not throw checked exceptions
+      throw new UndeclaredThrowableException(ex);
+    }
+  }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.EnumSet;
+
+import org.soulwing.prospecto.api.AccessMode;
+import org.soulwing.prospecto.api.AccessType;
+
+/**
+ * An accessor that uses JavaBeans-style accessor methods via method handles
+ * that are bound when the accessor is created.
+ *
+ * @author Carl Harris
+ */
+class MethodHandlePropertyAccessor extends AbstractAccessor {
+
+  private static final MethodType GETTER_TYPE =
+      MethodType.methodType(Object.class, Object.class);
+
+  private static final MethodType SETTER_TYPE =
+      MethodType.methodType(void.class, Object.class, Object.class);
+
+  private final Class<?> dataType;
+  private final Class<?> getterClass;
+  private final Class<?> setterClass;
+  private final Class<?> parameterType;
+  private final Class<?> parameterValueType;
+  private final MethodHandle getter;
+  private final MethodHandle setter;
+
+  MethodHandlePropertyAccessor(Class<?> modelType, String name,
+      Method getter, Method setter, EnumSet<AccessMode> supportedModes)
+      throws IllegalAccessException {
+    super(modelType, name, AccessType.PROPERTY, supportedModes);
+    if (getter != null) {
+      getter.setAccessible(true);
+    }
+    if (setter != null) {
+      setter.setAccessible(true);
+    }
+    final MethodHandles.Lookup lookup = MethodHandles.lookup();
+    this.dataType = getter != null ? getter.getReturnType() : null;
+    this.getterClass = getter != null ? getter.getDeclaringClass() : null;
+    this.setterClass = setter != null ? setter.getDeclaringClass() : null;
+    this.parameterType = setter != null ? setter.getParameterTypes()[0] : null;
+    this.parameterValueType = setter != null ?
+        MethodHandleUtil.valueType(parameterType) : null;
+    this.getter = getter != null ?
+        lookup.unreflect(getter).asType(GETTER_TYPE) : null;
+    this.setter = setter != null ?
+        lookup.unreflect(setter).asType(SETTER_TYPE) : null;
+  }
+
+  @Override
+  public Class<?> getDataType() {
+    return dataType;
+  }
+
+  @Override
+  protected Accessor newAccessor(Class<?> type, String name) throws Exception {
+    return MethodHandleAccessorFactory.property(type, name);
+  }
+
+  @Override
+  protected Object onGet(Object source) throws InvocationTargetException {
+    MethodHandleUtil.checkTarget(getterClass, source);
+    try {
+      return (Object) getter.invokeExact(source);
+    }
+    catch (Error ex) {
+      throw ex;
+    }
+    catch (Throwable ex) {
+      throw new InvocationTargetException(ex);
+    }
+  }
+
+  @Override
+  protected void onSet(Object target, Object value)
+      throws InvocationTargetException {
+    MethodHandleUtil.checkTarget(setterClass, target);
+    MethodHandleUtil.checkValue(parameterType, parameterValueType, value);
+    try {
+      setter.invokeExact(target, value);
+    }
+    catch (Error ex) {
+      throw ex;
+    }
+    catch (Throwable ex) {
+      throw new InvocationTargetException(ex);
+    }
+  }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.accessor;
+
+import java.lang.invoke.MethodType;
+
+/**
+ * Static utility methods for accessors that use method handles.
+ * <p>
+ * Unlike the Reflection API, a method handle that has been adapted to
+ * accept {@code Object} arguments reports an unsuitable argument by
+ * throwing a {@link ClassCastException} or {@link NullPointerException} from
+ * the invocation, where it cannot be distinguished from an exception thrown
+ * by the member itself. These methods check the arguments before the
+ * invocation, failing in the same way as the Reflection API.
+ *
+ * @author Carl Harris
+ */
+class MethodHandleUtil {
+
+  /**
+   * Gets the type of the values that can be assigned to a member of the
+   * given type.
+   * @param type member type
+   * @return {@code type} or its wrapper type if it is primitive
+   */
+  static Class<?> valueType(Class<?> type) {
+    return MethodType.methodType(type).wrap().returnType();
+  }
+
+  /**
+   * Checks the target of an invocation on an instance member.
+   * @param declaringClass class that declares the member
+   * @param target target object
+   * @throws NullPointerException if {@code target} is {@code null}
+   * @throws IllegalArgumentException if {@code target} is not an instance
+   *    of {@code declaringClass}
+   */
+  static void checkTarget(Class<?> declaringClass, Object target) {
+    if (target == null) {
+      throw new NullPointerException();
+    }
+    if (!declaringClass.isInstance(target)) {
+      throw new IllegalArgumentException(
+          "object is not an instance of declaring class");
+    }
+  }
+
+  /**
+   * Checks a value to be assigned to a member.
+   * @param type member type
+   * @param valueType value type for {@code type} as given by
+   *    {@link #valueType(Class)}
+   * @param value the value to check
+   * @throws IllegalArgumentException if {@code value} cannot be assigned to
+   *    a member of type {@code type}
+   */
+  static void checkValue(Class<?> type, Class<?> valueType, Object value) {
+    if (value == null ? type.isPrimitive() : !valueType.isInstance(value)) {
+      throw new IllegalArgumentException("argument type mismatch");
+    }
+  }
+
+}
@@ -48,6 +48,14 @@ class PropertyAccessor extends AbstractAccessor {
     }
   }
 
+  Method getGetter() {
+    return getter;
+  }
+
+  Method getSetter() {
+    return setter;
+  }
+
   @Override
   public Class<?> getDataType() {
     return getter.getReturnType();
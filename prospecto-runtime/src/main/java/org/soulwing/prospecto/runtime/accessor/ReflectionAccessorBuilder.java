@@ -25,6 +25,9 @@ import org.soulwing.prospecto.api.ViewTemplateException;
 
 /**
  * An {@link AccessorBuilder} that builds accessors that utilize reflection.
+ * <p>
+ * An accessor provided by a {@link org.soulwing.prospecto.spi.ModelAccessorProvider}
+ * for the model type is used in preference to reflection, when available.
  *
  * @author Carl Harris
  */
@@ -53,6 +56,9 @@ class ReflectionAccessorBuilder implements AccessorBuilder {
 
   @Override
   public Accessor build() {
+    final Accessor generated = GeneratedAccessorFactory.accessor(modelType,
+        propertyName, accessType);
+    if (generated != null) return generated;
     try {
       switch (accessType) {
         case FIELD:
@@ -26,7 +26,6 @@ import org.soulwing.prospecto.api.UndefinedValue;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewApplicatorException;
 import org.soulwing.prospecto.api.ViewEntity;
-import org.soulwing.prospecto.api.options.ViewKeys;
 import org.soulwing.prospecto.api.template.AppliableNode;
 import org.soulwing.prospecto.api.template.ContainerNode;
 import org.soulwing.prospecto.api.template.ViewNode;
@@ -94,8 +93,7 @@ abstract class AbstractContainerApplicator<N extends ViewNode>
           applicatorLocator.findApplicator(name, entity.getType(), this);
 
       if (applicator == null) {
-        if (context.getOptions().isEnabled(
-            ViewKeys.IGNORE_UNKNOWN_PROPERTIES)) {
+        if (context.getOptionsSnapshot().isIgnoreUnknownProperties()) {
           if (!event.getType().equals(event.getType().complement())) {
             EventUtil.consumeSubtree(event, events);
           }
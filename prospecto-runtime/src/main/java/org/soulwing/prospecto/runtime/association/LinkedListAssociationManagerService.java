@@ -23,6 +23,7 @@ import java.util.List;
 
 import org.soulwing.prospecto.api.association.AssociationDescriptor;
 import org.soulwing.prospecto.api.association.AssociationManager;
+import org.soulwing.prospecto.runtime.util.VersionedLinkedList;
 
 /**
  * A {@link AssociationManagerService} backed by a {@link LinkedList}.
@@ -32,7 +33,8 @@ import org.soulwing.prospecto.api.association.AssociationManager;
 public class LinkedListAssociationManagerService
     implements AssociationManagerService {
 
-  private final List<AssociationManager> managers = new LinkedList<>();
+  private final VersionedLinkedList<AssociationManager> managers =
+      new VersionedLinkedList<>();
 
   @Override
   @SuppressWarnings("unchecked")
@@ -22,8 +22,10 @@ import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 
+import org.soulwing.prospecto.ViewOptionsRegistry;
 import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.api.ParallelViewTemplateBuilder;
 import org.soulwing.prospecto.api.ViewTemplate;
 import org.soulwing.prospecto.api.ViewTemplateBuilder;
 import org.soulwing.prospecto.api.ViewTemplateException;
@@ -37,6 +39,7 @@ import org.soulwing.prospecto.api.template.UpdatableNode;
 import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.runtime.accessor.AccessorBuilder;
 import org.soulwing.prospecto.runtime.accessor.AccessorBuilderFactory;
+import org.soulwing.prospecto.runtime.accessor.MethodHandleAccessorBuilderFactory;
 import org.soulwing.prospecto.runtime.accessor.ReflectionAccessorBuilderFactory;
 import org.soulwing.prospecto.runtime.beans.BeanFactory;
 import org.soulwing.prospecto.runtime.beans.JdkBeanFactory;
@@ -64,7 +67,8 @@ import org.soulwing.prospecto.runtime.template.ToStringValueNode;
  *
  * @author Carl Harris
  */
-abstract class AbstractViewTemplateBuilder implements ViewTemplateBuilder {
+abstract class AbstractViewTemplateBuilder
+    implements ParallelViewTemplateBuilder {
 
   private final BeanFactory beanFactory = new JdkBeanFactory();
 
@@ -82,7 +86,13 @@ abstract class AbstractViewTemplateBuilder implements ViewTemplateBuilder {
     this.node = node;
     this.accessType = parent == null ? AccessType.PROPERTY : parent.accessType;
     this.accessorBuilder = newAccessorBuilder(parent, node, accessType,
-        ReflectionAccessorBuilderFactory.INSTANCE);
+        accessorBuilderFactory());
+  }
+
+  private static AccessorBuilderFactory accessorBuilderFactory() {
+    return ViewOptionsRegistry.getSnapshot().isMethodHandleAccessors() ?
+            MethodHandleAccessorBuilderFactory.INSTANCE :
+            ReflectionAccessorBuilderFactory.INSTANCE;
   }
 
   private static AccessorBuilder newAccessorBuilder(
@@ -635,6 +645,20 @@ abstract class AbstractViewTemplateBuilder implements ViewTemplateBuilder {
     return this;
   }
 
+  @Override
+  public ViewTemplateBuilder parallel(int threshold) {
+    if (!(node instanceof ConcreteArrayOfObjectsNode)) {
+      throw new ViewTemplateException(
+          "parallel generation is supported only for array-of-objects nodes");
+    }
+    if (threshold < 1) {
+      throw new ViewTemplateException(
+          "parallel threshold must be greater than zero");
+    }
+    ((ConcreteArrayOfObjectsNode) node).setParallelThreshold(threshold);
+    return this;
+  }
+
   @Override
   public ViewTemplateBuilder attribute(Object value) {
     node.put(value);
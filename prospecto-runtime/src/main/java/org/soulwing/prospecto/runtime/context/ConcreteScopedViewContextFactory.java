@@ -19,6 +19,7 @@
 package org.soulwing.prospecto.runtime.context;
 
 import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.api.discriminator.DiscriminatorStrategy;
 import org.soulwing.prospecto.api.discriminator.SimpleClassNameDiscriminatorStrategy;
 import org.soulwing.prospecto.api.scope.MutableScope;
 
@@ -34,14 +35,52 @@ public class ConcreteScopedViewContextFactory
   public static final ConcreteScopedViewContextFactory INSTANCE =
       new ConcreteScopedViewContextFactory();
 
+  /**
+   * The default discriminator strategy shared by all contexts, so that the
+   * discriminators cached for a node (which are associated with the
+   * strategy that produced them) remain valid from one context to the next.
+   */
+  private static final DiscriminatorStrategy DEFAULT_DISCRIMINATOR_STRATEGY =
+      new DefaultDiscriminatorStrategy();
+
   private ConcreteScopedViewContextFactory() {}
 
   @Override
   public ScopedViewContext newContext(ViewContext source) {
     final ConcreteViewContext viewContext = new ConcreteViewContext(source);
     final MutableScope scope = viewContext.appendScope();
-    scope.put(new SimpleClassNameDiscriminatorStrategy());
+    scope.put(DEFAULT_DISCRIMINATOR_STRATEGY);
+    viewContext.memoizeScopeLookups();
     return viewContext;
   }
 
+  /**
+   * A discriminator strategy with the default configuration, which cannot
+   * be changed since it is shared.
+   */
+  private static class DefaultDiscriminatorStrategy
+      extends SimpleClassNameDiscriminatorStrategy {
+
+    @Override
+    public void setName(String name) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setPrefix(String prefix) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setSuffix(String suffix) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void setDecapitalize(boolean decapitalize) {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
 }
@@ -19,14 +19,19 @@
 package org.soulwing.prospecto.runtime.context;
 
 import java.util.ArrayList;
-import java.util.Deque;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import org.soulwing.prospecto.ViewOptionsRegistry;
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.OptionsSnapshot;
 import org.soulwing.prospecto.api.scope.MutableScope;
 import org.soulwing.prospecto.api.scope.Scope;
 import org.soulwing.prospecto.api.scope.Scopes;
@@ -42,7 +47,9 @@ import org.soulwing.prospecto.runtime.reference.LinkedListReferenceResolverServi
 import org.soulwing.prospecto.runtime.reference.ReferenceResolverService;
 import org.soulwing.prospecto.runtime.scope.ConcreteMutableScope;
 import org.soulwing.prospecto.runtime.scope.LinkedListScopes;
-import org.soulwing.prospecto.runtime.util.StringUtil;
+import org.soulwing.prospecto.runtime.scope.ScopeVersion;
+import org.soulwing.prospecto.runtime.util.PersistentPath;
+import org.soulwing.prospecto.runtime.util.VersionedLinkedList;
 
 /**
  * A {@link ScopedViewContext} implementation.
@@ -52,12 +59,16 @@ import org.soulwing.prospecto.runtime.util.StringUtil;
  */
 class ConcreteViewContext implements ScopedViewContext {
 
-  private final Scopes scopes = new LinkedListScopes();
+  private static final Object NOT_FOUND = new Object();
+
+  private static final ScopeVersion[] UNVERSIONED = new ScopeVersion[0];
+
+  private final LinkedListScopes scopes = new LinkedListScopes();
 
   private final NotifiableViewListeners listeners =
       new LinkedListNotifiableViewListeners();
 
-  private final ValueTypeConverterService valueTypeConverters =
+  private final LinkedListValueTypeConverterService valueTypeConverters =
       new LinkedListValueTypeConverterService();
 
   private final ReferenceResolverService referenceResolvers =
@@ -71,17 +82,51 @@ class ConcreteViewContext implements ScopedViewContext {
 
   private final Options options;
 
+  /**
+   * A frame of the scope stack.
+   * <p>
+   * Frames are reused as the stack grows and shrinks. The name of a frame
+   * pushed for an array element is derived from its index only when it is
+   * requested.
+   */
   private static class ScopeFrame extends ConcreteMutableScope {
 
-    private final String name;
-    private final Class<?> modelClass;
+    private String name;
+    private int index;
+    private Class<?> modelClass;
+
+    /**
+     * View path up to and including this frame, computed on first use.
+     */
+    private PersistentPath<String> viewPath;
 
-    ScopeFrame(String name, Class<?> modelClass) {
+    /**
+     * Model path up to and including this frame, computed on first use.
+     */
+    private PersistentPath<Class<?>> modelPath;
+
+    void reset(String name, Class<?> modelClass) {
+      clear();
       this.name = name;
+      this.index = -1;
       this.modelClass = modelClass;
+      this.viewPath = null;
+      this.modelPath = null;
+    }
+
+    void reset(int index) {
+      clear();
+      this.name = null;
+      this.index = index;
+      this.modelClass = null;
+      this.viewPath = null;
+      this.modelPath = null;
     }
 
     public String getName() {
+      if (name == null && index >= 0) {
+        name = Integer.toString(index);
+      }
       return name;
     }
 
@@ -91,7 +136,42 @@ class ConcreteViewContext implements ScopedViewContext {
 
   }
 
-  private final Deque<ScopeFrame> scopeStack = new LinkedList<>();
+  private static final int INITIAL_DEPTH = 16;
+
+  private ScopeFrame[] scopeStack = new ScopeFrame[INITIAL_DEPTH];
+
+  private int depth;
+
+  /**
+   * Frames below this depth are shared with a fork, and must not be reused.
+   */
+  private int sharedDepth;
+
+  private boolean memoizeScopeLookups;
+
+  private Map<Class<?>, Object> scopeLookups;
+
+  private int scopeLookupsVersion;
+
+  private long scopeLookupsContentVersion;
+
+  /**
+   * The distinct versions of the scopes of this context, as of
+   * {@link #scopeLookupsVersion}; {@link #UNVERSIONED} if some scope is not
+   * versioned.
+   */
+  private ScopeVersion[] scopeVersions;
+
+  /**
+   * Version shared by the scopes created by this context.
+   */
+  private final ScopeVersion scopeVersion = new ScopeVersion();
+
+  private String discriminatorName;
+
+  private OptionsSnapshot optionsSnapshot;
+
+  private volatile ConcurrentMap<Object, String> urlMemo;
 
   ConcreteViewContext(Options options) {
     this.options = options;
@@ -99,17 +179,51 @@ class ConcreteViewContext implements ScopedViewContext {
 
   ConcreteViewContext(ViewContext source) {
     this(source.getOptions());
-    this.scopes.toList().addAll(source.getScopes().toList());
-    this.listeners.toList().addAll(source.getListeners().toList());
-    this.valueTypeConverters.toList().addAll(source.getValueTypeConverters().toList());
-    this.referenceResolvers.toList().addAll(source.getReferenceResolvers().toList());
-    this.collectionManagers.toList().addAll(source.getAssociationManagers().toList());
-    this.objectFactories.toList().addAll(source.getObjectFactories().toList());
+    shareOrCopy(source.getScopes().toList(), this.scopes.toList());
+    shareOrCopy(source.getListeners().toList(), this.listeners.toList());
+    if (source.getValueTypeConverters()
+        instanceof LinkedListValueTypeConverterService) {
+      this.valueTypeConverters.share((LinkedListValueTypeConverterService)
+          source.getValueTypeConverters());
+    }
+    else {
+      shareOrCopy(source.getValueTypeConverters().toList(),
+          this.valueTypeConverters.toList());
+    }
+    shareOrCopy(source.getReferenceResolvers().toList(),
+        this.referenceResolvers.toList());
+    shareOrCopy(source.getAssociationManagers().toList(),
+        this.collectionManagers.toList());
+    shareOrCopy(source.getObjectFactories().toList(),
+        this.objectFactories.toList());
+  }
+
+  /**
+   * Copies the elements of one list to another.
+   * <p>
+   * When both lists are versioned lists, the target shares the storage of
+   * the source until either list is modified, so that creating a context
+   * from another context does not copy any elements unless the contents of
+   * one of the contexts are subsequently changed.
+   * @param source source list
+   * @param target target list (which must be empty)
+   */
+  @SuppressWarnings("unchecked")
+  private static <E> void shareOrCopy(List<? extends E> source,
+      List<E> target) {
+    if (source instanceof VersionedLinkedList
+        && target instanceof VersionedLinkedList && target.isEmpty()) {
+      ((VersionedLinkedList<E>) target).share(
+          (VersionedLinkedList<? extends E>) source);
+    }
+    else {
+      target.addAll(source);
+    }
   }
 
   @Override
   public MutableScope newScope() {
-    return new ConcreteMutableScope();
+    return new ConcreteMutableScope(scopeVersion);
   }
 
   @Override
@@ -163,48 +277,100 @@ class ConcreteViewContext implements ScopedViewContext {
 
   @Override
   public List<String> currentViewPath() {
-    final List<String> nodes = new ArrayList<>();
-    final Iterator<ScopeFrame> frames = scopeStack.descendingIterator();
-    while (frames.hasNext()) {
-      final ScopeFrame frame = frames.next();
-      if (frame.getName() != null) {
-        nodes.add(frame.getName());
-      }
-    }
-    return nodes;
+    return viewPath();
   }
 
   @Override
   public String currentViewPathAsString() {
-    return PATH_DELIMITER + StringUtil.join(currentViewPath(), PATH_DELIMITER);
+    return viewPath().toPathString();
   }
 
   @Override
   public List<Class<?>> currentModelPath() {
-    final List<Class<?>> nodes = new ArrayList<>();
-    final Iterator<ScopeFrame> frames = scopeStack.descendingIterator();
-    while (frames.hasNext()) {
-      final ScopeFrame frame = frames.next();
-      if (frame.getModelClass() != null) {
-        nodes.add(frame.getModelClass());
+    return modelPath();
+  }
+
+  /**
+   * Gets the view path for the current stack of frames.
+   * <p>
+   * Each frame retains the path up to and including itself, so only the
+   * frames pushed since the last call need to be examined.
+   * @return view path
+   */
+  private PersistentPath<String> viewPath() {
+    int i = depth;
+    while (i > 0 && scopeStack[i - 1].viewPath == null) {
+      i--;
+    }
+    PersistentPath<String> path = i > 0 ?
+        scopeStack[i - 1].viewPath : PersistentPath.<String>empty();
+    for (; i < depth; i++) {
+      final ScopeFrame frame = scopeStack[i];
+      final String name = frame.getName();
+      if (name != null) {
+        path = path.with(name);
       }
+      frame.viewPath = path;
     }
-    return nodes;
+    return path;
+  }
+
+  /**
+   * Gets the model path for the current stack of frames.
+   * @return model path
+   * @see #viewPath()
+   */
+  private PersistentPath<Class<?>> modelPath() {
+    int i = depth;
+    while (i > 0 && scopeStack[i - 1].modelPath == null) {
+      i--;
+    }
+    PersistentPath<Class<?>> path = i > 0 ?
+        scopeStack[i - 1].modelPath : PersistentPath.<Class<?>>empty();
+    for (; i < depth; i++) {
+      final ScopeFrame frame = scopeStack[i];
+      final Class<?> modelClass = frame.getModelClass();
+      if (modelClass != null) {
+        path = path.with(modelClass);
+      }
+      frame.modelPath = path;
+    }
+    return path;
   }
 
   @Override
   public void push(String name, Class<?> modelType) {
-    scopeStack.push(new ScopeFrame(name, modelType));
+    nextFrame().reset(name, modelType);
   }
 
   @Override
   public void push(int index) {
-    push(Integer.toString(index), null);
+    nextFrame().reset(index);
   }
 
   @Override
   public void pop() {
-    scopeStack.pop();
+    if (depth == 0) {
+      throw new NoSuchElementException();
+    }
+    depth--;
+    if (depth < sharedDepth) {
+      scopeStack[depth] = null;
+      sharedDepth = depth;
+    }
+  }
+
+  private ScopeFrame nextFrame() {
+    if (depth == scopeStack.length) {
+      scopeStack = Arrays.copyOf(scopeStack, 2 * depth);
+    }
+    ScopeFrame frame = scopeStack[depth];
+    if (frame == null) {
+      frame = new ScopeFrame();
+      scopeStack[depth] = frame;
+    }
+    depth++;
+    return frame;
   }
 
   @Override
@@ -220,19 +386,123 @@ class ConcreteViewContext implements ScopedViewContext {
   @Override
   public <T> T getOptional(Class<T> type) {
     T obj = null;
-    final Iterator<ScopeFrame> frames = scopeStack.iterator();
-    while (obj == null && frames.hasNext()) {
-      obj = frames.next().get(type);
+    for (int i = depth - 1; obj == null && i >= 0; i--) {
+      obj = scopeStack[i].get(type);
     }
     if (obj == null) {
-      final Iterator<Scope> scopes = this.scopes.toList().iterator();
-      while (obj == null && scopes.hasNext()) {
-        obj = scopes.next().get(type);
+      obj = memoizeScopeLookups ?
+          getMemoizedFromScopes(type) : getFromScopes(type);
+    }
+    return obj;
+  }
+
+  private <T> T getMemoizedFromScopes(Class<T> type) {
+    final int version = scopes.getVersion();
+    if (scopeVersions == null || scopeLookupsVersion != version) {
+      scopeVersions = getScopeVersions();
+      scopeLookupsVersion = version;
+      scopeLookups = null;
+    }
+    if (scopeVersions == UNVERSIONED) return getFromScopes(type);
+    long contentVersion = 0;
+    for (final ScopeVersion distinctVersion : scopeVersions) {
+      contentVersion += distinctVersion.get();
+    }
+    if (scopeLookups == null
+        || scopeLookupsContentVersion != contentVersion) {
+      scopeLookups = new HashMap<>();
+      scopeLookupsContentVersion = contentVersion;
+    }
+    Object obj = scopeLookups.get(type);
+    if (obj == null) {
+      obj = getFromScopes(type);
+      scopeLookups.put(type, obj != null ? obj : NOT_FOUND);
+    }
+    return obj != NOT_FOUND ? type.cast(obj) : null;
+  }
+
+  /**
+   * Gets the distinct versions of the scopes of this context.
+   * <p>
+   * Scopes created by the same context share a version, so there are
+   * typically only one or two distinct versions, regardless of the number
+   * of scopes. Since each version only increases, the sum of the distinct
+   * versions changes whenever any scope changes, provided that the scopes
+   * themselves are unchanged.
+   * @return distinct versions or {@link #UNVERSIONED} if some mutable scope
+   *    is not versioned
+   */
+  private ScopeVersion[] getScopeVersions() {
+    final List<ScopeVersion> versions = new ArrayList<>();
+    for (final Scope scope : scopes.toList()) {
+      if (scope instanceof ConcreteMutableScope) {
+        final ScopeVersion version =
+            ((ConcreteMutableScope) scope).getVersion();
+        if (!containsSame(versions, version)) {
+          versions.add(version);
+        }
+      }
+      else if (scope instanceof MutableScope) {
+        return UNVERSIONED;
       }
     }
+    return versions.toArray(new ScopeVersion[versions.size()]);
+  }
+
+  private static boolean containsSame(List<?> list, Object obj) {
+    for (final Object element : list) {
+      if (element == obj) return true;
+    }
+    return false;
+  }
+
+  private <T> T getFromScopes(Class<T> type) {
+    T obj = null;
+    final Iterator<Scope> scopes = this.scopes.toList().iterator();
+    while (obj == null && scopes.hasNext()) {
+      obj = scopes.next().get(type);
+    }
     return obj;
   }
 
+  /**
+   * Enables memoization of lookups by type that are satisfied by (or not
+   * found in) the scopes of this context.
+   * <p>
+   * Memoized results are discarded when a scope is added or removed, or
+   * when the contents of a scope change. Lookups are not memoized while
+   * the scopes include a mutable scope of a type that does not report its
+   * version.
+   */
+  void memoizeScopeLookups() {
+    this.memoizeScopeLookups = true;
+  }
+
+  @Override
+  public OptionsSnapshot getOptionsSnapshot() {
+    if (optionsSnapshot == null) {
+      optionsSnapshot = OptionsSnapshot.of(options);
+    }
+    return optionsSnapshot;
+  }
+
+  @Override
+  public String getDiscriminatorName() {
+    if (discriminatorName == null) {
+      discriminatorName = ViewOptionsRegistry.getSnapshot()
+          .getDiscriminatorName();
+    }
+    return discriminatorName;
+  }
+
+  @Override
+  public ConcurrentMap<Object, String> getUrlMemo() {
+    if (urlMemo == null) {
+      urlMemo = new ConcurrentHashMap<>();
+    }
+    return urlMemo;
+  }
+
   @Override
   public <T> T get(String name, Class<T> type) {
     final T obj = getOptional(name, type);
@@ -246,9 +516,8 @@ class ConcreteViewContext implements ScopedViewContext {
   @Override
   public <T> T getOptional(String name, Class<T> type) {
     T obj = null;
-    final Iterator<ScopeFrame> frames = scopeStack.descendingIterator();
-    while (obj == null && frames.hasNext()) {
-      obj = frames.next().get(name, type);
+    for (int i = 0; obj == null && i < depth; i++) {
+      obj = scopeStack[i].get(name, type);
     }
     if (obj == null) {
       final Iterator<Scope> scopes = this.scopes.toList().iterator();
@@ -285,10 +554,29 @@ class ConcreteViewContext implements ScopedViewContext {
   }
 
   private ScopeFrame topFrame() {
-    if (scopeStack.isEmpty()) {
+    if (depth == 0) {
       throw new IllegalStateException("scope stack is empty");
     }
-    return scopeStack.peek();
+    return scopeStack[depth - 1];
+  }
+
+  @Override
+  public ScopedViewContext fork() {
+    // frames below the current depth are shared with the fork; compute the
+    // names and paths they cache lazily, so that no thread writes them later
+    viewPath();
+    modelPath();
+    final ConcreteViewContext fork = new ConcreteViewContext(this);
+    fork.scopeStack = new ScopeFrame[scopeStack.length];
+    System.arraycopy(scopeStack, 0, fork.scopeStack, 0, depth);
+    fork.depth = depth;
+    fork.sharedDepth = depth;
+    fork.memoizeScopeLookups = memoizeScopeLookups;
+    fork.discriminatorName = getDiscriminatorName();
+    fork.optionsSnapshot = optionsSnapshot;
+    fork.urlMemo = getUrlMemo();
+    sharedDepth = Math.max(sharedDepth, depth);
+    return fork;
   }
 
   @Override
@@ -18,8 +18,11 @@
  */
 package org.soulwing.prospecto.runtime.context;
 
+import java.util.concurrent.ConcurrentMap;
+
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.factory.ObjectFactories;
+import org.soulwing.prospecto.api.options.OptionsSnapshot;
 import org.soulwing.prospecto.runtime.association.AssociationManagerService;
 import org.soulwing.prospecto.runtime.converter.ValueTypeConverterService;
 import org.soulwing.prospecto.runtime.factory.ObjectFactoryService;
@@ -87,4 +90,48 @@ public interface ScopedViewContext extends ViewContext {
    */
   void pop();
 
+  /**
+   * Creates a fork of this context.
+   * <p>
+   * A fork shares the options of this context and starts with copies of its
+   * scopes, services, and context stack. Frames subsequently pushed onto
+   * the fork are not visible in this context (and vice versa), so that a
+   * fork can be used to generate part of a view on another thread while
+   * this context is not being modified.
+   * <p>
+   * Creating a fork updates state shared with this context, so this method
+   * must be invoked on the thread that is using this context, and never
+   * concurrently with the use of another fork.
+   * @return forked context
+   */
+  ScopedViewContext fork();
+
+  /**
+   * Gets a snapshot of the options of this context.
+   * <p>
+   * The snapshot is taken on first use and remains fixed for the lifetime
+   * of this context (and its forks).
+   * @return options snapshot
+   */
+  OptionsSnapshot getOptionsSnapshot();
+
+  /**
+   * Gets the name used for discriminator nodes in views.
+   * <p>
+   * The name is determined from the view options on first use and remains
+   * fixed for the lifetime of this context (and its forks).
+   * @return discriminator name
+   */
+  String getDiscriminatorName();
+
+  /**
+   * Gets the map used to memoize resolved URLs.
+   * <p>
+   * The map is created on first use; it is shared by this context and its
+   * forks, but not by contexts created from this context for other view
+   * generations.
+   * @return URL memo map
+   */
+  ConcurrentMap<Object, String> getUrlMemo();
+
 }
@@ -19,15 +19,24 @@
 package org.soulwing.prospecto.runtime.converter;
 
 import java.util.LinkedList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.converter.Coerce;
 import org.soulwing.prospecto.api.converter.ValueTypeConverter;
 import org.soulwing.prospecto.api.template.ViewNode;
+import org.soulwing.prospecto.runtime.template.AbstractViewNode;
 import org.soulwing.prospecto.runtime.util.SimpleLinkedList;
 
 /**
  * A {@link ValueTypeConverterService} backed by a {@link LinkedList}.
+ * <p>
+ * The converter that supports a given type (or the absence of one) is
+ * resolved once and cached until the list of converters changes. A service
+ * can {@linkplain #share(LinkedListValueTypeConverterService) share} the
+ * converters of another service along with the converters already resolved
+ * for them, until either service is modified.
  *
  * @author Carl Harris
  */
@@ -35,12 +44,47 @@ public class LinkedListValueTypeConverterService
     extends SimpleLinkedList<ValueTypeConverter>
     implements ValueTypeConverterService {
 
+  private static final Object NO_CONVERTER = new Object();
+
+  /**
+   * Converters resolved for the version of the list of converters given by
+   * {@link Cache#version}. The cache may be shared with other services, so
+   * it is replaced rather than cleared when the list changes.
+   */
+  private volatile Cache cache;
+
+  private static class Cache {
+
+    final int version;
+    final ConcurrentMap<Class<?>, Object> converters;
+
+    Cache(int version, ConcurrentMap<Class<?>, Object> converters) {
+      this.version = version;
+      this.converters = converters;
+    }
+
+  }
+
+  /**
+   * Replaces the converters of this service with the converters of another
+   * service.
+   * <p>
+   * The services share the list of converters and the converters resolved
+   * from it, until either service is modified.
+   * @param source the service whose converters are to be shared
+   */
+  public void share(LinkedListValueTypeConverterService source) {
+    final Cache sourceCache = source.currentCache();
+    super.share(source);
+    cache = new Cache(getVersion(), sourceCache.converters);
+  }
+
   @Override
   public Object toViewValue(Object model, ViewNode node, ViewContext context)
       throws Exception {
     if (model == null) return null;
 
-    final ValueTypeConverter localConverter = node.get(ValueTypeConverter.class);
+    final ValueTypeConverter localConverter = localConverter(node);
     if (localConverter != null) {
       return localConverter.toViewValue(model, context);
     }
@@ -58,7 +102,7 @@ public class LinkedListValueTypeConverterService
       ViewContext context) throws Exception {
     if (value == null) return null;
 
-    final ValueTypeConverter localConverter = node.get(ValueTypeConverter.class);
+    final ValueTypeConverter localConverter = localConverter(node);
     if (localConverter != null) {
       return localConverter.toModelValue(
           Coerce.toValueOfType(localConverter.getType(), value), context);
@@ -73,7 +117,35 @@ public class LinkedListValueTypeConverterService
     return Coerce.toValueOfType(type, value);
   }
 
+  private static ValueTypeConverter localConverter(ViewNode node) {
+    if (node instanceof AbstractViewNode) {
+      return ((AbstractViewNode) node).getConverter();
+    }
+    return node.get(ValueTypeConverter.class);
+  }
+
   private ValueTypeConverter findConverter(Class<?> type) {
+    final ConcurrentMap<Class<?>, Object> converters =
+        currentCache().converters;
+    Object converter = converters.get(type);
+    if (converter == null) {
+      converter = resolveConverter(type);
+      converters.put(type, converter != null ? converter : NO_CONVERTER);
+    }
+    return converter != NO_CONVERTER ? (ValueTypeConverter) converter : null;
+  }
+
+  private Cache currentCache() {
+    final int version = getVersion();
+    Cache cache = this.cache;
+    if (cache == null || cache.version != version) {
+      cache = new Cache(version, new ConcurrentHashMap<Class<?>, Object>());
+      this.cache = cache;
+    }
+    return cache;
+  }
+
+  private ValueTypeConverter resolveConverter(Class<?> type) {
     for (final ValueTypeConverter converter : toList()) {
       if (converter.supports(type)) {
         return converter;
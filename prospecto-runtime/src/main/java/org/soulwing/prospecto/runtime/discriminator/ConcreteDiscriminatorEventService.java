@@ -20,16 +20,14 @@ package org.soulwing.prospecto.runtime.discriminator;
 
 import java.util.Iterator;
 
-import org.soulwing.prospecto.ViewOptionsRegistry;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.discriminator.Discriminator;
 import org.soulwing.prospecto.api.discriminator.DiscriminatorStrategy;
-import org.soulwing.prospecto.api.options.ViewDefaults;
-import org.soulwing.prospecto.api.options.ViewKeys;
 import org.soulwing.prospecto.api.template.ContainerNode;
 import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+import org.soulwing.prospecto.runtime.template.AbstractViewNode;
 import org.soulwing.prospecto.runtime.template.ConcreteSubtypeNode;
 
 /**
@@ -67,13 +65,26 @@ public class ConcreteDiscriminatorEventService
     final DiscriminatorStrategy strategy =
         strategyLocator.findStrategy(node, context);
 
-    final Discriminator discriminator =
+    final Discriminator discriminator = node instanceof AbstractViewNode ?
+        ((AbstractViewNode) node).getDiscriminatorCache().toDiscriminator(
+            strategy, node.getModelType(), subtype) :
         strategy.toDiscriminator(node.getModelType(), subtype);
 
     return new ConcreteViewEvent(View.Event.Type.DISCRIMINATOR,
-        ViewOptionsRegistry.getOptions().get(ViewKeys.DISCRIMINATOR_NAME,
-            ViewDefaults.DISCRIMINATOR_NODE_NAME).toString(),
-            null, discriminator.getValue());
+        context.getDiscriminatorName(), null, discriminator.getValue());
+  }
+
+  @Override
+  public Class<?> toSubtype(ViewNode node, Discriminator discriminator,
+      ScopedViewContext context) throws ClassNotFoundException {
+
+    final DiscriminatorStrategy strategy =
+        strategyLocator.findStrategy(node, context);
+
+    return node instanceof AbstractViewNode ?
+        ((AbstractViewNode) node).getDiscriminatorCache().toSubtype(
+            strategy, node.getModelType(), discriminator) :
+        strategy.toSubtype(node.getModelType(), discriminator);
   }
 
   @Override
@@ -21,6 +21,7 @@ package org.soulwing.prospecto.runtime.discriminator;
 import org.soulwing.prospecto.api.discriminator.DiscriminatorStrategy;
 import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
+import org.soulwing.prospecto.runtime.template.AbstractViewNode;
 
 /**
  * A {@link DiscriminatorStrategyLocator} implementation.
@@ -39,7 +40,9 @@ class ConcreteDiscriminatorStrategyLocator
   public DiscriminatorStrategy findStrategy(ViewNode node,
       ScopedViewContext context) {
 
-    DiscriminatorStrategy strategy = node.get(DiscriminatorStrategy.class);
+    DiscriminatorStrategy strategy = node instanceof AbstractViewNode ?
+        ((AbstractViewNode) node).getDiscriminatorStrategy() :
+        node.get(DiscriminatorStrategy.class);
     if (strategy == null) {
       strategy = context.get(DiscriminatorStrategy.class);
     }
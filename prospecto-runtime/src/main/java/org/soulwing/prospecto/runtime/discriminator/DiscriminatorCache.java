@@ -0,0 +1,108 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.discriminator;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.soulwing.prospecto.api.discriminator.Discriminator;
+import org.soulwing.prospecto.api.discriminator.DiscriminatorStrategy;
+
+/**
+ * A cache of the discriminators and subtypes produced by a discriminator
+ * strategy for the model type of a single view node.
+ * <p>
+ * The cached mappings are associated with the strategy that produced them;
+ * when the cache is consulted using a different strategy, the previously
+ * cached mappings are discarded.
+ *
+ * @author Carl Harris
+ */
+public class DiscriminatorCache {
+
+  private volatile Entry entry;
+
+  /**
+   * Gets the discriminator for a subtype of the given base type.
+   * @param strategy the strategy that determines the discriminator
+   * @param base base type
+   * @param subtype subtype of {@code base}
+   * @return discriminator
+   */
+  public Discriminator toDiscriminator(DiscriminatorStrategy strategy,
+      Class<?> base, Class<?> subtype) {
+    final Entry entry = entryFor(strategy);
+    Discriminator discriminator = entry.discriminators.get(subtype);
+    if (discriminator == null) {
+      discriminator = strategy.toDiscriminator(base, subtype);
+      entry.discriminators.putIfAbsent(subtype, discriminator);
+    }
+    return discriminator;
+  }
+
+  /**
+   * Gets the subtype of the given base type that corresponds to a
+   * discriminator.
+   * @param strategy the strategy that determines the subtype
+   * @param base base type
+   * @param discriminator the subject discriminator
+   * @return subtype of {@code base}
+   * @throws ClassNotFoundException if the strategy cannot find the subtype
+   */
+  public Class<?> toSubtype(DiscriminatorStrategy strategy, Class<?> base,
+      Discriminator discriminator) throws ClassNotFoundException {
+    final Object value = discriminator.getValue();
+    if (value == null) {
+      return strategy.toSubtype(base, discriminator);
+    }
+    final Entry entry = entryFor(strategy);
+    Class<?> subtype = entry.subtypes.get(value);
+    if (subtype == null) {
+      subtype = strategy.toSubtype(base, discriminator);
+      entry.subtypes.putIfAbsent(value, subtype);
+    }
+    return subtype;
+  }
+
+  private Entry entryFor(DiscriminatorStrategy strategy) {
+    Entry entry = this.entry;
+    if (entry == null || entry.strategy != strategy) {
+      entry = new Entry(strategy);
+      this.entry = entry;
+    }
+    return entry;
+  }
+
+  private static class Entry {
+
+    final DiscriminatorStrategy strategy;
+
+    final ConcurrentMap<Class<?>, Discriminator> discriminators =
+        new ConcurrentHashMap<>();
+
+    final ConcurrentMap<Object, Class<?>> subtypes =
+        new ConcurrentHashMap<>();
+
+    Entry(DiscriminatorStrategy strategy) {
+      this.strategy = strategy;
+    }
+
+  }
+
+}
@@ -21,6 +21,7 @@ package org.soulwing.prospecto.runtime.discriminator;
 import java.util.Iterator;
 
 import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.discriminator.Discriminator;
 import org.soulwing.prospecto.api.discriminator.DiscriminatorStrategy;
 import org.soulwing.prospecto.api.template.ContainerNode;
 import org.soulwing.prospecto.api.template.ViewNode;
@@ -52,6 +53,17 @@ public interface DiscriminatorEventService {
   View.Event newDiscriminatorEvent(ViewNode node, Class<?> subtype,
       ScopedViewContext context);
 
+  /**
+   * Determines the subtype represented by a discriminator for the given node.
+   * @param node the subject node
+   * @param discriminator the discriminator
+   * @param context view context
+   * @return subtype of the node's model type
+   * @throws ClassNotFoundException if the subtype cannot be found
+   */
+  Class<?> toSubtype(ViewNode node, Discriminator discriminator,
+      ScopedViewContext context) throws ClassNotFoundException;
+
   /**
    * Finds the first discriminator event in the given event stream, skipping
    * any structures encountered while searching.
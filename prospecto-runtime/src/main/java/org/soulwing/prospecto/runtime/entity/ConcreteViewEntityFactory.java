@@ -20,7 +20,6 @@ package org.soulwing.prospecto.runtime.entity;
 
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.discriminator.Discriminator;
-import org.soulwing.prospecto.api.discriminator.DiscriminatorStrategy;
 import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.discriminator.ConcreteDiscriminatorEventService;
@@ -61,11 +60,8 @@ public class ConcreteViewEntityFactory implements ViewEntityFactory {
 
     final Discriminator discriminator = new Discriminator(event.getValue());
 
-    final DiscriminatorStrategy strategy =
-        discriminatorEventService.findStrategy(node, context);
-
     return new ConcreteInjectableViewEntity(
-        strategy.toSubtype(node.getModelType(), discriminator));
+        discriminatorEventService.toSubtype(node, discriminator, context));
   }
 
 }
@@ -0,0 +1,85 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.event;
+
+import org.soulwing.prospecto.api.View;
+
+/**
+ * A mutable {@link View.Event} that can be reused to deliver a sequence of
+ * events without creating a new object for each one.
+ * <p>
+ * An instance is <em>not</em> thread safe.
+ *
+ * @author Carl Harris
+ */
+public class FlyweightViewEvent implements View.Event {
+
+  private Type type;
+  private String name;
+  private String namespace;
+  private Object value;
+
+  /**
+   * Sets the state of this event.
+   * @param type event type
+   * @param name event name
+   * @param namespace event namespace
+   * @param value event value
+   * @return this event
+   */
+  public FlyweightViewEvent set(Type type, String name, String namespace,
+      Object value) {
+    this.type = type;
+    this.name = name;
+    this.namespace = namespace;
+    this.value = value;
+    return this;
+  }
+
+  @Override
+  public Type getType() {
+    return type;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public String getNamespace() {
+    return namespace;
+  }
+
+  @Override
+  public Object getValue() {
+    return value;
+  }
+
+  @Override
+  public String toString() {
+    return "FlyweightViewEvent{" +
+        "type=" + type +
+        ", name=" + name +
+        ", namespace=" + namespace +
+        ", value=" + value +
+        '}';
+  }
+
+}
@@ -0,0 +1,352 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.event;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.soulwing.prospecto.api.View;
+
+/**
+ * A compact, growable buffer of view events.
+ * <p>
+ * Rather than holding an object for each event, a buffer stores the
+ * attributes of its events in parallel arrays (columns) that grow
+ * geometrically as events are added. The name and namespace columns refer
+ * to the (shared) name strings of the view nodes, so each event costs
+ * roughly the size of four array slots.
+ * <p>
+ * A buffer is <em>not</em> thread safe.
+ *
+ * @author Carl Harris
+ */
+public class ViewEventBuffer implements ViewEventSink, ViewEventSource,
+    Iterable<View.Event> {
+
+  private static final View.Event.Type[] TYPES = View.Event.Type.values();
+
+  private static final int DEFAULT_CAPACITY = 32;
+
+  private byte[] types;
+  private String[] names;
+  private String[] namespaces;
+  private Object[] values;
+  private int size;
+
+  /**
+   * Constructs a new buffer with a default initial capacity.
+   */
+  public ViewEventBuffer() {
+    this(DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Constructs a new buffer.
+   * @param capacity initial capacity
+   */
+  public ViewEventBuffer(int capacity) {
+    capacity = Math.max(capacity, 1);
+    types = new byte[capacity];
+    names = new String[capacity];
+    namespaces = new String[capacity];
+    values = new Object[capacity];
+  }
+
+  /**
+   * Gets the number of events in this buffer.
+   * @return number of events
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Gets the type of an event in this buffer.
+   * @param index index of the subject event
+   * @return event type
+   */
+  public View.Event.Type getType(int index) {
+    checkIndex(index);
+    return TYPES[types[index]];
+  }
+
+  /**
+   * Gets the name of an event in this buffer.
+   * @param index index of the subject event
+   * @return event name
+   */
+  public String getName(int index) {
+    checkIndex(index);
+    return names[index];
+  }
+
+  /**
+   * Gets the namespace of an event in this buffer.
+   * @param index index of the subject event
+   * @return event namespace
+   */
+  public String getNamespace(int index) {
+    checkIndex(index);
+    return namespaces[index];
+  }
+
+  /**
+   * Gets the value of an event in this buffer.
+   * @param index index of the subject event
+   * @return event value
+   */
+  public Object getValue(int index) {
+    checkIndex(index);
+    return values[index];
+  }
+
+  /**
+   * Appends an event to this buffer.
+   * @param type event type
+   * @param name event name
+   * @param namespace event namespace
+   * @param value event value
+   */
+  public void add(View.Event.Type type, String name, String namespace,
+      Object value) {
+    ensureCapacity(size + 1);
+    set(size++, type, name, namespace, value);
+  }
+
+  /**
+   * Appends all of the events of another buffer to this buffer.
+   * @param buffer the source buffer
+   */
+  public void addAll(ViewEventBuffer buffer) {
+    ensureCapacity(size + buffer.size);
+    System.arraycopy(buffer.types, 0, types, size, buffer.size);
+    System.arraycopy(buffer.names, 0, names, size, buffer.size);
+    System.arraycopy(buffer.namespaces, 0, namespaces, size, buffer.size);
+    System.arraycopy(buffer.values, 0, values, size, buffer.size);
+    size += buffer.size;
+  }
+
+  /**
+   * Inserts an event into this buffer.
+   * @param index index at which the event is to be inserted; events at
+   *    this index and beyond are shifted to make room
+   * @param type event type
+   * @param name event name
+   * @param namespace event namespace
+   * @param value event value
+   */
+  public void insert(int index, View.Event.Type type, String name,
+      String namespace, Object value) {
+    if (index < 0 || index > size) {
+      throw new IndexOutOfBoundsException("index: " + index);
+    }
+    ensureCapacity(size + 1);
+    final int count = size - index;
+    System.arraycopy(types, index, types, index + 1, count);
+    System.arraycopy(names, index, names, index + 1, count);
+    System.arraycopy(namespaces, index, namespaces, index + 1, count);
+    System.arraycopy(values, index, values, index + 1, count);
+    set(index, type, name, namespace, value);
+    size++;
+  }
+
+  /**
+   * Replaces the name and namespace of an event in this buffer and clears
+   * its value.
+   * @param index index of the subject event
+   * @param name new event name
+   * @param namespace new event namespace
+   */
+  public void rename(int index, String name, String namespace) {
+    checkIndex(index);
+    names[index] = name;
+    namespaces[index] = namespace;
+    values[index] = null;
+  }
+
+  @Override
+  public void onEvent(View.Event event) {
+    add(event.getType(), event.getName(), event.getNamespace(),
+        event.getValue());
+  }
+
+  @Override
+  public void emitTo(ViewEventSink sink) throws Exception {
+    final Cursor cursor = cursor();
+    while (cursor.next()) {
+      sink.onEvent(cursor);
+    }
+  }
+
+  /**
+   * Creates a cursor positioned before the first event in this buffer.
+   * @return cursor
+   */
+  public Cursor cursor() {
+    return new Cursor();
+  }
+
+  /**
+   * Returns an iterator over the events in this buffer.
+   * <p>
+   * Unlike a {@link Cursor} each event returned by the iterator is a
+   * distinct object which may be safely retained by the caller. This is
+   * required by the {@link View#iterator()} contract, which a buffered view
+   * delegates to this method: callers such as the view applicator hold
+   * events in a deque after advancing the iterator, and a reused flyweight
+   * would silently change the events they retain. Each event is just a
+   * reference to this buffer and an index. Callers that do not retain
+   * events should use {@link #cursor()} or {@link #emitTo(ViewEventSink)},
+   * which allocate nothing per event.
+   * @return iterator
+   */
+  @Override
+  public Iterator<View.Event> iterator() {
+    return new Iterator<View.Event>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < size;
+      }
+
+      @Override
+      public View.Event next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return new IndexedEvent(index++);
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  private void set(int index, View.Event.Type type, String name,
+      String namespace, Object value) {
+    types[index] = (byte) type.ordinal();
+    names[index] = name;
+    namespaces[index] = namespace;
+    values[index] = value;
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (capacity <= types.length) return;
+    final int newCapacity = Math.max(capacity, types.length * 2);
+    types = Arrays.copyOf(types, newCapacity);
+    names = Arrays.copyOf(names, newCapacity);
+    namespaces = Arrays.copyOf(namespaces, newCapacity);
+    values = Arrays.copyOf(values, newCapacity);
+  }
+
+  private void checkIndex(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("index: " + index);
+    }
+  }
+
+  /**
+   * A flyweight event that moves over the events in a buffer.
+   * <p>
+   * The same cursor object represents each event in turn; a caller that
+   * needs to retain an event must copy it.
+   */
+  public class Cursor implements View.Event {
+
+    private int index = -1;
+
+    /**
+     * Advances this cursor to the next event.
+     * @return {@code true} if the cursor now represents an event, or
+     *    {@code false} if there are no more events
+     */
+    public boolean next() {
+      if (index < size) {
+        index++;
+      }
+      return index < size;
+    }
+
+    @Override
+    public Type getType() {
+      return ViewEventBuffer.this.getType(index);
+    }
+
+    @Override
+    public String getName() {
+      return ViewEventBuffer.this.getName(index);
+    }
+
+    @Override
+    public String getNamespace() {
+      return ViewEventBuffer.this.getNamespace(index);
+    }
+
+    @Override
+    public Object getValue() {
+      return ViewEventBuffer.this.getValue(index);
+    }
+
+  }
+
+  private class IndexedEvent implements View.Event {
+
+    private final int index;
+
+    IndexedEvent(int index) {
+      this.index = index;
+    }
+
+    @Override
+    public Type getType() {
+      return ViewEventBuffer.this.getType(index);
+    }
+
+    @Override
+    public String getName() {
+      return ViewEventBuffer.this.getName(index);
+    }
+
+    @Override
+    public String getNamespace() {
+      return ViewEventBuffer.this.getNamespace(index);
+    }
+
+    @Override
+    public Object getValue() {
+      return ViewEventBuffer.this.getValue(index);
+    }
+
+    @Override
+    public String toString() {
+      return "ViewEventBuffer.Event{" +
+          "type=" + getType() +
+          ", name=" + getName() +
+          ", namespace=" + getNamespace() +
+          ", value=" + getValue() +
+          '}';
+    }
+
+  }
+
+}
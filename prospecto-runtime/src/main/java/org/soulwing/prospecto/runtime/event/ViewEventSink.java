@@ -1,7 +1,7 @@
 /*
- * File created on Mar 18, 2016
+ * File created on Oct 18, 2026
  *
- * Copyright (c) 2016 Carl Harris, Jr
+ * Copyright (c) 2026 Carl Harris, Jr
  * and others as noted
  *
  * Licensed under the Apache License, Version 2.0 (the "License");
@@ -21,21 +21,20 @@ package org.soulwing.prospecto.runtime.event;
 import org.soulwing.prospecto.api.View;
 
 /**
- * A factory that produces {@link View.Event} objects.
+ * A recipient of view events pushed by a {@link ViewEventSource}.
  *
  * @author Carl Harris
  */
-public interface ViewEventFactory {
+public interface ViewEventSink {
 
   /**
-   * Creates a new event object.
-   * @param type event type
-   * @param name name; may be {@code null}
-   * @param namespace; may be {@code null}
-   * @param value; may be {@code null}
-   * @return view event
+   * Notifies the recipient of the next event in a view.
+   * <p>
+   * The given event may be a flyweight that is reused for subsequent
+   * events; a recipient must not retain a reference to it.
+   * @param event the subject event
+   * @throws Exception
    */
-  View.Event newEvent(View.Event.Type type, String name, String namespace,
-      Object value);
+  void onEvent(View.Event event) throws Exception;
 
 }
@@ -0,0 +1,38 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.event;
+
+/**
+ * A source that pushes the events of a view to a {@link ViewEventSink}.
+ * <p>
+ * A view that implements this interface allows a consumer to receive
+ * its events without iterating over them.
+ *
+ * @author Carl Harris
+ */
+public interface ViewEventSource {
+
+  /**
+   * Pushes each of the events of the source view to the given sink.
+   * @param sink the recipient of the events
+   * @throws Exception
+   */
+  void emitTo(ViewEventSink sink) throws Exception;
+
+}
@@ -18,9 +18,6 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
-import java.util.List;
-
 import org.soulwing.prospecto.api.UndefinedValue;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.MetaNode;
@@ -43,23 +40,30 @@ abstract class AbstractMetaGenerator<N extends MetaNode>
   }
 
   @Override
-  final List<View.Event> onGenerate(Object owner, ScopedViewContext context)
-      throws Exception {
+  final Frame onNewFrame(Object owner, ScopedViewContext context) {
+    return new Frame(owner, context) {
+      @Override
+      public boolean advance(GeneratorFrameStack stack) throws Exception {
+        final Object transformedValue = extractValue(model, context);
+        if (transformedValue != UndefinedValue.INSTANCE) {
+          stack.emit(getEventType(), node.getName(), node.getNamespace(),
+              transformedValue);
+        }
+        return false;
+      }
+    };
+  }
 
+  private Object extractValue(Object owner, ScopedViewContext context)
+      throws Exception {
     final Object modelValue = node.getHandler().produceValue(node, owner,
         context);
 
-    final Object transformedValue = transformationService.valueToExtract(
-        owner, modelValue, node, context);
-
-    if (transformedValue == UndefinedValue.INSTANCE) {
-      return Collections.emptyList();
-    }
-
-    return Collections.singletonList(newEvent(transformedValue));
+    return transformationService.valueToExtract(owner, modelValue, node,
+        context);
   }
 
-  abstract View.Event newEvent(Object value);
+  abstract View.Event.Type getEventType();
 
 }
 
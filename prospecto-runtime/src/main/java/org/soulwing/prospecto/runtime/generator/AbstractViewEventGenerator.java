@@ -18,10 +18,6 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
-import java.util.List;
-
-import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.listener.ViewMode;
 import org.soulwing.prospecto.api.listener.ViewNodeEvent;
 import org.soulwing.prospecto.api.template.ViewNode;
@@ -42,20 +38,40 @@ abstract class AbstractViewEventGenerator<N extends ViewNode>
   }
 
   @Override
-  public final List<View.Event> generate(Object model, ScopedViewContext context)
-      throws Exception {
-    final ViewNodeEvent nodeEvent = new ViewNodeEvent(
-        ViewMode.GENERATE, node, model, context);
-    if (context.getListeners().shouldVisitNode(nodeEvent)) {
-      push(model, context);
-      final List<View.Event> viewEvents = onGenerate(model, context);
-      context.getListeners().nodeVisited(nodeEvent);
-      pop(context);
-      return viewEvents;
+  public final GeneratorFrame newFrame(Object model,
+      ScopedViewContext context) throws Exception {
+    final ViewNodeEvent nodeEvent = newNodeEvent(model, context);
+    if (nodeEvent != null
+        && !context.getListeners().shouldVisitNode(nodeEvent)) {
+      return null;
     }
-    else {
-      return Collections.emptyList();
+    push(model, context);
+    final Frame frame = onNewFrame(model, context);
+    frame.nodeEvent = nodeEvent;
+    return frame;
+  }
+
+  /**
+   * Creates the node event for this generator's node, unless there are no
+   * listeners to receive it.
+   * @param model the associated model
+   * @param context view context
+   * @return node event or {@code null} if there are no node listeners
+   */
+  private ViewNodeEvent newNodeEvent(Object model,
+      ScopedViewContext context) {
+    if (!context.getListeners().hasNodeListeners()) return null;
+    return new ViewNodeEvent(ViewMode.GENERATE, node, model, context);
+  }
+
+  private void nodeVisited(ViewNodeEvent nodeEvent, Object model,
+      ScopedViewContext context) {
+    if (nodeEvent == null) {
+      // a listener may have been added while the node was generated
+      nodeEvent = newNodeEvent(model, context);
+      if (nodeEvent == null) return;
     }
+    context.getListeners().nodeVisited(nodeEvent);
   }
 
   void push(Object model, ScopedViewContext context) {
@@ -67,7 +83,41 @@ abstract class AbstractViewEventGenerator<N extends ViewNode>
     context.pop();
   }
 
-  abstract List<View.Event> onGenerate(Object model, ScopedViewContext context)
+  /**
+   * Creates a frame that incrementally produces the events for this
+   * generator's node.
+   * @param model the associated model
+   * @param context view context
+   * @return frame
+   * @throws Exception
+   */
+  abstract Frame onNewFrame(Object model, ScopedViewContext context)
       throws Exception;
 
+  /**
+   * An abstract base for the frames produced by a generator.
+   * <p>
+   * When the frame is closed, node listeners are notified and the scope
+   * pushed for the node is popped.
+   */
+  abstract class Frame implements GeneratorFrame {
+
+    final Object model;
+    final ScopedViewContext context;
+
+    private ViewNodeEvent nodeEvent;
+
+    Frame(Object model, ScopedViewContext context) {
+      this.model = model;
+      this.context = context;
+    }
+
+    @Override
+    public void close() throws Exception {
+      nodeVisited(nodeEvent, model, context);
+      pop(context);
+    }
+
+  }
+
 }
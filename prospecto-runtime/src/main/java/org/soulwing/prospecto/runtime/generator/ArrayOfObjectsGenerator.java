@@ -18,9 +18,8 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 import org.soulwing.prospecto.api.AccessMode;
@@ -32,7 +31,7 @@ import org.soulwing.prospecto.api.template.ArrayOfObjectsNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.discriminator.ConcreteDiscriminatorEventService;
 import org.soulwing.prospecto.runtime.discriminator.DiscriminatorEventService;
-import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+import org.soulwing.prospecto.runtime.event.ViewEventBuffer;
 
 /**
  * A generator for the events associated with an array-of-objects node.
@@ -44,6 +43,7 @@ class ArrayOfObjectsGenerator
 
   private final List<ViewEventGenerator> children;
   private final DiscriminatorEventService discriminatorEventService;
+  private final ParallelElementGenerator parallelGenerator;
 
   ArrayOfObjectsGenerator(ArrayOfObjectsNode node,
       List<ViewEventGenerator> children) {
@@ -56,63 +56,143 @@ class ArrayOfObjectsGenerator
     super(node);
     this.children = children;
     this.discriminatorEventService = discriminatorEventService;
+    this.parallelGenerator = new ParallelElementGenerator(node, children,
+        discriminatorEventService);
   }
 
   @Override
-  List<View.Event> onGenerate(Object model, ScopedViewContext context)
-      throws Exception {
-    if (!node.getAllowedModes().contains(AccessMode.READ)) {
-      return Collections.emptyList();
-    }
+  Frame onNewFrame(Object model, ScopedViewContext context) {
+    return new ArrayFrame(model, context);
+  }
 
-    final Iterator<?> i = node.iterator(model);
-    if (i == null) {
-      return Collections.singletonList((View.Event)
-          new ConcreteViewEvent(View.Event.Type.VALUE, node.getName(),
-              node.getNamespace(), null));
-    }
+  private enum State {
+    BEGIN, ELEMENT, DISCRIMINATOR, CHILDREN, BUFFERED
+  }
 
-    final List<View.Event> viewEvents = new LinkedList<>();
-    viewEvents.add(new ConcreteViewEvent(View.Event.Type.BEGIN_ARRAY,
-        node.getName(), node.getNamespace()));
+  private class ArrayFrame extends Frame {
 
-    int index = 0;
-    while (i.hasNext()) {
+    private State state = State.BEGIN;
+    private Iterator<?> elements;
+    private Object element;
+    private Iterator<ViewEventGenerator> children;
+    private int index;
+    private ViewEventBuffer[] buffers;
+    private ViewEventBuffer.Cursor cursor;
 
-      final Object elementModel = i.next();
+    ArrayFrame(Object model, ScopedViewContext context) {
+      super(model, context);
+    }
 
-      context.push(index++);
-      context.put(elementModel);
+    @Override
+    public boolean advance(GeneratorFrameStack stack) throws Exception {
+      switch (state) {
+        case BEGIN:
+          if (!node.getAllowedModes().contains(AccessMode.READ)) return false;
+          elements = node.iterator(model);
+          if (elements == null) {
+            stack.emit(View.Event.Type.VALUE, node.getName(),
+                node.getNamespace(), null);
+            return false;
+          }
+          stack.emit(View.Event.Type.BEGIN_ARRAY, node.getName(),
+              node.getNamespace(), null);
+          state = parallelIfNeeded() ? State.BUFFERED : State.ELEMENT;
+          return true;
+        case ELEMENT:
+          return nextElement(stack);
+        case BUFFERED:
+          return nextBufferedEvent(stack);
+        case DISCRIMINATOR:
+          stack.emit(discriminatorEventService.newDiscriminatorEvent(node,
+              element.getClass(), context));
+          state = State.CHILDREN;
+          return true;
+        default:
+          if (children.hasNext()) {
+            stack.push(children.next(), element, context);
+            return true;
+          }
+          stack.emit(View.Event.Type.END_OBJECT, node.getElementName(),
+              node.getNamespace(), null);
+          context.pop();
+          element = null;
+          state = State.ELEMENT;
+          return true;
+      }
+    }
 
-      final ViewNodePropertyEvent elementEvent = new ViewNodePropertyEvent(
-          ViewMode.GENERATE, node, model, elementModel, context);
+    private boolean parallelIfNeeded() throws Exception {
+      final int threshold = parallelGenerator.getThreshold(context);
+      if (threshold == 0) return false;
 
-      final Object transformedModel =
-          context.getListeners().didExtractValue(elementEvent);
+      // read only as many elements as are needed to reach the threshold;
+      // the rest are read only when the elements will be generated in
+      // parallel, which needs them all up front
+      final List<Object> elementModels = new ArrayList<>();
+      while (elementModels.size() < threshold && elements.hasNext()) {
+        elementModels.add(elements.next());
+      }
 
-      if (transformedModel != UndefinedValue.INSTANCE) {
-        viewEvents.add(new ConcreteViewEvent(View.Event.Type.BEGIN_OBJECT,
-            node.getElementName(), node.getNamespace()));
+      if (elementModels.size() < threshold) {
+        elements = elementModels.iterator();
+        return false;
+      }
 
-        if (discriminatorEventService.isDiscriminatorNeeded(node)) {
-          viewEvents.add(discriminatorEventService.newDiscriminatorEvent(node,
-              transformedModel.getClass(), context));
+      while (elements.hasNext()) {
+        elementModels.add(elements.next());
+      }
+
+      buffers = parallelGenerator.generate(model, elementModels, context);
+      index = 0;
+      return true;
+    }
+
+    private boolean nextBufferedEvent(GeneratorFrameStack stack)
+        throws Exception {
+      while (cursor == null || !cursor.next()) {
+        if (index == buffers.length) {
+          stack.emit(View.Event.Type.END_ARRAY, node.getName(),
+              node.getNamespace(), null);
+          return false;
         }
+        final ViewEventBuffer buffer = buffers[index];
+        buffers[index++] = null;
+        cursor = buffer != null ? buffer.cursor() : null;
+      }
+      stack.emit(cursor.getType(), cursor.getName(), cursor.getNamespace(),
+          cursor.getValue());
+      return true;
+    }
 
-        for (final ViewEventGenerator child : children) {
-          viewEvents.addAll(child.generate(transformedModel, context));
+    private boolean nextElement(GeneratorFrameStack stack) throws Exception {
+      while (elements.hasNext()) {
+        final Object elementModel = elements.next();
+
+        context.push(index++);
+        context.put(elementModel);
+
+        element = context.getListeners().hasPropertyInterceptors() ?
+            context.getListeners().didExtractValue(new ViewNodePropertyEvent(
+                ViewMode.GENERATE, node, model, elementModel, context)) :
+            elementModel;
+
+        if (element != UndefinedValue.INSTANCE) {
+          stack.emit(View.Event.Type.BEGIN_OBJECT, node.getElementName(),
+              node.getNamespace(), null);
+          children = ArrayOfObjectsGenerator.this.children.iterator();
+          state = discriminatorEventService.isDiscriminatorNeeded(node) ?
+              State.DISCRIMINATOR : State.CHILDREN;
+          return true;
         }
 
-        viewEvents.add(new ConcreteViewEvent(View.Event.Type.END_OBJECT,
-            node.getElementName(), node.getNamespace()));
+        context.pop();
       }
 
-      context.pop();
+      stack.emit(View.Event.Type.END_ARRAY, node.getName(),
+          node.getNamespace(), null);
+      return false;
     }
 
-    viewEvents.add(new ConcreteViewEvent(View.Event.Type.END_ARRAY,
-        node.getName(), node.getNamespace()));
-
-    return viewEvents;
   }
+
 }
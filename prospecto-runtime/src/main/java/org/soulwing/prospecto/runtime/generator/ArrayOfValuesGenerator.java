@@ -18,17 +18,13 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.UndefinedValue;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.ArrayOfValuesNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
-import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 import org.soulwing.prospecto.runtime.listener.ConcreteTransformationService;
 import org.soulwing.prospecto.runtime.listener.TransformationService;
 
@@ -53,37 +49,42 @@ class ArrayOfValuesGenerator
   }
 
   @Override
-  List<View.Event> onGenerate(Object owner, ScopedViewContext context)
-      throws Exception {
+  Frame onNewFrame(Object owner, ScopedViewContext context) {
+    return new Frame(owner, context) {
 
-    if (!node.getAllowedModes().contains(AccessMode.READ)) {
-      return Collections.emptyList();
-    }
+      private Iterator<?> values;
+      private int index;
 
-    final Iterator<?> i = node.iterator(owner);
-    final List<View.Event> events = new LinkedList<>();
+      @Override
+      public boolean advance(GeneratorFrameStack stack) throws Exception {
+        if (values == null) {
+          if (!node.getAllowedModes().contains(AccessMode.READ)) return false;
+          values = node.iterator(model);
+          stack.emit(View.Event.Type.BEGIN_ARRAY, node.getName(),
+              node.getNamespace(), null);
+          return true;
+        }
 
-    events.add(new ConcreteViewEvent(View.Event.Type.BEGIN_ARRAY,
-        node.getName(), node.getNamespace()));
+        while (values.hasNext()) {
+          context.push(index++);
+          final Object value = values.next();
+          final Object transformedValue =
+              transformationService.valueToExtract(model, value, node, context);
+          context.pop();
 
-    int index = 0;
-    while (i.hasNext()) {
-      context.push(index++);
-      final Object value = i.next();
-      final Object transformedValue = transformationService.valueToExtract(
-          owner, value, node, context);
-      context.pop();
+          if (transformedValue != UndefinedValue.INSTANCE) {
+            stack.emit(View.Event.Type.VALUE, node.getElementName(),
+                node.getNamespace(), transformedValue);
+            return true;
+          }
+        }
 
-      if (transformedValue != UndefinedValue.INSTANCE) {
-        events.add(new ConcreteViewEvent(View.Event.Type.VALUE,
-            node.getElementName(), node.getNamespace(), transformedValue));
+        stack.emit(View.Event.Type.END_ARRAY, node.getName(),
+            node.getNamespace(), null);
+        return false;
       }
 
-    }
-
-    events.add(new ConcreteViewEvent(View.Event.Type.END_ARRAY,
-        node.getName(), node.getNamespace()));
-
-    return events;
+    };
   }
+
 }
@@ -18,13 +18,12 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.EnvelopeNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
-import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 
 /**
  * A generator for the events associated with an envelope node.
@@ -42,21 +41,29 @@ class EnvelopeGenerator extends AbstractViewEventGenerator<EnvelopeNode> {
   }
 
   @Override
-  List<View.Event> onGenerate(Object model, ScopedViewContext context)
-      throws Exception {
-    final List<View.Event> events = new LinkedList<>();
+  Frame onNewFrame(Object model, ScopedViewContext context) {
+    return new Frame(model, context) {
 
-    events.add(new ConcreteViewEvent(View.Event.Type.BEGIN_OBJECT,
-        node.getName(), node.getNamespace()));
+      private Iterator<ViewEventGenerator> children;
 
-    for (final ViewEventGenerator child : children) {
-      events.addAll(child.generate(model, context));
-    }
+      @Override
+      public boolean advance(GeneratorFrameStack stack) throws Exception {
+        if (children == null) {
+          stack.emit(View.Event.Type.BEGIN_OBJECT, node.getName(),
+              node.getNamespace(), null);
+          children = EnvelopeGenerator.this.children.iterator();
+          return true;
+        }
+        if (children.hasNext()) {
+          stack.push(children.next(), model, context);
+          return true;
+        }
+        stack.emit(View.Event.Type.END_OBJECT, node.getName(),
+            node.getNamespace(), null);
+        return false;
+      }
 
-    events.add(new ConcreteViewEvent(View.Event.Type.END_OBJECT,
-        node.getName(), node.getNamespace()));
-
-    return events;
+    };
   }
 
   @Override
@@ -0,0 +1,47 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+/**
+ * A frame on an explicit {@link GeneratorFrameStack}.
+ * <p>
+ * A frame produces the events for a single view node incrementally. Each
+ * time it is advanced, a frame may emit at most one event and/or push at
+ * most one child frame onto the stack.
+ *
+ * @author Carl Harris
+ */
+public interface GeneratorFrame {
+
+  /**
+   * Advances this frame.
+   * @param stack the stack that holds this frame
+   * @return {@code true} if this frame should be advanced again, or
+   *    {@code false} if it has produced all of its events
+   * @throws Exception
+   */
+  boolean advance(GeneratorFrameStack stack) throws Exception;
+
+  /**
+   * Notifies this frame that it has been removed from the stack.
+   * @throws Exception
+   */
+  void close() throws Exception;
+
+}
@@ -0,0 +1,95 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.runtime.context.ScopedViewContext;
+
+/**
+ * An explicit stack of {@link GeneratorFrame} objects used to generate the
+ * events of a view incrementally.
+ * <p>
+ * Subclasses determine what becomes of the events emitted by the frames
+ * on the stack.
+ *
+ * @author Carl Harris
+ */
+public abstract class GeneratorFrameStack {
+
+  private final Deque<GeneratorFrame> stack = new ArrayDeque<>();
+
+  /**
+   * Pushes a frame for the given generator onto the stack.
+   * <p>
+   * If the node associated with the generator is not to be visited, the
+   * stack is unchanged.
+   * @param generator the generator whose frame is to be pushed
+   * @param model model for the generator
+   * @param context view context
+   * @throws Exception
+   */
+  public void push(ViewEventGenerator generator, Object model,
+      ScopedViewContext context) throws Exception {
+    final GeneratorFrame frame = generator.newFrame(model, context);
+    if (frame != null) {
+      stack.push(frame);
+    }
+  }
+
+  /**
+   * Emits an event produced by a frame on this stack.
+   * @param event the event to emit
+   * @throws Exception
+   */
+  public abstract void emit(View.Event event) throws Exception;
+
+  /**
+   * Emits an event produced by a frame on this stack.
+   * <p>
+   * Using this method allows an implementation to avoid creating an event
+   * object when it isn't needed.
+   * @param type event type
+   * @param name event name
+   * @param namespace event namespace
+   * @param value event value
+   * @throws Exception
+   */
+  public abstract void emit(View.Event.Type type, String name,
+      String namespace, Object value) throws Exception;
+
+  /**
+   * Advances the frame at the top of the stack, removing it if it has
+   * produced all of its events.
+   * @return {@code true} if the stack is not yet empty
+   * @throws Exception
+   */
+  protected final boolean advance() throws Exception {
+    final GeneratorFrame frame = stack.peek();
+    if (frame == null) return false;
+    if (!frame.advance(this)) {
+      stack.pop();
+      frame.close();
+    }
+    return !stack.isEmpty();
+  }
+
+}
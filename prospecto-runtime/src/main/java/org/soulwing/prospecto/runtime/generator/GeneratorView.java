@@ -0,0 +1,141 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewException;
+import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
+import org.soulwing.prospecto.runtime.context.ScopedViewContext;
+import org.soulwing.prospecto.runtime.event.ViewEventSink;
+import org.soulwing.prospecto.runtime.event.ViewEventSource;
+import org.soulwing.prospecto.runtime.view.StreamingView;
+
+/**
+ * A single-use {@link View} whose events are generated as they are
+ * consumed.
+ * <p>
+ * A consumer that implements {@link ViewEventSink} can have the events
+ * pushed to it using {@link #emitTo(ViewEventSink)}, avoiding the creation
+ * of an event object for each node in the view. Other consumers can
+ * iterate over the events in the usual way. In either case, the events
+ * can be consumed only once. Sealing the envelope consumes the events of
+ * this view; they are then available only through the sealed view.
+ *
+ * @author Carl Harris
+ */
+public class GeneratorView implements View, ViewEventSource {
+
+  private final Envelope envelope = new GeneratorEnvelope();
+
+  private final ViewEventGenerator generator;
+  private final Object model;
+  private final ScopedViewContext context;
+  private final ViewTraversalEvent traversalEvent;
+
+  private boolean consumed;
+
+  /**
+   * Constructs a new instance.
+   * @param generator root generator
+   * @param model root model
+   * @param context view context
+   * @param traversalEvent event to deliver to post-traversal listeners
+   *    when all events have been consumed
+   */
+  public GeneratorView(ViewEventGenerator generator, Object model,
+      ScopedViewContext context, ViewTraversalEvent traversalEvent) {
+    this.generator = generator;
+    this.model = model;
+    this.context = context;
+    this.traversalEvent = traversalEvent;
+  }
+
+  @Override
+  public Envelope getEnvelope() {
+    return envelope();
+  }
+
+  @Override
+  public Envelope envelope() {
+    return envelope;
+  }
+
+  @Override
+  public Iterator<Event> iterator() {
+    consume();
+    try {
+      return new ViewEventStream(generator, model, context, traversalEvent);
+    }
+    catch (ViewException ex) {
+      throw ex;
+    }
+    catch (Exception ex) {
+      throw new ViewException(ex);
+    }
+  }
+
+  @Override
+  public void emitTo(ViewEventSink sink) throws Exception {
+    consume();
+    new ViewEventPump(generator, model, context, traversalEvent, sink).run();
+  }
+
+  private void consume() {
+    if (consumed) {
+      throw new IllegalStateException("view events can be consumed only once");
+    }
+    consumed = true;
+  }
+
+  class GeneratorEnvelope implements Envelope {
+    private final Map<String, Object> properties = new LinkedHashMap<>();
+
+    @Override
+    public Envelope putProperty(String name, Object value) {
+      properties.put(name, value);
+      return this;
+    }
+
+    @Override
+    public View seal(String name) {
+      return seal(name, null);
+    }
+
+    @Override
+    public View seal(String name, String namespace) {
+      final View view = new StreamingView(GeneratorView.this.iterator());
+      final Envelope envelope = view.envelope();
+      for (final Map.Entry<String, Object> property : properties.entrySet()) {
+        envelope.putProperty(property.getKey(), property.getValue());
+      }
+      return envelope.seal(name, namespace);
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, Object>> iterator() {
+      return properties.entrySet().iterator();
+    }
+
+  }
+
+}
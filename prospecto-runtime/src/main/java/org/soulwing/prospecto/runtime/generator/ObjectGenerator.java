@@ -18,8 +18,7 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 
 import org.soulwing.prospecto.api.AccessMode;
@@ -29,7 +28,6 @@ import org.soulwing.prospecto.api.template.ObjectNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.discriminator.ConcreteDiscriminatorEventService;
 import org.soulwing.prospecto.runtime.discriminator.DiscriminatorEventService;
-import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 
 /**
  * A generator for the events associated with an object node.
@@ -54,32 +52,58 @@ class ObjectGenerator extends AbstractViewEventGenerator<ObjectNode> {
   }
 
   @Override
-  List<View.Event> onGenerate(Object owner, ScopedViewContext context)
-      throws Exception {
-    final List<View.Event> viewEvents = new LinkedList<>();
-    final Object model = node.getAllowedModes().contains(AccessMode.READ) ?
-        node.getObject(owner) : UndefinedValue.INSTANCE;
+  Frame onNewFrame(Object owner, ScopedViewContext context) {
+    return new ObjectFrame(owner, context);
+  }
 
-    if (model == UndefinedValue.INSTANCE) return Collections.emptyList();
+  private enum State {
+    BEGIN, DISCRIMINATOR, CHILDREN
+  }
 
-    if (model != null) {
-      viewEvents.add(new ConcreteViewEvent(View.Event.Type.BEGIN_OBJECT,
-          node.getName(), node.getNamespace()));
-      if (discriminatorEventService.isDiscriminatorNeeded(node)) {
-        viewEvents.add(discriminatorEventService.newDiscriminatorEvent(node,
-            model.getClass(), context));
-      }
-      for (final ViewEventGenerator child : children) {
-        viewEvents.addAll(child.generate(model, context));
-      }
-      viewEvents.add(new ConcreteViewEvent(View.Event.Type.END_OBJECT,
-          node.getName(), node.getNamespace()));
+  private class ObjectFrame extends Frame {
+
+    private State state = State.BEGIN;
+    private Object object;
+    private Iterator<ViewEventGenerator> children;
+
+    ObjectFrame(Object owner, ScopedViewContext context) {
+      super(owner, context);
     }
-    else {
-      viewEvents.add(new ConcreteViewEvent(View.Event.Type.VALUE,
-          node.getName(), node.getNamespace(), null));
+
+    @Override
+    public boolean advance(GeneratorFrameStack stack) throws Exception {
+      switch (state) {
+        case BEGIN:
+          object = node.getAllowedModes().contains(AccessMode.READ) ?
+              node.getObject(model) : UndefinedValue.INSTANCE;
+          if (object == UndefinedValue.INSTANCE) return false;
+          if (object == null) {
+            stack.emit(View.Event.Type.VALUE, node.getName(),
+                node.getNamespace(), null);
+            return false;
+          }
+          stack.emit(View.Event.Type.BEGIN_OBJECT, node.getName(),
+              node.getNamespace(), null);
+          children = ObjectGenerator.this.children.iterator();
+          state = discriminatorEventService.isDiscriminatorNeeded(node) ?
+              State.DISCRIMINATOR : State.CHILDREN;
+          return true;
+        case DISCRIMINATOR:
+          stack.emit(discriminatorEventService.newDiscriminatorEvent(node,
+              object.getClass(), context));
+          state = State.CHILDREN;
+          return true;
+        default:
+          if (children.hasNext()) {
+            stack.push(children.next(), object, context);
+            return true;
+          }
+          stack.emit(View.Event.Type.END_OBJECT, node.getName(),
+              node.getNamespace(), null);
+          return false;
+      }
     }
-    return viewEvents;
+
   }
 
 }
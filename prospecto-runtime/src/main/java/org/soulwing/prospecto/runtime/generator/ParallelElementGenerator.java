@@ -0,0 +1,261 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.soulwing.prospecto.api.UndefinedValue;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.listener.ViewMode;
+import org.soulwing.prospecto.api.listener.ViewNodePropertyEvent;
+import org.soulwing.prospecto.api.template.ArrayOfObjectsNode;
+import org.soulwing.prospecto.runtime.context.ScopedViewContext;
+import org.soulwing.prospecto.runtime.discriminator.DiscriminatorEventService;
+import org.soulwing.prospecto.runtime.event.ViewEventBuffer;
+import org.soulwing.prospecto.runtime.template.ConcreteArrayOfObjectsNode;
+
+/**
+ * A generator for the elements of an array-of-objects node that generates
+ * element subtrees in parallel using fork/join tasks.
+ * <p>
+ * The elements are divided into contiguous ranges, each of which is
+ * generated by a task using its own fork of the view context. The events
+ * for each element are collected in a separate buffer, so that the caller
+ * can deliver them in the order of the elements.
+ * <p>
+ * Creating a fork updates state that the fork shares with its parent, so
+ * all of the forks are created on the calling thread before any task runs.
+ *
+ * @author Carl Harris
+ */
+public class ParallelElementGenerator {
+
+  private static final int TASKS_PER_THREAD = 4;
+
+  private final ArrayOfObjectsNode node;
+  private final List<ViewEventGenerator> children;
+  private final DiscriminatorEventService discriminatorEventService;
+
+  ParallelElementGenerator(ArrayOfObjectsNode node,
+      List<ViewEventGenerator> children,
+      DiscriminatorEventService discriminatorEventService) {
+    this.node = node;
+    this.children = children;
+    this.discriminatorEventService = discriminatorEventService;
+  }
+
+  /**
+   * Gets the minimum number of elements for which parallel generation will
+   * be used.
+   * @param context view context
+   * @return threshold, or zero if parallel generation is not enabled for the
+   *    subject node
+   */
+  int getThreshold(ScopedViewContext context) {
+    final int threshold = node instanceof ConcreteArrayOfObjectsNode ?
+        ((ConcreteArrayOfObjectsNode) node).getParallelThreshold() : 0;
+    if (threshold > 0) return threshold;
+    return context.getOptionsSnapshot().getParallelArrayThreshold();
+  }
+
+  /**
+   * Generates the events for the given elements.
+   * @param model model that owns the elements
+   * @param elements the elements to generate
+   * @param context view context
+   * @return array containing a buffer of events for each element, in the
+   *    same order as {@code elements}; an element for which a listener
+   *    returned {@link UndefinedValue#INSTANCE} is represented by
+   *    {@code null}
+   * @throws Exception
+   */
+  ViewEventBuffer[] generate(Object model, List<?> elements,
+      ScopedViewContext context) throws Exception {
+    ForkJoinPool pool = context.getOptional(ForkJoinPool.class);
+    if (pool == null) {
+      pool = SharedPool.INSTANCE;
+    }
+
+    final ViewEventBuffer[] buffers = new ViewEventBuffer[elements.size()];
+    final int grain = Math.max(1,
+        elements.size() / (pool.getParallelism() * TASKS_PER_THREAD));
+    final ScopedViewContext[] forks =
+        new ScopedViewContext[(elements.size() + grain - 1) / grain];
+    for (int i = 0; i < forks.length; i++) {
+      forks[i] = context.fork();
+    }
+    final ElementsTask task = new ElementsTask(model, elements, buffers,
+        forks, 0, forks.length, grain);
+
+    try {
+      if (ForkJoinTask.inForkJoinPool()) {
+        // nested parallel array: run in the pool of the enclosing task
+        task.invoke();
+      }
+      else {
+        pool.invoke(task);
+      }
+    }
+    catch (ElementException ex) {
+      Throwable cause = ex;
+      while (cause instanceof ElementException) {
+        cause = cause.getCause();
+      }
+      if (cause instanceof Error) throw (Error) cause;
+      throw (Exception) cause;
+    }
+
+    return buffers;
+  }
+
+  private ViewEventBuffer generateElement(Object model, Object elementModel,
+      int index, ScopedViewContext context) throws Exception {
+    context.push(index);
+    context.put(elementModel);
+
+    final Object element = context.getListeners().hasPropertyInterceptors() ?
+        context.getListeners().didExtractValue(new ViewNodePropertyEvent(
+            ViewMode.GENERATE, node, model, elementModel, context)) :
+        elementModel;
+
+    ViewEventBuffer buffer = null;
+    if (element != UndefinedValue.INSTANCE) {
+      buffer = new ViewEventBuffer();
+      buffer.add(View.Event.Type.BEGIN_OBJECT, node.getElementName(),
+          node.getNamespace(), null);
+
+      if (discriminatorEventService.isDiscriminatorNeeded(node)) {
+        buffer.onEvent(discriminatorEventService.newDiscriminatorEvent(node,
+            element.getClass(), context));
+      }
+
+      final BufferingFrameStack stack = new BufferingFrameStack(buffer);
+      for (final ViewEventGenerator child : children) {
+        stack.push(child, element, context);
+        stack.drain();
+      }
+
+      buffer.add(View.Event.Type.END_OBJECT, node.getElementName(),
+          node.getNamespace(), null);
+    }
+
+    context.pop();
+    return buffer;
+  }
+
+  /**
+   * A task that generates the elements in a range of chunks, where each
+   * chunk is a contiguous range of elements generated using its own fork of
+   * the view context.
+   */
+  private class ElementsTask extends RecursiveAction {
+
+    private final Object model;
+    private final List<?> elements;
+    private final ViewEventBuffer[] buffers;
+    private final ScopedViewContext[] forks;
+    private final int from;
+    private final int to;
+    private final int grain;
+
+    ElementsTask(Object model, List<?> elements, ViewEventBuffer[] buffers,
+        ScopedViewContext[] forks, int from, int to, int grain) {
+      this.model = model;
+      this.elements = elements;
+      this.buffers = buffers;
+      this.forks = forks;
+      this.from = from;
+      this.to = to;
+      this.grain = grain;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > 1) {
+        final int mid = (from + to) >>> 1;
+        invokeAll(
+            new ElementsTask(model, elements, buffers, forks, from, mid, grain),
+            new ElementsTask(model, elements, buffers, forks, mid, to, grain));
+        return;
+      }
+
+      final int first = from * grain;
+      final int last = Math.min(first + grain, elements.size());
+      try {
+        for (int i = first; i < last; i++) {
+          buffers[i] = generateElement(model, elements.get(i), i, forks[from]);
+        }
+      }
+      catch (RuntimeException | Error ex) {
+        throw ex;
+      }
+      catch (Exception ex) {
+        throw new ElementException(ex);
+      }
+    }
+
+  }
+
+  private static class BufferingFrameStack extends GeneratorFrameStack {
+
+    private final ViewEventBuffer buffer;
+
+    BufferingFrameStack(ViewEventBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    void drain() throws Exception {
+      while (advance()) {
+        continue;
+      }
+    }
+
+    @Override
+    public void emit(View.Event event) {
+      buffer.onEvent(event);
+    }
+
+    @Override
+    public void emit(View.Event.Type type, String name, String namespace,
+        Object value) {
+      buffer.add(type, name, namespace, value);
+    }
+
+  }
+
+  /**
+   * Wraps a checked exception thrown while generating an element, so that it
+   * can be propagated through a fork/join task.
+   */
+  private static class ElementException extends RuntimeException {
+
+    ElementException(Throwable cause) {
+      super(cause);
+    }
+
+  }
+
+  private static class SharedPool {
+    static final ForkJoinPool INSTANCE = new ForkJoinPool();
+  }
+
+}
@@ -18,15 +18,12 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
 import java.util.Iterator;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.SpliceNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
-import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+import org.soulwing.prospecto.runtime.view.RenamingEventIterator;
 
 /**
  * A generator for the events associated with a splice node.
@@ -40,34 +37,25 @@ class SpliceGenerator extends AbstractViewEventGenerator<SpliceNode> {
   }
 
   @Override
-  List<View.Event> onGenerate(Object parentModel, ScopedViewContext context)
-      throws Exception {
-
-    final View view = node.getHandler().generate(node, context);
-
-    if (view == null) return Collections.emptyList();
-
-    final List<View.Event> events = new LinkedList<>();
-
-    final Iterator<View.Event> i = view.iterator();
-    View.Event event = i.next();
-    if (event != null) {
-      events.add(renameEvent(event));
-      while (i.hasNext()) {
-        event = i.next();
-        if (i.hasNext()) {
-          events.add(event);
+  Frame onNewFrame(Object parentModel, ScopedViewContext context) {
+    return new Frame(parentModel, context) {
+
+      private Iterator<View.Event> events;
+
+      @Override
+      public boolean advance(GeneratorFrameStack stack) throws Exception {
+        if (events == null) {
+          final View view = node.getHandler().generate(node, context);
+          if (view == null) return false;
+          events = new RenamingEventIterator(view.iterator(),
+              node.getName(), node.getNamespace());
         }
+        if (!events.hasNext()) return false;
+        stack.emit(events.next());
+        return true;
       }
-      events.add(renameEvent(event));
-    }
-
-    return events;
-  }
 
-  private ConcreteViewEvent renameEvent(View.Event event) {
-    return new ConcreteViewEvent(event.getType(), node.getName(),
-        node.getNamespace());
+    };
   }
 
 }
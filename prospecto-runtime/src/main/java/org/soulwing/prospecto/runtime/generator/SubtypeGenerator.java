@@ -18,10 +18,9 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 
-import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.SubtypeNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 
@@ -39,15 +38,23 @@ class SubtypeGenerator extends AbstractViewEventGenerator<SubtypeNode> {
   }
 
   @Override
-  List<View.Event> onGenerate(Object model, ScopedViewContext context)
-      throws Exception {
-    final List<View.Event> viewEvents = new LinkedList<>();
-    if (node.getModelType().isInstance(model)) {
-      for (final ViewEventGenerator child : children) {
-        viewEvents.addAll(child.generate(model, context));
+  Frame onNewFrame(Object model, ScopedViewContext context) {
+    return new Frame(model, context) {
+
+      private Iterator<ViewEventGenerator> children;
+
+      @Override
+      public boolean advance(GeneratorFrameStack stack) throws Exception {
+        if (children == null) {
+          if (!node.getModelType().isInstance(model)) return false;
+          children = SubtypeGenerator.this.children.iterator();
+        }
+        if (!children.hasNext()) return false;
+        stack.push(children.next(), model, context);
+        return true;
       }
-    }
-    return viewEvents;
+
+    };
   }
 
   @Override
@@ -18,16 +18,12 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.Collections;
-import java.util.List;
-
 import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.UndefinedValue;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.UpdatableValueNode;
 import org.soulwing.prospecto.api.template.ValueNode;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
-import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 import org.soulwing.prospecto.runtime.listener.ConcreteTransformationService;
 import org.soulwing.prospecto.runtime.listener.TransformationService;
 
@@ -50,23 +46,28 @@ class ValueGenerator extends AbstractViewEventGenerator<ValueNode> {
   }
 
   @Override
-  List<View.Event> onGenerate(Object owner, ScopedViewContext context)
-      throws Exception {
+  Frame onNewFrame(Object owner, ScopedViewContext context) {
+    return new Frame(owner, context) {
+      @Override
+      public boolean advance(GeneratorFrameStack stack) throws Exception {
+        final Object transformedValue = extractValue(model, context);
+        if (transformedValue != UndefinedValue.INSTANCE) {
+          stack.emit(View.Event.Type.VALUE, node.getName(),
+              node.getNamespace(), transformedValue);
+        }
+        return false;
+      }
+    };
+  }
 
+  private Object extractValue(Object owner, ScopedViewContext context)
+      throws Exception {
     final Object model = !(node instanceof UpdatableValueNode)
         || ((UpdatableValueNode) node).getAllowedModes().contains(AccessMode.READ) ?
         node.getValue(owner) : UndefinedValue.INSTANCE;
 
-    final Object transformedValue = model != UndefinedValue.INSTANCE ?
+    return model != UndefinedValue.INSTANCE ?
         transformationService.valueToExtract(owner, model, node, context) : model;
-
-    if (transformedValue == UndefinedValue.INSTANCE) {
-      return Collections.emptyList();
-    }
-
-    return Collections.singletonList((View.Event)
-        new ConcreteViewEvent(View.Event.Type.VALUE, node.getName(),
-            node.getNamespace(), transformedValue));
   }
 
 }
@@ -18,9 +18,6 @@
  */
 package org.soulwing.prospecto.runtime.generator;
 
-import java.util.List;
-
-import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 
 /**
@@ -31,13 +28,14 @@ import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 public interface ViewEventGenerator {
 
   /**
-   * Generate events.
+   * Creates a frame that generates events incrementally.
    * @param model the associated model
    * @param context view context
-   * @return list of events
+   * @return frame or {@code null} if the associated node is not to be
+   *    visited
    * @throws Exception
    */
-  List<View.Event> generate(Object model, ScopedViewContext context)
+  GeneratorFrame newFrame(Object model, ScopedViewContext context)
       throws Exception;
 
 }
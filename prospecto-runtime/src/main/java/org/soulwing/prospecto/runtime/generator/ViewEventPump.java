@@ -0,0 +1,89 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
+import org.soulwing.prospecto.runtime.context.ScopedViewContext;
+import org.soulwing.prospecto.runtime.event.FlyweightViewEvent;
+import org.soulwing.prospecto.runtime.event.ViewEventSink;
+
+/**
+ * A generator frame stack that pushes each generated event directly to a
+ * {@link ViewEventSink}.
+ * <p>
+ * Events are delivered to the sink using a single flyweight event, so
+ * generating a view using a pump allocates no event objects for the
+ * structure and values of the view.
+ * <p>
+ * A pump is <em>not</em> thread safe.
+ *
+ * @author Carl Harris
+ */
+public class ViewEventPump extends GeneratorFrameStack {
+
+  private final FlyweightViewEvent flyweight = new FlyweightViewEvent();
+
+  private final ScopedViewContext context;
+  private final ViewTraversalEvent traversalEvent;
+  private final ViewEventSink sink;
+
+  /**
+   * Constructs a new instance.
+   * @param generator root generator
+   * @param model root model
+   * @param context view context
+   * @param traversalEvent event to deliver to post-traversal listeners
+   *    when all events have been delivered
+   * @param sink recipient of the generated events
+   * @throws Exception
+   */
+  public ViewEventPump(ViewEventGenerator generator, Object model,
+      ScopedViewContext context, ViewTraversalEvent traversalEvent,
+      ViewEventSink sink) throws Exception {
+    this.context = context;
+    this.traversalEvent = traversalEvent;
+    this.sink = sink;
+    push(generator, model, context);
+  }
+
+  /**
+   * Generates all of the events of the view, delivering each one to the
+   * sink.
+   * @throws Exception
+   */
+  public void run() throws Exception {
+    while (advance()) {
+      continue;
+    }
+    context.getListeners().afterTraversing(traversalEvent);
+  }
+
+  @Override
+  public void emit(View.Event event) throws Exception {
+    sink.onEvent(event);
+  }
+
+  @Override
+  public void emit(View.Event.Type type, String name, String namespace,
+      Object value) throws Exception {
+    sink.onEvent(flyweight.set(type, name, namespace, value));
+  }
+
+}
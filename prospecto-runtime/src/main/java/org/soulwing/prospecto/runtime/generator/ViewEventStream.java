@@ -0,0 +1,129 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewException;
+import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
+import org.soulwing.prospecto.runtime.context.ScopedViewContext;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+
+/**
+ * An iterator that generates view events on demand.
+ * <p>
+ * Rather than generating the complete list of events for a view up front,
+ * a stream walks the model incrementally, using an explicit stack of
+ * {@link GeneratorFrame} objects, producing each event only when it is
+ * requested by the consumer. The memory needed to generate a view is
+ * thus proportional to the depth of the view rather than the number of
+ * events it contains.
+ * <p>
+ * Because the model is evaluated as the stream is consumed, the context in
+ * which the model must be evaluated (e.g. an open transaction) must remain
+ * in place until the stream has been exhausted. Post-traversal listeners
+ * are notified when the last event has been generated.
+ * <p>
+ * A stream is <em>not</em> thread safe.
+ *
+ * @author Carl Harris
+ */
+public class ViewEventStream extends GeneratorFrameStack
+    implements Iterator<View.Event> {
+
+  private final ScopedViewContext context;
+  private final ViewTraversalEvent traversalEvent;
+
+  private View.Event nextEvent;
+  private boolean exhausted;
+
+  /**
+   * Constructs a new instance.
+   * @param generator root generator
+   * @param model root model
+   * @param context view context
+   * @param traversalEvent event to deliver to post-traversal listeners
+   *    when the stream has been exhausted
+   * @throws Exception
+   */
+  public ViewEventStream(ViewEventGenerator generator, Object model,
+      ScopedViewContext context, ViewTraversalEvent traversalEvent)
+      throws Exception {
+    this.context = context;
+    this.traversalEvent = traversalEvent;
+    push(generator, model, context);
+  }
+
+  @Override
+  public void emit(View.Event event) {
+    assert nextEvent == null;
+    nextEvent = event;
+  }
+
+  @Override
+  public void emit(View.Event.Type type, String name, String namespace,
+      Object value) {
+    emit(new ConcreteViewEvent(type, name, namespace, value));
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (nextEvent == null && !exhausted) {
+      fetch();
+    }
+    return nextEvent != null;
+  }
+
+  @Override
+  public View.Event next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final View.Event event = nextEvent;
+    nextEvent = null;
+    return event;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+
+  private void fetch() {
+    try {
+      boolean more = true;
+      while (nextEvent == null && more) {
+        more = advance();
+      }
+      if (!more) {
+        exhausted = true;
+        context.getListeners().afterTraversing(traversalEvent);
+      }
+    }
+    catch (ViewException ex) {
+      throw ex;
+    }
+    catch (Exception ex) {
+      throw new ViewException(ex);
+    }
+  }
+
+}
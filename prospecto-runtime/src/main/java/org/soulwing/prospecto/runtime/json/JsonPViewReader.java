@@ -30,8 +30,6 @@ import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewReader;
 import org.soulwing.prospecto.api.json.JsonPSource;
 import org.soulwing.prospecto.api.options.Options;
-import org.soulwing.prospecto.api.options.ViewDefaults;
-import org.soulwing.prospecto.api.options.ViewKeys;
 import org.soulwing.prospecto.runtime.text.AbstractViewReader;
 
 /**
@@ -44,6 +42,8 @@ public class JsonPViewReader extends AbstractViewReader {
 
   private final JsonPSource source;
 
+  private String discriminatorName;
+
   public JsonPViewReader(Source source, Options options) {
     super(options);
     if (!(source instanceof JsonPSource)) {
@@ -55,6 +55,8 @@ public class JsonPViewReader extends AbstractViewReader {
 
   @Override
   protected void onReadView() throws Exception {
+    discriminatorName = ViewOptionsRegistry.getSnapshot()
+        .getDiscriminatorName();
     final JsonStructure structure = source.toJson();
     if (structure instanceof JsonArray) {
       readArray(null, (JsonArray) structure);
@@ -148,10 +150,7 @@ public class JsonPViewReader extends AbstractViewReader {
   }
 
   private boolean isDiscriminator(String name) {
-    return name != null && name.equals(
-        ViewOptionsRegistry.getOptions().get(
-            ViewKeys.DISCRIMINATOR_NAME, ViewDefaults.DISCRIMINATOR_NODE_NAME)
-            .toString());
+    return name != null && name.equals(discriminatorName);
   }
 
 }
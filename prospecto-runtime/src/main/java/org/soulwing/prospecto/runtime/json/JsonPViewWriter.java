@@ -35,7 +35,6 @@ import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewException;
 import org.soulwing.prospecto.api.json.JsonPTarget;
 import org.soulwing.prospecto.api.options.Options;
-import org.soulwing.prospecto.api.options.WriterKeys;
 import org.soulwing.prospecto.runtime.text.AbstractViewWriter;
 
 /**
@@ -212,9 +211,9 @@ public class JsonPViewWriter extends AbstractViewWriter {
   private boolean isEnveloped(View.Event event) {
     return event.getName() != null
         && ((event.getType() == View.Event.Type.BEGIN_ARRAY
-            && (boolean) getOptions().get(WriterKeys.WRAP_ARRAY_IN_ENVELOPE, true)
+            && getOptionsSnapshot().isWrapArrayInEnvelope()
             || (event.getType() == View.Event.Type.BEGIN_OBJECT
-                && (boolean) getOptions().get(WriterKeys.WRAP_OBJECT_IN_ENVELOPE, false))));
+                && getOptionsSnapshot().isWrapObjectInEnvelope())));
   }
 
 }
@@ -40,16 +40,20 @@ public class ConcreteTransformationService implements TransformationService {
   public Object valueToExtract(Object owner, Object modelValue,
       ViewNode node, ScopedViewContext context) throws Exception {
 
-    final Object extractedValue = context.getListeners().didExtractValue(
-        new ViewNodePropertyEvent(ViewMode.GENERATE, node,
-            owner, modelValue, context));
+    final NotifiableViewListeners listeners = context.getListeners();
+
+    final Object extractedValue = listeners.hasPropertyInterceptors() ?
+        listeners.didExtractValue(new ViewNodePropertyEvent(
+            ViewMode.GENERATE, node, owner, modelValue, context)) :
+        modelValue;
 
     final Object viewValue = context.getValueTypeConverters().toViewValue(
         extractedValue, node, context);
 
-    context.getListeners().propertyVisited(
-        new ViewNodePropertyEvent(ViewMode.GENERATE, node,
-            modelValue, viewValue, context));
+    if (listeners.hasPropertyListeners()) {
+      listeners.propertyVisited(new ViewNodePropertyEvent(
+          ViewMode.GENERATE, node, modelValue, viewValue, context));
+    }
 
     return viewValue;
   }
@@ -62,13 +66,17 @@ public class ConcreteTransformationService implements TransformationService {
     final Object convertedValue = context.getValueTypeConverters()
         .toModelValue(type, viewValue, node, context);
 
-    final Object valueToInject = context.getListeners().willInjectValue(
-        new ViewNodePropertyEvent(ViewMode.APPLY, node,
-            ownerEntity, convertedValue, context));
+    final NotifiableViewListeners listeners = context.getListeners();
+
+    final Object valueToInject = listeners.hasPropertyInterceptors() ?
+        listeners.willInjectValue(new ViewNodePropertyEvent(
+            ViewMode.APPLY, node, ownerEntity, convertedValue, context)) :
+        convertedValue;
 
-    context.getListeners().propertyVisited(
-        new ViewNodePropertyEvent(ViewMode.APPLY, node,
-            ownerEntity, valueToInject, context));
+    if (listeners.hasPropertyListeners()) {
+      listeners.propertyVisited(new ViewNodePropertyEvent(
+          ViewMode.APPLY, node, ownerEntity, valueToInject, context));
+    }
 
     return valueToInject;
   }
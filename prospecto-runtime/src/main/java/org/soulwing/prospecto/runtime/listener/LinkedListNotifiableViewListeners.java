@@ -18,6 +18,7 @@
  */
 package org.soulwing.prospecto.runtime.listener;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -32,110 +33,121 @@ import org.soulwing.prospecto.api.listener.ViewNodePropertyListener;
 import org.soulwing.prospecto.api.listener.ViewPostTraversalListener;
 import org.soulwing.prospecto.api.listener.ViewPreTraversalListener;
 import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
+import org.soulwing.prospecto.runtime.util.VersionedLinkedList;
 
 /**
  * A {@link NotifiableViewListeners} implementation backed by a
  * {@link LinkedList}.
+ * <p>
+ * Listeners are dispatched using arrays that partition the listeners
+ * by callback interface. The arrays are rebuilt on the first notification
+ * after the list of listeners changes (including changes made through the
+ * list returned by {@link #toList()}), so that each notification visits
+ * only the listeners that implement the corresponding interface.
  *
  * @author Carl Harris
  */
 public class LinkedListNotifiableViewListeners
     implements NotifiableViewListeners {
 
-  private final List<ViewListener> listeners = new LinkedList<>();
+  private final VersionedLinkedList<ViewListener> listeners =
+      new VersionedLinkedList<>();
+
+  private volatile Dispatch dispatch = Dispatch.EMPTY;
+
+  @Override
+  public boolean hasNodeListeners() {
+    final Dispatch dispatch = dispatch();
+    return dispatch.acceptors.length != 0
+        || dispatch.nodeListeners.length != 0;
+  }
+
+  @Override
+  public boolean hasPropertyInterceptors() {
+    return dispatch().interceptors.length != 0;
+  }
+
+  @Override
+  public boolean hasPropertyListeners() {
+    return dispatch().propertyListeners.length != 0;
+  }
 
   @Override
   public boolean shouldVisitNode(ViewNodeEvent event) {
-    boolean visit = true;
-    for (final ViewListener listener : listeners) {
-      if (ViewNodeAcceptor.class
-          .isAssignableFrom(listener.getClass())) {
-        visit = ((ViewNodeAcceptor) listener).shouldVisitNode(event);
-        if (!visit) break;
-      }
+    for (final ViewNodeAcceptor acceptor : dispatch().acceptors) {
+      if (!acceptor.shouldVisitNode(event)) return false;
     }
-    return visit;
+    return true;
   }
 
   @Override
   public void nodeVisited(ViewNodeEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewNodeListener.class
-          .isAssignableFrom(listener.getClass())) {
-        ((ViewNodeListener) listener).nodeVisited(event);
-      }
+    for (final ViewNodeListener listener : dispatch().nodeListeners) {
+      listener.nodeVisited(event);
     }
   }
 
   @Override
   public Object didExtractValue(ViewNodePropertyEvent event) {
-    Object value = event.getValue();
-    for (final ViewListener listener : listeners) {
-      if (ViewNodePropertyInterceptor.class
-          .isAssignableFrom(listener.getClass())) {
-        value = ((ViewNodePropertyInterceptor) listener).didExtractValue(
-            new ViewNodePropertyEvent(event, value));
+    ViewNodePropertyEvent currentEvent = event;
+    for (final ViewNodePropertyInterceptor interceptor :
+        dispatch().interceptors) {
+      final Object value = interceptor.didExtractValue(currentEvent);
+      if (value != currentEvent.getValue()) {
+        currentEvent = new ViewNodePropertyEvent(event, value);
       }
     }
-    return value;
+    return currentEvent.getValue();
   }
 
   @Override
   public Object willInjectValue(ViewNodePropertyEvent event) {
-    Object value = event.getValue();
-    for (final ViewListener listener : listeners) {
-      if (ViewNodePropertyInterceptor.class
-          .isAssignableFrom(listener.getClass())) {
-        value = ((ViewNodePropertyInterceptor) listener).willInjectValue(
-            new ViewNodePropertyEvent(event, value));
+    ViewNodePropertyEvent currentEvent = event;
+    for (final ViewNodePropertyInterceptor interceptor :
+        dispatch().interceptors) {
+      final Object value = interceptor.willInjectValue(currentEvent);
+      if (value != currentEvent.getValue()) {
+        currentEvent = new ViewNodePropertyEvent(event, value);
       }
     }
-    return value;
+    return currentEvent.getValue();
   }
 
   @Override
   public void propertyVisited(ViewNodePropertyEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewNodePropertyListener.class
-          .isAssignableFrom(listener.getClass())) {
-        ((ViewNodePropertyListener) listener).propertyVisited(event);
-      }
+    for (final ViewNodePropertyListener listener :
+        dispatch().propertyListeners) {
+      listener.propertyVisited(event);
     }
   }
 
   @Override
   public void entityCreated(ViewNodePropertyEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewNodeEntityListener.class.isAssignableFrom(listener.getClass())) {
-        ((ViewNodeEntityListener) listener).entityCreated(event);
-      }
+    for (final ViewNodeEntityListener listener : dispatch().entityListeners) {
+      listener.entityCreated(event);
     }
   }
 
   @Override
   public void entityDiscarded(ViewNodePropertyEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewNodeEntityListener.class.isAssignableFrom(listener.getClass())) {
-        ((ViewNodeEntityListener) listener).entityDiscarded(event);
-      }
+    for (final ViewNodeEntityListener listener : dispatch().entityListeners) {
+      listener.entityDiscarded(event);
     }
   }
 
   @Override
   public void beforeTraversing(ViewTraversalEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewPreTraversalListener.class.isAssignableFrom((listener.getClass()))) {
-        ((ViewPreTraversalListener) listener).beforeTraversing(event);
-      }
+    for (final ViewPreTraversalListener listener :
+        dispatch().preTraversalListeners) {
+      listener.beforeTraversing(event);
     }
   }
 
   @Override
   public void afterTraversing(ViewTraversalEvent event) {
-    for (final ViewListener listener : listeners) {
-      if (ViewPostTraversalListener.class.isAssignableFrom((listener.getClass()))) {
-        ((ViewPostTraversalListener) listener).afterTraversing(event);
-      }
+    for (final ViewPostTraversalListener listener :
+        dispatch().postTraversalListeners) {
+      listener.afterTraversing(event);
     }
   }
 
@@ -159,4 +171,63 @@ public class LinkedListNotifiableViewListeners
     return listeners;
   }
 
+  private Dispatch dispatch() {
+    Dispatch dispatch = this.dispatch;
+    final int version = listeners.getVersion();
+    if (dispatch.version != version) {
+      dispatch = new Dispatch(new ArrayList<>(listeners), version);
+      this.dispatch = dispatch;
+    }
+    return dispatch;
+  }
+
+  /**
+   * Arrays of listeners partitioned by callback interface.
+   */
+  private static class Dispatch {
+
+    static final Dispatch EMPTY =
+        new Dispatch(new ArrayList<ViewListener>(), 0);
+
+    final int version;
+
+    final ViewNodeAcceptor[] acceptors;
+    final ViewNodeListener[] nodeListeners;
+    final ViewNodePropertyInterceptor[] interceptors;
+    final ViewNodePropertyListener[] propertyListeners;
+    final ViewNodeEntityListener[] entityListeners;
+    final ViewPreTraversalListener[] preTraversalListeners;
+    final ViewPostTraversalListener[] postTraversalListeners;
+
+    Dispatch(List<ViewListener> listeners, int version) {
+      this.version = version;
+      acceptors = select(listeners, ViewNodeAcceptor.class,
+          new ViewNodeAcceptor[0]);
+      nodeListeners = select(listeners, ViewNodeListener.class,
+          new ViewNodeListener[0]);
+      interceptors = select(listeners, ViewNodePropertyInterceptor.class,
+          new ViewNodePropertyInterceptor[0]);
+      propertyListeners = select(listeners, ViewNodePropertyListener.class,
+          new ViewNodePropertyListener[0]);
+      entityListeners = select(listeners, ViewNodeEntityListener.class,
+          new ViewNodeEntityListener[0]);
+      preTraversalListeners = select(listeners,
+          ViewPreTraversalListener.class, new ViewPreTraversalListener[0]);
+      postTraversalListeners = select(listeners,
+          ViewPostTraversalListener.class, new ViewPostTraversalListener[0]);
+    }
+
+    private static <T> T[] select(List<ViewListener> listeners,
+        Class<T> type, T[] empty) {
+      final List<T> selected = new ArrayList<>(listeners.size());
+      for (final ViewListener listener : listeners) {
+        if (type.isInstance(listener)) {
+          selected.add(type.cast(listener));
+        }
+      }
+      return selected.toArray(empty);
+    }
+
+  }
+
 }
@@ -30,6 +30,32 @@ import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
  */
 public interface NotifiableViewListeners extends ViewListeners {
 
+  /**
+   * Tests whether this collection contains any listener that is notified
+   * by {@link #shouldVisitNode(ViewNodeEvent)} or
+   * {@link #nodeVisited(ViewNodeEvent)}.
+   * <p>
+   * A caller may use this method to avoid creating a node event that no
+   * listener would receive.
+   * @return {@code true} if there are node acceptors or node listeners
+   */
+  boolean hasNodeListeners();
+
+  /**
+   * Tests whether this collection contains any listener that is notified
+   * by {@link #didExtractValue(ViewNodePropertyEvent)} or
+   * {@link #willInjectValue(ViewNodePropertyEvent)}.
+   * @return {@code true} if there are property interceptors
+   */
+  boolean hasPropertyInterceptors();
+
+  /**
+   * Tests whether this collection contains any listener that is notified
+   * by {@link #propertyVisited(ViewNodePropertyEvent)}.
+   * @return {@code true} if there are property listeners
+   */
+  boolean hasPropertyListeners();
+
   boolean shouldVisitNode(ViewNodeEvent event);
 
   void nodeVisited(ViewNodeEvent event);
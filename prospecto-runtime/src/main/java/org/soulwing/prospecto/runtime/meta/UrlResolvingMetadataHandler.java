@@ -18,13 +18,23 @@
  */
 package org.soulwing.prospecto.runtime.meta;
 
+import java.util.List;
+import java.util.Map;
+
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.meta.MetadataHandler;
+import org.soulwing.prospecto.api.options.ViewKeys;
 import org.soulwing.prospecto.api.template.MetaNode;
 import org.soulwing.prospecto.api.url.UrlResolver;
+import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 
 /**
  * A {@link MetadataHandler} that resolves URLs.
+ * <p>
+ * When the {@link ViewKeys#MEMOIZE_URLS} option is enabled, each resolved
+ * URL is memoized in the context for the duration of the view generation.
+ * The memo key does not include the ancestors of the model; see the
+ * option's description for the restriction this implies.
  *
  * @author Carl Harris
  */
@@ -38,6 +48,25 @@ public class UrlResolvingMetadataHandler implements MetadataHandler {
   @Override
   public java.lang.Object produceValue(MetaNode node, Object parentModel,
       ViewContext context) throws Exception {
+    if (context instanceof ScopedViewContext
+        && ((ScopedViewContext) context).getOptionsSnapshot().isMemoizeUrls()) {
+      final Map<Object, String> memo =
+          ((ScopedViewContext) context).getUrlMemo();
+      final Key key = new Key(parentModel, node, context.currentModelPath());
+      String url = memo.get(key);
+      if (url == null) {
+        url = resolve(node, context);
+        if (url != null) {
+          // the memo can't hold null, so a null URL is resolved each time
+          memo.put(key, url);
+        }
+      }
+      return url;
+    }
+    return resolve(node, context);
+  }
+
+  private String resolve(MetaNode node, ViewContext context) {
     return context.get(UrlResolver.class).resolve(node, context);
   }
 
@@ -46,4 +75,38 @@ public class UrlResolvingMetadataHandler implements MetadataHandler {
       ViewContext context) throws Exception {
   }
 
+  /**
+   * A memo key that compares the model and node by identity.
+   */
+  private static class Key {
+
+    private final Object model;
+    private final MetaNode node;
+    private final List<Class<?>> modelPath;
+    private final int hashCode;
+
+    Key(Object model, MetaNode node, List<Class<?>> modelPath) {
+      this.model = model;
+      this.node = node;
+      this.modelPath = modelPath;
+      this.hashCode = 31 * (31 * System.identityHashCode(model)
+          + System.identityHashCode(node)) + modelPath.hashCode();
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (obj == this) return true;
+      if (!(obj instanceof Key)) return false;
+      final Key that = (Key) obj;
+      return this.model == that.model && this.node == that.node
+          && this.modelPath.equals(that.modelPath);
+    }
+
+  }
+
 }
@@ -23,6 +23,7 @@ import java.util.List;
 
 import org.soulwing.prospecto.api.ViewEntity;
 import org.soulwing.prospecto.api.reference.ReferenceResolver;
+import org.soulwing.prospecto.runtime.util.VersionedLinkedList;
 
 /**
  * A {@link ReferenceResolverService} collection implemented using a
@@ -33,7 +34,8 @@ import org.soulwing.prospecto.api.reference.ReferenceResolver;
 public class LinkedListReferenceResolverService
     implements ReferenceResolverService {
 
-  private final List<ReferenceResolver> resolvers = new LinkedList<>();
+  private final VersionedLinkedList<ReferenceResolver> resolvers =
+      new VersionedLinkedList<>();
 
   @Override
   public Object resolve(Class<?> type, ViewEntity reference) {
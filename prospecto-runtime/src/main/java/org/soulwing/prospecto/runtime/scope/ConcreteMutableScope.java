@@ -26,19 +26,85 @@ import org.soulwing.prospecto.api.scope.MutableScope;
 
 /**
  * A simple {@link MutableScope}.
+ * <p>
+ * Storage is allocated lazily; a scope that holds a single unnamed object
+ * (the common case for the scope frames used during view generation)
+ * allocates no maps at all. When the scope holds more than one object,
+ * the result of each lookup by type (including a negative result) is
+ * cached until the contents of the scope change.
+ * <p>
+ * A scope advances a {@link ScopeVersion} whenever its contents change,
+ * allowing a caller to cache the results of lookups across several scopes.
+ * Scopes may share a version, so that a change to any of them can be
+ * detected with a single comparison.
  *
  * @author Carl Harris
  */
 public class ConcreteMutableScope implements MutableScope {
 
-  private final Map<String, Object> nameMap = new HashMap<>();
+  private static final Object NOT_FOUND = new Object();
 
-  private final Map<Object, Object> contentMap = new HashMap<>();
+  private Map<String, Object> nameMap;
+
+  private Map<Object, Object> contentMap;
+
+  private Object singleObject;
+
+  private final ScopeVersion version;
+
+  /**
+   * Results of lookups by type; replaced rather than updated, so that a
+   * scope that is shared by concurrent view generations can be read safely.
+   */
+  private volatile Map<Class<?>, Object> typeCache;
+
+  /**
+   * Constructs a new scope with a version of its own.
+   */
+  public ConcreteMutableScope() {
+    this(new ScopeVersion());
+  }
+
+  /**
+   * Constructs a new scope.
+   * @param version version to advance whenever the contents of this scope
+   *    change; may be shared with other scopes
+   */
+  public ConcreteMutableScope(ScopeVersion version) {
+    this.version = version;
+  }
+
+  /**
+   * Gets the version of this scope.
+   * @return a version that advances whenever an object is added to or
+   *    removed from this scope (or any other scope that shares it)
+   */
+  public ScopeVersion getVersion() {
+    return version;
+  }
 
   @Override
   @SuppressWarnings("unchecked")
   public <T> T get(Class<T> type) {
     assertNotNull(type, "type is required");
+    if (contentMap == null) {
+      return singleObject != null
+          && type.isAssignableFrom(singleObject.getClass()) ?
+              (T) singleObject : null;
+    }
+    final Map<Class<?>, Object> typeCache = this.typeCache;
+    Object result = typeCache != null ? typeCache.get(type) : null;
+    if (result == null) {
+      result = findByType(type);
+      final Map<Class<?>, Object> newTypeCache = typeCache != null ?
+          new HashMap<>(typeCache) : new HashMap<Class<?>, Object>();
+      newTypeCache.put(type, result == null ? NOT_FOUND : result);
+      this.typeCache = newTypeCache;
+    }
+    return result == NOT_FOUND ? null : (T) result;
+  }
+
+  private Object findByType(Class<?> type) {
     Object result = null;
     for (Object obj : contentMap.values()) {
       if (type.isAssignableFrom(obj.getClass())) {
@@ -52,7 +118,7 @@ public class ConcreteMutableScope implements MutableScope {
         }
       }
     }
-    return (T) result;
+    return result;
   }
 
   @Override
@@ -60,6 +126,7 @@ public class ConcreteMutableScope implements MutableScope {
   public <T> T get(String name, Class<T> type) {
     assertNotNull(name, "name is required");
     assertNotNull(type, "type is required");
+    if (nameMap == null) return null;
     Object value = nameMap.get(name);
     if (value == null) return null;
     if (!type.isAssignableFrom(value.getClass())) {
@@ -73,16 +140,30 @@ public class ConcreteMutableScope implements MutableScope {
   @Override
   public void put(Object obj) {
     assertNotNull(obj, "value must not be null");
+    version.advance();
+    if (contentMap == null) {
+      if (singleObject == null || sameKey(obj, singleObject)) {
+        singleObject = obj;
+        return;
+      }
+      contentMap = new HashMap<>();
+      contentMap.put(singleObject, singleObject);
+      singleObject = null;
+    }
     contentMap.put(obj, obj);
+    typeCache = null;
   }
 
   @Override
   public Object put(String name, Object obj) {
     assertNotNull(name, "name is required");
     assertNotNull(obj, "value must not be null");
+    if (nameMap == null) {
+      nameMap = new HashMap<>();
+    }
     Object previousObj = nameMap.put(name, obj);
     if (previousObj != null) {
-      contentMap.remove(previousObj);
+      removeContent(previousObj);
     }
     put(obj);
     return previousObj;
@@ -103,20 +184,63 @@ public class ConcreteMutableScope implements MutableScope {
   }
 
   public boolean remove(Object obj) {
-    final boolean removed = contentMap.remove(obj) != null;
-    Iterator<Map.Entry<String, Object>> i = nameMap.entrySet().iterator();
-    while (i.hasNext()) {
-      Map.Entry<String, Object> entry = i.next();
-      if (entry.getValue() == obj) {
-        i.remove();
+    version.advance();
+    final boolean removed = removeContent(obj);
+    if (nameMap != null) {
+      Iterator<Map.Entry<String, Object>> i = nameMap.entrySet().iterator();
+      while (i.hasNext()) {
+        Map.Entry<String, Object> entry = i.next();
+        if (entry.getValue() == obj) {
+          i.remove();
+        }
       }
     }
     return removed;
   }
 
   public void putAll(ConcreteMutableScope scope) {
-    contentMap.putAll(scope.contentMap);
-    nameMap.putAll(scope.nameMap);
+    if (scope.contentMap != null) {
+      for (final Object obj : scope.contentMap.values()) {
+        put(obj);
+      }
+    }
+    else if (scope.singleObject != null) {
+      put(scope.singleObject);
+    }
+    if (scope.nameMap != null) {
+      if (nameMap == null) {
+        nameMap = new HashMap<>();
+      }
+      nameMap.putAll(scope.nameMap);
+      version.advance();
+    }
+  }
+
+  /**
+   * Removes all objects from this scope.
+   */
+  protected void clear() {
+    nameMap = null;
+    contentMap = null;
+    singleObject = null;
+    typeCache = null;
+    version.advance();
+  }
+
+  private boolean removeContent(Object obj) {
+    if (contentMap != null) {
+      typeCache = null;
+      return contentMap.remove(obj) != null;
+    }
+    if (obj != null && singleObject != null && sameKey(obj, singleObject)) {
+      singleObject = null;
+      return true;
+    }
+    return false;
+  }
+
+  private static boolean sameKey(Object obj, Object key) {
+    return obj == key || obj.equals(key);
   }
 
   private void assertNotNull(Object obj, String message) {
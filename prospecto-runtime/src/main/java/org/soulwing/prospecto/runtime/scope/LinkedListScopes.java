@@ -18,11 +18,11 @@
  */
 package org.soulwing.prospecto.runtime.scope;
 
-import java.util.LinkedList;
 import java.util.List;
 
 import org.soulwing.prospecto.api.scope.Scope;
 import org.soulwing.prospecto.api.scope.Scopes;
+import org.soulwing.prospecto.runtime.util.VersionedLinkedList;
 
 /**
  * A {@link Scopes} implementation backed by a linked list.
@@ -31,7 +31,8 @@ import org.soulwing.prospecto.api.scope.Scopes;
  */
 public class LinkedListScopes implements Scopes {
 
-  private final List<Scope> scopes = new LinkedList<>();
+  private final VersionedLinkedList<Scope> scopes =
+      new VersionedLinkedList<>();
 
   @Override
   public void append(Scope scope) {
@@ -53,4 +54,12 @@ public class LinkedListScopes implements Scopes {
     return scopes;
   }
 
+  /**
+   * Gets the version of this collection of scopes.
+   * @return a value that changes whenever a scope is added or removed
+   */
+  public int getVersion() {
+    return scopes.getVersion();
+  }
+
 }
@@ -0,0 +1,51 @@
+/*
+ * File created on Mar 13, 2016
+ *
+ * Copyright (c) 2016 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.scope;
+
+/**
+ * A version number shared by a group of {@link ConcreteMutableScope}
+ * objects.
+ * <p>
+ * Every change to the contents of a scope in the group advances the
+ * version, so that a caller that caches the results of lookups across all
+ * of the scopes in a group can detect a change with a single comparison,
+ * regardless of the number of scopes in the group.
+ *
+ * @author Carl Harris
+ */
+public class ScopeVersion {
+
+  private int value;
+
+  /**
+   * Gets the current value of this version.
+   * @return a value that changes whenever a scope in the group is modified
+   */
+  public int get() {
+    return value;
+  }
+
+  /**
+   * Advances this version.
+   */
+  void advance() {
+    value++;
+  }
+
+}
@@ -23,10 +23,13 @@ import java.util.Map;
 
 import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.ViewTemplateException;
+import org.soulwing.prospecto.api.converter.ValueTypeConverter;
+import org.soulwing.prospecto.api.discriminator.DiscriminatorStrategy;
 import org.soulwing.prospecto.api.scope.MutableScope;
 import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.api.template.ViewNodeVisitor;
 import org.soulwing.prospecto.runtime.accessor.Accessor;
+import org.soulwing.prospecto.runtime.discriminator.DiscriminatorCache;
 import org.soulwing.prospecto.runtime.scope.ConcreteMutableScope;
 
 /**
@@ -36,8 +39,16 @@ import org.soulwing.prospecto.runtime.scope.ConcreteMutableScope;
  */
 public abstract class AbstractViewNode implements ViewNode, MutableScope {
 
+  private static final Object UNRESOLVED = new Object();
+
   private final ConcreteMutableScope scope = new ConcreteMutableScope();
 
+  private final DiscriminatorCache discriminatorCache =
+      new DiscriminatorCache();
+
+  private volatile Object converter = UNRESOLVED;
+  private volatile Object discriminatorStrategy = UNRESOLVED;
+
   private final String name;
   private final String namespace;
   private final Class<?> modelType;
@@ -121,6 +132,46 @@ public abstract class AbstractViewNode implements ViewNode, MutableScope {
     }
   }
 
+  /**
+   * Gets the value type converter configured for this node.
+   * <p>
+   * The converter is resolved from the attributes of this node on first use
+   * and retained until the attributes change.
+   * @return converter or {@code null} if none is configured
+   */
+  public ValueTypeConverter getConverter() {
+    Object converter = this.converter;
+    if (converter == UNRESOLVED) {
+      converter = scope.get(ValueTypeConverter.class);
+      this.converter = converter;
+    }
+    return (ValueTypeConverter) converter;
+  }
+
+  /**
+   * Gets the discriminator strategy configured for this node.
+   * <p>
+   * The strategy is resolved from the attributes of this node on first use
+   * and retained until the attributes change.
+   * @return strategy or {@code null} if none is configured
+   */
+  public DiscriminatorStrategy getDiscriminatorStrategy() {
+    Object strategy = this.discriminatorStrategy;
+    if (strategy == UNRESOLVED) {
+      strategy = scope.get(DiscriminatorStrategy.class);
+      this.discriminatorStrategy = strategy;
+    }
+    return (DiscriminatorStrategy) strategy;
+  }
+
+  /**
+   * Gets the cache of discriminators for the model type of this node.
+   * @return discriminator cache
+   */
+  public DiscriminatorCache getDiscriminatorCache() {
+    return discriminatorCache;
+  }
+
   @Override
   public <T> T get(Class<T> type) {
     return scope.get(type);
@@ -133,33 +184,44 @@ public abstract class AbstractViewNode implements ViewNode, MutableScope {
 
   @Override
   public void put(Object obj) {
+    attributesChanged();
     scope.put(obj);
   }
 
   @Override
   public Object put(String name, Object obj) {
+    attributesChanged();
     return scope.put(name, obj);
   }
 
   @Override
   public void putAll(Iterable<?> objs) {
+    attributesChanged();
     scope.putAll(objs);
   }
 
   @Override
   public void putAll(Map<String, ?> objs) {
+    attributesChanged();
     scope.putAll(objs);
   }
 
   @Override
   public boolean remove(Object obj) {
+    attributesChanged();
     return scope.remove(obj);
   }
 
   public void putAll(AbstractViewNode node) {
+    attributesChanged();
     scope.putAll(node.scope);
   }
 
+  private void attributesChanged() {
+    converter = UNRESOLVED;
+    discriminatorStrategy = UNRESOLVED;
+  }
+
   @Override
   public String toString() {
     return getName();
@@ -45,6 +45,8 @@ public class ConcreteArrayOfObjectsNode extends AbstractContainerNode
 
   private MultiValuedAccessor multiValuedAccessor;
 
+  private int parallelThreshold;
+
   /**
    * Constructs a new instance.
    * @param name node name
@@ -100,6 +102,25 @@ public class ConcreteArrayOfObjectsNode extends AbstractContainerNode
     return multiValuedAccessor;
   }
 
+  /**
+   * Gets the minimum number of elements for which the elements of this node
+   * will be generated in parallel.
+   * @return threshold, or zero if not configured for this node
+   */
+  public int getParallelThreshold() {
+    return parallelThreshold;
+  }
+
+  /**
+   * Sets the minimum number of elements for which the elements of this node
+   * will be generated in parallel.
+   * @param parallelThreshold threshold, or zero to defer to the view context
+   *    options
+   */
+  public void setParallelThreshold(int parallelThreshold) {
+    this.parallelThreshold = parallelThreshold;
+  }
+
   @Override
   public Iterator<?> iterator(Object model) throws Exception {
     return getModelIterator(model);
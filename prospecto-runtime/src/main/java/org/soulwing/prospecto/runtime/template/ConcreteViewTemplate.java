@@ -18,7 +18,7 @@
  */
 package org.soulwing.prospecto.runtime.template;
 
-import java.util.List;
+import java.io.OutputStream;
 
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewApplicator;
@@ -26,6 +26,8 @@ import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.ViewException;
 import org.soulwing.prospecto.api.ViewTemplate;
 import org.soulwing.prospecto.api.ViewTemplateException;
+import org.soulwing.prospecto.api.ViewWriterFactory;
+import org.soulwing.prospecto.api.WritableViewTemplate;
 import org.soulwing.prospecto.api.listener.ViewMode;
 import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
 import org.soulwing.prospecto.api.template.ContainerNode;
@@ -36,21 +38,32 @@ import org.soulwing.prospecto.runtime.applicator.ViewEventApplicator;
 import org.soulwing.prospecto.runtime.context.ConcreteScopedViewContextFactory;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.context.ScopedViewContextFactory;
+import org.soulwing.prospecto.runtime.event.ViewEventBuffer;
+import org.soulwing.prospecto.runtime.generator.GeneratorView;
 import org.soulwing.prospecto.runtime.generator.ViewEventGenerator;
+import org.soulwing.prospecto.runtime.generator.ViewEventPump;
+import org.soulwing.prospecto.runtime.generator.ViewEventStream;
 import org.soulwing.prospecto.runtime.generator.ViewGeneratingVisitor;
-import org.soulwing.prospecto.runtime.view.ConcreteView;
+import org.soulwing.prospecto.runtime.view.BufferedView;
+import org.soulwing.prospecto.runtime.view.StreamingView;
 
 /**
  * A {@link ViewTemplate} implementation.
  *
  * @author Carl Harris
  */
-public class ConcreteViewTemplate implements ComposableViewTemplate {
+public class ConcreteViewTemplate
+    implements ComposableViewTemplate, WritableViewTemplate {
 
   private final AbstractViewNode root;
   private final ScopedViewContextFactory viewContextFactory;
   private final ViewApplicatorFactory viewApplicatorFactory;
 
+  private final Object lock = new Object();
+
+  private volatile ViewEventGenerator generator;
+  private volatile ViewEventApplicator applicator;
+
   public ConcreteViewTemplate(AbstractViewNode root) {
     this(root, ConcreteScopedViewContextFactory.INSTANCE);
   }
@@ -96,15 +109,43 @@ public class ConcreteViewTemplate implements ComposableViewTemplate {
 
       scopedContext.getListeners().beforeTraversing(event);
 
-      final ViewEventGenerator generator = (ViewEventGenerator)
-          depthFirst().traverse(new ViewGeneratingVisitor(), null);
+      if (scopedContext.getOptionsSnapshot().isStreamingView()) {
+        return new StreamingView(new ViewEventStream(getGenerator(), source,
+            scopedContext, event));
+      }
+
+      final ViewEventBuffer events = new ViewEventBuffer();
+      new ViewEventPump(getGenerator(), source, scopedContext, event,
+          events).run();
+
+      return new BufferedView(events);
+    }
+    catch (Exception ex) {
+      throw new ViewException(ex);
+    }
+  }
+
+  @Override
+  public void writeView(Object source, ViewContext context,
+      ViewWriterFactory writerFactory, OutputStream outputStream)
+      throws ViewException {
+    try {
+      final ScopedViewContext scopedContext =
+          viewContextFactory.newContext(context);
+
+      scopedContext.appendScope().put(source);
+      final ViewTraversalEvent event =
+          new ViewTraversalEvent(ViewMode.GENERATE, this, scopedContext);
 
-      final List<View.Event> viewEvents =
-          generator.generate(source, scopedContext);
+      scopedContext.getListeners().beforeTraversing(event);
 
-      scopedContext.getListeners().afterTraversing(event);
+      final View view = new GeneratorView(getGenerator(), source,
+          scopedContext, event);
 
-      return new ConcreteView(viewEvents);
+      writerFactory.newWriter(view, outputStream).writeView();
+    }
+    catch (ViewException ex) {
+      throw ex;
     }
     catch (Exception ex) {
       throw new ViewException(ex);
@@ -127,10 +168,53 @@ public class ConcreteViewTemplate implements ComposableViewTemplate {
         new ViewTraversalEvent(ViewMode.APPLY, this, scopedContext);
 
     scopedContext.getListeners().beforeTraversing(event);
-    final ViewEventApplicator applicator = (ViewEventApplicator)
-        depthFirst().traverse(new ViewApplicationVisitor(), null);
-    return viewApplicatorFactory.newApplicator(root.getModelType(), applicator,
-        source, scopedContext, dataKey, event);
+    return viewApplicatorFactory.newApplicator(root.getModelType(),
+        getApplicator(), source, scopedContext, dataKey, event);
+  }
+
+  /**
+   * Gets the generator tree for this template.
+   * <p>
+   * Generators hold no state of their own, so the tree is built on first
+   * use and then shared by every subsequent call to
+   * {@link #generateView(Object, ViewContext)}.
+   * @return generator for the root node
+   */
+  ViewEventGenerator getGenerator() {
+    ViewEventGenerator generator = this.generator;
+    if (generator == null) {
+      synchronized (lock) {
+        generator = this.generator;
+        if (generator == null) {
+          generator = (ViewEventGenerator)
+              depthFirst().traverse(new ViewGeneratingVisitor(), null);
+          this.generator = generator;
+        }
+      }
+    }
+    return generator;
+  }
+
+  /**
+   * Gets the applicator tree for this template.
+   * <p>
+   * Like the generator tree, the applicator tree is built on first use and
+   * shared by all applicators subsequently created from this template.
+   * @return applicator for the root node
+   */
+  ViewEventApplicator getApplicator() {
+    ViewEventApplicator applicator = this.applicator;
+    if (applicator == null) {
+      synchronized (lock) {
+        applicator = this.applicator;
+        if (applicator == null) {
+          applicator = (ViewEventApplicator)
+              depthFirst().traverse(new ViewApplicationVisitor(), null);
+          this.applicator = applicator;
+        }
+      }
+    }
+    return applicator;
   }
 
   @Override
@@ -195,6 +279,11 @@ public class ConcreteViewTemplate implements ComposableViewTemplate {
     assert root instanceof ContainerNode;
     node.addChildren((AbstractContainerNode) root);
     node.putAll(root);
+    if (root instanceof ConcreteArrayOfObjectsNode
+        && node instanceof ConcreteArrayOfObjectsNode) {
+      ((ConcreteArrayOfObjectsNode) node).setParallelThreshold(
+          ((ConcreteArrayOfObjectsNode) root).getParallelThreshold());
+    }
   }
 
   private void assertRootIsContainerViewNode(String name) {
@@ -18,9 +18,8 @@
  */
 package org.soulwing.prospecto.runtime.text;
 
+import java.util.ArrayDeque;
 import java.util.Deque;
-import java.util.LinkedList;
-import java.util.List;
 
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewException;
@@ -28,9 +27,8 @@ import org.soulwing.prospecto.api.ViewInputException;
 import org.soulwing.prospecto.api.ViewReader;
 import org.soulwing.prospecto.api.options.Options;
 import org.soulwing.prospecto.api.options.ViewDefaults;
-import org.soulwing.prospecto.runtime.event.ConcreteViewEventFactory;
-import org.soulwing.prospecto.runtime.event.ViewEventFactory;
-import org.soulwing.prospecto.runtime.view.ConcreteView;
+import org.soulwing.prospecto.runtime.event.ViewEventBuffer;
+import org.soulwing.prospecto.runtime.view.BufferedView;
 
 /**
  * An abstract base for {@link ViewReader} implementations.
@@ -39,23 +37,17 @@ import org.soulwing.prospecto.runtime.view.ConcreteView;
  */
 public abstract class AbstractViewReader implements ViewReader {
 
-  private final Deque<StackFrame> stack = new LinkedList<>();
-  private final List<View.Event> events = new LinkedList<>();
+  private final Deque<StackFrame> stack = new ArrayDeque<>();
+  private final ViewEventBuffer events = new ViewEventBuffer();
 
   private final Options options;
-  private final ViewEventFactory eventFactory;
 
   /**
    * Constructs a new reader
    * @param options configuration options
    */
   protected AbstractViewReader(Options options) {
-    this(options, new ConcreteViewEventFactory());
-  }
-
-  AbstractViewReader(Options options, ViewEventFactory eventFactory) {
     this.options = options;
-    this.eventFactory = eventFactory;
   }
 
   public Options getOptions() {
@@ -69,7 +61,7 @@ public abstract class AbstractViewReader implements ViewReader {
       if (!stack.isEmpty()) {
         throw new AssertionError("event stack should be empty");
       }
-      return new ConcreteView(events);
+      return new BufferedView(events);
     }
     catch (RuntimeException ex) {
       throw ex;
@@ -101,9 +93,9 @@ public abstract class AbstractViewReader implements ViewReader {
    *
    */
   protected final void beginObject(String name, String namespace) {
-    events.add(newEvent(View.Event.Type.BEGIN_OBJECT, name, namespace, null));
-    stack.push(new StackFrame(events.size(),
-        newEvent(View.Event.Type.END_OBJECT, name, namespace, null)));
+    events.add(View.Event.Type.BEGIN_OBJECT, name, namespace, null);
+    stack.push(new StackFrame(events.size(), View.Event.Type.END_OBJECT,
+        name, namespace));
   }
 
   /**
@@ -121,9 +113,9 @@ public abstract class AbstractViewReader implements ViewReader {
    *
    */
   protected final void beginArray(String name, String namespace) {
-    events.add(newEvent(View.Event.Type.BEGIN_ARRAY, name, namespace, null));
-    stack.push(new StackFrame(events.size(),
-        newEvent(View.Event.Type.END_ARRAY, name, namespace, null)));
+    events.add(View.Event.Type.BEGIN_ARRAY, name, namespace, null);
+    stack.push(new StackFrame(events.size(), View.Event.Type.END_ARRAY,
+        name, namespace));
   }
 
   /**
@@ -135,7 +127,8 @@ public abstract class AbstractViewReader implements ViewReader {
     if (stack.isEmpty()) {
       throw new AssertionError("stack underflow");
     }
-    events.add(stack.pop().event);
+    final StackFrame frame = stack.pop();
+    events.add(frame.type, frame.name, frame.namespace, null);
   }
 
   /**
@@ -147,15 +140,13 @@ public abstract class AbstractViewReader implements ViewReader {
       throw new AssertionError("stack underflow");
     }
     final StackFrame frame = stack.peek();
-    if (events.size() > frame.index) {
-      final View.Event event = events.get(frame.index);
-      if (event.getType() == View.Event.Type.DISCRIMINATOR) {
-        throw new ViewInputException(
-            "an object may have only one discriminator");
-      }
+    if (events.size() > frame.index
+        && events.getType(frame.index) == View.Event.Type.DISCRIMINATOR) {
+      throw new ViewInputException(
+          "an object may have only one discriminator");
     }
-    events.add(frame.index, newEvent(View.Event.Type.DISCRIMINATOR,
-        ViewDefaults.DISCRIMINATOR_NODE_NAME, null, value));
+    events.insert(frame.index, View.Event.Type.DISCRIMINATOR,
+        ViewDefaults.DISCRIMINATOR_NODE_NAME, null, value);
   }
 
   /**
@@ -164,7 +155,7 @@ public abstract class AbstractViewReader implements ViewReader {
    * @param value metadata value
    */
   protected final void meta(String name, Object value) {
-    events.add(newEvent(View.Event.Type.META, name, null, value));
+    events.add(View.Event.Type.META, name, null, value);
   }
 
   /**
@@ -199,25 +190,25 @@ public abstract class AbstractViewReader implements ViewReader {
    * @param name name of the value
    */
   protected final void nullValue(String name) {
-    events.add(newEvent(View.Event.Type.VALUE, name, null, null));
+    events.add(View.Event.Type.VALUE, name, null, null);
   }
 
   private void addValue(String name, Object value) {
-    events.add(newEvent(View.Event.Type.VALUE, name, null, value));
-  }
-
-  private View.Event newEvent(View.Event.Type type, String name,
-      String namespace, Object value) {
-    return eventFactory.newEvent(type, name, namespace, value);
+    events.add(View.Event.Type.VALUE, name, null, value);
   }
 
-  private class StackFrame {
+  private static class StackFrame {
     final int index;
-    final View.Event event;
+    final View.Event.Type type;
+    final String name;
+    final String namespace;
 
-    public StackFrame(int index, View.Event event) {
+    public StackFrame(int index, View.Event.Type type, String name,
+        String namespace) {
       this.index = index;
-      this.event = event;
+      this.type = type;
+      this.name = name;
+      this.namespace = namespace;
     }
 
   }
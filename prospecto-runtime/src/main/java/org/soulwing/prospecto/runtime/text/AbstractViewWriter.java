@@ -24,13 +24,18 @@ import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewException;
 import org.soulwing.prospecto.api.ViewWriter;
 import org.soulwing.prospecto.api.options.Options;
-import org.soulwing.prospecto.api.options.WriterKeys;
+import org.soulwing.prospecto.api.options.OptionsSnapshot;
+import org.soulwing.prospecto.runtime.event.ViewEventSink;
+import org.soulwing.prospecto.runtime.event.ViewEventSource;
 
 /**
  * An object that produces a representation of a view on a specified target.
  * <p>
  * This class is designed to allow a callback-driven interpretation of a
- * view's event stream.
+ * view's event stream. If the view is a {@link ViewEventSource}, its events
+ * are pushed to the writer's callbacks rather than iterated; the event
+ * passed to a callback must then not be retained after the callback
+ * returns.
  * <p>
  * A writer is <em>not</em> thread safe.
  *
@@ -38,8 +43,16 @@ import org.soulwing.prospecto.api.options.WriterKeys;
  */
 public abstract class AbstractViewWriter implements ViewWriter {
 
+  private final ViewEventSink sink = new ViewEventSink() {
+    @Override
+    public void onEvent(View.Event event) throws Exception {
+      AbstractViewWriter.this.onEvent(event);
+    }
+  };
+
   private final View view;
   private final Options options;
+  private final OptionsSnapshot optionsSnapshot;
 
   /**
    * Constructs a new writer.
@@ -51,12 +64,22 @@ public abstract class AbstractViewWriter implements ViewWriter {
       Options options) {
     this.view = view;
     this.options = options;
+    this.optionsSnapshot = OptionsSnapshot.of(options);
   }
 
   public Options getOptions() {
     return options;
   }
 
+  /**
+   * Gets the snapshot of the configuration options that was captured when
+   * this writer was constructed.
+   * @return options snapshot
+   */
+  protected OptionsSnapshot getOptionsSnapshot() {
+    return optionsSnapshot;
+  }
+
   /**
    * Writes the view to the target output stream.
    * <p>
@@ -69,34 +92,13 @@ public abstract class AbstractViewWriter implements ViewWriter {
   public final void writeView() throws ViewException {
     try {
       beforeViewEvents();
-      final Iterator<View.Event> events = view.iterator();
-      while (events.hasNext()) {
-        final View.Event event = events.next();
-        switch (event.getType()) {
-          case BEGIN_OBJECT:
-            onBeginObject(event);
-            break;
-          case END_OBJECT:
-            onEndObject(event);
-            break;
-          case BEGIN_ARRAY:
-            onBeginArray(event);
-            break;
-          case END_ARRAY:
-            onEndArray(event);
-            break;
-          case VALUE:
-            doValue(event);
-            break;
-          case META:
-            onMeta(event);
-            break;
-          case DISCRIMINATOR:
-            onDiscriminator(event);
-            break;
-          default:
-            throw new IllegalStateException("unrecognized event type: "
-                + event.getType().name());
+      if (view instanceof ViewEventSource) {
+        ((ViewEventSource) view).emitTo(sink);
+      }
+      else {
+        final Iterator<View.Event> events = view.iterator();
+        while (events.hasNext()) {
+          onEvent(events.next());
         }
       }
       afterViewEvents();
@@ -109,9 +111,38 @@ public abstract class AbstractViewWriter implements ViewWriter {
     }
   }
 
+  private void onEvent(View.Event event) throws Exception {
+    switch (event.getType()) {
+      case BEGIN_OBJECT:
+        onBeginObject(event);
+        break;
+      case END_OBJECT:
+        onEndObject(event);
+        break;
+      case BEGIN_ARRAY:
+        onBeginArray(event);
+        break;
+      case END_ARRAY:
+        onEndArray(event);
+        break;
+      case VALUE:
+        doValue(event);
+        break;
+      case META:
+        onMeta(event);
+        break;
+      case DISCRIMINATOR:
+        onDiscriminator(event);
+        break;
+      default:
+        throw new IllegalStateException("unrecognized event type: "
+            + event.getType().name());
+    }
+  }
+
   private void doValue(View.Event event) throws Exception {
     if (event.getValue() != null
-        || getOptions().isEnabled(WriterKeys.INCLUDE_NULL_PROPERTIES)) {
+        || optionsSnapshot.isIncludeNullProperties()) {
       onValue(event);
     }
   }
@@ -0,0 +1,231 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.text.json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.Map;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewWriter;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.text.OutputStreamTarget;
+import org.soulwing.prospecto.runtime.text.AbstractViewWriter;
+
+/**
+ * A {@link ViewWriter} that produces a JSON representation of a view by
+ * encoding directly to UTF-8.
+ * <p>
+ * The representation is byte-for-byte identical to that produced by
+ * {@link JsonViewWriter}, including the treatment of envelopes, but the
+ * writer does not use the {@code javax.json} generator. Output is collected
+ * in a buffer that is reused by subsequent writers on the same thread, and
+ * is written to the output stream whenever the buffer reaches the size given
+ * by the {@link org.soulwing.prospecto.api.options.WriterKeys#FLUSH_THRESHOLD}
+ * option.
+ *
+ * @author Carl Harris
+ */
+class FastJsonViewWriter extends AbstractViewWriter {
+
+  private static final ThreadLocal<byte[]> buffers = new ThreadLocal<>();
+
+  private final int bufferLength;
+
+  private OutputStream outputStream;
+  private byte[] buffer;
+  private Utf8JsonGenerator generator;
+  private boolean enveloped;
+  private boolean firstEvent = true;
+
+  /**
+   * Constructs a new instance.
+   * @param view source view
+   * @param options configuration options
+   */
+  FastJsonViewWriter(View view, Options options) {
+    super(view, options);
+    bufferLength = Math.max(Utf8JsonGenerator.MIN_BUFFER_LENGTH,
+        getOptionsSnapshot().getFlushThreshold());
+  }
+
+  /**
+   * Constructs a new instance.
+   * @param view source view
+   * @param outputStream target output stream for the textual representation
+   * @param options configuration options
+   */
+  FastJsonViewWriter(View view, OutputStream outputStream, Options options) {
+    this(view, options);
+    this.outputStream = outputStream;
+  }
+
+  @Override
+  public void writeView(Target target) {
+    if (!(target instanceof OutputStreamTarget)) {
+      throw new IllegalArgumentException("this writer supports only the "
+          + OutputStreamTarget.class.getSimpleName() + " target");
+    }
+    this.outputStream = ((OutputStreamTarget) target).getOutputStream();
+    writeView();
+  }
+
+  @Override
+  protected void beforeViewEvents() {
+    buffer = buffers.get();
+    if (buffer == null || buffer.length != bufferLength) {
+      buffer = new byte[bufferLength];
+    }
+    else {
+      buffers.remove();
+    }
+    generator = new Utf8JsonGenerator(outputStream,
+        getOptionsSnapshot().isPrettyPrintOutput(), buffer);
+  }
+
+  @Override
+  protected void onBeginObject(View.Event event) throws Exception {
+    writeStartEnvelope(event);
+    writeStartObject(event);
+  }
+
+  @Override
+  protected void onEndObject(View.Event event) throws Exception {
+    generator.writeEnd();
+  }
+
+  @Override
+  protected void onBeginArray(View.Event event) throws Exception {
+    writeStartEnvelope(event);
+    writeStartArray(event);
+  }
+
+  @Override
+  protected void onEndArray(View.Event event) throws Exception {
+    generator.writeEnd();
+  }
+
+  @Override
+  protected void onValue(View.Event event) throws Exception {
+    writeValue(event.getName(), event.getValue());
+  }
+
+  @Override
+  protected void onMeta(View.Event event) throws Exception {
+    writeValue(event.getName(), event.getValue());
+  }
+
+  @Override
+  protected void onDiscriminator(View.Event event) throws Exception {
+    writeValue(event.getName(), event.getValue());
+  }
+
+  @Override
+  protected void afterViewEvents() throws Exception {
+    if (enveloped) {
+      generator.writeEnd();
+    }
+    generator.flush();
+    buffers.set(buffer);
+  }
+
+  private void writeStartEnvelope(View.Event event) throws IOException {
+    if (!firstEvent) return;
+    enveloped = isEnveloped(event);
+    if (!enveloped) return;
+    generator.writeStartObject();
+    for (final Map.Entry<String, Object> property : getView().envelope()) {
+      writeValue(property.getKey(), property.getValue());
+    }
+  }
+
+  private boolean isEnveloped(View.Event event) {
+    if (event.getName() == null) return false;
+    if (event.getType() == View.Event.Type.BEGIN_ARRAY) {
+      return getOptionsSnapshot().isWrapArrayInEnvelope();
+    }
+    return getOptionsSnapshot().isWrapObjectInEnvelope();
+  }
+
+  private void writeStartObject(View.Event event) throws IOException {
+    final String name = event.getName();
+    if (name != null && !generator.isInArray()
+        && !(firstEvent && !enveloped)) {
+      generator.writeStartObject(name);
+    }
+    else {
+      generator.writeStartObject();
+    }
+    firstEvent = false;
+  }
+
+  private void writeStartArray(View.Event event) throws IOException {
+    final String name = event.getName();
+    if (name != null && !(firstEvent && !enveloped)) {
+      generator.writeStartArray(name);
+    }
+    else {
+      generator.writeStartArray();
+    }
+    firstEvent = false;
+  }
+
+  private void writeValue(String name, Object value) throws IOException {
+    generator.beginValue(name != null && !generator.isInArray() ? name : null);
+    if (value instanceof Long || value instanceof Integer
+        || value instanceof Short || value instanceof Byte) {
+      generator.writeLong(((Number) value).longValue());
+    }
+    else if (value instanceof String) {
+      generator.writeString((String) value);
+    }
+    else if (value instanceof Boolean) {
+      generator.writeBoolean((Boolean) value);
+    }
+    else if (value instanceof Enum) {
+      generator.writeEnum((Enum<?>) value);
+    }
+    else if (value instanceof BigDecimal || value instanceof BigInteger) {
+      generator.writeAscii(value.toString());
+    }
+    else if (value instanceof Double || value instanceof Float) {
+      generator.writeDouble(((Number) value).doubleValue());
+    }
+    else if (value instanceof Number) {
+      generator.writeLong(((Number) value).longValue());
+    }
+    else if (value instanceof Date) {
+      generator.writeLong(((Date) value).getTime());
+    }
+    else if (value instanceof Calendar) {
+      generator.writeLong(((Calendar) value).getTimeInMillis());
+    }
+    else if (value == null || value.toString() == null) {
+      generator.writeNull();
+    }
+    else {
+      generator.writeString(value.toString());
+    }
+  }
+
+}
@@ -26,8 +26,6 @@ import javax.json.stream.JsonParserFactory;
 
 import org.soulwing.prospecto.ViewOptionsRegistry;
 import org.soulwing.prospecto.api.options.Options;
-import org.soulwing.prospecto.api.options.ViewDefaults;
-import org.soulwing.prospecto.api.options.ViewKeys;
 import org.soulwing.prospecto.api.text.InputStreamSource;
 import org.soulwing.prospecto.runtime.text.AbstractViewReader;
 
@@ -43,6 +41,8 @@ class JsonViewReader extends AbstractViewReader {
 
   private final Source source;
 
+  private String discriminatorName;
+
   private String name;
 
   JsonViewReader(InputStream inputStream, Options options) {
@@ -60,6 +60,8 @@ class JsonViewReader extends AbstractViewReader {
 
   @Override
   protected void onReadView() throws Exception {
+    discriminatorName = ViewOptionsRegistry.getSnapshot()
+        .getDiscriminatorName();
     final JsonParser parser = parserFactory.createParser(
         ((InputStreamSource) source).getInputStream());
     while (parser.hasNext()) {
@@ -102,10 +104,7 @@ class JsonViewReader extends AbstractViewReader {
   }
 
   private boolean isDiscriminator() {
-    return name != null && name.equals(
-        ViewOptionsRegistry.getOptions().get(
-            ViewKeys.DISCRIMINATOR_NAME, ViewDefaults.DISCRIMINATOR_NODE_NAME)
-            .toString());
+    return name != null && name.equals(discriminatorName);
   }
 
   private String getName() {
@@ -34,7 +34,6 @@ import javax.json.stream.JsonGeneratorFactory;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewWriter;
 import org.soulwing.prospecto.api.options.Options;
-import org.soulwing.prospecto.api.options.WriterKeys;
 import org.soulwing.prospecto.api.text.OutputStreamTarget;
 import org.soulwing.prospecto.runtime.text.AbstractViewWriter;
 
@@ -76,7 +75,7 @@ class JsonViewWriter extends AbstractViewWriter {
   JsonViewWriter(View view, Options options) {
     super(view, options);
     Map<String, Object> config = new HashMap<>();
-    if (options.isEnabled(WriterKeys.PRETTY_PRINT_OUTPUT))
+    if (getOptionsSnapshot().isPrettyPrintOutput())
       config.put(JsonGenerator.PRETTY_PRINTING, true);
 
     generatorFactory = Json.createGeneratorFactory(config);
@@ -168,9 +167,9 @@ class JsonViewWriter extends AbstractViewWriter {
   private boolean isEnveloped(View.Event event) {
     if (event.getName() == null) return false;
     if (event.getType() == View.Event.Type.BEGIN_ARRAY) {
-      return (boolean) getOptions().get(WriterKeys.WRAP_ARRAY_IN_ENVELOPE, true);
+      return getOptionsSnapshot().isWrapArrayInEnvelope();
     }
-    return (boolean) getOptions().get(WriterKeys.WRAP_OBJECT_IN_ENVELOPE, false);
+    return getOptionsSnapshot().isWrapObjectInEnvelope();
   }
 
   private void writeStartObject(View.Event event) {
@@ -0,0 +1,433 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.text.json;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import javax.json.stream.JsonGenerationException;
+
+/**
+ * A JSON generator that encodes directly to UTF-8 bytes in a buffer.
+ * <p>
+ * The output produced is identical to that of the default {@code javax.json}
+ * generator, in both compact and pretty printed forms. Property names are
+ * escaped and encoded once, and the encoded form is shared by all instances.
+ * Buffered output is written to the underlying stream whenever the buffer
+ * would exceed the flush threshold.
+ * <p>
+ * An instance is <em>not</em> thread safe.
+ *
+ * @author Carl Harris
+ */
+class Utf8JsonGenerator {
+
+  private static final int MAX_CACHED_NAMES = 4096;
+
+  private static final ConcurrentMap<String, byte[]> names =
+      new ConcurrentHashMap<>();
+
+  private static final ClassValue<byte[][]> enumNames =
+      new ClassValue<byte[][]>() {
+        @Override
+        protected byte[][] computeValue(Class<?> type) {
+          final Object[] constants = type.getEnumConstants();
+          final byte[][] encoded = new byte[constants.length][];
+          for (int i = 0; i < constants.length; i++) {
+            encoded[i] = encode(((Enum<?>) constants[i]).name(), false);
+          }
+          return encoded;
+        }
+      };
+
+  private static final byte[] TRUE = { 't', 'r', 'u', 'e' };
+  private static final byte[] FALSE = { 'f', 'a', 'l', 's', 'e' };
+  private static final byte[] NULL = { 'n', 'u', 'l', 'l' };
+
+  private static final byte[] HEX_DIGITS = {
+      '0', '1', '2', '3', '4', '5', '6', '7',
+      '8', '9', 'a', 'b', 'c', 'd', 'e', 'f'
+  };
+
+  private static final int INITIAL_DEPTH = 16;
+
+  /**
+   * Minimum buffer length; large enough for any single escaped character.
+   */
+  static final int MIN_BUFFER_LENGTH = 64;
+
+  private static final byte NONE = 0;
+  private static final byte OBJECT = 1;
+  private static final byte ARRAY = 2;
+
+  private final OutputStream outputStream;
+  private final boolean prettyPrint;
+  private final byte[] buffer;
+
+  private byte[] contexts = new byte[INITIAL_DEPTH];
+  private boolean[] first = new boolean[INITIAL_DEPTH];
+  private int depth;
+  private int count;
+
+  /**
+   * Constructs a new instance.
+   * @param outputStream target output stream
+   * @param prettyPrint flag indicating whether output should be pretty
+   *    printed
+   * @param buffer buffer to use for output; its length (which must be at
+   *    least {@link #MIN_BUFFER_LENGTH}) determines the flush threshold
+   */
+  Utf8JsonGenerator(OutputStream outputStream, boolean prettyPrint,
+      byte[] buffer) {
+    this.outputStream = outputStream;
+    this.prettyPrint = prettyPrint;
+    this.buffer = buffer;
+    contexts[0] = NONE;
+    first[0] = true;
+  }
+
+  /**
+   * Tests whether the innermost structure is an array.
+   * @return {@code true} if the generator is in an array context
+   */
+  boolean isInArray() {
+    return contexts[depth] == ARRAY;
+  }
+
+  void writeStartObject() throws IOException {
+    checkUnnamed(true);
+    writeComma();
+    write('{');
+    push(OBJECT);
+  }
+
+  void writeStartObject(String name) throws IOException {
+    checkNamed();
+    writeName(name);
+    write('{');
+    push(OBJECT);
+  }
+
+  void writeStartArray() throws IOException {
+    checkUnnamed(true);
+    writeComma();
+    write('[');
+    push(ARRAY);
+  }
+
+  void writeStartArray(String name) throws IOException {
+    checkNamed();
+    writeName(name);
+    write('[');
+    push(ARRAY);
+  }
+
+  void writeEnd() throws IOException {
+    if (depth == 0) {
+      throw illegalContext();
+    }
+    final byte context = contexts[depth--];
+    if (prettyPrint) {
+      write('\n');
+      writeIndent();
+    }
+    write(context == OBJECT ? '}' : ']');
+  }
+
+  void writeName(String name) throws IOException {
+    writeComma();
+    byte[] encoded = names.get(name);
+    if (encoded == null) {
+      encoded = encode(name, true);
+      if (names.size() < MAX_CACHED_NAMES) {
+        names.putIfAbsent(name, encoded);
+      }
+    }
+    write(encoded);
+  }
+
+  /**
+   * Prepares to write a value, writing its name if specified.
+   * @param name name for the value or {@code null}
+   */
+  void beginValue(String name) throws IOException {
+    if (name != null) {
+      checkNamed();
+      writeName(name);
+    }
+    else {
+      checkUnnamed(false);
+      writeComma();
+    }
+  }
+
+  void writeString(String value) throws IOException {
+    ensure(2);
+    buffer[count++] = '"';
+    writeEscaped(value);
+    ensure(1);
+    buffer[count++] = '"';
+  }
+
+  void writeEnum(Enum<?> value) throws IOException {
+    write(enumNames.get(value.getDeclaringClass())[value.ordinal()]);
+  }
+
+  void writeLong(long value) throws IOException {
+    if (value == Long.MIN_VALUE) {
+      writeAscii(Long.toString(value));
+      return;
+    }
+    ensure(20);
+    if (value < 0) {
+      buffer[count++] = '-';
+      value = -value;
+    }
+    int digits = 1;
+    for (long v = value; v >= 10; v /= 10) {
+      digits++;
+    }
+    int i = count + digits;
+    count = i;
+    do {
+      buffer[--i] = (byte) ('0' + (int) (value % 10));
+      value /= 10;
+    }
+    while (value != 0);
+  }
+
+  void writeDouble(double value) throws IOException {
+    if (Double.isNaN(value) || Double.isInfinite(value)) {
+      throw new NumberFormatException(
+          "JSON does not allow non-finite numbers: " + value);
+    }
+    writeAscii(String.valueOf(value));
+  }
+
+  void writeBoolean(boolean value) throws IOException {
+    write(value ? TRUE : FALSE);
+  }
+
+  void writeNull() throws IOException {
+    write(NULL);
+  }
+
+  /**
+   * Writes the string representation of a number, which must contain only
+   * ASCII characters.
+   * @param value the value to write
+   */
+  void writeAscii(String value) throws IOException {
+    final int length = value.length();
+    ensure(length);
+    for (int i = 0; i < length; i++) {
+      buffer[count++] = (byte) value.charAt(i);
+    }
+  }
+
+  /**
+   * Writes all buffered output to the underlying stream and flushes it.
+   */
+  void flush() throws IOException {
+    drain();
+    outputStream.flush();
+  }
+
+  private void checkNamed() {
+    if (contexts[depth] != OBJECT) {
+      throw illegalContext();
+    }
+  }
+
+  private void checkUnnamed(boolean structure) {
+    final byte context = contexts[depth];
+    if (context == OBJECT
+        || context == NONE && (!structure || !first[0])) {
+      throw illegalContext();
+    }
+  }
+
+  private JsonGenerationException illegalContext() {
+    return new JsonGenerationException(
+        "Illegal method during JSON generation, not valid in current context "
+            + (contexts[depth] == OBJECT ? "IN_OBJECT"
+                : contexts[depth] == ARRAY ? "IN_ARRAY" : "IN_NONE"));
+  }
+
+  private void push(byte context) {
+    if (++depth == contexts.length) {
+      final byte[] contexts = new byte[2 * this.contexts.length];
+      final boolean[] first = new boolean[contexts.length];
+      System.arraycopy(this.contexts, 0, contexts, 0, depth);
+      System.arraycopy(this.first, 0, first, 0, depth);
+      this.contexts = contexts;
+      this.first = first;
+    }
+    contexts[depth] = context;
+    first[depth] = true;
+  }
+
+  private void writeComma() throws IOException {
+    if (!first[depth]) {
+      write(',');
+    }
+    first[depth] = false;
+    if (prettyPrint) {
+      write('\n');
+      writeIndent();
+    }
+  }
+
+  private void writeIndent() throws IOException {
+    final int length = 4 * depth;
+    ensure(length);
+    for (int i = 0; i < length; i++) {
+      buffer[count++] = ' ';
+    }
+  }
+
+  private void write(char c) throws IOException {
+    ensure(1);
+    buffer[count++] = (byte) c;
+  }
+
+  private void write(byte[] bytes) throws IOException {
+    if (bytes.length > buffer.length) {
+      drain();
+      outputStream.write(bytes);
+      return;
+    }
+    ensure(bytes.length);
+    System.arraycopy(bytes, 0, buffer, count, bytes.length);
+    count += bytes.length;
+  }
+
+  private void writeEscaped(String s) throws IOException {
+    final int length = s.length();
+    for (int i = 0; i < length; i++) {
+      final char c = s.charAt(i);
+      if (c >= 0x20 && c < 0x80 && c != '"' && c != '\\') {
+        ensure(1);
+        buffer[count++] = (byte) c;
+      }
+      else if (c < 0x80) {
+        ensure(6);
+        count = escape(c, buffer, count);
+      }
+      else if (c < 0x800) {
+        ensure(2);
+        buffer[count++] = (byte) (0xc0 | c >> 6);
+        buffer[count++] = (byte) (0x80 | c & 0x3f);
+      }
+      else if (Character.isHighSurrogate(c) && i + 1 < length
+          && Character.isLowSurrogate(s.charAt(i + 1))) {
+        final int cp = Character.toCodePoint(c, s.charAt(++i));
+        ensure(4);
+        buffer[count++] = (byte) (0xf0 | cp >> 18);
+        buffer[count++] = (byte) (0x80 | cp >> 12 & 0x3f);
+        buffer[count++] = (byte) (0x80 | cp >> 6 & 0x3f);
+        buffer[count++] = (byte) (0x80 | cp & 0x3f);
+      }
+      else if (Character.isSurrogate(c)) {
+        // unpaired surrogate; replaced as by the UTF-8 charset encoder
+        ensure(1);
+        buffer[count++] = '?';
+      }
+      else {
+        ensure(3);
+        buffer[count++] = (byte) (0xe0 | c >> 12);
+        buffer[count++] = (byte) (0x80 | c >> 6 & 0x3f);
+        buffer[count++] = (byte) (0x80 | c & 0x3f);
+      }
+    }
+  }
+
+  private static int escape(char c, byte[] buffer, int offset) {
+    buffer[offset++] = '\\';
+    switch (c) {
+      case '"':
+      case '\\':
+        buffer[offset++] = (byte) c;
+        break;
+      case '\b':
+        buffer[offset++] = 'b';
+        break;
+      case '\f':
+        buffer[offset++] = 'f';
+        break;
+      case '\n':
+        buffer[offset++] = 'n';
+        break;
+      case '\r':
+        buffer[offset++] = 'r';
+        break;
+      case '\t':
+        buffer[offset++] = 't';
+        break;
+      default:
+        buffer[offset++] = 'u';
+        buffer[offset++] = '0';
+        buffer[offset++] = '0';
+        buffer[offset++] = HEX_DIGITS[c >> 4];
+        buffer[offset++] = HEX_DIGITS[c & 0xf];
+        break;
+    }
+    return offset;
+  }
+
+  private void ensure(int length) throws IOException {
+    if (count + length > buffer.length) {
+      drain();
+    }
+  }
+
+  private void drain() throws IOException {
+    if (count > 0) {
+      outputStream.write(buffer, 0, count);
+      count = 0;
+    }
+  }
+
+  /**
+   * Encodes a string as a quoted, escaped JSON string.
+   * @param s the string to encode
+   * @param name flag indicating whether the string is a property name, in
+   *    which case a colon is appended
+   * @return UTF-8 encoded bytes
+   */
+  static byte[] encode(String s, boolean name) {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream(s.length() + 3);
+    final Utf8JsonGenerator generator = new Utf8JsonGenerator(out, false,
+        new byte[MIN_BUFFER_LENGTH]);
+    try {
+      generator.writeString(s);
+      if (name) {
+        generator.write(':');
+      }
+      generator.drain();
+    }
+    catch (IOException ex) {
+      throw new AssertionError(ex);
+    }
+    return out.toByteArray();
+  }
+
+}
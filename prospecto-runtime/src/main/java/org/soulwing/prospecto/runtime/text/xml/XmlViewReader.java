@@ -21,76 +21,48 @@ package org.soulwing.prospecto.runtime.text.xml;
 import java.io.InputStream;
 import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.util.Deque;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.Arrays;
 import javax.xml.bind.DatatypeConverter;
-import javax.xml.namespace.QName;
-import javax.xml.stream.XMLEventReader;
 import javax.xml.stream.XMLInputFactory;
 import javax.xml.stream.XMLStreamConstants;
-import javax.xml.stream.XMLStreamException;
-import javax.xml.stream.events.Attribute;
-import javax.xml.stream.events.Characters;
-import javax.xml.stream.events.StartElement;
-import javax.xml.stream.events.XMLEvent;
+import javax.xml.stream.XMLStreamReader;
 
 import org.soulwing.prospecto.api.options.Options;
 import org.soulwing.prospecto.api.text.InputStreamSource;
+import org.soulwing.prospecto.api.text.NodeSource;
 import org.soulwing.prospecto.runtime.text.AbstractViewReader;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
 
 /**
  * A {@link org.soulwing.prospecto.api.ViewReader} that parses an XML document.
+ * <p>
+ * The document is read using a cursor-based {@link XMLStreamReader}. The
+ * text of value elements is accumulated in a single reusable buffer and
+ * the element stack is held in parallel arrays, so that parsing allocates
+ * little beyond the resulting view.
+ * <p>
+ * Given a {@link NodeSource}, the reader walks the DOM tree directly,
+ * without serializing it to (and parsing) text.
  *
  * @author Carl Harris
  */
 class XmlViewReader extends AbstractViewReader {
 
-  /**
-   * A parser stack frame
-   */
-  private static class Frame {
-    final StringBuilder text = new StringBuilder();
-
-    final QName qname;
-    final String type;
-    final boolean valueElement;
-
-    Frame(QName qname, QName type, boolean valueElement) {
-      this.qname = qname;
-      this.type = type != null ? type.getLocalPart() : null;
-      this.valueElement = valueElement;
-    }
-
-    String getName() {
-      if (XmlViewConstants.VIEW_NAMESPACE.equals(qname.getNamespaceURI())) {
-        return null;
-      }
-      return qname.getLocalPart();
-    }
-
-    String getType() {
-      return type;
-    }
-
-    String getText() {
-      return text.toString().trim();
-    }
-
-    void append(String text) {
-      this.text.append(text);
-    }
-
-    boolean isValueElement() {
-      return valueElement;
-    }
-
-  }
+  private static final int INITIAL_DEPTH = 16;
 
   private static final XMLInputFactory inputFactory =
       XMLInputFactory.newFactory();
 
-  private final Deque<Frame> stack = new LinkedList<>();
+  private final StringBuilder text = new StringBuilder();
+
+  private String[] names = new String[INITIAL_DEPTH];
+  private String[] types = new String[INITIAL_DEPTH];
+  private boolean[] valueElements = new boolean[INITIAL_DEPTH];
+  private int depth;
 
   private final Source source;
 
@@ -100,138 +72,233 @@ class XmlViewReader extends AbstractViewReader {
 
   XmlViewReader(Source source, Options options) {
     super(options);
-    if (!(source instanceof InputStreamSource)) {
+    if (!(source instanceof InputStreamSource)
+        && !(source instanceof NodeSource)) {
       throw new IllegalArgumentException("only the "
-          + InputStreamSource.class.getSimpleName() + " source type is supported");
+          + InputStreamSource.class.getSimpleName() + " and "
+          + NodeSource.class.getSimpleName() + " source types are supported");
     }
     this.source = source;
   }
 
   @Override
   protected void onReadView() throws Exception {
-    final XMLEventReader reader = inputFactory.createXMLEventReader(
-        ((InputStreamSource) source).getInputStream());
-    while (reader.hasNext()) {
-      final XMLEvent event = reader.nextEvent();
-      switch (event.getEventType()) {
-        case XMLStreamConstants.START_ELEMENT:
-          startElement(event.asStartElement());
-          break;
-        case XMLStreamConstants.END_ELEMENT:
-          endElement();
-          break;
-        case XMLStreamConstants.CHARACTERS:
-          characters(event.asCharacters());
-          break;
-        default:
-          assert true;    // ignore unrecognized events
+    if (source instanceof NodeSource) {
+      final Node node = ((NodeSource) source).getNode();
+      readElement(node instanceof Document ?
+          ((Document) node).getDocumentElement() : (Element) node);
+      return;
+    }
+    final InputStreamSource inputStreamSource = (InputStreamSource) source;
+    final XMLStreamReader reader = inputStreamSource.getEncoding() != null ?
+        inputFactory.createXMLStreamReader(
+            inputStreamSource.getInputStream(),
+            inputStreamSource.getEncoding())
+        : inputFactory.createXMLStreamReader(
+            inputStreamSource.getInputStream());
+    try {
+      while (reader.hasNext()) {
+        switch (reader.next()) {
+          case XMLStreamConstants.START_ELEMENT:
+            startElement(reader);
+            break;
+          case XMLStreamConstants.END_ELEMENT:
+            endElement();
+            break;
+          case XMLStreamConstants.CHARACTERS:
+          case XMLStreamConstants.CDATA:
+            characters(reader);
+            break;
+          default:
+            assert true;    // ignore unrecognized events
+        }
       }
     }
-    reader.close();
+    finally {
+      reader.close();
+    }
   }
 
-  private void startElement(StartElement event) throws XMLStreamException {
-    final XmlViewConstants.ElementType elementType = elementType(event);
-    final QName type = type(event);
-    boolean valueElement = false;
-    switch (elementType) {
+  private void startElement(XMLStreamReader reader) {
+    int typeIndex = -1;
+    int xsiTypeIndex = -1;
+    final int attributeCount = reader.getAttributeCount();
+    for (int i = 0; i < attributeCount; i++) {
+      final String namespace = reader.getAttributeNamespace(i);
+      if (XmlViewConstants.VIEW_NAMESPACE.equals(namespace)
+          && XmlViewConstants.TYPE_NAME.equals(
+              reader.getAttributeLocalName(i))) {
+        typeIndex = i;
+      }
+      else if (XmlViewConstants.XSI_NAMESPACE.equals(namespace)
+          && XmlViewConstants.XSI_TYPE_NAME.equals(
+              reader.getAttributeLocalName(i))) {
+        xsiTypeIndex = i;
+      }
+    }
+
+    final String namespace = reader.getNamespaceURI();
+    final String name = name(namespace, reader.getLocalName());
+    final String xsiType = xsiTypeIndex != -1 ?
+        reader.getAttributeValue(xsiTypeIndex) : null;
+
+    final XmlViewConstants.ElementType kind = typeIndex != -1 ?
+        XmlViewConstants.ElementType.valueOf(
+            reader.getAttributeValue(typeIndex).toUpperCase())
+        : XmlViewConstants.ElementType.VALUE;
+    switch (kind) {
       case VALUE:
-        valueElement = true;
-        break;
+        push(name, xsiType != null ? localPart(xsiType) : null, true);
+        text.setLength(0);
+        return;
       case OBJECT:
-        beginObject(name(event.getName()), namespace(event.getName()));
-        discriminator(event);
-        metas(event);
+        beginObject(name, namespace(namespace));
         break;
       case ARRAY:
-        beginArray(name(event.getName()), namespace(event.getName()));
-        discriminator(event);
-        metas(event);
+        beginArray(name, namespace(namespace));
         break;
       default:
         throw new AssertionError("unrecognized element type");
     }
-
-    stack.push(new Frame(event.getName(), type, valueElement));
+    if (xsiType != null) {
+      discriminator(xsiType);
+    }
+    for (int i = 0; i < attributeCount; i++) {
+      if (XmlViewConstants.META_NAMESPACE.equals(
+          reader.getAttributeNamespace(i))) {
+        meta(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+      }
+    }
+    push(name, null, false);
   }
 
-  private void endElement() throws XMLStreamException {
-    final Frame frame = stack.pop();
-    if (!frame.isValueElement()) {
+  private void endElement() {
+    depth--;
+    if (!valueElements[depth]) {
       end();
     }
     else {
-      value(frame);
+      value(names[depth], types[depth], trimmedText());
     }
+    names[depth] = null;
+    types[depth] = null;
   }
 
-  private void characters(Characters event) {
-    if (!event.isIgnorableWhiteSpace()) {
-      stack.peek().append(event.getData());
+  private void characters(XMLStreamReader reader) {
+    if (depth > 0 && valueElements[depth - 1]) {
+      text.append(reader.getTextCharacters(), reader.getTextStart(),
+          reader.getTextLength());
     }
   }
 
-  private void discriminator(StartElement event) {
-    final Attribute type = event.getAttributeByName(
-        XmlViewConstants.XSI_TYPE_QNAME);
-    if (type != null) {
-      discriminator(type.getValue());
+  private void push(String name, String type, boolean valueElement) {
+    if (depth == names.length) {
+      final int length = 2 * depth;
+      names = Arrays.copyOf(names, length);
+      types = Arrays.copyOf(types, length);
+      valueElements = Arrays.copyOf(valueElements, length);
     }
+    names[depth] = name;
+    types[depth] = type;
+    valueElements[depth] = valueElement;
+    depth++;
+  }
+
+  private String trimmedText() {
+    int start = 0;
+    int end = text.length();
+    while (start < end && text.charAt(start) <= ' ') start++;
+    while (end > start && text.charAt(end - 1) <= ' ') end--;
+    return text.substring(start, end);
   }
 
-  private void metas(StartElement event) {
-    final Iterator attributes = event.getAttributes();
-    while (attributes.hasNext()) {
-      final Attribute attribute = (Attribute) attributes.next();
+  private void readElement(Element element) {
+    final String name = name(element.getNamespaceURI(),
+        element.getLocalName());
+    final Attr elementType = element.getAttributeNodeNS(
+        XmlViewConstants.VIEW_NAMESPACE, XmlViewConstants.TYPE_NAME);
+    final Attr type = element.getAttributeNodeNS(
+        XmlViewConstants.XSI_NAMESPACE, XmlViewConstants.XSI_TYPE_NAME);
+    final XmlViewConstants.ElementType kind = elementType != null ?
+        XmlViewConstants.ElementType.valueOf(
+            elementType.getValue().toUpperCase())
+        : XmlViewConstants.ElementType.VALUE;
+    switch (kind) {
+      case VALUE:
+        value(name, type != null ? localPart(type.getValue()) : null,
+            element.getTextContent().trim());
+        return;
+      case OBJECT:
+        beginObject(name, namespace(element.getNamespaceURI()));
+        break;
+      case ARRAY:
+        beginArray(name, namespace(element.getNamespaceURI()));
+        break;
+      default:
+        throw new AssertionError("unrecognized element type");
+    }
+    if (type != null) {
+      discriminator(type.getValue());
+    }
+    final NamedNodeMap attributes = element.getAttributes();
+    for (int i = 0, max = attributes.getLength(); i < max; i++) {
+      final Node attribute = attributes.item(i);
       if (XmlViewConstants.META_NAMESPACE.equals(
-          attribute.getName().getNamespaceURI())) {
-        meta(attribute.getName().getLocalPart(), attribute.getValue());
+          attribute.getNamespaceURI())) {
+        meta(attribute.getLocalName(), attribute.getNodeValue());
+      }
+    }
+    for (Node child = element.getFirstChild(); child != null;
+         child = child.getNextSibling()) {
+      if (child.getNodeType() == Node.ELEMENT_NODE) {
+        readElement((Element) child);
       }
     }
+    end();
   }
 
-  private void value(Frame frame) throws XMLStreamException {
-    final String type = frame.getType() != null ?
-        frame.getType() : XmlViewConstants.XS_STRING;
-    final String text = frame.getText();
+  private void value(String name, String type, String text) {
+    if (type == null) {
+      type = XmlViewConstants.XS_STRING;
+    }
     if (text.isEmpty()) {
-      nullValue(frame.getName());
+      nullValue(name);
       return;
     }
     switch (type) {
       case XmlViewConstants.XS_BOOLEAN:
-        value(frame.getName(), Boolean.valueOf(text));
+        value(name, Boolean.valueOf(text));
         break;
       case XmlViewConstants.XS_BYTE:
-        value(frame.getName(), Byte.valueOf(text));
+        value(name, Byte.valueOf(text));
         break;
       case XmlViewConstants.XS_SHORT:
-        value(frame.getName(), Short.valueOf(text));
+        value(name, Short.valueOf(text));
         break;
       case XmlViewConstants.XS_INT:
-        value(frame.getName(), Integer.valueOf(text));
+        value(name, Integer.valueOf(text));
         break;
       case XmlViewConstants.XS_LONG:
-        value(frame.getName(), Long.valueOf(text));
+        value(name, Long.valueOf(text));
         break;
       case XmlViewConstants.XS_INTEGER:
-        value(frame.getName(), new BigInteger(text));
+        value(name, new BigInteger(text));
         break;
       case XmlViewConstants.XS_FLOAT:
-        value(frame.getName(), Float.valueOf(text));
+        value(name, Float.valueOf(text));
         break;
       case XmlViewConstants.XS_DOUBLE:
-        value(frame.getName(), Double.valueOf(text));
+        value(name, Double.valueOf(text));
         break;
       case XmlViewConstants.XS_DECIMAL:
-        value(frame.getName(), new BigDecimal(text));
+        value(name, new BigDecimal(text));
         break;
       case XmlViewConstants.XS_DATE_TIME:
-        value(frame.getName(),
+        value(name,
           DatatypeConverter.parseDateTime(text).getTime().getTime());
         break;
       case XmlViewConstants.XS_STRING:
-        value(frame.getName(), text);
+        value(name, text);
         break;
       default:
         throw new IllegalArgumentException("unrecognized data type: "
@@ -239,41 +306,22 @@ class XmlViewReader extends AbstractViewReader {
     }
   }
 
-  private static XmlViewConstants.ElementType elementType(StartElement event) {
-    final Attribute attribute = event.getAttributeByName(
-        XmlViewConstants.TYPE_QNAME);
-    if (attribute == null) return XmlViewConstants.ElementType.VALUE;
-    return XmlViewConstants.ElementType.valueOf(
-        attribute.getValue().toUpperCase());
-  }
-
-  private static QName type(StartElement event) {
-    final Attribute type =
-        event.getAttributeByName(XmlViewConstants.XSI_TYPE_QNAME);
-    if (type == null) return null;
-    final String typeName = type.getValue();
-    final int index = typeName.indexOf(':');
-    if (index == -1) {
-      return new QName(event.getName().getNamespaceURI(), typeName);
+  private static String name(String namespaceURI, String localName) {
+    if (XmlViewConstants.VIEW_NAMESPACE.equals(namespaceURI)) {
+      return null;
     }
-    final String prefix = typeName.substring(0, index);
-    final String localPart = typeName.substring(index + 1);
-    return new QName(event.getNamespaceContext().getNamespaceURI(prefix),
-        localPart);
+    return localName;
   }
 
-  private static String name(QName qname) {
-    if (XmlViewConstants.VIEW_NAMESPACE.equals(qname.getNamespaceURI())) {
+  private static String namespace(String namespaceURI) {
+    if (XmlViewConstants.VIEW_NAMESPACE.equals(namespaceURI)) {
       return null;
     }
-    return qname.getLocalPart();
+    return namespaceURI;
   }
 
-  private static String namespace(QName qname) {
-    if (XmlViewConstants.VIEW_NAMESPACE.equals(qname.getNamespaceURI())) {
-      return null;
-    }
-    return qname.getNamespaceURI();
+  private static String localPart(String qualifiedName) {
+    return qualifiedName.substring(qualifiedName.indexOf(':') + 1);
   }
 
 }
@@ -35,13 +35,15 @@ import javax.xml.namespace.QName;
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
 import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.dom.DOMResult;
 
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewWriter;
 import org.soulwing.prospecto.api.options.Options;
-import org.soulwing.prospecto.api.options.WriterKeys;
+import org.soulwing.prospecto.api.text.NodeTarget;
 import org.soulwing.prospecto.api.text.OutputStreamTarget;
 import org.soulwing.prospecto.runtime.text.AbstractViewWriter;
+import org.w3c.dom.Node;
 
 /**
  * A {@link ViewWriter} that produces an XML representation of a view.
@@ -52,6 +54,10 @@ import org.soulwing.prospecto.runtime.text.AbstractViewWriter;
  * <p>
  * View envelope properties will be added as to the root element of the view
  * as attributes in the {@link XmlViewConstants#VIEW_NAMESPACE}.
+ * <p>
+ * Given a {@link NodeTarget}, the writer builds the corresponding DOM
+ * elements directly, using the platform's {@link DOMResult} stream writer,
+ * without producing (and subsequently parsing) text.
  *
  * @author Carl Harris
  */
@@ -106,6 +112,7 @@ class XmlViewWriter extends AbstractViewWriter {
 
   private OutputStream outputStream;
   private String encoding;
+  private Node node;
 
   private XMLStreamWriter writer;
 
@@ -147,9 +154,15 @@ class XmlViewWriter extends AbstractViewWriter {
 
   @Override
   public void writeView(Target target) {
+    if (target instanceof NodeTarget) {
+      this.node = ((NodeTarget) target).getNode();
+      writeView();
+      return;
+    }
     if (!(target instanceof OutputStreamTarget)) {
       throw new IllegalArgumentException("this writer supports only the "
-          + OutputStreamTarget.class.getSimpleName() + " target");
+          + OutputStreamTarget.class.getSimpleName() + " and "
+          + NodeTarget.class.getSimpleName() + " targets");
     }
     this.outputStream = ((OutputStreamTarget) target).getOutputStream();
     this.encoding = ((OutputStreamTarget) target).getEncoding();
@@ -159,12 +172,15 @@ class XmlViewWriter extends AbstractViewWriter {
 
   @Override
   protected void beforeViewEvents() throws Exception {
-    writer = outputFactory.createXMLStreamWriter(
-        new BufferedOutputStream(outputStream),
-            encoding == null ? DEFAULT_ENCODING : encoding);
-
-    if (getOptions().isEnabled(WriterKeys.PRETTY_PRINT_OUTPUT))
-      writer = new IndentingXMLStreamWriter(writer);
+    writer = node != null ?
+        outputFactory.createXMLStreamWriter(new DOMResult(node)) :
+        outputFactory.createXMLStreamWriter(
+            new BufferedOutputStream(outputStream),
+                encoding == null ? DEFAULT_ENCODING : encoding);
+
+    if (getOptionsSnapshot().isPrettyPrintOutput())
+      writer = new IndentingXMLStreamWriter(writer,
+          node == null || node.getNodeType() != Node.DOCUMENT_NODE);
   }
 
   @Override
@@ -307,7 +323,7 @@ class XmlViewWriter extends AbstractViewWriter {
   private void writeString(String name, String namespace, String type,
       String value) throws XMLStreamException {
     writeStartElement(name, namespace, XmlViewConstants.VALUE_QNAME);
-    if (getOptions().isEnabled(WriterKeys.INCLUDE_XML_XSI_TYPE)) {
+    if (getOptionsSnapshot().isIncludeXmlXsiType()) {
       writer.writeAttribute(XmlViewConstants.XSI_NAMESPACE,
           XmlViewConstants.XSI_TYPE_NAME, type);
     }
@@ -354,7 +370,7 @@ class XmlViewWriter extends AbstractViewWriter {
       namespaceStack.push(namespace);
     }
     else {
-      writer.writeStartElement(name);
+      writer.writeStartElement("", name, namespaceStack.peek());
       namespaceStack.push(namespaceStack.peek());
     }
   }
@@ -369,7 +385,7 @@ class XmlViewWriter extends AbstractViewWriter {
       writer.writeEmptyElement(namespace, name);
     }
     else {
-      writer.writeEmptyElement(name);
+      writer.writeEmptyElement("", name, namespaceStack.peek());
     }
   }
 
@@ -392,10 +408,25 @@ class XmlViewWriter extends AbstractViewWriter {
 
     private final Map<Integer, Boolean> hasChildElement = new HashMap<>();
 
+    private final boolean indentRoot;
+
     private int depth = 0;
 
     public IndentingXMLStreamWriter(XMLStreamWriter delegate) {
+      this(delegate, true);
+    }
+
+    /**
+     * Constructs a new instance.
+     * @param delegate the writer to which indented output is written
+     * @param indentRoot flag indicating whether a line break may be written
+     *    before the root element; a DOM document can't contain text, so
+     *    this must be {@code false} when the delegate writes to a document
+     */
+    public IndentingXMLStreamWriter(XMLStreamWriter delegate,
+        boolean indentRoot) {
       this.delegate = delegate;
+      this.indentRoot = indentRoot;
     }
 
     @Override
@@ -587,7 +618,9 @@ class XmlViewWriter extends AbstractViewWriter {
       // reset state of current node
       hasChildElement.put(depth, false);
       // indent for current depth
-      indent(depth);
+      if (depth > 0 || indentRoot) {
+        indent(depth);
+      }
 
       depth++;
     }
@@ -597,7 +630,9 @@ class XmlViewWriter extends AbstractViewWriter {
       if (depth > 0) {
         hasChildElement.put(depth - 1, true);
       }
-      indent(depth);
+      if (depth > 0 || indentRoot) {
+        indent(depth);
+      }
     }
 
     private void handleEndElement() throws XMLStreamException {
@@ -0,0 +1,255 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.util;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+import org.soulwing.prospecto.api.ViewContext;
+
+/**
+ * An immutable list of path elements that is extended by creating a new
+ * path that shares all of the elements of its parent.
+ * <p>
+ * Extending a path takes constant time and space, since a path holds only
+ * a reference to its parent path and its last element. The hash code of a
+ * path is computed incrementally from the hash code of its parent, and the
+ * string representations of a path are computed on first use and then
+ * retained. Since paths are immutable, a path can be used as a key in a
+ * cache, and a context that repeatedly visits the same location produces
+ * the same path instance.
+ *
+ * @author Carl Harris
+ */
+public final class PersistentPath<E> extends AbstractList<E>
+    implements RandomAccess {
+
+  private static final String DELIMITER =
+      String.valueOf(ViewContext.PATH_DELIMITER);
+
+  private static final PersistentPath<Object> EMPTY =
+      new PersistentPath<>(null, null, 0, 1);
+
+  private final PersistentPath<E> parent;
+  private final E element;
+  private final int size;
+  private final int hash;
+
+  private volatile Object[] elements;
+  private String string;
+  private String pathString;
+
+  private PersistentPath(PersistentPath<E> parent, E element, int size,
+      int hash) {
+    this.parent = parent;
+    this.element = element;
+    this.size = size;
+    this.hash = hash;
+  }
+
+  /**
+   * Gets the empty path.
+   * @return empty path
+   */
+  @SuppressWarnings("unchecked")
+  public static <E> PersistentPath<E> empty() {
+    return (PersistentPath<E>) EMPTY;
+  }
+
+  /**
+   * Creates a new path consisting of the elements of this path followed
+   * by the given element.
+   * @param element the element to append
+   * @return new path
+   */
+  public PersistentPath<E> with(E element) {
+    return new PersistentPath<>(this, element, size + 1,
+        31 * hash + (element == null ? 0 : element.hashCode()));
+  }
+
+  /**
+   * Gets the path that consists of all but the last element of this path.
+   * @return parent path or {@code null} if this is the empty path
+   */
+  public PersistentPath<E> getParent() {
+    return parent;
+  }
+
+  /**
+   * Gets the last element of this path.
+   * @return last element or {@code null} if this is the empty path
+   */
+  public E getLast() {
+    return element;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public E get(int index) {
+    if (index < 0 || index >= size) {
+      throw new IndexOutOfBoundsException("index " + index
+          + " out of bounds for path of length " + size);
+    }
+    if (index == size - 1) {
+      return element;
+    }
+    return (E) elements()[index];
+  }
+
+  private Object[] elements() {
+    Object[] elements = this.elements;
+    if (elements == null) {
+      elements = new Object[size];
+      PersistentPath<E> path = this;
+      for (int i = size - 1; i >= 0; i--) {
+        elements[i] = path.element;
+        path = path.parent;
+      }
+      this.elements = elements;
+    }
+    return elements;
+  }
+
+  @Override
+  public Iterator<E> iterator() {
+    final Object[] elements = elements();
+    return new Iterator<E>() {
+      private int index;
+
+      @Override
+      public boolean hasNext() {
+        return index < elements.length;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public E next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return (E) elements[index++];
+      }
+
+      @Override
+      public void remove() {
+        throw new UnsupportedOperationException();
+      }
+    };
+  }
+
+  @Override
+  public Object[] toArray() {
+    return elements().clone();
+  }
+
+  /**
+   * Gets a string representation of this path consisting of the
+   * string representation of each element preceded by
+   * {@link ViewContext#PATH_DELIMITER}.
+   * @return path string; the empty path is represented as a single
+   *    delimiter
+   */
+  public String toPathString() {
+    String pathString = this.pathString;
+    if (pathString == null) {
+      if (size == 0) {
+        pathString = DELIMITER;
+      }
+      else if (parent.size == 0) {
+        pathString = DELIMITER + element;
+      }
+      else {
+        pathString = parent.toPathString() + DELIMITER + element;
+      }
+      this.pathString = pathString;
+    }
+    return pathString;
+  }
+
+  @Override
+  public int hashCode() {
+    return hash;
+  }
+
+  /**
+   * Compares this path to another list.
+   * <p>
+   * The elements of this path are compared from last to first by walking
+   * the chain of parent paths, so that comparison takes time linear in the
+   * length of the path and does not materialize the elements of this path.
+   * When the other list is also a path, comparison stops at the first
+   * parent path shared by both.
+   * @param obj the object to compare
+   * @return {@code true} if {@code obj} is a list containing equal elements
+   *    in the same order
+   */
+  @Override
+  public boolean equals(Object obj) {
+    if (obj == this) return true;
+    if (obj instanceof PersistentPath) {
+      return equals((PersistentPath<?>) obj);
+    }
+    if (!(obj instanceof List)) return false;
+    final List<?> that = (List<?>) obj;
+    if (that.size() != size) return false;
+    final ListIterator<?> i = that.listIterator(size);
+    PersistentPath<E> path = this;
+    while (path.size > 0) {
+      if (!i.hasPrevious() || !eq(path.element, i.previous())) return false;
+      path = path.parent;
+    }
+    return !i.hasPrevious();
+  }
+
+  private boolean equals(PersistentPath<?> that) {
+    if (that.size != size || that.hash != hash) return false;
+    PersistentPath<?> a = this;
+    PersistentPath<?> b = that;
+    while (a != b) {
+      if (!eq(a.element, b.element)) return false;
+      a = a.parent;
+      b = b.parent;
+    }
+    return true;
+  }
+
+  private static boolean eq(Object a, Object b) {
+    return a == null ? b == null : a.equals(b);
+  }
+
+  @Override
+  public String toString() {
+    String string = this.string;
+    if (string == null) {
+      string = super.toString();
+      this.string = string;
+    }
+    return string;
+  }
+
+}
@@ -28,7 +28,7 @@ import java.util.List;
  */
 public class SimpleLinkedList<E> implements SimpleList<E> {
 
-  private final List<E> delegate = new LinkedList<>();
+  private final VersionedLinkedList<E> delegate = new VersionedLinkedList<>();
 
   @Override
   public void append(E element) {
@@ -50,4 +50,24 @@ public class SimpleLinkedList<E> implements SimpleList<E> {
     return delegate;
   }
 
+  /**
+   * Replaces the contents of this list with the contents of another list.
+   * <p>
+   * The lists share the same storage until either of them is modified.
+   * @param source the list whose contents are to be shared
+   * @see VersionedLinkedList#share(VersionedLinkedList)
+   */
+  protected void share(SimpleLinkedList<? extends E> source) {
+    delegate.share(source.delegate);
+  }
+
+  /**
+   * Gets the version of this list.
+   * @return a value that changes whenever the list is modified (including
+   *    modifications made through the list returned by {@link #toList()})
+   */
+  protected int getVersion() {
+    return delegate.getVersion();
+  }
+
 }
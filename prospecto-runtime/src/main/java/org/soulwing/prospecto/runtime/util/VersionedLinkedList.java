@@ -0,0 +1,203 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.util;
+
+import java.util.AbstractSequentialList;
+import java.util.LinkedList;
+import java.util.ListIterator;
+
+/**
+ * A list backed by a {@link LinkedList} that counts the modifications made
+ * to it.
+ * <p>
+ * Every change to the list, including changes made through its iterators
+ * and sublists, advances the {@linkplain #getVersion() version}. This allows
+ * an owner that caches information derived from the elements of the list to
+ * detect when its cache is stale, even when the list has been exposed to
+ * (and modified by) other components.
+ * <p>
+ * The contents of one list can be {@linkplain #share(VersionedLinkedList)
+ * shared} with another list. The lists then use the same underlying storage
+ * until either of them is modified, at which point the modified list makes
+ * a private copy of the storage. Any number of lists may share the contents
+ * of a source list concurrently, as long as none of them is modified
+ * concurrently.
+ *
+ * @author Carl Harris
+ */
+public class VersionedLinkedList<E> extends AbstractSequentialList<E> {
+
+  private LinkedList<E> delegate = new LinkedList<>();
+
+  /**
+   * A flag indicating that the delegate may be shared with another list.
+   */
+  private volatile boolean shared;
+
+  private int version;
+
+  /**
+   * Gets the version of this list.
+   * @return a value that changes whenever the list is modified
+   */
+  public int getVersion() {
+    return version;
+  }
+
+  /**
+   * Replaces the contents of this list with the contents of the given list.
+   * <p>
+   * The two lists share the same storage until either of them is modified.
+   * @param source the list whose contents are to be shared
+   */
+  @SuppressWarnings("unchecked")
+  public void share(VersionedLinkedList<? extends E> source) {
+    source.shared = true;
+    delegate = (LinkedList<E>) source.delegate;
+    shared = true;
+    version++;
+  }
+
+  /**
+   * Ensures that the storage of this list is not shared with any other list.
+   * @return storage of this list
+   */
+  private LinkedList<E> writableDelegate() {
+    if (shared) {
+      delegate = new LinkedList<>(delegate);
+      shared = false;
+    }
+    return delegate;
+  }
+
+  @Override
+  public int size() {
+    return delegate.size();
+  }
+
+  @Override
+  public boolean add(E element) {
+    writableDelegate().add(element);
+    version++;
+    return true;
+  }
+
+  @Override
+  public ListIterator<E> listIterator(int index) {
+    return new VersionedListIterator(delegate, index);
+  }
+
+  private class VersionedListIterator implements ListIterator<E> {
+
+    private LinkedList<E> list;
+    private ListIterator<E> delegate;
+
+    /**
+     * Direction of the last call to {@link #next()} (1) or
+     * {@link #previous()} (-1), or 0 if neither has been called since the
+     * last call to {@link #add(Object)} or {@link #remove()}.
+     */
+    private int lastMove;
+
+    VersionedListIterator(LinkedList<E> list, int index) {
+      this.list = list;
+      this.delegate = list.listIterator(index);
+    }
+
+    /**
+     * Ensures that this iterator refers to unshared storage, positioning
+     * a new iterator over a private copy in the same state as the current
+     * iterator, if necessary.
+     */
+    private ListIterator<E> writableDelegate() {
+      final LinkedList<E> writable = VersionedLinkedList.this.writableDelegate();
+      if (writable != list) {
+        final ListIterator<E> iterator =
+            writable.listIterator(delegate.nextIndex());
+        if (lastMove > 0) {
+          iterator.previous();
+          iterator.next();
+        }
+        else if (lastMove < 0) {
+          iterator.next();
+          iterator.previous();
+        }
+        list = writable;
+        delegate = iterator;
+      }
+      return delegate;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return delegate.hasNext();
+    }
+
+    @Override
+    public E next() {
+      final E element = delegate.next();
+      lastMove = 1;
+      return element;
+    }
+
+    @Override
+    public boolean hasPrevious() {
+      return delegate.hasPrevious();
+    }
+
+    @Override
+    public E previous() {
+      final E element = delegate.previous();
+      lastMove = -1;
+      return element;
+    }
+
+    @Override
+    public int nextIndex() {
+      return delegate.nextIndex();
+    }
+
+    @Override
+    public int previousIndex() {
+      return delegate.previousIndex();
+    }
+
+    @Override
+    public void remove() {
+      writableDelegate().remove();
+      lastMove = 0;
+      version++;
+    }
+
+    @Override
+    public void set(E element) {
+      writableDelegate().set(element);
+      version++;
+    }
+
+    @Override
+    public void add(E element) {
+      writableDelegate().add(element);
+      lastMove = 0;
+      version++;
+    }
+
+  }
+
+}
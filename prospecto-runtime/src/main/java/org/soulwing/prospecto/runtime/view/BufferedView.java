@@ -0,0 +1,105 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.view;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.runtime.event.ViewEventBuffer;
+import org.soulwing.prospecto.runtime.event.ViewEventSink;
+import org.soulwing.prospecto.runtime.event.ViewEventSource;
+
+/**
+ * A {@link View} whose events are held in a {@link ViewEventBuffer}.
+ * <p>
+ * The buffer must not be modified once the view has been created.
+ *
+ * @author Carl Harris
+ */
+public class BufferedView implements View, ViewEventSource {
+
+  private final Envelope envelope = new BufferedEnvelope();
+
+  private final ViewEventBuffer events;
+
+  public BufferedView(ViewEventBuffer events) {
+    this.events = events;
+  }
+
+  @Override
+  public Envelope getEnvelope() {
+    return envelope();
+  }
+
+  @Override
+  public Envelope envelope() {
+    return envelope;
+  }
+
+  @Override
+  public Iterator<Event> iterator() {
+    return events.iterator();
+  }
+
+  @Override
+  public void emitTo(ViewEventSink sink) throws Exception {
+    events.emitTo(sink);
+  }
+
+  class BufferedEnvelope implements Envelope {
+    private final Map<String, Object> properties = new LinkedHashMap<>();
+
+    @Override
+    public Envelope putProperty(String name, Object value) {
+      properties.put(name, value);
+      return this;
+    }
+
+    @Override
+    public View seal(String name) {
+      return seal(name, null);
+    }
+
+    @Override
+    public View seal(String name, String namespace) {
+      final ViewEventBuffer wrapper =
+          new ViewEventBuffer(events.size() + properties.size() + 2);
+      wrapper.add(Event.Type.BEGIN_OBJECT, null, null, null);
+      for (final Map.Entry<String, Object> property : properties.entrySet()) {
+        wrapper.add(Event.Type.VALUE, property.getKey(), null,
+            property.getValue());
+      }
+      final int first = wrapper.size();
+      wrapper.addAll(events);
+      wrapper.rename(first, name, namespace);
+      wrapper.rename(wrapper.size() - 1, name, namespace);
+      wrapper.add(Event.Type.END_OBJECT, null, null, null);
+      return new BufferedView(wrapper);
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, Object>> iterator() {
+      return properties.entrySet().iterator();
+    }
+
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.view;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+
+/**
+ * An iterator that renames the first and last events of a delegate
+ * iterator.
+ * <p>
+ * This is used to give a new name to the outermost structure of a view
+ * without first copying its events.
+ *
+ * @author Carl Harris
+ */
+public class RenamingEventIterator implements Iterator<View.Event> {
+
+  private final Iterator<View.Event> delegate;
+  private final String name;
+  private final String namespace;
+
+  private boolean first = true;
+
+  public RenamingEventIterator(Iterator<View.Event> delegate, String name,
+      String namespace) {
+    this.delegate = delegate;
+    this.name = name;
+    this.namespace = namespace;
+  }
+
+  @Override
+  public boolean hasNext() {
+    return delegate.hasNext();
+  }
+
+  @Override
+  public View.Event next() {
+    if (!delegate.hasNext()) {
+      throw new NoSuchElementException();
+    }
+    final View.Event event = delegate.next();
+    if (first || !delegate.hasNext()) {
+      first = false;
+      return new ConcreteViewEvent(event.getType(), name, namespace, null);
+    }
+    return event;
+  }
+
+  @Override
+  public void remove() {
+    throw new UnsupportedOperationException();
+  }
+
+}
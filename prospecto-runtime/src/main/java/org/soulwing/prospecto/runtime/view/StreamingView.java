@@ -0,0 +1,142 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.view;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+
+/**
+ * A {@link View} whose events are produced on demand by an underlying
+ * iterator.
+ * <p>
+ * Unlike {@link ConcreteView}, a streaming view can be iterated only once;
+ * the events are generated as they are consumed and are not retained.
+ *
+ * @author Carl Harris
+ */
+public class StreamingView implements View {
+
+  private final Envelope envelope = new StreamingEnvelope();
+
+  private Iterator<Event> events;
+
+  public StreamingView(Iterator<Event> events) {
+    this.events = events;
+  }
+
+  @Override
+  public Envelope getEnvelope() {
+    return envelope();
+  }
+
+  @Override
+  public Envelope envelope() {
+    return envelope;
+  }
+
+  @Override
+  public Iterator<Event> iterator() {
+    if (events == null) {
+      throw new IllegalStateException("a streaming view can be iterated"
+          + " only once");
+    }
+    final Iterator<Event> i = events;
+    events = null;
+    return i;
+  }
+
+  class StreamingEnvelope implements Envelope {
+    private final Map<String, Object> properties = new LinkedHashMap<>();
+
+    @Override
+    public Envelope putProperty(String name, Object value) {
+      properties.put(name, value);
+      return this;
+    }
+
+    @Override
+    public View seal(String name) {
+      return seal(name, null);
+    }
+
+    @Override
+    public View seal(String name, String namespace) {
+      final List<Event> prefix = new ArrayList<>();
+      prefix.add(new ConcreteViewEvent(Event.Type.BEGIN_OBJECT, null, null));
+      for (final String key : properties.keySet()) {
+        prefix.add(new ConcreteViewEvent(Event.Type.VALUE, key, null,
+            properties.get(key)));
+      }
+      return new StreamingView(new ConcatenatingIterator(prefix.iterator(),
+          new RenamingEventIterator(StreamingView.this.iterator(),
+              name, namespace),
+          Collections.<Event>singletonList(new ConcreteViewEvent(
+              Event.Type.END_OBJECT, null, null)).iterator()));
+    }
+
+    @Override
+    public Iterator<Map.Entry<String, Object>> iterator() {
+      return properties.entrySet().iterator();
+    }
+
+  }
+
+  private static class ConcatenatingIterator implements Iterator<Event> {
+
+    private final Iterator<Event>[] delegates;
+    private int index;
+
+    @SafeVarargs
+    ConcatenatingIterator(Iterator<Event>... delegates) {
+      this.delegates = delegates;
+    }
+
+    @Override
+    public boolean hasNext() {
+      while (index < delegates.length) {
+        if (delegates[index].hasNext()) return true;
+        index++;
+      }
+      return false;
+    }
+
+    @Override
+    public Event next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      return delegates[index].next();
+    }
+
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException();
+    }
+
+  }
+
+}
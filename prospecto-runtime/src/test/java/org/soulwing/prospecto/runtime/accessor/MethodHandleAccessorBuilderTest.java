@@ -0,0 +1,272 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.accessor;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.Test;
+import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.api.ViewTemplateException;
+
+/**
+ * Unit tests for {@link MethodHandleAccessorBuilder}.
+ *
+ * @author Carl Harris
+ */
+public class MethodHandleAccessorBuilderTest {
+
+  private static final Object PRIVATE_FIELD_VALUE = new Object();
+  private static final Object PUBLIC_FIELD_VALUE = new Object();
+  private static final Object PUBLIC_METHOD_VALUE = new Object();
+  private static final Object FINAL_FIELD_VALUE = new Object();
+  private static final RuntimeException EXCEPTION = new RuntimeException();
+  private static final Error ERROR = new Error();
+
+  private MethodHandleAccessorBuilder accessorBuilder =
+      new MethodHandleAccessorBuilder(MockModel.class);
+
+  private MockModel model = new MockModel();
+
+  @Test
+  public void testPrivateFieldAccessor() throws Exception {
+    final Accessor accessor = accessorBuilder
+        .propertyName("privateField")
+        .accessType(AccessType.FIELD)
+        .build();
+    assertThat(accessor, is(instanceOf(MethodHandleFieldAccessor.class)));
+    assertThat(accessor.getDataType(), is(equalTo((Object) Object.class)));
+    assertThat(accessor.get(model), is(sameInstance(PRIVATE_FIELD_VALUE)));
+
+    final Object other = new Object();
+    accessor.set(model, other);
+    assertThat(accessor.get(model), is(sameInstance(other)));
+  }
+
+  @Test
+  public void testPrimitiveFieldAccessor() throws Exception {
+    final Accessor accessor = accessorBuilder
+        .propertyName("primitiveField")
+        .accessType(AccessType.FIELD)
+        .build();
+    assertThat(accessor.get(model), is(equalTo((Object) 42)));
+    accessor.set(model, 43);
+    assertThat(accessor.get(model), is(equalTo((Object) 43)));
+  }
+
+  @Test
+  public void testPublicFieldInSuperAccessor() throws Exception {
+    final Accessor accessor = accessorBuilder
+        .propertyName("publicFieldInSuper")
+        .accessType(AccessType.FIELD)
+        .build();
+    assertThat(accessor.get(model), is(sameInstance(PUBLIC_FIELD_VALUE)));
+  }
+
+  @Test
+  public void testFinalFieldAccessor() throws Exception {
+    final Accessor accessor = accessorBuilder
+        .propertyName("finalField")
+        .accessType(AccessType.FIELD)
+        .build();
+    assertThat(accessor.get(model), is(sameInstance(FINAL_FIELD_VALUE)));
+
+    final Object other = new Object();
+    accessor.set(model, other);
+    assertThat(accessor.get(model), is(sameInstance(other)));
+  }
+
+  @Test
+  public void testPublicMethodAccessor() throws Exception {
+    final Accessor accessor = accessorBuilder
+        .propertyName("publicMethod")
+        .accessType(AccessType.PROPERTY)
+        .build();
+    assertThat(accessor, is(instanceOf(MethodHandlePropertyAccessor.class)));
+    assertThat(accessor.get(model), is(sameInstance(PUBLIC_METHOD_VALUE)));
+
+    final Object other = new Object();
+    accessor.set(model, other);
+    assertThat(accessor.get(model), is(sameInstance(other)));
+  }
+
+  @Test
+  public void testPrimitiveMethodAccessor() throws Exception {
+    final Accessor accessor = accessorBuilder
+        .propertyName("primitiveMethod")
+        .accessType(AccessType.PROPERTY)
+        .build();
+    assertThat(accessor.getDataType(), is(equalTo((Object) int.class)));
+    assertThat(accessor.get(model), is(equalTo((Object) 42)));
+    accessor.set(model, 43);
+    assertThat(accessor.get(model), is(equalTo((Object) 43)));
+  }
+
+  @Test
+  public void testMethodAccessorWhenMethodThrows() throws Exception {
+    final Accessor accessor = accessorBuilder
+        .propertyName("throwingMethod")
+        .accessType(AccessType.PROPERTY)
+        .build();
+    try {
+      accessor.get(model);
+      fail("expected InvocationTargetException");
+    }
+    catch (InvocationTargetException ex) {
+      assertThat(ex.getCause(), is(sameInstance((Throwable) EXCEPTION)));
+    }
+  }
+
+  @Test
+  public void testMethodAccessorWhenMethodThrowsError() throws Exception {
+    final Accessor accessor = accessorBuilder
+        .propertyName("errorMethod")
+        .accessType(AccessType.PROPERTY)
+        .build();
+    try {
+      accessor.get(model);
+      fail("expected Error");
+    }
+    catch (Error ex) {
+      assertThat(ex, is(sameInstance(ERROR)));
+    }
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testMethodAccessorWithNullTarget() throws Exception {
+    accessorBuilder
+        .propertyName("publicMethod")
+        .accessType(AccessType.PROPERTY)
+        .build()
+        .get(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMethodAccessorWithWrongTargetType() throws Exception {
+    accessorBuilder
+        .propertyName("publicMethod")
+        .accessType(AccessType.PROPERTY)
+        .build()
+        .set(new Object(), new Object());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPrimitiveMethodAccessorWithNullValue() throws Exception {
+    accessorBuilder
+        .propertyName("primitiveMethod")
+        .accessType(AccessType.PROPERTY)
+        .build()
+        .set(model, null);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void testFieldAccessorWithNullTarget() throws Exception {
+    accessorBuilder
+        .propertyName("privateField")
+        .accessType(AccessType.FIELD)
+        .build()
+        .get(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testPrimitiveFieldAccessorWithWrongValueType() throws Exception {
+    accessorBuilder
+        .propertyName("primitiveField")
+        .accessType(AccessType.FIELD)
+        .build()
+        .set(model, "43");
+  }
+
+  @Test(expected = ViewTemplateException.class)
+  public void testPrivateMethodAccessor() throws Exception {
+    accessorBuilder
+        .propertyName("privateMethod")
+        .accessType(AccessType.PROPERTY)
+        .build();
+  }
+
+  @Test
+  public void testForSubtype() throws Exception {
+    final Accessor accessor = accessorBuilder
+        .propertyName("publicMethod")
+        .accessType(AccessType.PROPERTY)
+        .build()
+        .forSubtype(MockSubModel.class);
+    assertThat(accessor, is(instanceOf(MethodHandlePropertyAccessor.class)));
+    assertThat(accessor.get(new MockSubModel()),
+        is(sameInstance(PUBLIC_METHOD_VALUE)));
+  }
+
+  @SuppressWarnings("unused")
+  abstract class MockSuperModel {
+
+    public Object publicFieldInSuper = PUBLIC_FIELD_VALUE;
+
+  }
+
+  @SuppressWarnings("unused")
+  public class MockModel extends MockSuperModel {
+
+    private Object privateField = PRIVATE_FIELD_VALUE;
+    private int primitiveField = 42;
+    private final Object finalField = FINAL_FIELD_VALUE;
+
+    private Object publicMethod = PUBLIC_METHOD_VALUE;
+    private int primitiveMethod = 42;
+
+    Object getPrivateMethod() {
+      return null;
+    }
+
+    public Object getPublicMethod() {
+      return publicMethod;
+    }
+
+    public void setPublicMethod(Object value) {
+      this.publicMethod = value;
+    }
+
+    public int getPrimitiveMethod() {
+      return primitiveMethod;
+    }
+
+    public void setPrimitiveMethod(int value) {
+      this.primitiveMethod = value;
+    }
+
+    public Object getThrowingMethod() {
+      throw EXCEPTION;
+    }
+
+    public Object getErrorMethod() {
+      throw ERROR;
+    }
+
+  }
+
+  public class MockSubModel extends MockModel {
+  }
+
+}
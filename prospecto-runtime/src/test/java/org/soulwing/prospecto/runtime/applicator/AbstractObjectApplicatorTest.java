@@ -33,6 +33,8 @@ import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewApplicatorException;
 import org.soulwing.prospecto.api.association.ToOneAssociationManager;
 import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.OptionsSnapshot;
 import org.soulwing.prospecto.api.options.ViewKeys;
 import org.soulwing.prospecto.api.template.ContainerNode;
 import org.soulwing.prospecto.api.template.ObjectNode;
@@ -99,9 +101,6 @@ public abstract class AbstractObjectApplicatorTest<N extends ObjectNode>
   @Mock
   ContainerApplicatorLocator applicatorLocator;
 
-  @Mock
-  Options options;
-
   @Test(expected = ViewApplicatorException.class)
   public void testToModelObjectWhenNoEndEvent() throws Exception {
     context.checking(baseExpectations(false));
@@ -127,10 +126,8 @@ public abstract class AbstractObjectApplicatorTest<N extends ObjectNode>
     context.checking(findDescendantExpectations(null, null));
     context.checking(new Expectations() {
       {
-        oneOf(viewContext).getOptions();
-        will(returnValue(options));
-        oneOf(options).isEnabled(ViewKeys.IGNORE_UNKNOWN_PROPERTIES);
-        will(returnValue(false));
+        oneOf(viewContext).getOptionsSnapshot();
+        will(returnValue(ignoreUnknownProperties(false)));
       }
     });
     events.add(VALUE_EVENT);
@@ -145,10 +142,8 @@ public abstract class AbstractObjectApplicatorTest<N extends ObjectNode>
     context.checking(findDescendantExpectations(null, null));
     context.checking(new Expectations() {
       {
-        oneOf(viewContext).getOptions();
-        will(returnValue(options));
-        oneOf(options).isEnabled(ViewKeys.IGNORE_UNKNOWN_PROPERTIES);
-        will(returnValue(true));
+        oneOf(viewContext).getOptionsSnapshot();
+        will(returnValue(ignoreUnknownProperties(true)));
       }
     });
 
@@ -316,4 +311,10 @@ public abstract class AbstractObjectApplicatorTest<N extends ObjectNode>
 
   private interface MockModel {}
 
+  private static OptionsSnapshot ignoreUnknownProperties(boolean ignore) {
+    final Options options = new OptionsMap();
+    options.put(ViewKeys.IGNORE_UNKNOWN_PROPERTIES, ignore);
+    return OptionsSnapshot.of(options);
+  }
+
 }
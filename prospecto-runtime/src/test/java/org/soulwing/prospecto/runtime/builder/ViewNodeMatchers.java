@@ -123,6 +123,11 @@ public class ViewNodeMatchers {
     return hasProperty("elementName", equalTo(elementName));
   }
 
+  public static <T extends ViewNode> Matcher<T> havingParallelThreshold(
+      int threshold) {
+    return hasProperty("parallelThreshold", equalTo(threshold));
+  }
+
   public static Matcher<ViewNode> inDefaultNamespace() {
     return hasProperty("namespace", nullValue(String.class));
   }
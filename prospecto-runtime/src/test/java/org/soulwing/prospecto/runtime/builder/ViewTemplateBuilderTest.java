@@ -33,6 +33,7 @@ import static org.soulwing.prospecto.runtime.builder.ViewNodeMatchers.containing
 import static org.soulwing.prospecto.runtime.builder.ViewNodeMatchers.elementsNamed;
 import static org.soulwing.prospecto.runtime.builder.ViewNodeMatchers.forModelType;
 import static org.soulwing.prospecto.runtime.builder.ViewNodeMatchers.havingAttribute;
+import static org.soulwing.prospecto.runtime.builder.ViewNodeMatchers.havingParallelThreshold;
 import static org.soulwing.prospecto.runtime.builder.ViewNodeMatchers.inDefaultNamespace;
 import static org.soulwing.prospecto.runtime.builder.ViewNodeMatchers.inNamespace;
 import static org.soulwing.prospecto.runtime.builder.ViewNodeMatchers.named;
@@ -46,6 +47,7 @@ import org.junit.Test;
 import org.soulwing.prospecto.ViewTemplateBuilderProducer;
 import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.api.ParallelViewTemplateBuilder;
 import org.soulwing.prospecto.api.ViewTemplateException;
 import org.soulwing.prospecto.api.discriminator.DiscriminatorStrategy;
 import org.soulwing.prospecto.api.meta.LiteralMetadataHandler;
@@ -95,6 +97,7 @@ public class ViewTemplateBuilderTest {
   private static final Object ATTRIBUTE_VALUE = new Object() { };
   private static final String META_NAME = "metaName";
   private static final Object META_VALUE = "metaValue";
+  private static final int PARALLEL_THRESHOLD = 100;
 
   @Test
   public void testRootObject() throws Exception {
@@ -1515,6 +1518,67 @@ public class ViewTemplateBuilderTest {
         .build();
   }
 
+  @Test
+  public void testObjectArrayOfObjectsParallel() throws Exception {
+    ConcreteViewTemplate template = (ConcreteViewTemplate)
+        ((ParallelViewTemplateBuilder) ViewTemplateBuilderProducer
+            .object(VIEW_NAME, NAMESPACE, MockModel.class)
+            .arrayOfObjects(MOCK_ARRAY, Object.class))
+                .parallel(PARALLEL_THRESHOLD)
+            .end()
+            .build();
+
+    assertThat(template.getRoot(), is(
+        nodeOfType(RootObjectNode.class,
+            named(VIEW_NAME), inNamespace(NAMESPACE),
+            containing(
+                nodeOfType(ConcreteArrayOfObjectsNode.class,
+                    named(MOCK_ARRAY), inDefaultNamespace(),
+                    havingParallelThreshold(PARALLEL_THRESHOLD)
+                )
+            )
+        )
+    ));
+  }
+
+  @Test
+  public void testRootArrayOfObjectsParallel() throws Exception {
+    ConcreteViewTemplate template = (ConcreteViewTemplate)
+        ((ParallelViewTemplateBuilder) ViewTemplateBuilderProducer
+            .arrayOfObjects(VIEW_NAME, ELEMENT_NAME, NAMESPACE,
+                MockModel.class))
+            .parallel(PARALLEL_THRESHOLD)
+            .build();
+
+    assertThat(template.getRoot(), is(
+        nodeOfType(RootArrayOfObjectNode.class,
+            named(VIEW_NAME),
+            havingParallelThreshold(PARALLEL_THRESHOLD)
+        )
+    ));
+  }
+
+  @Test(expected = ViewTemplateException.class)
+  public void testObjectArrayOfObjectsParallelWithInvalidThreshold()
+      throws Exception {
+    ((ParallelViewTemplateBuilder) ViewTemplateBuilderProducer
+        .object(VIEW_NAME, NAMESPACE, MockModel.class)
+        .arrayOfObjects(MOCK_ARRAY, Object.class))
+            .parallel(0)
+        .end()
+        .build();
+  }
+
+  @Test(expected = ViewTemplateException.class)
+  public void testObjectParallel() throws Exception {
+    ((ParallelViewTemplateBuilder) ViewTemplateBuilderProducer
+        .object(VIEW_NAME, NAMESPACE, MockModel.class)
+        .object(MOCK_PROPERTY, MockChildModel.class))
+            .parallel(PARALLEL_THRESHOLD)
+        .end()
+        .build();
+  }
+
   @Test
   public void testObjectEnvelope() throws Exception {
     ConcreteViewTemplate template = (ConcreteViewTemplate)
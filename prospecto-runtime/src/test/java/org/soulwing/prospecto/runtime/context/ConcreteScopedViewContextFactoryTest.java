@@ -45,6 +45,22 @@ public class ConcreteScopedViewContextFactoryTest {
     viewContext.get(DiscriminatorStrategy.class);
   }
 
+  @Test
+  public void testDefaultDiscriminatorStrategyIsShared() throws Exception {
+    assertThat(ConcreteScopedViewContextFactory.INSTANCE.newContext(source)
+            .get(DiscriminatorStrategy.class),
+        is(sameInstance(ConcreteScopedViewContextFactory.INSTANCE
+            .newContext(source).get(DiscriminatorStrategy.class))));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testDefaultDiscriminatorStrategyIsUnmodifiable()
+      throws Exception {
+    ((SimpleClassNameDiscriminatorStrategy)
+        ConcreteScopedViewContextFactory.INSTANCE.newContext(source)
+            .get(DiscriminatorStrategy.class)).setName("other");
+  }
+
   @Test
   public void testExplicitDiscriminatorStrategy() throws Exception {
     DiscriminatorStrategy strategy = new SimpleClassNameDiscriminatorStrategy();
@@ -23,12 +23,15 @@ import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
+import org.jmock.Expectations;
 import org.jmock.auto.Mock;
 import org.jmock.integration.junit4.JUnitRuleMockery;
 import org.junit.Before;
@@ -43,6 +46,7 @@ import org.soulwing.prospecto.api.options.Options;
 import org.soulwing.prospecto.api.reference.ReferenceResolver;
 import org.soulwing.prospecto.api.scope.MutableScope;
 import org.soulwing.prospecto.api.scope.Scope;
+import org.soulwing.prospecto.runtime.scope.ConcreteMutableScope;
 
 /**
  * Unit tests for {@link ConcreteViewContext}.
@@ -104,6 +108,26 @@ public class ConcreteViewContextTest {
     assertThat(scopes.get(1), is(sameInstance(scope0)));
   }
 
+  @Test
+  public void testCopyIsIndependentOfSource() throws Exception {
+    final Scope scope0 = viewContext.appendScope();
+    final ViewListener listener = new ViewListener() {};
+    viewContext.getListeners().append(listener);
+
+    final ConcreteViewContext copy = new ConcreteViewContext(viewContext);
+    assertThat(copy.getScopes().toList(), contains(scope0));
+    assertThat(copy.getListeners().toList(), contains(listener));
+
+    final Scope scope1 = copy.appendScope();
+    copy.getListeners().toList().clear();
+    final Scope scope2 = viewContext.prependScope();
+
+    assertThat(copy.getScopes().toList(), contains(scope0, scope1));
+    assertThat(copy.getListeners().toList(), is(empty()));
+    assertThat(viewContext.getScopes().toList(), contains(scope2, scope0));
+    assertThat(viewContext.getListeners().toList(), contains(listener));
+  }
+
 
   @Test(expected = RuntimeException.class)
   public void testGetByTypeWhenNotFound() throws Exception {
@@ -341,6 +365,28 @@ public class ConcreteViewContextTest {
     assertThat(viewContext.currentModelPath(), is(empty()));
   }
 
+  @Test
+  public void testCurrentPathsAreReused() throws Exception {
+    viewContext.push(SCOPE0, MockScope0Type.class);
+    viewContext.push(SCOPE1, null);
+    final List<String> viewPath = viewContext.currentViewPath();
+    final List<Class<?>> modelPath = viewContext.currentModelPath();
+    assertThat(viewContext.currentViewPath(), is(sameInstance(viewPath)));
+    assertThat(viewContext.currentModelPath(), is(sameInstance(modelPath)));
+
+    viewContext.push(0);
+    viewContext.pop();
+    assertThat(viewContext.currentViewPath(), is(sameInstance(viewPath)));
+
+    viewContext.pop();
+    viewContext.push(SCOPE2, null);
+    assertThat(viewContext.currentViewPath(),
+        is(equalTo(Arrays.asList(SCOPE0, SCOPE2))));
+    assertThat(viewContext.currentModelPath(), is(equalTo(modelPath)));
+    assertThat(viewContext.currentViewPathAsString(),
+        is(equalTo("/" + SCOPE0 + "/" + SCOPE2)));
+  }
+
   @Test
   public void testCopy() throws Exception {
     final Scope scope =
@@ -385,4 +431,143 @@ public class ConcreteViewContextTest {
     assertThat(contextCopy.getOptions(), is(sameInstance(options)));
   }
 
+  @Test
+  public void testPushIndex() throws Exception {
+    viewContext.push(SCOPE0, null);
+    viewContext.push(3);
+    assertThat(viewContext.currentViewPath(),
+        is(equalTo(Arrays.asList(SCOPE0, "3"))));
+    assertThat(viewContext.currentModelPath(), is(empty()));
+  }
+
+  @Test
+  public void testPushAfterPopDoesNotRetainObjects() throws Exception {
+    final MockScope0Type scope0Mock = new MockScope0Type() {};
+    viewContext.push(SCOPE0, null);
+    viewContext.push(SCOPE1, null);
+    viewContext.put(SCOPE1_MOCK, scope0Mock);
+    viewContext.pop();
+    viewContext.push(SCOPE2, null);
+    assertThat(viewContext.getOptional(MockScope0Type.class),
+        is(nullValue()));
+    assertThat(viewContext.getOptional(SCOPE1_MOCK, MockScope0Type.class),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testPushBeyondInitialDepth() throws Exception {
+    final List<String> path = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      viewContext.push(i);
+      path.add(Integer.toString(i));
+    }
+    assertThat(viewContext.currentViewPath(), is(equalTo(path)));
+    for (int i = 0; i < 100; i++) {
+      viewContext.pop();
+    }
+    assertThat(viewContext.currentViewPath(), is(empty()));
+  }
+
+  @Test
+  public void testUrlMemoIsSharedWithForkButNotCopy() throws Exception {
+    final ScopedViewContext fork = viewContext.fork();
+    assertThat(fork.getUrlMemo(), is(sameInstance(viewContext.getUrlMemo())));
+    assertThat(new ConcreteViewContext(viewContext).getUrlMemo(),
+        is(not(sameInstance(viewContext.getUrlMemo()))));
+  }
+
+  @Test
+  public void testForkSharesFramesButNotNewFrames() throws Exception {
+    final MockScope0Type scope0Mock = new MockScope0Type() {};
+    final MockScope1Type scope1Mock = new MockScope1Type() {};
+    final MockScope2Type scope2Mock = new MockScope2Type() {};
+    viewContext.push(SCOPE0, null);
+    viewContext.put(scope0Mock);
+
+    final ScopedViewContext fork = viewContext.fork();
+    fork.push(SCOPE1, null);
+    fork.put(scope1Mock);
+    assertThat(fork.getOptional(MockScope0Type.class),
+        is(sameInstance(scope0Mock)));
+
+    viewContext.pop();
+    viewContext.push(SCOPE2, null);
+    viewContext.put(scope2Mock);
+
+    assertThat(fork.currentViewPath(),
+        is(equalTo(Arrays.asList(SCOPE0, SCOPE1))));
+    assertThat(fork.getOptional(MockScope0Type.class),
+        is(sameInstance(scope0Mock)));
+    assertThat(fork.getOptional(MockScope2Type.class), is(nullValue()));
+    assertThat(viewContext.getOptional(MockScope0Type.class),
+        is(nullValue()));
+    assertThat(viewContext.getOptional(MockScope1Type.class),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testMemoizedScopeLookups() throws Exception {
+    final Scope scope = context.mock(Scope.class);
+    final MockScope0Type scope0Mock = new MockScope0Type() {};
+    context.checking(new Expectations() {
+      {
+        oneOf(scope).get(MockScope0Type.class);
+        will(returnValue(scope0Mock));
+        oneOf(scope).get(MockScope1Type.class);
+        will(returnValue(null));
+      }
+    });
+
+    viewContext.getScopes().append(scope);
+    viewContext.memoizeScopeLookups();
+    viewContext.push(SCOPE0, null);
+    for (int i = 0; i < 2; i++) {
+      assertThat(viewContext.getOptional(MockScope0Type.class),
+          is(sameInstance(scope0Mock)));
+      assertThat(viewContext.getOptional(MockScope1Type.class),
+          is(nullValue()));
+    }
+  }
+
+  @Test
+  public void testMemoizedScopeLookupsAfterScopesChange() throws Exception {
+    final MockScope0Type scope0Mock = new MockScope0Type() {};
+    viewContext.memoizeScopeLookups();
+    assertThat(viewContext.getOptional(MockScope0Type.class),
+        is(nullValue()));
+    viewContext.appendScope().put(scope0Mock);
+    assertThat(viewContext.getOptional(MockScope0Type.class),
+        is(sameInstance(scope0Mock)));
+  }
+
+  @Test
+  public void testMemoizedScopeLookupsAfterScopeContentsChange()
+      throws Exception {
+    final MockScope0Type scope0Mock = new MockScope0Type() {};
+    final MutableScope scope = viewContext.appendScope();
+    viewContext.memoizeScopeLookups();
+    assertThat(viewContext.getOptional(MockScope0Type.class),
+        is(nullValue()));
+    scope.put(scope0Mock);
+    assertThat(viewContext.getOptional(MockScope0Type.class),
+        is(sameInstance(scope0Mock)));
+    ((ConcreteMutableScope) scope).remove(scope0Mock);
+    assertThat(viewContext.getOptional(MockScope0Type.class),
+        is(nullValue()));
+  }
+
+  @Test
+  public void testMemoizedScopeLookupsAfterSharedScopeContentsChange()
+      throws Exception {
+    final MockScope0Type scope0Mock = new MockScope0Type() {};
+    final MutableScope scope = viewContext.appendScope();
+    final ConcreteViewContext copy = new ConcreteViewContext(viewContext);
+    copy.appendScope();
+    copy.memoizeScopeLookups();
+    assertThat(copy.getOptional(MockScope0Type.class), is(nullValue()));
+    scope.put(scope0Mock);
+    assertThat(copy.getOptional(MockScope0Type.class),
+        is(sameInstance(scope0Mock)));
+  }
+
 }
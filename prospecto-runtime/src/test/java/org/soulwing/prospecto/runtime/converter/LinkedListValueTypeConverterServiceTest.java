@@ -90,4 +90,92 @@ public class LinkedListValueTypeConverterServiceTest {
         is(equalTo(VIEW_VALUE)));
   }
 
+  @Test
+  public void testContextConverterResolvedOnce() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(node).get(ValueTypeConverter.class);
+        will(returnValue(null));
+        oneOf(converter).supports(MODEL_VALUE.getClass());
+        will(returnValue(true));
+        exactly(2).of(converter).toViewValue(MODEL_VALUE, viewContext);
+        will(returnValue(VIEW_VALUE));
+      }
+    });
+
+    service.append(converter);
+    assertThat(service.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(VIEW_VALUE)));
+    assertThat(service.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(VIEW_VALUE)));
+  }
+
+  @Test
+  public void testNoConverterResolvedAgainAfterChange() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(node).get(ValueTypeConverter.class);
+        will(returnValue(null));
+        oneOf(converter).supports(MODEL_VALUE.getClass());
+        will(returnValue(true));
+        oneOf(converter).toViewValue(MODEL_VALUE, viewContext);
+        will(returnValue(VIEW_VALUE));
+      }
+    });
+
+    assertThat(service.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(MODEL_VALUE)));
+    service.toList().add(converter);
+    assertThat(service.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(VIEW_VALUE)));
+  }
+
+  @Test
+  public void testSharedConverterResolvedOnce() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(node).get(ValueTypeConverter.class);
+        will(returnValue(null));
+        oneOf(converter).supports(MODEL_VALUE.getClass());
+        will(returnValue(true));
+        exactly(2).of(converter).toViewValue(MODEL_VALUE, viewContext);
+        will(returnValue(VIEW_VALUE));
+      }
+    });
+
+    service.append(converter);
+    final LinkedListValueTypeConverterService copy =
+        new LinkedListValueTypeConverterService();
+    copy.share(service);
+    assertThat(service.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(VIEW_VALUE)));
+    assertThat(copy.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(VIEW_VALUE)));
+  }
+
+  @Test
+  public void testSharedConverterResolvedAgainAfterChange() throws Exception {
+    context.checking(new Expectations() {
+      {
+        allowing(node).get(ValueTypeConverter.class);
+        will(returnValue(null));
+        oneOf(converter).supports(MODEL_VALUE.getClass());
+        will(returnValue(true));
+        oneOf(converter).toViewValue(MODEL_VALUE, viewContext);
+        will(returnValue(VIEW_VALUE));
+      }
+    });
+
+    final LinkedListValueTypeConverterService copy =
+        new LinkedListValueTypeConverterService();
+    copy.share(service);
+    assertThat(copy.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(MODEL_VALUE)));
+    service.append(converter);
+    assertThat(service.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(VIEW_VALUE)));
+    assertThat(copy.toViewValue(MODEL_VALUE, node, viewContext),
+        is(equalTo(MODEL_VALUE)));
+  }
+
 }
@@ -0,0 +1,127 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.discriminator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.prospecto.api.discriminator.Discriminator;
+import org.soulwing.prospecto.api.discriminator.DiscriminatorStrategy;
+
+/**
+ * Unit tests for {@link DiscriminatorCache}.
+ *
+ * @author Carl Harris
+ */
+public class DiscriminatorCacheTest {
+
+  private static final Discriminator DISCRIMINATOR =
+      new Discriminator("subtype");
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private DiscriminatorStrategy strategy;
+
+  @Mock
+  private DiscriminatorStrategy otherStrategy;
+
+  private DiscriminatorCache cache = new DiscriminatorCache();
+
+  @Test
+  public void testToDiscriminator() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(strategy).toDiscriminator(MockType.class, MockSubType.class);
+        will(returnValue(DISCRIMINATOR));
+      }
+    });
+
+    assertThat(cache.toDiscriminator(strategy, MockType.class,
+        MockSubType.class), is(sameInstance(DISCRIMINATOR)));
+    assertThat(cache.toDiscriminator(strategy, MockType.class,
+        MockSubType.class), is(sameInstance(DISCRIMINATOR)));
+  }
+
+  @Test
+  public void testToDiscriminatorWithDifferentStrategy() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(strategy).toDiscriminator(MockType.class, MockSubType.class);
+        will(returnValue(DISCRIMINATOR));
+        oneOf(otherStrategy).toDiscriminator(MockType.class, MockSubType.class);
+        will(returnValue(DISCRIMINATOR));
+      }
+    });
+
+    cache.toDiscriminator(strategy, MockType.class, MockSubType.class);
+    cache.toDiscriminator(otherStrategy, MockType.class, MockSubType.class);
+    cache.toDiscriminator(otherStrategy, MockType.class, MockSubType.class);
+  }
+
+  @Test
+  public void testToSubtype() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(strategy).toSubtype(MockType.class, DISCRIMINATOR);
+        will(returnValue(MockSubType.class));
+      }
+    });
+
+    assertThat(cache.toSubtype(strategy, MockType.class, DISCRIMINATOR),
+        is(equalTo((Object) MockSubType.class)));
+    assertThat(cache.toSubtype(strategy, MockType.class,
+        new Discriminator(DISCRIMINATOR.getValue())),
+        is(equalTo((Object) MockSubType.class)));
+  }
+
+  @Test
+  public void testToSubtypeWhenNotFound() throws Exception {
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(strategy).toSubtype(MockType.class, DISCRIMINATOR);
+        will(throwException(new ClassNotFoundException()));
+      }
+    });
+
+    for (int i = 0; i < 2; i++) {
+      try {
+        cache.toSubtype(strategy, MockType.class, DISCRIMINATOR);
+      }
+      catch (ClassNotFoundException ex) {
+        assert true;
+      }
+    }
+  }
+
+  interface MockType {
+  }
+
+  interface MockSubType extends MockType {
+  }
+
+}
@@ -0,0 +1,153 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.event;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.eventOfType;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.inNamespace;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.whereValue;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.withName;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.junit.Test;
+import org.soulwing.prospecto.api.View;
+
+/**
+ * Unit tests for {@link ViewEventBuffer}.
+ *
+ * @author Carl Harris
+ */
+public class ViewEventBufferTest {
+
+  private static final String NAME = "name";
+  private static final String NAMESPACE = "namespace";
+
+  private final ViewEventBuffer buffer = new ViewEventBuffer(1);
+
+  @Test
+  public void testAddAndGrow() throws Exception {
+    for (int i = 0; i < 100; i++) {
+      buffer.add(View.Event.Type.VALUE, NAME, NAMESPACE, i);
+    }
+    assertThat(buffer.size(), is(equalTo(100)));
+    for (int i = 0; i < 100; i++) {
+      assertThat(buffer.getType(i), is(equalTo(View.Event.Type.VALUE)));
+      assertThat(buffer.getName(i), is(equalTo(NAME)));
+      assertThat(buffer.getNamespace(i), is(equalTo(NAMESPACE)));
+      assertThat(buffer.getValue(i), is((Object) i));
+    }
+  }
+
+  @Test
+  public void testInsert() throws Exception {
+    buffer.add(View.Event.Type.BEGIN_OBJECT, null, null, null);
+    buffer.add(View.Event.Type.VALUE, NAME, null, NAME);
+    buffer.add(View.Event.Type.END_OBJECT, null, null, null);
+    buffer.insert(1, View.Event.Type.DISCRIMINATOR, NAME, null, NAMESPACE);
+
+    assertThat(buffer.size(), is(equalTo(4)));
+    assertThat(buffer.getType(0), is(equalTo(View.Event.Type.BEGIN_OBJECT)));
+    assertThat(buffer.getType(1), is(equalTo(View.Event.Type.DISCRIMINATOR)));
+    assertThat(buffer.getValue(1), is((Object) NAMESPACE));
+    assertThat(buffer.getType(2), is(equalTo(View.Event.Type.VALUE)));
+    assertThat(buffer.getType(3), is(equalTo(View.Event.Type.END_OBJECT)));
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetBeyondSize() throws Exception {
+    buffer.add(View.Event.Type.VALUE, NAME, null, NAME);
+    buffer.getType(1);
+  }
+
+  @Test
+  public void testAddAllAndRename() throws Exception {
+    final ViewEventBuffer other = new ViewEventBuffer();
+    other.add(View.Event.Type.BEGIN_ARRAY, null, null, null);
+    other.add(View.Event.Type.END_ARRAY, null, null, null);
+
+    buffer.add(View.Event.Type.BEGIN_OBJECT, null, null, null);
+    buffer.addAll(other);
+    buffer.rename(1, NAME, NAMESPACE);
+    buffer.add(View.Event.Type.END_OBJECT, null, null, null);
+
+    assertThat(buffer.size(), is(equalTo(4)));
+    assertThat(buffer.getType(1), is(equalTo(View.Event.Type.BEGIN_ARRAY)));
+    assertThat(buffer.getName(1), is(equalTo(NAME)));
+    assertThat(buffer.getNamespace(1), is(equalTo(NAMESPACE)));
+    assertThat(buffer.getName(2), is(nullValue()));
+  }
+
+  @Test
+  public void testCursor() throws Exception {
+    buffer.add(View.Event.Type.VALUE, NAME, NAMESPACE, 1);
+    buffer.add(View.Event.Type.VALUE, NAME, NAMESPACE, 2);
+
+    final ViewEventBuffer.Cursor cursor = buffer.cursor();
+    assertThat(cursor.next(), is(true));
+    assertThat(cursor.getValue(), is((Object) 1));
+    assertThat(cursor.next(), is(true));
+    assertThat(cursor.getValue(), is((Object) 2));
+    assertThat(cursor.next(), is(false));
+    assertThat(cursor.next(), is(false));
+  }
+
+  @Test
+  public void testIterator() throws Exception {
+    buffer.add(View.Event.Type.VALUE, NAME, NAMESPACE, 1);
+    buffer.add(View.Event.Type.VALUE, NAME, NAMESPACE, 2);
+
+    final Iterator<View.Event> events = buffer.iterator();
+    final View.Event first = events.next();
+    final View.Event second = events.next();
+    assertThat(events.hasNext(), is(false));
+    assertThat(first, is(not(sameInstance(second))));
+    assertThat(first, is(eventOfType(View.Event.Type.VALUE, withName(NAME),
+        inNamespace(NAMESPACE), whereValue(is(equalTo((Object) 1))))));
+    assertThat(second, is(eventOfType(View.Event.Type.VALUE, withName(NAME),
+        inNamespace(NAMESPACE), whereValue(is(equalTo((Object) 2))))));
+  }
+
+  @Test
+  public void testEmitTo() throws Exception {
+    final FlyweightViewEvent event = new FlyweightViewEvent();
+    buffer.onEvent(event.set(View.Event.Type.BEGIN_OBJECT, NAME, null, null));
+    buffer.onEvent(event.set(View.Event.Type.END_OBJECT, NAME, null, null));
+
+    final List<View.Event.Type> types = new ArrayList<>();
+    buffer.emitTo(new ViewEventSink() {
+      @Override
+      public void onEvent(View.Event event) throws Exception {
+        types.add(event.getType());
+      }
+    });
+
+    assertThat(types.size(), is(equalTo(2)));
+    assertThat(types.get(0), is(equalTo(View.Event.Type.BEGIN_OBJECT)));
+    assertThat(types.get(1), is(equalTo(View.Event.Type.END_OBJECT)));
+  }
+
+}
@@ -64,7 +64,7 @@ public abstract class AbstractMetaGeneratorTest<N extends MetaNode>
       }
     });
 
-    assertThat(generator.generate(MODEL, viewContext),
+    assertThat(generate(MODEL),
         contains(expectedEvent(TRANSFORMED_VALUE)));
   }
 
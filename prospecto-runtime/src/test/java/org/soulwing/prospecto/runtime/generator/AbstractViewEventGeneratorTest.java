@@ -19,16 +19,22 @@
 package org.soulwing.prospecto.runtime.generator;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.emptyCollectionOf;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.soulwing.prospecto.runtime.listener.ViewNodeEventMatchers.eventDescribing;
 import static org.soulwing.prospecto.runtime.listener.ViewNodeEventMatchers.forModel;
 import static org.soulwing.prospecto.runtime.listener.ViewNodeEventMatchers.inContext;
 import static org.soulwing.prospecto.runtime.listener.ViewNodeEventMatchers.sourceNode;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.eventOfType;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.inNamespace;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.whereValue;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.withName;
 
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.hamcrest.Matcher;
 import org.jmock.Expectations;
 import org.jmock.auto.Mock;
 import org.jmock.integration.junit4.JUnitRuleMockery;
@@ -37,7 +43,9 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.ViewNode;
+import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
+import org.soulwing.prospecto.runtime.event.ViewEventBuffer;
 import org.soulwing.prospecto.runtime.listener.NotifiableViewListeners;
 
 /**
@@ -61,9 +69,6 @@ public abstract class AbstractViewEventGeneratorTest<N extends ViewNode> {
   @Mock
   NotifiableViewListeners listeners;
 
-  @Mock
-  private View.Event event;
-
   N node;
 
   AbstractViewEventGenerator<N> generator;
@@ -84,6 +89,10 @@ public abstract class AbstractViewEventGeneratorTest<N extends ViewNode> {
       {
         allowing(viewContext).getListeners();
         will(returnValue(listeners));
+        allowing(listeners).hasNodeListeners();
+        will(returnValue(true));
+        allowing(listeners).hasPropertyInterceptors();
+        will(returnValue(true));
 
         oneOf(listeners).shouldVisitNode(with(
             eventDescribing(sourceNode(node),
@@ -92,8 +101,62 @@ public abstract class AbstractViewEventGeneratorTest<N extends ViewNode> {
       }
     });
 
-    assertThat(generator.generate(MODEL, viewContext),
-        is(emptyCollectionOf(View.Event.class)));
+    assertThat(generate(MODEL), is(empty()));
+  }
+
+  /**
+   * Generates the events for the subject generator by pumping its frames
+   * into a buffer.
+   * @param model model for the generator
+   * @return the generated events
+   * @throws Exception
+   */
+  List<View.Event> generate(Object model) throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(listeners).afterTraversing(with(aNull(ViewTraversalEvent.class)));
+      }
+    });
+
+    final ViewEventBuffer buffer = new ViewEventBuffer();
+    new ViewEventPump(generator, model, viewContext, null, buffer).run();
+    final List<View.Event> events = new ArrayList<>();
+    for (final View.Event event : buffer) {
+      events.add(event);
+    }
+    return events;
+  }
+
+  /**
+   * Creates a frame that emits a single event.
+   * @param event the event to emit
+   * @return frame
+   */
+  GeneratorFrame eventFrame(final View.Event event) {
+    return new GeneratorFrame() {
+      @Override
+      public boolean advance(GeneratorFrameStack stack) throws Exception {
+        stack.emit(event);
+        return false;
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+  }
+
+  /**
+   * Creates a matcher for an event with the same type, name, namespace, and
+   * value as the given event.
+   * @param event the event to match
+   * @return matcher
+   */
+  @SuppressWarnings("unchecked")
+  static Matcher<View.Event> eventLike(View.Event event) {
+    return eventOfType(event.getType(), withName(event.getName()),
+        inNamespace(event.getNamespace()),
+        whereValue(is(sameInstance(event.getValue()))));
   }
 
   Expectations baseExpectations() {
@@ -105,6 +168,10 @@ public abstract class AbstractViewEventGeneratorTest<N extends ViewNode> {
       {
         allowing(viewContext).getListeners();
         will(returnValue(listeners));
+        allowing(listeners).hasNodeListeners();
+        will(returnValue(true));
+        allowing(listeners).hasPropertyInterceptors();
+        will(returnValue(true));
 
         oneOf(listeners).shouldVisitNode(with(
             eventDescribing(sourceNode(node),
@@ -143,17 +210,4 @@ public abstract class AbstractViewEventGeneratorTest<N extends ViewNode> {
     };
   }
 
-  class MockGenerator extends AbstractViewEventGenerator<ViewNode> {
-
-    MockGenerator(ViewNode node) {
-      super(node);
-    }
-
-    @Override
-    List<View.Event> onGenerate(Object model, ScopedViewContext context)
-        throws Exception {
-      return Collections.singletonList(event);
-    }
-
-  }
 }
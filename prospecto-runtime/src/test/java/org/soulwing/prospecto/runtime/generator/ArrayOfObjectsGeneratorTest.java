@@ -23,7 +23,6 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
-import static org.hamcrest.Matchers.sameInstance;
 import static org.soulwing.prospecto.runtime.listener.ViewNodeEventMatchers.eventDescribing;
 import static org.soulwing.prospecto.runtime.listener.ViewNodeEventMatchers.forModel;
 import static org.soulwing.prospecto.runtime.listener.ViewNodeEventMatchers.inContext;
@@ -42,8 +41,11 @@ import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.UndefinedValue;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.listener.ViewNodePropertyEvent;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.OptionsSnapshot;
 import org.soulwing.prospecto.api.template.ArrayOfObjectsNode;
 import org.soulwing.prospecto.runtime.discriminator.DiscriminatorEventService;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 import org.soulwing.prospecto.runtime.util.ClassMatchers;
 
 /**
@@ -56,8 +58,8 @@ public class ArrayOfObjectsGeneratorTest
 
   private static final String ELEMENT_NAME = "elementName";
 
-  @Mock
-  private View.Event childEvent;
+  private final View.Event childEvent = new ConcreteViewEvent(
+      View.Event.Type.VALUE, "child", NAMESPACE, new Object());
 
   @Mock
   private ViewEventGenerator child;
@@ -68,8 +70,8 @@ public class ArrayOfObjectsGeneratorTest
   @Mock
   private DiscriminatorEventService discriminatorEventService;
 
-  @Mock
-  private View.Event discriminatorEvent;
+  private final View.Event discriminatorEvent = new ConcreteViewEvent(
+      View.Event.Type.DISCRIMINATOR, "discriminator", NAMESPACE, new Object());
 
   @Mock
   private ElementModel elementModel;
@@ -110,12 +112,12 @@ public class ArrayOfObjectsGeneratorTest
                 forModel(MODEL), propertyValue(elementModel),
                 inContext(viewContext))));
         will(returnValue(transformedModel));
-        oneOf(child).generate(transformedModel, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).newFrame(transformedModel, viewContext);
+        will(returnValue(eventFrame(childEvent)));
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(equalTo(5)));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_ARRAY)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -125,7 +127,7 @@ public class ArrayOfObjectsGeneratorTest
     assertThat(events.get(1).getName(), is(equalTo(ELEMENT_NAME)));
     assertThat(events.get(1).getNamespace(), is(equalTo(NAMESPACE)));
     assertThat(events.get(1).getValue(), is(nullValue()));
-    assertThat(events.get(2), is(sameInstance(childEvent)));
+    assertThat(events.get(2), is(eventLike(childEvent)));
     assertThat(events.get(3).getType(), is(equalTo(View.Event.Type.END_OBJECT)));
     assertThat(events.get(3).getName(), is(equalTo(ELEMENT_NAME)));
     assertThat(events.get(3).getNamespace(), is(equalTo(NAMESPACE)));
@@ -165,12 +167,12 @@ public class ArrayOfObjectsGeneratorTest
             with(viewContext));
         will(returnValue(discriminatorEvent));
 
-        oneOf(child).generate(transformedModel, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).newFrame(transformedModel, viewContext);
+        will(returnValue(eventFrame(childEvent)));
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(equalTo(6)));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_ARRAY)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -180,8 +182,8 @@ public class ArrayOfObjectsGeneratorTest
     assertThat(events.get(1).getName(), is(equalTo(ELEMENT_NAME)));
     assertThat(events.get(1).getNamespace(), is(equalTo(NAMESPACE)));
     assertThat(events.get(1).getValue(), is(nullValue()));
-    assertThat(events.get(2), is(sameInstance(discriminatorEvent)));
-    assertThat(events.get(3), is(sameInstance(childEvent)));
+    assertThat(events.get(2), is(eventLike(discriminatorEvent)));
+    assertThat(events.get(3), is(eventLike(childEvent)));
     assertThat(events.get(4).getType(), is(equalTo(View.Event.Type.END_OBJECT)));
     assertThat(events.get(4).getName(), is(equalTo(ELEMENT_NAME)));
     assertThat(events.get(4).getNamespace(), is(equalTo(NAMESPACE)));
@@ -215,7 +217,7 @@ public class ArrayOfObjectsGeneratorTest
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(equalTo(2)));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_ARRAY)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -240,7 +242,7 @@ public class ArrayOfObjectsGeneratorTest
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(1));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.VALUE)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -259,7 +261,7 @@ public class ArrayOfObjectsGeneratorTest
       }
     });
 
-    assertThat(generator.generate(MODEL, viewContext), is(empty()));
+    assertThat(generate(MODEL), is(empty()));
   }
 
 
@@ -268,6 +270,8 @@ public class ArrayOfObjectsGeneratorTest
       {
         allowing(node).getElementName();
         will(returnValue(ELEMENT_NAME));
+        allowing(viewContext).getOptionsSnapshot();
+        will(returnValue(OptionsSnapshot.of(new OptionsMap())));
         oneOf(viewContext).push(0);
         oneOf(viewContext).put(elementModel);
         oneOf(viewContext).pop();
@@ -81,7 +81,7 @@ public class ArrayOfValuesGeneratorTest
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(equalTo(3)));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_ARRAY)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -113,7 +113,7 @@ public class ArrayOfValuesGeneratorTest
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     validateEmptyArray(events);
   }
 
@@ -128,7 +128,7 @@ public class ArrayOfValuesGeneratorTest
       }
     });
 
-    assertThat(generator.generate(MODEL, viewContext), is(empty()));
+    assertThat(generate(MODEL), is(empty()));
   }
 
   private Expectations contextExpectations() throws Exception {
@@ -22,7 +22,6 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
-import static org.hamcrest.Matchers.sameInstance;
 
 import java.util.Collections;
 import java.util.List;
@@ -32,6 +31,7 @@ import org.jmock.auto.Mock;
 import org.junit.Test;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.EnvelopeNode;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 
 /**
  * Unit tests for {@link EnvelopeGenerator}.
@@ -41,8 +41,8 @@ import org.soulwing.prospecto.api.template.EnvelopeNode;
 public class EnvelopeGeneratorTest
     extends AbstractViewEventGeneratorTest<EnvelopeNode> {
 
-  @Mock
-  private View.Event childEvent;
+  private final View.Event childEvent = new ConcreteViewEvent(
+      View.Event.Type.VALUE, "child", NAMESPACE, new Object());
 
   @Mock
   private ViewEventGenerator child;
@@ -63,18 +63,18 @@ public class EnvelopeGeneratorTest
     context.checking(contextScopeExpectations(NAME, null, null));
     context.checking(new Expectations() {
       {
-        oneOf(child).generate(MODEL, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).newFrame(MODEL, viewContext);
+        will(returnValue(eventFrame(childEvent)));
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(3));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_OBJECT)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
     assertThat(events.get(0).getNamespace(), is(equalTo(NAMESPACE)));
     assertThat(events.get(0).getValue(), is(nullValue()));
-    assertThat(events.get(1), is(sameInstance(childEvent)));
+    assertThat(events.get(1), is(eventLike(childEvent)));
     assertThat(events.get(2).getType(), is(equalTo(View.Event.Type.END_OBJECT)));
     assertThat(events.get(2).getName(), is(equalTo(NAME)));
     assertThat(events.get(2).getNamespace(), is(equalTo(NAMESPACE)));
@@ -0,0 +1,136 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.generator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.eventOfType;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.whereValue;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.withName;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.withNoName;
+
+import java.util.Iterator;
+
+import org.jmock.Expectations;
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
+import org.soulwing.prospecto.runtime.context.ScopedViewContext;
+import org.soulwing.prospecto.runtime.event.ViewEventSink;
+import org.soulwing.prospecto.runtime.listener.NotifiableViewListeners;
+
+/**
+ * Unit tests for {@link GeneratorView}.
+ *
+ * @author Carl Harris
+ */
+public class GeneratorViewTest {
+
+  private static final Object MODEL = new Object();
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ViewEventGenerator generator;
+
+  @Mock
+  private ScopedViewContext viewContext;
+
+  @Mock
+  private NotifiableViewListeners listeners;
+
+  @Test
+  public void testEnvelope() throws Exception {
+    context.checking(generatorExpectations());
+    final GeneratorView view =
+        new GeneratorView(generator, MODEL, viewContext, null);
+    final View envelopedView = view.envelope()
+        .putProperty("type", Object.class.getSimpleName())
+        .seal("subview");
+    final Iterator<View.Event> result = envelopedView.iterator();
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.BEGIN_OBJECT, withNoName())));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.VALUE, withName("type"),
+            whereValue(is(equalTo("Object"))))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.BEGIN_OBJECT, withName("subview"))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.VALUE, withName("string"),
+            whereValue(is(equalTo("string"))))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.END_OBJECT, withName("subview"))));
+    assertThat(result.next(),
+        is(eventOfType(View.Event.Type.END_OBJECT, withNoName())));
+    assertThat(result.hasNext(), is(false));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testEmitToAfterSeal() throws Exception {
+    context.checking(generatorExpectations());
+    final GeneratorView view =
+        new GeneratorView(generator, MODEL, viewContext, null);
+    view.envelope().seal("subview");
+    view.emitTo(context.mock(ViewEventSink.class));
+  }
+
+  private Expectations generatorExpectations() throws Exception {
+    return new Expectations() {
+      {
+        oneOf(generator).newFrame(MODEL, viewContext);
+        will(returnValue(new ObjectFrame()));
+        allowing(viewContext).getListeners();
+        will(returnValue(listeners));
+        allowing(listeners).afterTraversing(
+            with(aNull(ViewTraversalEvent.class)));
+      }
+    };
+  }
+
+  private static class ObjectFrame implements GeneratorFrame {
+
+    private int index;
+
+    @Override
+    public boolean advance(GeneratorFrameStack stack) throws Exception {
+      switch (index++) {
+        case 0:
+          stack.emit(View.Event.Type.BEGIN_OBJECT, null, null, null);
+          return true;
+        case 1:
+          stack.emit(View.Event.Type.VALUE, "string", null, "string");
+          return true;
+        default:
+          stack.emit(View.Event.Type.END_OBJECT, null, null, null);
+          return false;
+      }
+    }
+
+    @Override
+    public void close() {
+    }
+
+  }
+
+}
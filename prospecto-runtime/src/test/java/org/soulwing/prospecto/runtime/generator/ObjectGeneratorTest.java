@@ -23,7 +23,6 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
-import static org.hamcrest.Matchers.sameInstance;
 
 import java.util.Collections;
 import java.util.EnumSet;
@@ -36,6 +35,7 @@ import org.soulwing.prospecto.api.AccessMode;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.ObjectNode;
 import org.soulwing.prospecto.runtime.discriminator.DiscriminatorEventService;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 
 /**
  * Unit tests for {@link ObjectGenerator}.
@@ -45,8 +45,8 @@ import org.soulwing.prospecto.runtime.discriminator.DiscriminatorEventService;
 public class ObjectGeneratorTest
     extends AbstractViewEventGeneratorTest<ObjectNode> {
 
-  @Mock
-  private View.Event childEvent;
+  private final View.Event childEvent = new ConcreteViewEvent(
+      View.Event.Type.VALUE, "child", NAMESPACE, new Object());
 
   @Mock
   private ViewEventGenerator child;
@@ -54,8 +54,8 @@ public class ObjectGeneratorTest
   @Mock
   private DiscriminatorEventService discriminatorEventService;
 
-  @Mock
-  private View.Event discriminatorEvent;
+  private final View.Event discriminatorEvent = new ConcreteViewEvent(
+      View.Event.Type.DISCRIMINATOR, "discriminator", NAMESPACE, new Object());
 
   @Override
   ObjectNode newNode() {
@@ -80,18 +80,18 @@ public class ObjectGeneratorTest
         will(returnValue(MODEL));
         oneOf(discriminatorEventService).isDiscriminatorNeeded(node);
         will(returnValue(false));
-        oneOf(child).generate(MODEL, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).newFrame(MODEL, viewContext);
+        will(returnValue(eventFrame(childEvent)));
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(3));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_OBJECT)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
     assertThat(events.get(0).getNamespace(), is(equalTo(NAMESPACE)));
     assertThat(events.get(0).getValue(), is(nullValue()));
-    assertThat(events.get(1), is(sameInstance(childEvent)));
+    assertThat(events.get(1), is(eventLike(childEvent)));
     assertThat(events.get(2).getType(), is(equalTo(View.Event.Type.END_OBJECT)));
     assertThat(events.get(2).getName(), is(equalTo(NAME)));
     assertThat(events.get(2).getNamespace(), is(equalTo(NAMESPACE)));
@@ -113,19 +113,19 @@ public class ObjectGeneratorTest
         oneOf(discriminatorEventService).newDiscriminatorEvent(
             with(node), with(any(Class.class)), with(viewContext));
         will(returnValue(discriminatorEvent));
-        oneOf(child).generate(MODEL, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).newFrame(MODEL, viewContext);
+        will(returnValue(eventFrame(childEvent)));
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(4));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.BEGIN_OBJECT)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
     assertThat(events.get(0).getNamespace(), is(equalTo(NAMESPACE)));
     assertThat(events.get(0).getValue(), is(nullValue()));
-    assertThat(events.get(1), is(sameInstance(discriminatorEvent)));
-    assertThat(events.get(2), is(sameInstance(childEvent)));
+    assertThat(events.get(1), is(eventLike(discriminatorEvent)));
+    assertThat(events.get(2), is(eventLike(childEvent)));
     assertThat(events.get(3).getType(), is(equalTo(View.Event.Type.END_OBJECT)));
     assertThat(events.get(3).getName(), is(equalTo(NAME)));
     assertThat(events.get(3).getNamespace(), is(equalTo(NAMESPACE)));
@@ -145,7 +145,7 @@ public class ObjectGeneratorTest
       }
     });
 
-    final List<View.Event> events = generator.generate(MODEL, viewContext);
+    final List<View.Event> events = generate(MODEL);
     assertThat(events.size(), is(1));
     assertThat(events.get(0).getType(), is(equalTo(View.Event.Type.VALUE)));
     assertThat(events.get(0).getName(), is(equalTo(NAME)));
@@ -164,7 +164,7 @@ public class ObjectGeneratorTest
       }
     });
 
-    assertThat(generator.generate(MODEL, viewContext), is(empty()));
+    assertThat(generate(MODEL), is(empty()));
   }
 
 }
@@ -21,7 +21,6 @@ package org.soulwing.prospecto.runtime.generator;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
-import static org.hamcrest.Matchers.sameInstance;
 
 import java.util.Collections;
 import java.util.List;
@@ -31,6 +30,7 @@ import org.jmock.auto.Mock;
 import org.junit.Test;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.template.SubtypeNode;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
 
 /**
  * Unit tests for {@link SubtypeGeneratorTest}.
@@ -40,8 +40,8 @@ import org.soulwing.prospecto.api.template.SubtypeNode;
 public class SubtypeGeneratorTest
     extends AbstractViewEventGeneratorTest<SubtypeNode> {
 
-  @Mock
-  private View.Event childEvent;
+  private final View.Event childEvent = new ConcreteViewEvent(
+      View.Event.Type.VALUE, "child", NAMESPACE, new Object());
 
   @Mock
   private ViewEventGenerator child;
@@ -68,20 +68,20 @@ public class SubtypeGeneratorTest
     context.checking(contextScopeExpectations(null, null, null));
     context.checking(new Expectations() {
       {
-        oneOf(child).generate(model1, viewContext);
-        will(returnValue(Collections.singletonList(childEvent)));
+        oneOf(child).newFrame(model1, viewContext);
+        will(returnValue(eventFrame(childEvent)));
       }
     });
-    final List<View.Event> events = generator.generate(model1, viewContext);
+    final List<View.Event> events = generate(model1);
     assertThat(events.size(), is(equalTo(1)));
-    assertThat(events.get(0), is(sameInstance(childEvent)));
+    assertThat(events.get(0), is(eventLike(childEvent)));
   }
 
   @Test
   public void testGenerateWithDifferentSubtype() throws Exception {
     context.checking(baseExpectations(model2, MockSubModel1.class));
     context.checking(contextScopeExpectations(null, null, null));
-    final List<View.Event> events = generator.generate(model2, viewContext);
+    final List<View.Event> events = generate(model2);
     assertThat(events.isEmpty(), is(true));
   }
 
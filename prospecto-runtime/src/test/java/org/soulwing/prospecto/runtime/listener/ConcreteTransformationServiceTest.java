@@ -82,6 +82,10 @@ public class ConcreteTransformationServiceTest {
         will(returnValue(convertedValue));
         allowing(viewContext).getListeners();
         will(returnValue(listeners));
+        allowing(listeners).hasPropertyInterceptors();
+        will(returnValue(true));
+        allowing(listeners).hasPropertyListeners();
+        will(returnValue(true));
         oneOf(listeners).willInjectValue((ViewNodePropertyEvent) with(
             eventDescribing(sourceNode(node), forModel(parentEntity),
                 propertyValue(convertedValue), inContext(viewContext))));
@@ -97,6 +101,29 @@ public class ConcreteTransformationServiceTest {
         is(sameInstance((Object) transformedValue)));
   }
 
+  @Test
+  public void testWithoutListeners() throws Exception {
+    context.checking(new Expectations() {
+      {
+        oneOf(viewContext).getValueTypeConverters();
+        will(returnValue(converters));
+        oneOf(converters).toModelValue(MockModelValue.class, VIEW_VALUE, node,
+            viewContext);
+        will(returnValue(convertedValue));
+        allowing(viewContext).getListeners();
+        will(returnValue(listeners));
+        allowing(listeners).hasPropertyInterceptors();
+        will(returnValue(false));
+        allowing(listeners).hasPropertyListeners();
+        will(returnValue(false));
+      }
+    });
+
+    assertThat(ConcreteTransformationService.INSTANCE.valueToInject(
+        parentEntity, MockModelValue.class, VIEW_VALUE, node, viewContext),
+        is(sameInstance((Object) convertedValue)));
+  }
+
   private interface MockModelValue {}
 
 }
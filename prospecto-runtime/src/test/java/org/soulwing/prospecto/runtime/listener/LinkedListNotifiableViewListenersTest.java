@@ -68,6 +68,44 @@ public class LinkedListNotifiableViewListenersTest {
     assertThat(listeners.toList(), contains(listener0, listener1));
   }
 
+  @Test
+  public void testHasListeners() throws Exception {
+    assertThat(listeners.hasNodeListeners(), is(false));
+    assertThat(listeners.hasPropertyInterceptors(), is(false));
+    assertThat(listeners.hasPropertyListeners(), is(false));
+
+    final ViewNodeListener nodeListener =
+        context.mock(ViewNodeListener.class);
+    final ViewNodePropertyInterceptor interceptor =
+        context.mock(ViewNodePropertyInterceptor.class);
+    listeners.append(nodeListener);
+    listeners.append(interceptor);
+    assertThat(listeners.hasNodeListeners(), is(true));
+    assertThat(listeners.hasPropertyInterceptors(), is(true));
+    assertThat(listeners.hasPropertyListeners(), is(false));
+
+    listeners.remove(nodeListener);
+    assertThat(listeners.hasNodeListeners(), is(false));
+    assertThat(listeners.hasPropertyInterceptors(), is(true));
+  }
+
+  @Test
+  public void testChangesThroughList() throws Exception {
+    final ViewNodeListener listener = context.mock(ViewNodeListener.class);
+    final ViewNodeEvent event = new ViewNodeEvent(null, null, null, null);
+    context.checking(new Expectations() {
+      {
+        oneOf(listener).nodeVisited(event);
+      }
+    });
+
+    listeners.nodeVisited(event);
+    listeners.toList().add(listener);
+    listeners.nodeVisited(event);
+    listeners.toList().clear();
+    listeners.nodeVisited(event);
+  }
+
   @Test
   public void testFireShouldVisitNode() throws Exception {
     final ViewNodeAcceptor acceptor0 =
@@ -21,6 +21,12 @@ package org.soulwing.prospecto.runtime.meta;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.jmock.Expectations;
 import org.jmock.auto.Mock;
@@ -28,8 +34,12 @@ import org.jmock.integration.junit4.JUnitRuleMockery;
 import org.junit.Rule;
 import org.junit.Test;
 import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.OptionsSnapshot;
+import org.soulwing.prospecto.api.options.ViewKeys;
 import org.soulwing.prospecto.api.template.MetaNode;
 import org.soulwing.prospecto.api.url.UrlResolver;
+import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 
 /**
  * Unit tests for {@link UrlResolvingMetadataHandler}.
@@ -68,4 +78,66 @@ public class UrlResolvingMetadataHandlerTest {
         node, MODEL, viewContext), is(equalTo(URL)));
   }
 
+  @Test
+  public void testProduceValueWhenMemoized() throws Exception {
+    final ScopedViewContext scopedContext =
+        context.mock(ScopedViewContext.class);
+    final OptionsMap options = new OptionsMap();
+    options.put(ViewKeys.MEMOIZE_URLS, true);
+    final ConcurrentMap<Object, String> memo = new ConcurrentHashMap<>();
+    final List<Class<?>> modelPath =
+        Collections.<Class<?>>singletonList(Object.class);
+
+    context.checking(new Expectations() {
+      {
+        allowing(scopedContext).getOptionsSnapshot();
+        will(returnValue(OptionsSnapshot.of(options)));
+        allowing(scopedContext).getUrlMemo();
+        will(returnValue(memo));
+        allowing(scopedContext).currentModelPath();
+        will(returnValue(modelPath));
+        oneOf(scopedContext).get(UrlResolver.class);
+        will(returnValue(resolver));
+        oneOf(resolver).resolve(node, scopedContext);
+        will(returnValue(URL));
+      }
+    });
+
+    assertThat((String) UrlResolvingMetadataHandler.INSTANCE.produceValue(
+        node, MODEL, scopedContext), is(equalTo(URL)));
+    assertThat((String) UrlResolvingMetadataHandler.INSTANCE.produceValue(
+        node, MODEL, scopedContext), is(equalTo(URL)));
+  }
+
+  @Test
+  public void testProduceValueWhenMemoizedAndNull() throws Exception {
+    final ScopedViewContext scopedContext =
+        context.mock(ScopedViewContext.class);
+    final OptionsMap options = new OptionsMap();
+    options.put(ViewKeys.MEMOIZE_URLS, true);
+    final ConcurrentMap<Object, String> memo = new ConcurrentHashMap<>();
+    final List<Class<?>> modelPath =
+        Collections.<Class<?>>singletonList(Object.class);
+
+    context.checking(new Expectations() {
+      {
+        allowing(scopedContext).getOptionsSnapshot();
+        will(returnValue(OptionsSnapshot.of(options)));
+        allowing(scopedContext).getUrlMemo();
+        will(returnValue(memo));
+        allowing(scopedContext).currentModelPath();
+        will(returnValue(modelPath));
+        exactly(2).of(scopedContext).get(UrlResolver.class);
+        will(returnValue(resolver));
+        exactly(2).of(resolver).resolve(node, scopedContext);
+        will(returnValue(null));
+      }
+    });
+
+    assertThat(UrlResolvingMetadataHandler.INSTANCE.produceValue(
+        node, MODEL, scopedContext), is(nullValue()));
+    assertThat(UrlResolvingMetadataHandler.INSTANCE.produceValue(
+        node, MODEL, scopedContext), is(nullValue()));
+  }
+
 }
@@ -126,4 +126,85 @@ public class ConcreteMutableScopeTest {
     assertThat(scope.get(Integer.class), is(nullValue()));
   }
 
+  @Test
+  public void testPutSingleThenMore() throws Exception {
+    final String obj0 = "object0";
+    final Integer obj1 = -1;
+
+    scope.put(obj0);
+    assertThat(scope.get(String.class), is(sameInstance(obj0)));
+    assertThat(scope.get(Integer.class), is(nullValue()));
+
+    scope.put(obj1);
+    assertThat(scope.get(String.class), is(sameInstance(obj0)));
+    assertThat(scope.get(Integer.class), is(sameInstance(obj1)));
+  }
+
+  @Test
+  public void testPutEqualObjectReplaces() throws Exception {
+    final String obj0 = new String("object");
+    final String obj1 = new String("object");
+
+    scope.put(obj0);
+    scope.put(obj1);
+    assertThat(scope.get(String.class), is(sameInstance(obj1)));
+    assertThat(scope.remove(obj0), is(true));
+    assertThat(scope.get(String.class), is(nullValue()));
+  }
+
+  @Test
+  public void testPutAllScope() throws Exception {
+    final ConcreteMutableScope other = new ConcreteMutableScope();
+    other.put("name0", "object0");
+    other.put(-1);
+    scope.putAll(other);
+    assertThat(scope.get("name0", String.class), is(sameInstance(
+        other.get("name0", String.class))));
+    assertThat(scope.get(Integer.class), is(sameInstance(
+        other.get(Integer.class))));
+  }
+
+  @Test
+  public void testLookupByTypeAfterContentsChange() throws Exception {
+    final String obj0 = "object0";
+    final Integer obj1 = -1;
+    final Long obj2 = -2L;
+
+    scope.put(obj0);
+    scope.put(obj1);
+    assertThat(scope.get(Long.class), is(nullValue()));
+    assertThat(scope.get(String.class), is(sameInstance(obj0)));
+
+    scope.put(obj2);
+    assertThat(scope.get(Long.class), is(sameInstance(obj2)));
+
+    scope.remove(obj0);
+    assertThat(scope.get(String.class), is(nullValue()));
+  }
+
+  @Test
+  public void testVersionChangesWithContents() throws Exception {
+    final String obj = "object";
+    final int version0 = scope.getVersion().get();
+    scope.put(obj);
+    final int version1 = scope.getVersion().get();
+    assertThat(version1, is(not(version0)));
+    scope.remove(obj);
+    assertThat(scope.getVersion().get(), is(not(version1)));
+  }
+
+  @Test
+  public void testSharedVersionChangesWithContentsOfEitherScope()
+      throws Exception {
+    final ScopeVersion version = new ScopeVersion();
+    final ConcreteMutableScope scope0 = new ConcreteMutableScope(version);
+    final ConcreteMutableScope scope1 = new ConcreteMutableScope(version);
+    final int version0 = version.get();
+    scope0.put("object");
+    final int version1 = version.get();
+    assertThat(version1, is(not(version0)));
+    scope1.put("object");
+    assertThat(version.get(), is(not(version1)));
+  }
+
 }
@@ -0,0 +1,57 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.template;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.jmock.auto.Mock;
+import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.junit.Rule;
+import org.junit.Test;
+import org.soulwing.prospecto.api.converter.ValueTypeConverter;
+
+/**
+ * Unit tests for {@link AbstractViewNode}.
+ *
+ * @author Carl Harris
+ */
+public class AbstractViewNodeTest {
+
+  @Rule
+  public final JUnitRuleMockery context = new JUnitRuleMockery();
+
+  @Mock
+  private ValueTypeConverter converter;
+
+  private final AbstractViewNode node = new ConcreteValueNode("name", null);
+
+  @Test
+  public void testGetConverter() throws Exception {
+    assertThat(node.getConverter(), is(nullValue()));
+    node.put("attribute");
+    node.put(converter);
+    assertThat(node.getConverter(), is(sameInstance(converter)));
+    node.remove(converter);
+    assertThat(node.getConverter(), is(nullValue()));
+  }
+
+}
@@ -26,13 +26,21 @@ import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.eventOfType;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.inNamespace;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.whereValue;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.withName;
 
-import java.util.Collections;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.util.Iterator;
 
 import org.jmock.Expectations;
+import org.jmock.api.Action;
+import org.jmock.api.Invocation;
 import org.jmock.auto.Mock;
 import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.jmock.lib.action.CustomAction;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -40,8 +48,14 @@ import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewApplicator;
 import org.soulwing.prospecto.api.ViewContext;
 import org.soulwing.prospecto.api.ViewException;
+import org.soulwing.prospecto.api.ViewWriter;
+import org.soulwing.prospecto.api.ViewWriterFactory;
 import org.soulwing.prospecto.api.listener.ViewMode;
 import org.soulwing.prospecto.api.listener.ViewTraversalEvent;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.OptionsSnapshot;
+import org.soulwing.prospecto.api.options.ViewKeys;
 import org.soulwing.prospecto.api.scope.MutableScope;
 import org.soulwing.prospecto.api.template.ViewNode;
 import org.soulwing.prospecto.api.template.ViewNodeVisitor;
@@ -49,8 +63,13 @@ import org.soulwing.prospecto.runtime.applicator.ViewApplicatorFactory;
 import org.soulwing.prospecto.runtime.applicator.ViewEventApplicator;
 import org.soulwing.prospecto.runtime.context.ScopedViewContext;
 import org.soulwing.prospecto.runtime.context.ScopedViewContextFactory;
+import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+import org.soulwing.prospecto.runtime.generator.GeneratorFrame;
+import org.soulwing.prospecto.runtime.generator.GeneratorFrameStack;
+import org.soulwing.prospecto.runtime.generator.GeneratorView;
 import org.soulwing.prospecto.runtime.generator.ViewEventGenerator;
 import org.soulwing.prospecto.runtime.listener.NotifiableViewListeners;
+import org.soulwing.prospecto.runtime.view.StreamingView;
 
 /**
  * Unit tests for {@link ConcreteViewTemplate}.
@@ -81,12 +100,23 @@ public class ConcreteViewTemplateTest {
   @Mock
   private ScopedViewContext scopedViewContext;
 
-  @Mock
-  private View.Event event;
+  private final View.Event event =
+      new ConcreteViewEvent(View.Event.Type.VALUE, NAME, NAMESPACE, MODEL);
 
   @Mock
   private ViewEventGenerator generator;
 
+  @Mock
+  private GeneratorFrame frame;
+
+  @Mock
+  private ViewWriterFactory writerFactory;
+
+  @Mock
+  private ViewWriter writer;
+
+  private final OutputStream outputStream = new ByteArrayOutputStream();
+
   @Mock
   private ViewEventApplicator applicator;
 
@@ -102,6 +132,8 @@ public class ConcreteViewTemplateTest {
   @Mock
   private ViewApplicatorFactory viewApplicatorFactory;
 
+  private final Options options = new OptionsMap();
+
   private MockGeneratorViewNode generatorRoot = new MockGeneratorViewNode();
 
   private MockApplicatorViewNode applicatorRoot = new MockApplicatorViewNode();
@@ -130,8 +162,11 @@ public class ConcreteViewTemplateTest {
             (ViewTraversalEvent) with(allOf(
                 hasProperty("mode", equalTo(ViewMode.GENERATE)),
                 hasProperty("source", sameInstance(generatorTemplate)))));
-        oneOf(generator).generate(MODEL, scopedViewContext);
-        will(returnValue(Collections.singletonList(event)));
+        oneOf(generator).newFrame(MODEL, scopedViewContext);
+        will(returnValue(frame));
+        oneOf(frame).advance(with(any(GeneratorFrameStack.class)));
+        will(emitEvent());
+        oneOf(frame).close();
         oneOf(listeners).afterTraversing(
             (ViewTraversalEvent) with(allOf(
                 hasProperty("mode", equalTo(ViewMode.GENERATE)),
@@ -140,9 +175,102 @@ public class ConcreteViewTemplateTest {
     });
 
     View view = generatorTemplate.generateView(MODEL, viewContext);
+    Iterator<View.Event> events = view.iterator();
+    assertThat(events.hasNext(), is(true));
+    assertThat(events.next(), is(eventOfType(View.Event.Type.VALUE,
+        withName(NAME), inNamespace(NAMESPACE),
+        whereValue(is(sameInstance(MODEL))))));
+    assertThat(events.hasNext(), is(false));
+  }
+
+  @Test
+  public void testGenerateViewReusesGenerator() throws Exception {
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(viewContextFactory).newContext(viewContext);
+        will(returnValue(scopedViewContext));
+        allowing(scopedViewContext).getListeners();
+        will(returnValue(listeners));
+        allowing(scopedViewContext).getOptionsSnapshot();
+        will(returnValue(OptionsSnapshot.of(options)));
+        exactly(2).of(scopedViewContext).appendScope();
+        will(returnValue(mutableScope));
+        exactly(2).of(mutableScope).put(MODEL);
+        exactly(2).of(listeners).beforeTraversing(
+            with(any(ViewTraversalEvent.class)));
+        exactly(2).of(generator).newFrame(MODEL, scopedViewContext);
+        will(returnValue(null));
+        exactly(2).of(listeners).afterTraversing(
+            with(any(ViewTraversalEvent.class)));
+      }
+    });
+
+    generatorTemplate.generateView(MODEL, viewContext);
+    generatorTemplate.generateView(MODEL, viewContext);
+    assertThat(generatorRoot.visits, is(equalTo(1)));
+  }
+
+  @Test
+  public void testGenerateStreamingView() throws Exception {
+    options.put(ViewKeys.STREAMING_VIEW, true);
+    context.checking(viewContextExpectations());
+    context.checking(new Expectations() {
+      {
+        oneOf(scopedViewContext).appendScope();
+        will(returnValue(mutableScope));
+        oneOf(mutableScope).put(MODEL);
+        oneOf(listeners).beforeTraversing(
+            (ViewTraversalEvent) with(allOf(
+                hasProperty("mode", equalTo(ViewMode.GENERATE)),
+                hasProperty("source", sameInstance(generatorTemplate)))));
+        oneOf(generator).newFrame(MODEL, scopedViewContext);
+        will(returnValue(frame));
+      }
+    });
+
+    View view = generatorTemplate.generateView(MODEL, viewContext);
+    assertThat(view, is(instanceOf(StreamingView.class)));
+    context.assertIsSatisfied();
+
+    context.checking(new Expectations() {
+      {
+        oneOf(frame).advance(with(any(GeneratorFrameStack.class)));
+        will(emitEvent());
+        oneOf(frame).close();
+        oneOf(listeners).afterTraversing(
+            (ViewTraversalEvent) with(allOf(
+                hasProperty("mode", equalTo(ViewMode.GENERATE)),
+                hasProperty("source", sameInstance(generatorTemplate)))));
+      }
+    });
+
     Iterator<View.Event> events = view.iterator();
     assertThat(events.hasNext(), is(true));
     assertThat(events.next(), is(sameInstance(event)));
+    assertThat(events.hasNext(), is(false));
+  }
+
+  @Test
+  public void testWriteView() throws Exception {
+    context.checking(viewContextExpectations());
+    context.checking(new Expectations() {
+      {
+        oneOf(scopedViewContext).appendScope();
+        will(returnValue(mutableScope));
+        oneOf(mutableScope).put(MODEL);
+        oneOf(listeners).beforeTraversing(
+            (ViewTraversalEvent) with(allOf(
+                hasProperty("mode", equalTo(ViewMode.GENERATE)),
+                hasProperty("source", sameInstance(generatorTemplate)))));
+        oneOf(writerFactory).newWriter(with(any(GeneratorView.class)),
+            with(same(outputStream)));
+        will(returnValue(writer));
+        oneOf(writer).writeView();
+      }
+    });
+
+    generatorTemplate.writeView(MODEL, viewContext, writerFactory,
+        outputStream);
   }
 
   @Test(expected = ViewException.class)
@@ -157,7 +285,7 @@ public class ConcreteViewTemplateTest {
             (ViewTraversalEvent) with(allOf(
                 hasProperty("mode", equalTo(ViewMode.GENERATE)),
                 hasProperty("source", sameInstance(generatorTemplate)))));
-        oneOf(generator).generate(MODEL, scopedViewContext);
+        oneOf(generator).newFrame(MODEL, scopedViewContext);
         will(throwException(new Exception()));
       }
     });
@@ -188,6 +316,31 @@ public class ConcreteViewTemplateTest {
         is(sameInstance(viewApplicator)));
   }
 
+  @Test
+  public void testCreateApplicatorReusesApplicator() throws Exception {
+    context.checking(new Expectations() {
+      {
+        exactly(2).of(viewContextFactory).newContext(viewContext);
+        will(returnValue(scopedViewContext));
+        allowing(scopedViewContext).getListeners();
+        will(returnValue(listeners));
+        allowing(scopedViewContext).getOptionsSnapshot();
+        will(returnValue(OptionsSnapshot.of(options)));
+        exactly(2).of(listeners).beforeTraversing(
+            with(any(ViewTraversalEvent.class)));
+        exactly(2).of(viewApplicatorFactory).newApplicator(
+            with(Object.class), with(applicator), with(view),
+            with(scopedViewContext), with(DATA_KEY),
+            with(any(ViewTraversalEvent.class)));
+        will(returnValue(viewApplicator));
+      }
+    });
+
+    applicatorTemplate.createApplicator(view, viewContext, DATA_KEY);
+    applicatorTemplate.createApplicator(view, viewContext, DATA_KEY);
+    assertThat(applicatorRoot.visits, is(equalTo(1)));
+  }
+
   @Test
   public void testObjectSubView() throws Exception {
     AbstractViewNode child = new MockGeneratorViewNode();
@@ -214,6 +367,16 @@ public class ConcreteViewTemplateTest {
         contains((ViewNode) child));
   }
 
+  private Action emitEvent() {
+    return new CustomAction("emit event") {
+      @Override
+      public Object invoke(Invocation invocation) throws Throwable {
+        ((GeneratorFrameStack) invocation.getParameter(0)).emit(event);
+        return false;
+      }
+    };
+  }
+
   private Expectations viewContextExpectations() {
     return new Expectations() {
       {
@@ -221,18 +384,23 @@ public class ConcreteViewTemplateTest {
         will(returnValue(scopedViewContext));
         allowing(scopedViewContext).getListeners();
         will(returnValue(listeners));
+        allowing(scopedViewContext).getOptionsSnapshot();
+        will(returnValue(OptionsSnapshot.of(options)));
       }
     };
   }
 
   class MockGeneratorViewNode extends AbstractContainerNode {
 
+    int visits;
+
     public MockGeneratorViewNode() {
       super(null, null, Object.class);
     }
 
     @Override
     public Object accept(ViewNodeVisitor visitor, Object state) {
+      visits++;
       return generator;
     }
 
@@ -240,12 +408,15 @@ public class ConcreteViewTemplateTest {
 
   class MockApplicatorViewNode extends AbstractContainerNode {
 
+    int visits;
+
     public MockApplicatorViewNode() {
       super(null, null, Object.class);
     }
 
     @Override
     public Object accept(ViewNodeVisitor visitor, Object state) {
+      visits++;
       return applicator;
     }
 
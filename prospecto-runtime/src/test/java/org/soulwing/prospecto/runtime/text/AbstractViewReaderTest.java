@@ -19,22 +19,23 @@
 package org.soulwing.prospecto.runtime.text;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
-import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.Matchers.nullValue;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.eventOfType;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.inDefaultNamespace;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.whereValue;
+import static org.soulwing.prospecto.testing.matcher.ViewEventMatchers.withName;
 
 import java.util.Iterator;
 
-import org.jmock.Expectations;
-import org.jmock.auto.Mock;
-import org.jmock.integration.junit4.JUnitRuleMockery;
+import org.hamcrest.Matcher;
 import org.junit.Before;
-import org.junit.Rule;
 import org.junit.Test;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewInputException;
 import org.soulwing.prospecto.api.options.OptionsMap;
 import org.soulwing.prospecto.api.options.ViewDefaults;
-import org.soulwing.prospecto.runtime.event.ViewEventFactory;
 
 /**
  * Unit tests for {@link AbstractViewReader}.
@@ -49,181 +50,102 @@ public class AbstractViewReaderTest {
   private static final Boolean BOOLEAN = true;
   private static final String DISCRIMINATOR = "discriminator";
 
-  @Rule
-  public final JUnitRuleMockery context = new JUnitRuleMockery();
-
-  @Mock
-  private ViewEventFactory eventFactory;
-
-  @Mock
-  private View.Event beginEvent;
-
-  @Mock
-  private View.Event endEvent;
-
-  @Mock
-  private View.Event discriminatorEvent;
-
-  @Mock
-  private View.Event valueEvent;
-
   private MockViewReader viewReader;
 
   @Before
   public void setUp() throws Exception {
-    viewReader = new MockViewReader(eventFactory);
+    viewReader = new MockViewReader();
   }
 
   @Test
   public void testBeginAndEndObject() throws Exception {
-    context.checking(new Expectations() {
-      {
-        oneOf(eventFactory).newEvent(View.Event.Type.BEGIN_OBJECT,
-            NAME, null, null);
-        will(returnValue(beginEvent));
-        oneOf(eventFactory).newEvent(View.Event.Type.END_OBJECT,
-            NAME, null, null);
-        will(returnValue(endEvent));
-      }
-    });
-
     viewReader.beginObject(NAME);
     viewReader.end();
     final Iterator<View.Event> events = viewReader.readView().iterator();
-    assertThat(events.next(), is(sameInstance(beginEvent)));
-    assertThat(events.next(), is(sameInstance(endEvent)));
+    assertThat(events.next(), is(eventOfType(View.Event.Type.BEGIN_OBJECT,
+        withName(NAME), inDefaultNamespace())));
+    assertThat(events.next(), is(eventOfType(View.Event.Type.END_OBJECT,
+        withName(NAME), inDefaultNamespace())));
+    assertThat(events.hasNext(), is(false));
   }
 
   @Test
   public void testBeginAndEndArray() throws Exception {
-    context.checking(new Expectations() {
-      {
-        oneOf(eventFactory).newEvent(View.Event.Type.BEGIN_ARRAY,
-            NAME, null, null);
-        will(returnValue(beginEvent));
-        oneOf(eventFactory).newEvent(View.Event.Type.END_ARRAY,
-            NAME, null, null);
-        will(returnValue(endEvent));
-      }
-    });
-
     viewReader.beginArray(NAME);
     viewReader.end();
     final Iterator<View.Event> events = viewReader.readView().iterator();
-    assertThat(events.next(), is(sameInstance(beginEvent)));
-    assertThat(events.next(), is(sameInstance(endEvent)));
+    assertThat(events.next(), is(eventOfType(View.Event.Type.BEGIN_ARRAY,
+        withName(NAME), inDefaultNamespace())));
+    assertThat(events.next(), is(eventOfType(View.Event.Type.END_ARRAY,
+        withName(NAME), inDefaultNamespace())));
+    assertThat(events.hasNext(), is(false));
   }
 
   @Test
   public void testValueString() throws Exception {
-    context.checking(valueExpectations(NAME, STRING));
     viewReader.value(NAME, STRING);
     assertThat(viewReader.readView().iterator().next(),
-        is(sameInstance(valueEvent)));
+        is(valueEvent(NAME, STRING)));
   }
 
   @Test
   public void testValueNumber() throws Exception {
-    context.checking(valueExpectations(NAME, NUMBER));
     viewReader.value(NAME, NUMBER);
     assertThat(viewReader.readView().iterator().next(),
-        is(sameInstance(valueEvent)));
+        is(valueEvent(NAME, NUMBER)));
   }
 
   @Test
   public void testValueBoolean() throws Exception {
-    context.checking(valueExpectations(NAME, BOOLEAN));
     viewReader.value(NAME, BOOLEAN);
     assertThat(viewReader.readView().iterator().next(),
-        is(sameInstance(valueEvent)));
+        is(valueEvent(NAME, BOOLEAN)));
   }
 
   @Test
   public void testNullValue() throws Exception {
-    context.checking(valueExpectations(NAME, null));
     viewReader.nullValue(NAME);
     assertThat(viewReader.readView().iterator().next(),
-        is(sameInstance(valueEvent)));
+        is(eventOfType(View.Event.Type.VALUE, withName(NAME),
+            whereValue(is(nullValue())))));
   }
 
   @Test
   public void testPromoteDiscriminator() throws Exception {
-    context.checking(valueExpectations(NAME, STRING));
-    context.checking(discriminatorExpectations(
-        ViewDefaults.DISCRIMINATOR_NODE_NAME, DISCRIMINATOR));
-    context.checking(new Expectations() {
-      {
-        oneOf(eventFactory).newEvent(View.Event.Type.BEGIN_OBJECT,
-            NAME, null, null);
-        will(returnValue(beginEvent));
-        oneOf(eventFactory).newEvent(View.Event.Type.END_OBJECT,
-            NAME, null, null);
-        will(returnValue(endEvent));
-        oneOf(valueEvent).getType();
-        will((returnValue(View.Event.Type.VALUE)));
-      }
-    });
-
     viewReader.beginObject(NAME);
     viewReader.value(NAME, STRING);
     viewReader.discriminator(DISCRIMINATOR);
     viewReader.end();
 
     final Iterator<View.Event> events = viewReader.readView().iterator();
-    assertThat(events.next(), is(sameInstance(beginEvent)));
-    assertThat(events.next(), is(sameInstance(discriminatorEvent)));
-    assertThat(events.next(), is(sameInstance(valueEvent)));
-    assertThat(events.next(), is(sameInstance(endEvent)));
+    assertThat(events.next(), is(eventOfType(View.Event.Type.BEGIN_OBJECT,
+        withName(NAME))));
+    assertThat(events.next(), is(eventOfType(View.Event.Type.DISCRIMINATOR,
+        withName(ViewDefaults.DISCRIMINATOR_NODE_NAME),
+        whereValue(is(equalTo(DISCRIMINATOR))))));
+    assertThat(events.next(), is(valueEvent(NAME, STRING)));
+    assertThat(events.next(), is(eventOfType(View.Event.Type.END_OBJECT,
+        withName(NAME))));
+    assertThat(events.hasNext(), is(false));
   }
 
   @Test(expected = ViewInputException.class)
   public void testMultipleDiscriminators() throws Exception {
-    context.checking(new Expectations() {
-      {
-        oneOf(eventFactory).newEvent(View.Event.Type.BEGIN_OBJECT,
-            NAME, null, null);
-        will(returnValue(beginEvent));
-        oneOf(eventFactory).newEvent(View.Event.Type.DISCRIMINATOR,
-            ViewDefaults.DISCRIMINATOR_NODE_NAME, null, DISCRIMINATOR);
-        will(returnValue(discriminatorEvent));
-        oneOf(eventFactory).newEvent(View.Event.Type.END_OBJECT,
-            NAME, null, null);
-        will(returnValue(endEvent));
-        oneOf(discriminatorEvent).getType();
-        will((returnValue(View.Event.Type.DISCRIMINATOR)));
-      }
-    });
-
     viewReader.beginObject(NAME);
     viewReader.discriminator(DISCRIMINATOR);
     viewReader.discriminator(DISCRIMINATOR);
   }
 
-  private Expectations valueExpectations(final String name,
-      final Object value) {
-    return new Expectations() {
-      {
-        oneOf(eventFactory).newEvent(View.Event.Type.VALUE, name, null, value);
-        will(returnValue(valueEvent));
-      }
-    };
-  }
-
-  private Expectations discriminatorExpectations(final String name,
-      final Object value) {
-    return new Expectations() {
-      {
-        oneOf(eventFactory).newEvent(View.Event.Type.DISCRIMINATOR,
-            name, null, value);
-        will(returnValue(discriminatorEvent));
-      }
-    };
+  private static Matcher<View.Event> valueEvent(String name,
+      Object value) {
+    return eventOfType(View.Event.Type.VALUE, withName(name),
+        inDefaultNamespace(), whereValue(is(equalTo(value))));
   }
 
   class MockViewReader extends AbstractViewReader {
 
-    public MockViewReader(ViewEventFactory eventFactory) {
-      super(new OptionsMap(), eventFactory);
+    public MockViewReader() {
+      super(new OptionsMap());
     }
 
     @Override
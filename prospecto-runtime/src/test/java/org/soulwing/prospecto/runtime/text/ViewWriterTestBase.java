@@ -38,6 +38,9 @@ import org.soulwing.prospecto.api.options.OptionsMap;
 import org.soulwing.prospecto.api.options.ViewDefaults;
 import org.soulwing.prospecto.api.options.WriterKeys;
 import org.soulwing.prospecto.runtime.event.ConcreteViewEvent;
+import org.soulwing.prospecto.runtime.event.FlyweightViewEvent;
+import org.soulwing.prospecto.runtime.event.ViewEventSink;
+import org.soulwing.prospecto.runtime.event.ViewEventSource;
 import org.soulwing.prospecto.runtime.view.ConcreteView;
 
 /**
@@ -80,8 +83,11 @@ public abstract class ViewWriterTestBase {
 
   protected void writeAndValidateView(String viewName,
       List<View.Event> events) throws Exception {
+    writeAndValidateView(viewName, new ConcreteView(events));
+  }
 
-    final View view = new ConcreteView(events);
+  protected void writeAndValidateView(String viewName, View view)
+      throws Exception {
     final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
     final ViewWriter writer = newViewWriter(view, outputStream);
     writer.writeView();
@@ -125,6 +131,20 @@ public abstract class ViewWriterTestBase {
     testFlatObjectView();
   }
 
+  @Test
+  public void testNestedObjectViewFromEventSource() throws Exception {
+    final List<View.Event> events = new ArrayList<>();
+    events.add(newEvent(View.Event.Type.BEGIN_OBJECT));
+    events.add(newEvent(View.Event.Type.BEGIN_OBJECT,
+        Constants.OBJECT_NAME));
+    addObjectProperties(events);
+    events.add(newEvent(View.Event.Type.END_OBJECT,
+        Constants.OBJECT_NAME));
+    events.add(newEvent(View.Event.Type.END_OBJECT));
+
+    writeAndValidateView("nestedObjectView", new SourceView(events));
+  }
+
   @Test
   public void testNestedObjectView() throws Exception {
     final List<View.Event> events = new ArrayList<>();
@@ -221,4 +241,28 @@ public abstract class ViewWriterTestBase {
     writeAndValidateView("defaultUrlView", events);
   }
 
+  /**
+   * A view that pushes its events using a single flyweight event.
+   */
+  private static class SourceView extends ConcreteView
+      implements ViewEventSource {
+
+    private final List<View.Event> events;
+
+    SourceView(List<View.Event> events) {
+      super(events);
+      this.events = events;
+    }
+
+    @Override
+    public void emitTo(ViewEventSink sink) throws Exception {
+      final FlyweightViewEvent flyweight = new FlyweightViewEvent();
+      for (final View.Event event : events) {
+        sink.onEvent(flyweight.set(event.getType(), event.getName(),
+            event.getNamespace(), event.getValue()));
+      }
+    }
+
+  }
+
 }
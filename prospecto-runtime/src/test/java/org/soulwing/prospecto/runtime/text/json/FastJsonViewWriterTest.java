@@ -0,0 +1,161 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.text.json;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewWriter;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.WriterKeys;
+import org.soulwing.prospecto.runtime.view.ConcreteView;
+
+/**
+ * Tests for {@link FastJsonViewWriter}.
+ * <p>
+ * In addition to the tests inherited from {@link JsonViewWriterTest}, the
+ * output of each view is required to be identical to the output of
+ * {@link JsonViewWriter} for the same view.
+ *
+ * @author Carl Harris
+ */
+public class FastJsonViewWriterTest extends JsonViewWriterTest {
+
+  @Override
+  protected ViewWriter newViewWriter(final View view,
+      final OutputStream outputStream, final Options options) {
+    return new ViewWriter() {
+      @Override
+      public void writeView(Target target) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public void writeView() {
+        assertSameOutput(view, options);
+        new FastJsonViewWriter(view, outputStream, options).writeView();
+      }
+    };
+  }
+
+  @Test
+  public void testEscapedStrings() throws Exception {
+    final List<View.Event> events = new ArrayList<>();
+    events.add(newEvent(View.Event.Type.BEGIN_OBJECT));
+    events.add(newEvent(View.Event.Type.VALUE, "quote\"back\\slash/",
+        "\b\f\n\r\t\u0000\u001f\u007f"));
+    events.add(newEvent(View.Event.Type.VALUE, "café",
+        "東京 😀   \ud800"));
+    events.add(newEvent(View.Event.Type.BEGIN_ARRAY, "über"));
+    events.add(newEvent(View.Event.Type.VALUE, null, "\"x\""));
+    events.add(newEvent(View.Event.Type.END_ARRAY, "über"));
+    events.add(newEvent(View.Event.Type.END_OBJECT));
+    assertSameOutput(new ConcreteView(events), options);
+  }
+
+  @Test
+  public void testValueTypes() throws Exception {
+    final Calendar calendar = Calendar.getInstance();
+    final List<View.Event> events = new ArrayList<>();
+    events.add(newEvent(View.Event.Type.BEGIN_ARRAY));
+    for (final Object value : new Object[] { 0, 7, -42L, Long.MAX_VALUE,
+        Long.MIN_VALUE, (short) 3, (byte) -3, 1.5, 1e20, 1e-7, 1.1f, -0.0,
+        new BigDecimal("1.10"), new BigInteger("123456789012345678901234"),
+        true, false, TimeUnit.SECONDS, new Date(1234567890L), calendar,
+        new StringBuilder("builder"), null }) {
+      events.add(newEvent(View.Event.Type.VALUE, null, value));
+    }
+    events.add(newEvent(View.Event.Type.END_ARRAY));
+    assertSameOutput(new ConcreteView(events), options);
+  }
+
+  @Test
+  public void testEnvelopeProperties() throws Exception {
+    final List<View.Event> events = new ArrayList<>();
+    events.add(newEvent(View.Event.Type.BEGIN_ARRAY, "view"));
+    events.add(newEvent(View.Event.Type.BEGIN_OBJECT));
+    addObjectProperties(events);
+    events.add(newEvent(View.Event.Type.BEGIN_ARRAY, "values"));
+    addArrayValues(events);
+    events.add(newEvent(View.Event.Type.END_ARRAY, "values"));
+    events.add(newEvent(View.Event.Type.END_OBJECT));
+    events.add(newEvent(View.Event.Type.END_ARRAY, "view"));
+
+    final View view = new ConcreteView(events);
+    view.envelope().putProperty("offset", 0).putProperty("next", "/next");
+    assertSameOutput(view, options);
+    options.put(WriterKeys.PRETTY_PRINT_OUTPUT, true);
+    assertSameOutput(view, options);
+    options.put(WriterKeys.WRAP_ARRAY_IN_ENVELOPE, false);
+    assertSameOutput(view, options);
+  }
+
+  @Test
+  public void testNestedStructuresUsingPrettyPrint() throws Exception {
+    options.put(WriterKeys.PRETTY_PRINT_OUTPUT, true);
+    final List<View.Event> events = new ArrayList<>();
+    events.add(newEvent(View.Event.Type.BEGIN_OBJECT, "view"));
+    events.add(newEvent(View.Event.Type.BEGIN_OBJECT, "empty"));
+    events.add(newEvent(View.Event.Type.END_OBJECT, "empty"));
+    events.add(newEvent(View.Event.Type.BEGIN_ARRAY, "objects"));
+    for (int i = 0; i < 20; i++) {
+      events.add(newEvent(View.Event.Type.BEGIN_OBJECT, "object"));
+      addObjectProperties(events);
+      events.add(newEvent(View.Event.Type.BEGIN_ARRAY, "empty"));
+      events.add(newEvent(View.Event.Type.END_ARRAY, "empty"));
+      events.add(newEvent(View.Event.Type.END_OBJECT, "object"));
+    }
+    events.add(newEvent(View.Event.Type.END_ARRAY, "objects"));
+    events.add(newEvent(View.Event.Type.END_OBJECT, "view"));
+    final View view = new ConcreteView(events);
+    assertSameOutput(view, options);
+    options.put(WriterKeys.WRAP_OBJECT_IN_ENVELOPE, true);
+    assertSameOutput(view, options);
+  }
+
+  @Test
+  public void testSmallFlushThreshold() throws Exception {
+    options.put(WriterKeys.FLUSH_THRESHOLD, 1);
+    testEscapedStrings();
+    testValueTypes();
+    testEnvelopeProperties();
+  }
+
+  private static void assertSameOutput(View view, Options options) {
+    final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    new JsonViewWriter(view, expected, options).writeView();
+    final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    new FastJsonViewWriter(view, actual, options).writeView();
+    assertThat(actual.toByteArray(), is(equalTo(expected.toByteArray())));
+  }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.text.xml;
+
+import java.io.OutputStream;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewWriter;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.text.NodeTarget;
+import org.w3c.dom.Document;
+
+/**
+ * Tests for {@link XmlViewWriter} using a {@link NodeTarget}.
+ * <p>
+ * Each view is written to a DOM document, which is then serialized and
+ * validated by the tests inherited from {@link XmlViewWriterTest}.
+ *
+ * @author Carl Harris
+ */
+public class XmlNodeViewWriterTest extends XmlViewWriterTest {
+
+  @Override
+  protected ViewWriter newViewWriter(final View view,
+      final OutputStream outputStream, final Options options) {
+    return new ViewWriter() {
+      @Override
+      public void writeView(Target target) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public void writeView() {
+        try {
+          final DocumentBuilderFactory builderFactory =
+              DocumentBuilderFactory.newInstance();
+          builderFactory.setNamespaceAware(true);
+          final Document document =
+              builderFactory.newDocumentBuilder().newDocument();
+          new XmlViewWriter(view, options).writeView(new NodeTarget(document));
+          TransformerFactory.newInstance().newTransformer().transform(
+              new DOMSource(document), new StreamResult(outputStream));
+        }
+        catch (Exception ex) {
+          throw new RuntimeException(ex);
+        }
+      }
+    };
+  }
+
+}
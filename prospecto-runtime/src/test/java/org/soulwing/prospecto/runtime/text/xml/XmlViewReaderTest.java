@@ -18,12 +18,19 @@
  */
 package org.soulwing.prospecto.runtime.text.xml;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.Iterator;
 
 import org.hamcrest.Matcher;
+import org.junit.Test;
 import org.soulwing.prospecto.api.View;
 import org.soulwing.prospecto.api.ViewReader;
 import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.OptionsMap;
 import org.soulwing.prospecto.runtime.text.Constants;
 import org.soulwing.prospecto.runtime.text.ViewReaderTestBase;
 
@@ -50,4 +57,44 @@ public class XmlViewReaderTest extends ViewReaderTestBase {
         Constants.URL_VALUE);
   }
 
+  @Test
+  public void testDeeplyNestedViewWithMixedText() throws Exception {
+    final int depth = 40;
+    final StringBuilder xml = new StringBuilder();
+    xml.append("<root xmlns:v=\"").append(XmlViewConstants.VIEW_NAMESPACE)
+        .append("\" xmlns:xsi=\"").append(XmlViewConstants.XSI_NAMESPACE)
+        .append("\" xmlns:xs=\"").append(XmlViewConstants.XS_NAMESPACE)
+        .append("\" v:type=\"object\">");
+    for (int i = 0; i < depth; i++) {
+      xml.append("<child v:type=\"object\"> ignored ");
+    }
+    xml.append("<string> a <![CDATA[<b>]]> &amp; c </string>")
+        .append("<int xsi:type=\"xs:int\">42</int>");
+    for (int i = 0; i < depth; i++) {
+      xml.append("</child>");
+    }
+    xml.append("</root>");
+
+    final ViewReader reader = newViewReader(
+        new ByteArrayInputStream(xml.toString().getBytes("UTF-8")),
+        new OptionsMap());
+    final Iterator<View.Event> events = reader.readView().iterator();
+    assertThat(events.next(),
+        is(eventWith(View.Event.Type.BEGIN_OBJECT, "root")));
+    for (int i = 0; i < depth; i++) {
+      assertThat(events.next(),
+          is(eventWith(View.Event.Type.BEGIN_OBJECT, "child")));
+    }
+    assertThat(events.next(),
+        is(eventWith(View.Event.Type.VALUE, "string", "a <b> & c")));
+    assertThat(events.next(),
+        is(eventWith(View.Event.Type.VALUE, "int", 42)));
+    for (int i = 0; i < depth; i++) {
+      assertThat(events.next(),
+          is(eventWith(View.Event.Type.END_OBJECT, "child")));
+    }
+    assertThat(events.next(),
+        is(eventWith(View.Event.Type.END_OBJECT, "root")));
+  }
+
 }
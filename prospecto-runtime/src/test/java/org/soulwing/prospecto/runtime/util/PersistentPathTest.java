@@ -0,0 +1,117 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link PersistentPath}.
+ *
+ * @author Carl Harris
+ */
+public class PersistentPathTest {
+
+  private final PersistentPath<String> empty = PersistentPath.empty();
+
+  @Test
+  public void testEmpty() throws Exception {
+    assertThat(empty, is(empty()));
+    assertThat(empty.getParent(), is(equalTo(null)));
+    assertThat(empty.toPathString(), is(equalTo("/")));
+    assertThat(empty.hashCode(),
+        is(equalTo(Collections.emptyList().hashCode())));
+  }
+
+  @Test
+  public void testWith() throws Exception {
+    final PersistentPath<String> a = empty.with("a");
+    final PersistentPath<String> ab = a.with("b");
+    final PersistentPath<String> ac = a.with("c");
+
+    assertThat(ab, contains("a", "b"));
+    assertThat(ac, contains("a", "c"));
+    assertThat(a, contains("a"));
+    assertThat(ab.getParent(), is(sameInstance(a)));
+    assertThat(ab.getLast(), is(equalTo("b")));
+    assertThat(ab.get(0), is(equalTo("a")));
+  }
+
+  @Test
+  public void testEqualsAndHashCodeAsList() throws Exception {
+    final PersistentPath<String> path = empty.with("a").with("b").with("c");
+    assertThat(path, is(equalTo(Arrays.asList("a", "b", "c"))));
+    assertThat(Arrays.asList("a", "b", "c"), is(equalTo((Object) path)));
+    assertThat(path.hashCode(),
+        is(equalTo(Arrays.asList("a", "b", "c").hashCode())));
+    assertThat(path, is(equalTo(empty.with("a").with("b").with("c"))));
+    assertThat(path, is(not(equalTo(empty.with("a").with("c").with("b")))));
+  }
+
+  @Test
+  public void testEqualsWithDifferentLists() throws Exception {
+    final PersistentPath<String> path = empty.with("a").with("b");
+    assertThat(path, is(not(equalTo(Arrays.asList("a", "c")))));
+    assertThat(path, is(not(equalTo(Arrays.asList("c", "b")))));
+    assertThat(path, is(not(equalTo(Arrays.asList("a", "b", "c")))));
+    assertThat(path, is(not(equalTo((Object) "a/b"))));
+    assertThat(empty.with(null), is(equalTo(Arrays.asList((String) null))));
+    assertThat(empty.with(null), is(not(equalTo(Arrays.asList("a")))));
+  }
+
+  @Test
+  public void testEqualsWithSharedParent() throws Exception {
+    final PersistentPath<String> a = empty.with("a");
+    assertThat(a.with("b"), is(equalTo(a.with("b"))));
+    assertThat(a.with("b"), is(not(equalTo(a.with("c")))));
+    assertThat(new ArrayList<>(Arrays.asList("a", "b")),
+        is(equalTo((Object) a.with("b"))));
+  }
+
+  @Test
+  public void testToString() throws Exception {
+    final PersistentPath<String> path = empty.with("a").with("b");
+    assertThat(path.toString(), is(equalTo("[a, b]")));
+    assertThat(path.toString(), is(sameInstance(path.toString())));
+    assertThat(path.toPathString(), is(equalTo("/a/b")));
+    assertThat(path.toPathString(), is(sameInstance(path.toPathString())));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testCannotModify() throws Exception {
+    empty.with("a").add("b");
+  }
+
+  @Test(expected = IndexOutOfBoundsException.class)
+  public void testGetOutOfBounds() throws Exception {
+    empty.with("a").get(1);
+  }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.runtime.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.ListIterator;
+
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link VersionedLinkedList}.
+ *
+ * @author Carl Harris
+ */
+public class VersionedLinkedListTest {
+
+  private final VersionedLinkedList<String> list =
+      new VersionedLinkedList<>();
+
+  @Test
+  public void testVersionChangesOnModification() throws Exception {
+    int version = list.getVersion();
+
+    list.add("b");
+    version = assertVersionChanged(version);
+    list.add(0, "a");
+    version = assertVersionChanged(version);
+    list.addAll(Arrays.asList("c", "d"));
+    version = assertVersionChanged(version);
+    assertThat(list, contains("a", "b", "c", "d"));
+
+    list.set(3, "e");
+    version = assertVersionChanged(version);
+    list.remove("e");
+    version = assertVersionChanged(version);
+
+    final Iterator<String> i = list.iterator();
+    i.next();
+    i.remove();
+    version = assertVersionChanged(version);
+    assertThat(list, contains("b", "c"));
+
+    list.clear();
+    assertVersionChanged(version);
+    assertThat(list, is(empty()));
+  }
+
+  @Test
+  public void testVersionUnchangedOnRead() throws Exception {
+    list.add("a");
+    final int version = list.getVersion();
+    assertThat(list.get(0), is(equalTo("a")));
+    assertThat(list.contains("a"), is(true));
+    for (final String element : list) {
+      assertThat(element, is(equalTo("a")));
+    }
+    assertThat(list.getVersion(), is(equalTo(version)));
+  }
+
+  @Test
+  public void testShareWithoutModification() throws Exception {
+    list.addAll(Arrays.asList("a", "b"));
+    final VersionedLinkedList<String> other = new VersionedLinkedList<>();
+    final int version = other.getVersion();
+    other.share(list);
+    assertThat(other.getVersion(), is(not(equalTo(version))));
+    assertThat(other, contains("a", "b"));
+    assertThat(list, contains("a", "b"));
+  }
+
+  @Test
+  public void testShareThenModifyTarget() throws Exception {
+    list.addAll(Arrays.asList("a", "b"));
+    final VersionedLinkedList<String> other = new VersionedLinkedList<>();
+    other.share(list);
+    other.add("c");
+    other.add(0, "z");
+    assertThat(other, contains("z", "a", "b", "c"));
+    assertThat(list, contains("a", "b"));
+  }
+
+  @Test
+  public void testShareThenModifySource() throws Exception {
+    list.addAll(Arrays.asList("a", "b"));
+    final VersionedLinkedList<String> other = new VersionedLinkedList<>();
+    other.share(list);
+    list.remove("a");
+    assertThat(list, contains("b"));
+    assertThat(other, contains("a", "b"));
+  }
+
+  @Test
+  public void testShareThenModifyThroughIterator() throws Exception {
+    list.addAll(Arrays.asList("a", "b", "c"));
+    final VersionedLinkedList<String> other = new VersionedLinkedList<>();
+    other.share(list);
+
+    final ListIterator<String> i = other.listIterator();
+    assertThat(i.next(), is(equalTo("a")));
+    assertThat(i.next(), is(equalTo("b")));
+    i.remove();
+    assertThat(i.next(), is(equalTo("c")));
+    i.set("d");
+    assertThat(i.previous(), is(equalTo("d")));
+    i.add("e");
+
+    assertThat(other, contains("a", "e", "d"));
+    assertThat(list, contains("a", "b", "c"));
+  }
+
+  @Test
+  public void testShareWithManyTargets() throws Exception {
+    list.addAll(Arrays.asList("a", "b"));
+    final VersionedLinkedList<String> first = new VersionedLinkedList<>();
+    final VersionedLinkedList<String> second = new VersionedLinkedList<>();
+    first.share(list);
+    second.share(list);
+    first.add("c");
+    second.add("d");
+    assertThat(first, contains("a", "b", "c"));
+    assertThat(second, contains("a", "b", "d"));
+    assertThat(list, contains("a", "b"));
+  }
+
+  private int assertVersionChanged(int version) {
+    assertThat(list.getVersion(), is(not(equalTo(version))));
+    return list.getVersion();
+  }
+
+}
@@ -0,0 +1,163 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.tests.view;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.is;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+
+import org.junit.Test;
+import org.soulwing.prospecto.ViewContextProducer;
+import org.soulwing.prospecto.ViewTemplateBuilderProducer;
+import org.soulwing.prospecto.ViewWriterFactoryProducer;
+import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.api.GenerateAccessors;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.api.ViewTemplate;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.spi.ModelAccessorProvider;
+
+/**
+ * Tests for views of model types that have generated accessors.
+ * <p>
+ * A view of a model type with generated accessors must be identical to
+ * the view of an equivalent type that is accessed using reflection.
+ *
+ * @author Carl Harris
+ */
+public class GeneratedAccessorTest {
+
+  @GenerateAccessors
+  public static class GeneratedType {
+    String string = "aString";
+    int number = 42;
+    private boolean flag = true;
+    private Long id = 7L;
+
+    public boolean isFlag() {
+      return flag;
+    }
+
+    public void setFlag(boolean flag) {
+      this.flag = flag;
+    }
+
+    public Long getId() {
+      return id;
+    }
+
+    public void setId(Long id) {
+      this.id = id;
+    }
+  }
+
+  public static class ReflectedType {
+    String string = "aString";
+    int number = 42;
+    private boolean flag = true;
+    private Long id = 7L;
+
+    public boolean isFlag() {
+      return flag;
+    }
+
+    public void setFlag(boolean flag) {
+      this.flag = flag;
+    }
+
+    public Long getId() {
+      return id;
+    }
+
+    public void setId(Long id) {
+      this.id = id;
+    }
+  }
+
+  private final ViewContext context =
+      ViewContextProducer.newContext(new OptionsMap());
+
+  @Test
+  public void testProviderIsRegistered() throws Exception {
+    final List<Class<?>> modelTypes = new ArrayList<>();
+    for (final ModelAccessorProvider provider :
+        ServiceLoader.load(ModelAccessorProvider.class)) {
+      modelTypes.add(provider.getModelType());
+    }
+    assertThat(modelTypes, hasItem(GeneratedType.class));
+  }
+
+  @Test
+  public void testSameViewAsReflection() throws Exception {
+    assertThat(write(template(GeneratedType.class), new GeneratedType()),
+        is(equalTo(write(template(ReflectedType.class),
+            new ReflectedType()))));
+  }
+
+  @Test
+  public void testUpdate() throws Exception {
+    final ReflectedType source = new ReflectedType();
+    source.string = "otherString";
+    source.number = -1;
+    source.setFlag(false);
+    source.setId(11L);
+
+    final View view = template(ReflectedType.class)
+        .generateView(source, context);
+    final GeneratedType target = new GeneratedType();
+    template(GeneratedType.class).createApplicator(view, context)
+        .update(target);
+
+    assertThat(target.string, is(equalTo(source.string)));
+    assertThat(target.number, is(equalTo(source.number)));
+    assertThat(target.isFlag(), is(equalTo(source.isFlag())));
+    assertThat(target.getId(), is(equalTo(source.getId())));
+  }
+
+  private static ViewTemplate template(Class<?> modelType) {
+    return ViewTemplateBuilderProducer
+        .object("root", null, modelType)
+            .accessType(AccessType.FIELD)
+            .value("string")
+            .value("number")
+            .value("flag")
+                .accessType(AccessType.PROPERTY)
+            .value("id")
+                .accessType(AccessType.PROPERTY)
+        .end()
+        .build();
+  }
+
+  private String write(ViewTemplate template, Object model)
+      throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ViewWriterFactoryProducer.getFactory("JSON")
+        .newWriter(template.generateView(model, context), out)
+        .writeView();
+    return out.toString("UTF-8");
+  }
+
+}
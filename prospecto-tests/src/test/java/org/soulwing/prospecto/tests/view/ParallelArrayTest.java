@@ -0,0 +1,317 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.tests.view;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+import org.soulwing.prospecto.ViewContextProducer;
+import org.soulwing.prospecto.ViewTemplateBuilderProducer;
+import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.api.ParallelViewTemplateBuilder;
+import org.soulwing.prospecto.api.UndefinedValue;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.api.ViewException;
+import org.soulwing.prospecto.api.ViewTemplate;
+import org.soulwing.prospecto.api.ViewTemplateBuilder;
+import org.soulwing.prospecto.api.listener.ViewNodePropertyEvent;
+import org.soulwing.prospecto.api.listener.ViewNodePropertyInterceptor;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.ViewKeys;
+
+/**
+ * Tests for generating the elements of an array-of-objects node in
+ * parallel.
+ * <p>
+ * A view generated in parallel must produce exactly the same sequence of
+ * events as a view generated serially.
+ *
+ * @author Carl Harris
+ */
+public class ParallelArrayTest {
+
+  private static final int ELEMENT_COUNT = 1000;
+
+  @SuppressWarnings("unused")
+  public static class MockType1 {
+    List<MockType2> children = new ArrayList<>();
+    List<MockType2> nullChildren;
+  }
+
+  @SuppressWarnings("unused")
+  public static class MockType2 {
+    int number;
+    String string;
+    List<MockType3> children = Arrays.asList(new MockType3(), new MockType3());
+
+    MockType2(int number) {
+      this.number = number;
+      this.string = "string" + number;
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class MockSubType2 extends MockType2 {
+    String subtypeString = "subtype";
+
+    MockSubType2(int number) {
+      super(number);
+    }
+  }
+
+  @SuppressWarnings("unused")
+  public static class MockType3 {
+    boolean flag = true;
+  }
+
+  private static final ViewTemplate TEMPLATE = ViewTemplateBuilderProducer
+      .object(MockType1.class)
+          .accessType(AccessType.FIELD)
+          .arrayOfObjects("children", "child", MockType2.class)
+              .discriminator()
+              .value("number")
+              .value("string")
+              .arrayOfObjects("children", "child", MockType3.class)
+                  .value("flag")
+                  .end()
+              .subtype(MockSubType2.class)
+                  .value("subtypeString")
+                  .end()
+              .end()
+          .arrayOfObjects("nullChildren", "child", MockType2.class)
+              .value("number")
+              .end()
+      .build();
+
+  private static final ViewTemplate PARALLEL_TEMPLATE = parallelTemplate();
+
+  private static final ViewTemplate ROOT_ARRAY_TEMPLATE =
+      ViewTemplateBuilderProducer
+          .arrayOfObjects("children", "child", MockType2.class)
+              .accessType(AccessType.FIELD)
+              .value("number")
+              .value("string")
+          .build();
+
+  private static ViewTemplate parallelTemplate() {
+    final ViewTemplateBuilder root = ViewTemplateBuilderProducer
+        .object(MockType1.class)
+            .accessType(AccessType.FIELD);
+    parallel(root.arrayOfObjects("children", "child", MockType2.class),
+        ELEMENT_COUNT)
+            .discriminator()
+            .value("number")
+            .value("string")
+            .arrayOfObjects("children", "child", MockType3.class)
+                .value("flag")
+                .end()
+            .subtype(MockSubType2.class)
+                .value("subtypeString")
+                .end()
+            .end();
+    parallel(root.arrayOfObjects("nullChildren", "child", MockType2.class), 1)
+            .value("number")
+            .end();
+    return root.build();
+  }
+
+  private static ViewTemplateBuilder parallel(ViewTemplateBuilder builder,
+      int threshold) {
+    return ((ParallelViewTemplateBuilder) builder).parallel(threshold);
+  }
+
+  private final MockType1 model = newModel(ELEMENT_COUNT);
+
+  @Test
+  public void testGenerateViewWithParallelOption() throws Exception {
+    final ViewContext context = newContext();
+    context.getOptions().put(ViewKeys.PARALLEL_ARRAY_THRESHOLD, 1);
+    assertThat(eventsOf(TEMPLATE.generateView(model, context)),
+        is(equalTo(serialEventsOf(TEMPLATE, model))));
+  }
+
+  @Test
+  public void testGenerateViewWithParallelNode() throws Exception {
+    assertThat(eventsOf(PARALLEL_TEMPLATE.generateView(model,
+        newContext())),
+        is(equalTo(serialEventsOf(TEMPLATE, model))));
+  }
+
+  @Test
+  public void testGenerateViewBelowThreshold() throws Exception {
+    final MockType1 model = newModel(ELEMENT_COUNT - 1);
+    assertThat(eventsOf(PARALLEL_TEMPLATE.generateView(model,
+        newContext())),
+        is(equalTo(serialEventsOf(TEMPLATE, model))));
+  }
+
+  @Test
+  public void testGenerateStreamingView() throws Exception {
+    final ViewContext context = newContext();
+    context.getOptions().put(ViewKeys.STREAMING_VIEW, true);
+    assertThat(eventsOf(PARALLEL_TEMPLATE.generateView(model, context)),
+        is(equalTo(serialEventsOf(TEMPLATE, model))));
+  }
+
+  @Test
+  public void testGenerateRootArrayView() throws Exception {
+    final ViewContext context = newContext();
+    context.getOptions().put(ViewKeys.PARALLEL_ARRAY_THRESHOLD, 1);
+    assertThat(eventsOf(ROOT_ARRAY_TEMPLATE.generateView(model.children,
+        context)),
+        is(equalTo(serialEventsOf(ROOT_ARRAY_TEMPLATE, model.children))));
+  }
+
+  @Test
+  public void testGenerateViewWithContextPool() throws Exception {
+    final ForkJoinPool pool = new ForkJoinPool(2);
+    final AtomicBoolean usedPool = new AtomicBoolean();
+    try {
+      final ViewContext context = newContext();
+      context.appendScope().put(pool);
+      context.getListeners().append(new ViewNodePropertyInterceptor() {
+        @Override
+        public Object didExtractValue(ViewNodePropertyEvent event) {
+          final Thread thread = Thread.currentThread();
+          if (thread instanceof ForkJoinWorkerThread
+              && ((ForkJoinWorkerThread) thread).getPool() == pool) {
+            usedPool.set(true);
+          }
+          return event.getValue();
+        }
+
+        @Override
+        public Object willInjectValue(ViewNodePropertyEvent event) {
+          return event.getValue();
+        }
+      });
+
+      assertThat(eventsOf(PARALLEL_TEMPLATE.generateView(model, context)),
+          is(equalTo(serialEventsOf(TEMPLATE, model))));
+      assertThat(usedPool.get(), is(true));
+    }
+    finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  public void testGenerateViewWithInterceptor() throws Exception {
+    final ViewNodePropertyInterceptor interceptor =
+        new ViewNodePropertyInterceptor() {
+          @Override
+          public Object didExtractValue(ViewNodePropertyEvent event) {
+            final Object value = event.getValue();
+            if (value instanceof MockType2
+                && ((MockType2) value).number % 3 == 0) {
+              return UndefinedValue.INSTANCE;
+            }
+            return value;
+          }
+
+          @Override
+          public Object willInjectValue(ViewNodePropertyEvent event) {
+            return event.getValue();
+          }
+        };
+
+    final ViewContext serialContext = newContext();
+    serialContext.getListeners().append(interceptor);
+    final ViewContext parallelContext = newContext();
+    parallelContext.getListeners().append(interceptor);
+
+    assertThat(eventsOf(PARALLEL_TEMPLATE.generateView(model,
+        parallelContext)),
+        is(equalTo(eventsOf(TEMPLATE.generateView(model, serialContext)))));
+  }
+
+  @Test
+  public void testGenerateViewWhenListenerThrows() throws Exception {
+    final RuntimeException exception = new RuntimeException();
+    final ViewContext context = newContext();
+    context.getListeners().append(new ViewNodePropertyInterceptor() {
+      @Override
+      public Object didExtractValue(ViewNodePropertyEvent event) {
+        final Object value = event.getValue();
+        if (value instanceof MockType2
+            && ((MockType2) value).number == ELEMENT_COUNT / 2) {
+          throw exception;
+        }
+        return value;
+      }
+
+      @Override
+      public Object willInjectValue(ViewNodePropertyEvent event) {
+        return event.getValue();
+      }
+    });
+
+    try {
+      PARALLEL_TEMPLATE.generateView(model, context);
+      fail("expected ViewException");
+    }
+    catch (ViewException ex) {
+      Throwable cause = ex;
+      while (cause != null && cause != exception) {
+        cause = cause.getCause();
+      }
+      assertThat(cause, is(sameInstance((Throwable) exception)));
+    }
+  }
+
+  private static MockType1 newModel(int count) {
+    final MockType1 model = new MockType1();
+    for (int i = 0; i < count; i++) {
+      model.children.add(i % 2 == 0 ? new MockType2(i) : new MockSubType2(i));
+    }
+    return model;
+  }
+
+  private static ViewContext newContext() {
+    return ViewContextProducer.newContext(new OptionsMap());
+  }
+
+  private static List<List<Object>> serialEventsOf(ViewTemplate template,
+      Object model) {
+    return eventsOf(template.generateView(model,
+        newContext()));
+  }
+
+  private static List<List<Object>> eventsOf(View view) {
+    final List<List<Object>> events = new ArrayList<>();
+    for (final View.Event event : view) {
+      events.add(Arrays.asList(event.getType(), event.getName(),
+          event.getNamespace(), event.getValue()));
+    }
+    return events;
+  }
+
+}
@@ -0,0 +1,166 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.tests.view;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.soulwing.prospecto.ViewContextProducer;
+import org.soulwing.prospecto.ViewTemplateBuilderProducer;
+import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.api.View;
+import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.api.ViewTemplate;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.ViewKeys;
+import org.soulwing.prospecto.api.splice.ViewGeneratingSpliceHandler;
+import org.soulwing.prospecto.api.template.SpliceNode;
+
+/**
+ * Tests for generating a streaming view.
+ * <p>
+ * A streaming view must produce exactly the same sequence of events as a
+ * view generated in the usual way.
+ *
+ * @author Carl Harris
+ */
+public class StreamingViewTest {
+
+  private static final String ENVELOPE = "envelope";
+  private static final String PROPERTY = "property";
+
+  @SuppressWarnings("unused")
+  public static class MockType1 {
+    String string = "aString";
+    MockType2 child = new MockType2();
+    MockType2 nullChild;
+    List<MockType2> children = Arrays.asList(
+        new MockSubType1(), new MockType2(), new MockSubType1());
+    List<String> strings = Arrays.asList("one", "two", "three");
+    List<MockType2> nullChildren;
+  }
+
+  @SuppressWarnings("unused")
+  public static class MockType2 {
+    int number = 42;
+  }
+
+  @SuppressWarnings("unused")
+  public static class MockSubType1 extends MockType2 {
+    String subtypeString = "subtype";
+  }
+
+  private static final ViewGeneratingSpliceHandler SPLICE_HANDLER =
+      new ViewGeneratingSpliceHandler() {
+        @Override
+        protected Object getRoot(SpliceNode node, ViewContext context) {
+          return new MockType2();
+        }
+      };
+
+  private static final ViewTemplate SPLICE_TEMPLATE =
+      ViewTemplateBuilderProducer
+          .object(MockType2.class)
+              .accessType(AccessType.FIELD)
+              .value("number")
+          .end()
+          .build();
+
+  private static final ViewTemplate TEMPLATE = ViewTemplateBuilderProducer
+      .object(MockType1.class)
+          .accessType(AccessType.FIELD)
+          .value("string")
+          .object("child", MockType2.class)
+              .value("number")
+              .end()
+          .object("nullChild", MockType2.class)
+              .value("number")
+              .end()
+          .arrayOfObjects("children", "child", MockType2.class)
+              .discriminator()
+              .value("number")
+              .subtype(MockSubType1.class)
+                  .value("subtypeString")
+                  .end()
+              .end()
+          .arrayOfValues("strings", "string", String.class)
+          .arrayOfObjects("nullChildren", "child", MockType2.class)
+              .value("number")
+              .end()
+          .splice("splice", SPLICE_HANDLER)
+              .attribute(SPLICE_TEMPLATE)
+          .end()
+      .build();
+
+  private ViewContext eagerContext = ViewContextProducer.newContext();
+
+  private ViewContext streamingContext =
+      ViewContextProducer.newContext(new OptionsMap());
+
+  @Before
+  public void setUp() throws Exception {
+    streamingContext.getOptions().put(ViewKeys.STREAMING_VIEW, true);
+  }
+
+  @Test
+  public void testGenerateView() throws Exception {
+    final MockType1 model = new MockType1();
+    final List<List<Object>> expected =
+        eventsOf(TEMPLATE.generateView(model, eagerContext));
+    assertThat(expected.isEmpty(), is(not(true)));
+    assertThat(eventsOf(TEMPLATE.generateView(model, streamingContext)),
+        is(equalTo(expected)));
+  }
+
+  @Test
+  public void testGenerateViewWithEnvelope() throws Exception {
+    final MockType1 model = new MockType1();
+    final View eagerView = TEMPLATE.generateView(model, eagerContext);
+    eagerView.envelope().putProperty(PROPERTY, PROPERTY);
+    final View streamingView = TEMPLATE.generateView(model, streamingContext);
+    streamingView.envelope().putProperty(PROPERTY, PROPERTY);
+    assertThat(eventsOf(streamingView.envelope().seal(ENVELOPE)),
+        is(equalTo(eventsOf(eagerView.envelope().seal(ENVELOPE)))));
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testIterateStreamingViewTwice() throws Exception {
+    final View view = TEMPLATE.generateView(new MockType1(), streamingContext);
+    view.iterator();
+    view.iterator();
+  }
+
+  private static List<List<Object>> eventsOf(View view) {
+    final List<List<Object>> events = new ArrayList<>();
+    for (final View.Event event : view) {
+      events.add(Arrays.asList(event.getType(), event.getName(),
+          event.getNamespace(), event.getValue()));
+    }
+    return events;
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * File created on Oct 18, 2026
+ *
+ * Copyright (c) 2026 Carl Harris, Jr
+ * and others as noted
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.soulwing.prospecto.tests.view;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.soulwing.prospecto.ViewContextProducer;
+import org.soulwing.prospecto.ViewTemplateBuilderProducer;
+import org.soulwing.prospecto.ViewWriterFactoryProducer;
+import org.soulwing.prospecto.api.AccessType;
+import org.soulwing.prospecto.api.ViewContext;
+import org.soulwing.prospecto.api.ViewWriterFactory;
+import org.soulwing.prospecto.api.WritableViewTemplate;
+import org.soulwing.prospecto.api.listener.ViewNodeAcceptor;
+import org.soulwing.prospecto.api.listener.ViewNodeEvent;
+import org.soulwing.prospecto.api.listener.ViewNodePropertyEvent;
+import org.soulwing.prospecto.api.listener.ViewNodePropertyInterceptor;
+import org.soulwing.prospecto.api.options.Options;
+import org.soulwing.prospecto.api.options.OptionsMap;
+import org.soulwing.prospecto.api.options.WriterKeys;
+
+/**
+ * Tests for generating and writing a view in a single step.
+ * <p>
+ * The output of {@link WritableViewTemplate#writeView} must be identical to that
+ * produced by generating a view and then writing it.
+ *
+ * @author Carl Harris
+ */
+public class WriteViewTest {
+
+  private static final String HIDDEN = "hidden";
+
+  @SuppressWarnings("unused")
+  public static class MockType1 {
+    String string = "aString";
+    MockType2 hidden = new MockType2();
+    MockType2 nullChild;
+    List<MockType2> children = Arrays.asList(
+        new MockSubType1(), new MockType2(), new MockSubType1());
+    List<String> strings = Arrays.asList("one", "two", "three");
+  }
+
+  @SuppressWarnings("unused")
+  public static class MockType2 {
+    int number = 42;
+  }
+
+  @SuppressWarnings("unused")
+  public static class MockSubType1 extends MockType2 {
+    String subtypeString = "subtype";
+  }
+
+  private static final WritableViewTemplate TEMPLATE = (WritableViewTemplate)
+      ViewTemplateBuilderProducer
+      .object("root", null, MockType1.class)
+          .accessType(AccessType.FIELD)
+          .value("string")
+          .object(HIDDEN, MockType2.class)
+              .value("number")
+              .end()
+          .object("nullChild", MockType2.class)
+              .value("number")
+              .end()
+          .arrayOfObjects("children", "child", MockType2.class)
+              .discriminator()
+              .value("number")
+              .subtype(MockSubType1.class)
+                  .value("subtypeString")
+                  .end()
+              .end()
+          .arrayOfValues("strings", "string", String.class)
+      .end()
+      .build();
+
+  private final ViewNodeAcceptor acceptor = new ViewNodeAcceptor() {
+    @Override
+    public boolean shouldVisitNode(ViewNodeEvent event) {
+      return !HIDDEN.equals(event.getSource().getName());
+    }
+  };
+
+  private final ViewNodePropertyInterceptor interceptor =
+      new ViewNodePropertyInterceptor() {
+        @Override
+        public Object didExtractValue(ViewNodePropertyEvent event) {
+          final Object value = event.getValue();
+          return value instanceof String ?
+              ((String) value).toUpperCase() : value;
+        }
+
+        @Override
+        public Object willInjectValue(ViewNodePropertyEvent event) {
+          return event.getValue();
+        }
+      };
+
+  private ViewContext context = ViewContextProducer.newContext();
+
+  private Options options = new OptionsMap();
+
+  @Before
+  public void setUp() throws Exception {
+    context.getListeners().append(acceptor);
+    context.getListeners().append(interceptor);
+    options.put(WriterKeys.INCLUDE_NULL_PROPERTIES, true);
+  }
+
+  @Test
+  public void testWriteJson() throws Exception {
+    final String output = assertSameOutput("JSON");
+    assertThat(output, containsString("ASTRING"));
+    assertThat(output, not(containsString(HIDDEN)));
+  }
+
+  @Test
+  public void testWriteFastJson() throws Exception {
+    assertThat(assertSameOutput("JSON-FAST"),
+        is(equalTo(assertSameOutput("JSON"))));
+  }
+
+  @Test
+  public void testWriteXml() throws Exception {
+    final String output = assertSameOutput("XML");
+    assertThat(output, containsString("ASTRING"));
+    assertThat(output, not(containsString(HIDDEN)));
+  }
+
+  private String assertSameOutput(String providerName) throws Exception {
+    final ViewWriterFactory writerFactory =
+        ViewWriterFactoryProducer.getFactory(providerName, options);
+    final MockType1 model = new MockType1();
+
+    final ByteArrayOutputStream expected = new ByteArrayOutputStream();
+    writerFactory.newWriter(TEMPLATE.generateView(model, context), expected)
+        .writeView();
+
+    final ByteArrayOutputStream actual = new ByteArrayOutputStream();
+    TEMPLATE.writeView(model, context, writerFactory, actual);
+
+    assertThat(actual.toString("UTF-8"),
+        is(equalTo(expected.toString("UTF-8"))));
+    return actual.toString("UTF-8");
+  }
+
+}